@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.course.command.AddLessonCommand;
@@ -8,13 +9,16 @@ import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.course.Lesson;
 import pl.dominik.elearningcenter.domain.course.Section;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.domain.course.event.CourseStructureChangedEvent;
 
 @Service
 public class AddLessonCommandHandler {
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AddLessonCommandHandler(CourseRepository courseRepository) {
+    public AddLessonCommandHandler(CourseRepository courseRepository, ApplicationEventPublisher eventPublisher) {
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -31,6 +35,7 @@ public class AddLessonCommandHandler {
                 command.orderIndex()
         );
         section.addLesson(newLesson);
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(course.getId(), course.getCategory(), course.getLevel(), true));
         return newLesson.getId();
     }
 }
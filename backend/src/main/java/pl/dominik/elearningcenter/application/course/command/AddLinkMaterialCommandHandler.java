@@ -1,8 +1,10 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.domain.course.*;
+import pl.dominik.elearningcenter.domain.course.event.CourseContentChangedEvent;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -11,9 +13,11 @@ import java.net.URL;
 public class AddLinkMaterialCommandHandler {
 
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AddLinkMaterialCommandHandler(CourseRepository courseRepository) {
+    public AddLinkMaterialCommandHandler(CourseRepository courseRepository, ApplicationEventPublisher eventPublisher) {
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -43,6 +47,7 @@ public class AddLinkMaterialCommandHandler {
 
         // Save
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseContentChangedEvent(course.getId()));
 
         return material.getId();
     }
@@ -1,18 +1,22 @@
 package pl.dominik.elearningcenter.application.course.command;
 
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import pl.dominik.elearningcenter.application.course.command.AddSectionCommand;
 import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.course.Section;
+import pl.dominik.elearningcenter.domain.course.event.CourseStructureChangedEvent;
 
 @Service
 public class AddSectionCommandHandler {
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AddSectionCommandHandler(CourseRepository courseRepository){
+    public AddSectionCommandHandler(CourseRepository courseRepository, ApplicationEventPublisher eventPublisher){
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -24,6 +28,7 @@ public class AddSectionCommandHandler {
 
         Section section = new Section(command.title(), command.orderIndex());
         course.addSection(section);
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(course.getId(), course.getCategory(), course.getLevel(), false));
         return section.getId();
     }
 }
@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.course.command.CreateCourseCommand;
@@ -8,13 +9,16 @@ import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.course.valueobject.CourseDescription;
 import pl.dominik.elearningcenter.domain.course.valueobject.CourseTitle;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Money;
+import pl.dominik.elearningcenter.domain.course.event.CourseCreatedEvent;
 
 @Service
 public class CreateCourseCommandHandler {
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CreateCourseCommandHandler(CourseRepository courseRepository){
+    public CreateCourseCommandHandler(CourseRepository courseRepository, ApplicationEventPublisher eventPublisher){
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -25,6 +29,7 @@ public class CreateCourseCommandHandler {
 
         Course course = Course.create(courseTitle, courseDescription, money, command.category(), command.level(), command.instructorId());
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseCreatedEvent(course.getId(), course.getInstructorId(), course.getCategory(), course.getLevel()));
         return course.getId();
     }
 }
@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.course.command.DeleteCourseCommand;
@@ -8,21 +9,25 @@ import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
 import pl.dominik.elearningcenter.infrastructure.email.EmailService;
+import pl.dominik.elearningcenter.domain.course.event.CourseDeletedEvent;
 
 @Service
 public class DeleteCourseCommandHandler {
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DeleteCourseCommandHandler(
             CourseRepository courseRepository,
             UserRepository userRepository,
-            EmailService emailService
+            EmailService emailService,
+            ApplicationEventPublisher eventPublisher
     ){
         this.courseRepository = courseRepository;
         this.userRepository = userRepository;
         this.emailService = emailService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -33,6 +38,12 @@ public class DeleteCourseCommandHandler {
         String courseTitle = course.getTitle().getValue();
         Long instructorId = course.getInstructorId();
         courseRepository.delete(course);
+        eventPublisher.publishEvent(new CourseDeletedEvent(
+                course.getId(),
+                instructorId,
+                course.getCategory(),
+                course.getLevel()
+        ));
 
         if (command.isAdmin()) {
             User instructor = userRepository.findByIdOrThrow(instructorId);
@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.course.command.DeleteLessonCommand;
@@ -7,13 +8,16 @@ import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.course.Section;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.domain.course.event.CourseStructureChangedEvent;
 
 @Service
 public class DeleteLessonCommandHandler {
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DeleteLessonCommandHandler(CourseRepository courseRepository){
+    public DeleteLessonCommandHandler(CourseRepository courseRepository, ApplicationEventPublisher eventPublisher){
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -24,5 +28,6 @@ public class DeleteLessonCommandHandler {
         );
         Section section = course.findSection(command.sectionId());
         section.removeLesson(command.lessonId());
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(course.getId(), course.getCategory(), course.getLevel(), true));
     }
 }
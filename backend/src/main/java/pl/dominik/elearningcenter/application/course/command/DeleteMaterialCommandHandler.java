@@ -1,8 +1,10 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.domain.course.*;
+import pl.dominik.elearningcenter.domain.course.event.CourseContentChangedEvent;
 import pl.dominik.elearningcenter.infrastructure.storage.FileStorageService;
 
 import java.io.IOException;
@@ -12,13 +14,16 @@ public class DeleteMaterialCommandHandler {
 
     private final CourseRepository courseRepository;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DeleteMaterialCommandHandler(
             CourseRepository courseRepository,
-            FileStorageService fileStorageService
+            FileStorageService fileStorageService,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.courseRepository = courseRepository;
         this.fileStorageService = fileStorageService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -50,6 +55,7 @@ public class DeleteMaterialCommandHandler {
         lesson.removeMaterial(command.materialId());
 
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseContentChangedEvent(course.getId()));
 
         try {
             fileStorageService.deleteFile(filename);
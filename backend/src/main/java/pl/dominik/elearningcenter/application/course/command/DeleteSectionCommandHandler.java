@@ -1,18 +1,22 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.course.command.DeleteSectionCommand;
 import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.domain.course.event.CourseStructureChangedEvent;
 
 @Service
 public class DeleteSectionCommandHandler {
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DeleteSectionCommandHandler(CourseRepository courseRepository){
+    public DeleteSectionCommandHandler(CourseRepository courseRepository, ApplicationEventPublisher eventPublisher){
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -22,5 +26,6 @@ public class DeleteSectionCommandHandler {
                 command.instructorId()
         );
         course.removeSection(command.sectionId());
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(course.getId(), course.getCategory(), course.getLevel(), true));
     }
 }
@@ -1,21 +1,25 @@
 package pl.dominik.elearningcenter.application.course.command;
 
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
 import pl.dominik.elearningcenter.application.course.mapper.CourseMapper;
 import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.domain.course.event.CoursePublishedEvent;
 
 @Service
 public class PublishCourseCommandHandler {
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PublishCourseCommandHandler(CourseRepository courseRepository, CourseMapper courseMapper){
+    public PublishCourseCommandHandler(CourseRepository courseRepository, CourseMapper courseMapper, ApplicationEventPublisher eventPublisher){
         this.courseRepository = courseRepository;
         this.courseMapper = courseMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -29,6 +33,12 @@ public class PublishCourseCommandHandler {
         );
         course.publish();
         Course publishedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CoursePublishedEvent(
+                publishedCourse.getId(),
+                publishedCourse.getInstructorId(),
+                publishedCourse.getCategory(),
+                publishedCourse.getLevel()
+        ));
         return courseMapper.toDto(publishedCourse);
     }
 }
@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.course.command.UnpublishCourseCommand;
@@ -8,21 +9,25 @@ import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
 import pl.dominik.elearningcenter.infrastructure.email.EmailService;
+import pl.dominik.elearningcenter.domain.course.event.CourseUnpublishedEvent;
 
 @Service
 public class UnpublishCourseCommandHandler {
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UnpublishCourseCommandHandler(
             CourseRepository courseRepository,
             UserRepository userRepository,
-            EmailService emailService
+            EmailService emailService,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.courseRepository = courseRepository;
         this.userRepository = userRepository;
         this.emailService = emailService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -31,6 +36,12 @@ public class UnpublishCourseCommandHandler {
                 ? courseRepository.findByIdOrThrow(command.courseId())
                 : courseRepository.findByIdAndInstructorIdOrThrow(command.courseId(), command.actorId());
         course.unpublish();
+        eventPublisher.publishEvent(new CourseUnpublishedEvent(
+                course.getId(),
+                course.getInstructorId(),
+                course.getCategory(),
+                course.getLevel()
+        ));
 
         if (command.isAdmin()) {
             User instructor = userRepository.findByIdOrThrow(course.getInstructorId());
@@ -1,21 +1,26 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.course.command.UpdateCourseCommand;
 import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.course.valueobject.CourseDescription;
 import pl.dominik.elearningcenter.domain.course.valueobject.CourseTitle;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Money;
+import pl.dominik.elearningcenter.domain.course.event.CourseUpdatedEvent;
 
 @Service
 public class UpdateCourseCommandHandler {
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UpdateCourseCommandHandler(CourseRepository courseRepository){
+    public UpdateCourseCommandHandler(CourseRepository courseRepository, ApplicationEventPublisher eventPublisher){
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -24,10 +29,20 @@ public class UpdateCourseCommandHandler {
                 command.courseId(),
                 command.instructorId()
         );
+        String previousCategory = course.getCategory();
+        CourseLevel previousLevel = course.getLevel();
         course.updateTitle(new CourseTitle(command.title()));
         course.updateDescription(new CourseDescription(command.description()));
         course.updatePrice(Money.of(command.priceAmount(), command.priceCurrency()));
         course.updateCategory(command.category());
         course.updateLevel(command.level());
+
+        eventPublisher.publishEvent(new CourseUpdatedEvent(
+                course.getId(),
+                previousCategory,
+                previousLevel,
+                course.getCategory(),
+                course.getLevel()
+        ));
     }
 }
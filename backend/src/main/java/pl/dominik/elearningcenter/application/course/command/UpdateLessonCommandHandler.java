@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.course.command.UpdateLessonCommand;
@@ -7,14 +8,17 @@ import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.course.Lesson;
 import pl.dominik.elearningcenter.domain.course.Section;
+import pl.dominik.elearningcenter.domain.course.event.CourseContentChangedEvent;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 
 @Service
 public class UpdateLessonCommandHandler {
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UpdateLessonCommandHandler(CourseRepository courseRepository){
+    public UpdateLessonCommandHandler(CourseRepository courseRepository, ApplicationEventPublisher eventPublisher){
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -31,5 +35,6 @@ public class UpdateLessonCommandHandler {
         lesson.updateDurationMinutes(command.durationMinutes());
 
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseContentChangedEvent(course.getId()));
     }
 }
@@ -1,18 +1,22 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.course.Lesson;
 import pl.dominik.elearningcenter.domain.course.Section;
+import pl.dominik.elearningcenter.domain.course.event.CourseContentChangedEvent;
 
 @Service
 public class UpdateLessonsOrderCommandHandler {
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UpdateLessonsOrderCommandHandler(CourseRepository courseRepository) {
+    public UpdateLessonsOrderCommandHandler(CourseRepository courseRepository, ApplicationEventPublisher eventPublisher) {
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -30,5 +34,6 @@ public class UpdateLessonsOrderCommandHandler {
         });
 
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseContentChangedEvent(course.getId()));
     }
 }
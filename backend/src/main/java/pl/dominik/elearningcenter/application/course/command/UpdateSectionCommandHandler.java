@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.application.course.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.course.command.UpdateSectionCommand;
@@ -8,13 +9,16 @@ import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.course.Section;
 import pl.dominik.elearningcenter.domain.course.exception.CourseNotFoundException;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.domain.course.event.CourseStructureChangedEvent;
 
 @Service
 public class UpdateSectionCommandHandler {
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UpdateSectionCommandHandler(CourseRepository courseRepository){
+    public UpdateSectionCommandHandler(CourseRepository courseRepository, ApplicationEventPublisher eventPublisher){
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -28,5 +32,6 @@ public class UpdateSectionCommandHandler {
         section.updateTitle(command.title());
 
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(course.getId(), course.getCategory(), course.getLevel(), false));
     }
 }
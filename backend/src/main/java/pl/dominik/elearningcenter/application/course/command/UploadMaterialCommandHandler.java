@@ -1,9 +1,11 @@
 package pl.dominik.elearningcenter.application.course.command;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.domain.course.*;
+import pl.dominik.elearningcenter.domain.course.event.CourseContentChangedEvent;
 import pl.dominik.elearningcenter.infrastructure.storage.FileStorageException;
 import pl.dominik.elearningcenter.infrastructure.storage.FileStorageService;
 
@@ -14,15 +16,18 @@ public class UploadMaterialCommandHandler {
 
     private final CourseRepository courseRepository;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
     private final String baseUrl;
 
     public UploadMaterialCommandHandler(
             CourseRepository courseRepository,
             FileStorageService fileStorageService,
+            ApplicationEventPublisher eventPublisher,
             @Value("${app.base-url:http://localhost:8080}") String baseUrl
     ) {
         this.courseRepository = courseRepository;
         this.fileStorageService = fileStorageService;
+        this.eventPublisher = eventPublisher;
         this.baseUrl = baseUrl;
     }
 
@@ -53,6 +58,7 @@ public class UploadMaterialCommandHandler {
         lesson.addMaterial(material);
 
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseContentChangedEvent(course.getId()));
 
         return material.getId();
     }
@@ -23,4 +23,26 @@ public record CourseDTO(
         int totalLessonsCount,
         Long quizId
 ) {
+    /**
+     * Listing variant without sections, used by summary projections.
+     */
+    public CourseDTO(
+            Long id,
+            String title,
+            String description,
+            BigDecimal price,
+            String currency,
+            String thumbnailUrl,
+            String category,
+            CourseLevel level,
+            Long instructorId,
+            boolean published,
+            LocalDateTime createdAt,
+            int sectionsCount,
+            int totalLessonsCount,
+            Long quizId
+    ) {
+        this(id, title, description, price, currency, thumbnailUrl, category, level, instructorId,
+                published, createdAt, List.of(), sectionsCount, totalLessonsCount, quizId);
+    }
 }
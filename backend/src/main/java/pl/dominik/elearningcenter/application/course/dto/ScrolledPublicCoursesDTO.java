@@ -0,0 +1,11 @@
+package pl.dominik.elearningcenter.application.course.dto;
+
+import java.util.List;
+
+public record ScrolledPublicCoursesDTO(
+        List<PublicCourseDTO> courses,
+        String nextCursor,
+        boolean hasNext
+) {
+
+}
@@ -0,0 +1,135 @@
+package pl.dominik.elearningcenter.application.course.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.dominik.elearningcenter.application.course.query.CatalogPageGenerations;
+import pl.dominik.elearningcenter.application.course.query.GetPublishedCoursesQuery;
+import pl.dominik.elearningcenter.application.course.query.ScrollPublishedCoursesQuery;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.course.event.CourseCreatedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseDeletedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CoursePublishedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseStructureChangedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseUnpublishedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseUpdatedEvent;
+import pl.dominik.elearningcenter.infrastructure.config.CacheConfig;
+
+import java.util.Map;
+
+/**
+ * Event handler that keeps the catalog caches consistent with course changes.
+ * Evicts the affected course details entry and only those catalog pages whose
+ * (category, level) filter could contain the changed course.
+ * Runs after commit. Details and categories are cached with sync = true, so an eviction of their key
+ * waits for a load in flight and then removes its possibly pre-commit result. Catalog pages are retired
+ * by advancing their {@link CatalogPageGenerations}, which also covers loads no eviction can see;
+ * removing the retired entries only frees memory.
+ */
+@Component
+public class CourseCatalogCacheInvalidationHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseCatalogCacheInvalidationHandler.class);
+
+    private final CacheManager cacheManager;
+    private final CatalogPageGenerations pageGenerations;
+
+    public CourseCatalogCacheInvalidationHandler(CacheManager cacheManager, CatalogPageGenerations pageGenerations) {
+        this.cacheManager = cacheManager;
+        this.pageGenerations = pageGenerations;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseCreated(CourseCreatedEvent event) {
+        evictCategories();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCoursePublished(CoursePublishedEvent event) {
+        evictCourse(event.getCourseId());
+        evictPublishedPages(event.getCategory(), event.getLevel());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseUnpublished(CourseUnpublishedEvent event) {
+        evictCourse(event.getCourseId());
+        evictPublishedPages(event.getCategory(), event.getLevel());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseUpdated(CourseUpdatedEvent event) {
+        evictCourse(event.getCourseId());
+        evictPublishedPages(event.getPreviousCategory(), event.getPreviousLevel());
+        evictPublishedPages(event.getCategory(), event.getLevel());
+        if (!event.getCategory().equals(event.getPreviousCategory())) {
+            evictCategories();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        evictCourse(event.getCourseId());
+        evictPublishedPages(event.getCategory(), event.getLevel());
+        evictCategories();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseStructureChanged(CourseStructureChangedEvent event) {
+        evictCourse(event.getCourseId());
+        evictPublishedPages(event.getCategory(), event.getLevel());
+    }
+
+    private void evictCourse(Long courseId) {
+        Cache cache = cacheManager.getCache(CacheConfig.COURSE_DETAILS);
+        if (cache != null) {
+            cache.evict(courseId);
+        }
+    }
+
+    private void evictCategories() {
+        Cache cache = cacheManager.getCache(CacheConfig.COURSE_CATEGORIES);
+        if (cache != null) {
+            cache.evict("all");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evictPublishedPages(String category, CourseLevel level) {
+        pageGenerations.advance(category, level);
+        Cache cache = cacheManager.getCache(CacheConfig.PUBLISHED_COURSES);
+        if (cache == null) {
+            return;
+        }
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            cache.clear();
+            return;
+        }
+        Map<Object, Object> entries = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).asMap();
+        entries.keySet().removeIf(key -> pageMayContain(key, category, level));
+        log.debug("Evicted catalog pages for category={}, level={}", category, level);
+    }
+
+    private boolean pageMayContain(Object key, String category, CourseLevel level) {
+        if (!(key instanceof CatalogPageGenerations.PageKey pageKey)) {
+            return true;
+        }
+        String pageCategory;
+        CourseLevel pageLevel;
+        if (pageKey.query() instanceof GetPublishedCoursesQuery query) {
+            pageCategory = query.category();
+            pageLevel = query.level();
+        } else if (pageKey.query() instanceof ScrollPublishedCoursesQuery query) {
+            pageCategory = query.category();
+            pageLevel = query.level();
+        } else {
+            return true;
+        }
+        boolean categoryMatches = pageCategory == null || pageCategory.isBlank() || pageCategory.equals(category);
+        boolean levelMatches = pageLevel == null || pageLevel == level;
+        return categoryMatches && levelMatches;
+    }
+}
@@ -0,0 +1,57 @@
+package pl.dominik.elearningcenter.application.course.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.dominik.elearningcenter.application.course.query.CourseStructureSnapshotCache;
+import pl.dominik.elearningcenter.domain.course.event.CourseContentChangedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseDeletedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CoursePublishedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseStructureChangedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseUnpublishedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseUpdatedEvent;
+
+/**
+ * Event handler that drops a course's structure snapshot whenever anything it renders changes.
+ * Runs after commit: a snapshot built before the change is removed when its load finishes, because
+ * {@link CourseStructureSnapshotCache#evict} waits for the load in flight, and any later load sees the change.
+ */
+@Component
+public class CourseStructureSnapshotInvalidationHandler {
+
+    private final CourseStructureSnapshotCache snapshotCache;
+
+    public CourseStructureSnapshotInvalidationHandler(CourseStructureSnapshotCache snapshotCache) {
+        this.snapshotCache = snapshotCache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseStructureChanged(CourseStructureChangedEvent event) {
+        snapshotCache.evict(event.getCourseId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseContentChanged(CourseContentChangedEvent event) {
+        snapshotCache.evict(event.getCourseId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseUpdated(CourseUpdatedEvent event) {
+        snapshotCache.evict(event.getCourseId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCoursePublished(CoursePublishedEvent event) {
+        snapshotCache.evict(event.getCourseId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseUnpublished(CourseUnpublishedEvent event) {
+        snapshotCache.evict(event.getCourseId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        snapshotCache.evict(event.getCourseId());
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Component;
 import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
 import pl.dominik.elearningcenter.application.course.dto.SectionDTO;
 import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseQuizIds;
 
 import java.util.List;
 
@@ -21,8 +22,9 @@ public class CourseMapper {
             throw new IllegalArgumentException("Course cannot be null");
         }
 
+        CourseQuizIds quizIds = course.getQuizIds();
         List<SectionDTO> sections = course.getSections().stream()
-                .map(sectionMapper::toDto)
+                .map(section -> sectionMapper.toDto(section, quizIds))
                 .toList();
 
         return new CourseDTO(
@@ -49,8 +51,9 @@ public class CourseMapper {
             throw new IllegalArgumentException("Course cannot be null");
         }
 
+        CourseQuizIds quizIds = course.getQuizIds();
         List<SectionDTO> sections = course.getSections().stream()
-                .map(sectionMapper::toDtoSummary)  // Lessons without materials
+                .map(section -> sectionMapper.toDtoSummary(section, quizIds))  // Lessons without materials
                 .toList();
 
         return new CourseDTO(
@@ -71,28 +74,4 @@ public class CourseMapper {
                 course.getQuizId()
         );
     }
-
-    public CourseDTO toDtoSummary(Course course) {
-        if (course == null) {
-            throw new IllegalArgumentException("Course cannot be null");
-        }
-
-        return new CourseDTO(
-                course.getId(),
-                course.getTitle().getValue(),
-                course.getDescription().getValue(),
-                course.getPrice().getAmount(),
-                course.getPrice().getCurrency().getCurrencyCode(),
-                course.getThumbnailUrl(),
-                course.getCategory(),
-                course.getLevel(),
-                course.getInstructorId(),
-                course.isPublished(),
-                course.getCreatedAt(),
-                List.of(),
-                course.getSectionsCount(),
-                course.getTotalLessonsCount(),
-                course.getQuizId()
-        );
-    }
 }
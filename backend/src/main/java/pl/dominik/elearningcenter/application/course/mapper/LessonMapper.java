@@ -3,6 +3,7 @@ package pl.dominik.elearningcenter.application.course.mapper;
 import org.springframework.stereotype.Component;
 import pl.dominik.elearningcenter.application.course.dto.LessonDTO;
 import pl.dominik.elearningcenter.application.course.dto.MaterialDTO;
+import pl.dominik.elearningcenter.domain.course.CourseQuizIds;
 import pl.dominik.elearningcenter.domain.course.Lesson;
 
 import java.util.List;
@@ -17,16 +18,11 @@ public class LessonMapper {
         this.materialMapper = materialMapper;
     }
 
-    public LessonDTO toDto(Lesson lesson) {
+    public LessonDTO toDto(Lesson lesson, CourseQuizIds quizIds) {
         if (lesson == null) {
             throw new IllegalArgumentException("Lesson cannot be null");
         }
 
-        // Set quizId if quiz relationship exists
-        if (lesson.getQuiz() != null) {
-            lesson.setQuizId(lesson.getQuiz().getId());
-        }
-
         List<MaterialDTO> materials = lesson.getMaterials().stream()
                 .map(materialMapper::toDto)
                 .toList();
@@ -39,20 +35,15 @@ public class LessonMapper {
                 lesson.getDurationMinutes(),
                 lesson.getOrderIndex(),
                 materials,
-                lesson.getQuizId()
+                quizIds.forLesson(lesson.getId())
         );
     }
 
-    public LessonDTO toDtoSummary(Lesson lesson) {
+    public LessonDTO toDtoSummary(Lesson lesson, CourseQuizIds quizIds) {
         if (lesson == null) {
             throw new IllegalArgumentException("Lesson cannot be null");
         }
 
-        // Set quizId if quiz relationship exists
-        if (lesson.getQuiz() != null) {
-            lesson.setQuizId(lesson.getQuiz().getId());
-        }
-
         return new LessonDTO(
                 lesson.getId(),
                 lesson.getTitle(),
@@ -61,7 +52,7 @@ public class LessonMapper {
                 lesson.getDurationMinutes(),
                 lesson.getOrderIndex(),
                 List.of(),
-                lesson.getQuizId()
+                quizIds.forLesson(lesson.getId())
         );
     }
 }
@@ -0,0 +1,51 @@
+package pl.dominik.elearningcenter.application.course.query;
+
+import org.springframework.stereotype.Component;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generation counters for catalog pages, one per (category, level) filter, where a null component
+ * means "any". Page cache keys carry the generation read before the page is loaded, and a course
+ * change advances every filter that can contain the course. A load that started before the change
+ * therefore stores its page under a key no later lookup asks for, however late the store happens;
+ * a bare eviction cannot guarantee that because it does not see loads still in flight.
+ */
+@Component
+public class CatalogPageGenerations {
+
+    private final Map<Filter, Long> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Cache key of a catalog page: the query itself plus the current generation of its filter.
+     */
+    public PageKey pageKey(Object query, String category, CourseLevel level) {
+        return new PageKey(query, generations.getOrDefault(Filter.of(category, level), 0L));
+    }
+
+    /**
+     * Retires the cached pages of every filter that can contain a course with the given category and level.
+     */
+    public void advance(String category, CourseLevel level) {
+        for (Filter filter : new Filter[]{
+                Filter.of(null, null),
+                Filter.of(category, null),
+                Filter.of(null, level),
+                Filter.of(category, level)
+        }) {
+            generations.merge(filter, 1L, Long::sum);
+        }
+    }
+
+    public record PageKey(Object query, long generation) {
+    }
+
+    private record Filter(String category, CourseLevel level) {
+
+        static Filter of(String category, CourseLevel level) {
+            return new Filter(category == null || category.isBlank() ? null : category, level);
+        }
+    }
+}
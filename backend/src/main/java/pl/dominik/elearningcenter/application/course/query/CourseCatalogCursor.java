@@ -0,0 +1,44 @@
+package pl.dominik.elearningcenter.application.course.query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the published catalog ordered by (createdAt DESC, id DESC).
+ * Serialized as an opaque URL-safe token so clients never depend on its structure.
+ */
+public record CourseCatalogCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String SEPARATOR = "|";
+
+    public CourseCatalogCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor position cannot be null");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CourseCatalogCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new CourseCatalogCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package pl.dominik.elearningcenter.application.course.query;
+
+import pl.dominik.elearningcenter.application.shared.EntityTaggedBody;
+
+/**
+ * Immutable, pre-serialized view of a course's sections, lessons, materials and quiz ids.
+ * The ETag is derived from the serialized body, so it only changes when the structure does.
+ */
+public record CourseStructureSnapshot(Long courseId, byte[] body, String etag) implements EntityTaggedBody {
+}
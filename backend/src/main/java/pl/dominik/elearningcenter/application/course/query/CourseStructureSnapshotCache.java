@@ -0,0 +1,55 @@
+package pl.dominik.elearningcenter.application.course.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
+import pl.dominik.elearningcenter.application.shared.EntityTaggedBody;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Bounded per-course cache of {@link CourseStructureSnapshot}s used by student course navigation.
+ * A hit costs no SQL and no serialization. Loads run inside the entry's compute, so concurrent misses
+ * for one course share a single load and an eviction racing a load waits for it and then removes the
+ * possibly stale result. Entries are evicted after commit of any change to the course structure or
+ * content; the TTL bounds anything missed.
+ */
+@Component
+public class CourseStructureSnapshotCache {
+
+    private final Cache<Long, CourseStructureSnapshot> cache;
+    private final CourseStructureSnapshotSerializer serializer;
+
+    public CourseStructureSnapshotCache(
+            CourseStructureSnapshotSerializer serializer,
+            @Value("${app.courses.structure-snapshot-cache.max-size:2000}") long maxSize,
+            @Value("${app.courses.structure-snapshot-cache.ttl:30m}") Duration ttl
+    ) {
+        this.serializer = serializer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<CourseStructureSnapshot> get(Long courseId, Supplier<Optional<CourseDTO>> loader) {
+        return Optional.ofNullable(cache.get(courseId, id -> loader.get().map(this::snapshot).orElse(null)));
+    }
+
+    public void evict(Long courseId) {
+        cache.invalidate(courseId);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private CourseStructureSnapshot snapshot(CourseDTO course) {
+        byte[] body = serializer.serialize(course);
+        return new CourseStructureSnapshot(course.id(), body, EntityTaggedBody.etagOf(body));
+    }
+}
@@ -0,0 +1,12 @@
+package pl.dominik.elearningcenter.application.course.query;
+
+import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
+
+/**
+ * Renders a course into the wire representation stored in a {@link CourseStructureSnapshot}.
+ * Implemented by the REST layer so the cached bytes match what the endpoint would otherwise serialize.
+ */
+public interface CourseStructureSnapshotSerializer {
+
+    byte[] serialize(CourseDTO course);
+}
@@ -1,8 +1,10 @@
 package pl.dominik.elearningcenter.application.course.query;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
+import pl.dominik.elearningcenter.infrastructure.config.CacheConfig;
 
 import java.util.List;
 
@@ -14,6 +16,7 @@ public class GetAllCategoriesQueryHandler {
         this.courseRepository = courseRepository;
     }
 
+    @Cacheable(cacheNames = CacheConfig.COURSE_CATEGORIES, key = "'all'", sync = true)
     @Transactional(readOnly = true)
     public List<String> handle() {
         return courseRepository.findAllDistinctCategories();
@@ -5,37 +5,25 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import pl.dominik.elearningcenter.application.course.mapper.CourseMapper;
-import pl.dominik.elearningcenter.application.course.query.GetAllCoursesQuery;
 import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
 import pl.dominik.elearningcenter.application.course.dto.PagedCoursesDTO;
-import pl.dominik.elearningcenter.domain.course.Course;
-import pl.dominik.elearningcenter.domain.course.CourseRepository;
-
-import java.util.List;
+import pl.dominik.elearningcenter.infrastructure.persistence.course.CourseSummaryQueryRepository;
 
 @Service
 public class GetAllCoursesQueryHandler {
-    private final CourseRepository courseRepository;
-    private final CourseMapper courseMapper;
+    private final CourseSummaryQueryRepository courseSummaryQueryRepository;
 
-    public GetAllCoursesQueryHandler(CourseRepository courseRepository, CourseMapper courseMapper){
-        this.courseRepository = courseRepository;
-        this.courseMapper = courseMapper;
+    public GetAllCoursesQueryHandler(CourseSummaryQueryRepository courseSummaryQueryRepository){
+        this.courseSummaryQueryRepository = courseSummaryQueryRepository;
     }
 
     @Transactional(readOnly = true)
     public PagedCoursesDTO handle(GetAllCoursesQuery command){
         Pageable pageable = PageRequest.of(command.page(), command.size());
-        Page<Course> coursePage = courseRepository.findAll(pageable);
-
-        List<CourseDTO> courses = coursePage.getContent()
-                .stream()
-                .map(courseMapper::toDtoSummary)
-                .toList();
+        Page<CourseDTO> coursePage = courseSummaryQueryRepository.findAll(pageable);
 
         return new PagedCoursesDTO(
-                courses,
+                coursePage.getContent(),
                 coursePage.getNumber(),
                 coursePage.getTotalPages(),
                 coursePage.getTotalElements()
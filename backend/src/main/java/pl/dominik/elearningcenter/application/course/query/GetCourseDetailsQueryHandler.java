@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.application.course.query;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.course.dto.PublicCourseDetailsDTO;
@@ -8,6 +9,7 @@ import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
+import pl.dominik.elearningcenter.infrastructure.config.CacheConfig;
 
 import java.util.Optional;
 
@@ -27,6 +29,7 @@ public class GetCourseDetailsQueryHandler {
         this.publicCourseMapper = publicCourseMapper;
     }
 
+    @Cacheable(cacheNames = CacheConfig.COURSE_DETAILS, key = "#courseId", sync = true)
     @Transactional(readOnly = true)
     public Optional<PublicCourseDetailsDTO> handle(Long courseId){
         Optional<Course> courseOpt = courseRepository.findWithSectionsById(courseId);
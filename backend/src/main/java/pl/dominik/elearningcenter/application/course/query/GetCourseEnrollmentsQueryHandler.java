@@ -1,4 +0,0 @@
-package pl.dominik.elearningcenter.application.course.query;
-
-public class GetCourseEnrollmentsQueryHandler {
-}
@@ -0,0 +1,36 @@
+package pl.dominik.elearningcenter.application.course.query;
+
+import org.springframework.stereotype.Service;
+import pl.dominik.elearningcenter.infrastructure.security.CourseAccessCache;
+
+import java.util.Optional;
+
+/**
+ * Serves the full course structure from {@link CourseStructureSnapshotCache}. Not transactional on purpose:
+ * a cached access check plus a snapshot hit must not open a transaction or touch the database; only a miss
+ * falls through to {@link GetFullCourseDetailsQueryHandler}.
+ */
+@Service
+public class GetCourseStructureSnapshotQueryHandler {
+
+    private final CourseAccessCache courseAccessCache;
+    private final CourseStructureSnapshotCache snapshotCache;
+    private final GetFullCourseDetailsQueryHandler fullCourseDetailsQueryHandler;
+
+    public GetCourseStructureSnapshotQueryHandler(
+            CourseAccessCache courseAccessCache,
+            CourseStructureSnapshotCache snapshotCache,
+            GetFullCourseDetailsQueryHandler fullCourseDetailsQueryHandler
+    ) {
+        this.courseAccessCache = courseAccessCache;
+        this.snapshotCache = snapshotCache;
+        this.fullCourseDetailsQueryHandler = fullCourseDetailsQueryHandler;
+    }
+
+    public Optional<CourseStructureSnapshot> handle(GetFullCourseDetailsQuery query) {
+        if (!courseAccessCache.canAccess(query.requestingUserId(), query.courseId())) {
+            return Optional.empty();
+        }
+        return snapshotCache.get(query.courseId(), () -> fullCourseDetailsQueryHandler.handle(query));
+    }
+}
@@ -6,7 +6,7 @@ import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
 import pl.dominik.elearningcenter.application.course.mapper.CourseMapper;
 import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
-import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
+import pl.dominik.elearningcenter.infrastructure.security.CourseAccessCache;
 
 import java.util.Optional;
 
@@ -16,38 +16,30 @@ public class GetFullCourseDetailsQueryHandler {
 
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
-    private final EnrollmentRepository enrollmentRepository;
+    private final CourseAccessCache courseAccessCache;
 
     public GetFullCourseDetailsQueryHandler(
             CourseRepository courseRepository,
             CourseMapper courseMapper,
-            EnrollmentRepository enrollmentRepository
+            CourseAccessCache courseAccessCache
     ) {
         this.courseRepository = courseRepository;
         this.courseMapper = courseMapper;
-        this.enrollmentRepository = enrollmentRepository;
+        this.courseAccessCache = courseAccessCache;
     }
 
     public Optional<CourseDTO> handle(GetFullCourseDetailsQuery query) {
-        Optional<Course> courseOpt = courseRepository.findWithSectionsById(query.courseId());
-
-        if (courseOpt.isEmpty()) {
+        if (!courseAccessCache.canAccess(query.requestingUserId(), query.courseId())) {
             return Optional.empty();
         }
 
-        Course course = courseOpt.get();
+        Optional<Course> courseOpt = courseRepository.findWithSectionsById(query.courseId());
 
-        if (!canAccess(course, query.requestingUserId())) {
+        if (courseOpt.isEmpty()) {
             return Optional.empty();
         }
 
-        CourseDTO dto = courseMapper.toDto(course);
+        CourseDTO dto = courseMapper.toDto(courseOpt.get());
         return Optional.of(dto);
     }
-
-    private boolean canAccess(Course course, Long userId) {
-        boolean isInstructor = course.getInstructorId().equals(userId);
-        boolean isEnrolledStudent = enrollmentRepository.existsByStudentIdAndCourseId(userId, course.getId());
-        return isInstructor || isEnrolledStudent;
-    }
 }
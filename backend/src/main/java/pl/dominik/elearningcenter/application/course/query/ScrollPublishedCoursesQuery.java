@@ -0,0 +1,14 @@
+package pl.dominik.elearningcenter.application.course.query;
+
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+
+public record ScrollPublishedCoursesQuery(
+        String cursor,
+        int size,
+        String category,
+        CourseLevel level
+) {
+    public ScrollPublishedCoursesQuery {
+        if (size < 1 || size > 100) throw new IllegalArgumentException("Size must be 1-100");
+    }
+}
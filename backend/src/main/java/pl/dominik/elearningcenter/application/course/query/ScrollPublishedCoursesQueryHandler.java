@@ -0,0 +1,51 @@
+package pl.dominik.elearningcenter.application.course.query;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.dominik.elearningcenter.application.course.dto.PublicCourseDTO;
+import pl.dominik.elearningcenter.application.course.dto.ScrolledPublicCoursesDTO;
+import pl.dominik.elearningcenter.infrastructure.config.CacheConfig;
+import pl.dominik.elearningcenter.infrastructure.persistence.course.CourseCatalogQueryRepository;
+
+import java.util.List;
+
+@Service
+public class ScrollPublishedCoursesQueryHandler {
+    private final CourseCatalogQueryRepository courseCatalogQueryRepository;
+
+    public ScrollPublishedCoursesQueryHandler(CourseCatalogQueryRepository courseCatalogQueryRepository){
+        this.courseCatalogQueryRepository = courseCatalogQueryRepository;
+    }
+
+    @Cacheable(
+            cacheNames = CacheConfig.PUBLISHED_COURSES,
+            key = "@catalogPageGenerations.pageKey(#query, #query.category(), #query.level())",
+            sync = true
+    )
+    @Transactional(readOnly = true)
+    public ScrolledPublicCoursesDTO handle(ScrollPublishedCoursesQuery query){
+        CourseCatalogCursor after = query.cursor() == null || query.cursor().isBlank()
+                ? null
+                : CourseCatalogCursor.decode(query.cursor());
+
+        List<PublicCourseDTO> fetched = courseCatalogQueryRepository.findPublishedBefore(
+                query.category(),
+                query.level(),
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                query.size() + 1
+        );
+
+        boolean hasNext = fetched.size() > query.size();
+        List<PublicCourseDTO> courses = hasNext ? fetched.subList(0, query.size()) : fetched;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PublicCourseDTO last = courses.get(courses.size() - 1);
+            nextCursor = new CourseCatalogCursor(last.createdAt(), last.id()).encode();
+        }
+
+        return new ScrolledPublicCoursesDTO(courses, nextCursor, hasNext);
+    }
+}
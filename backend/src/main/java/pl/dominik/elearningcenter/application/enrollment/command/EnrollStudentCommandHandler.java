@@ -1,6 +1,7 @@
 package pl.dominik.elearningcenter.application.enrollment.command;
 
 import java.math.BigDecimal;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.enrollment.dto.EnrollmentDTO;
@@ -11,12 +12,13 @@ import pl.dominik.elearningcenter.domain.course.exception.CourseNotFoundExceptio
 import pl.dominik.elearningcenter.domain.course.exception.CourseNotPublishedException;
 import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
+import pl.dominik.elearningcenter.domain.enrollment.event.EnrollmentCreatedEvent;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Money;
-import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
 import pl.dominik.elearningcenter.domain.wallet.WalletTransaction;
 import pl.dominik.elearningcenter.domain.wallet.WalletTransactionRepository;
+import pl.dominik.elearningcenter.domain.wallet.event.WalletTransactionPostedEvent;
 
 @Service
 public class EnrollStudentCommandHandler {
@@ -25,19 +27,22 @@ public class EnrollStudentCommandHandler {
     private final UserRepository userRepository;
     private final WalletTransactionRepository walletTransactionRepository;
     private final EnrollmentMapper enrollmentMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public EnrollStudentCommandHandler(
             EnrollmentRepository enrollmentRepository,
             CourseRepository courseRepository,
             UserRepository userRepository,
             WalletTransactionRepository walletTransactionRepository,
-            EnrollmentMapper enrollmentMapper
+            EnrollmentMapper enrollmentMapper,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.enrollmentRepository = enrollmentRepository;
         this.courseRepository = courseRepository;
         this.userRepository = userRepository;
         this.walletTransactionRepository = walletTransactionRepository;
         this.enrollmentMapper = enrollmentMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -49,49 +54,42 @@ public class EnrollStudentCommandHandler {
             throw new CourseNotPublishedException("Cannot enroll in unpublished course");
         }
 
-        if (enrollmentRepository.existsByStudentIdAndCourseId(command.studentId(), command.courseId())) {
-            throw new DomainException("Student is already enrolled in this course");
-        }
+        // The unique (student_id, course_id) constraint decides concurrent purchases of the same
+        // course, so the enrollment row goes in first and a duplicate aborts before any money moves.
+        Enrollment enrollment = enrollmentRepository.enroll(Enrollment.enroll(command.studentId(), command.courseId(), course.getTotalLessonsCount()));
 
         if (course.getPrice().getAmount().compareTo(BigDecimal.ZERO) > 0) {
-            User student = userRepository.findByIdOrThrow(command.studentId());
-
-            if (!student.hasEnoughBalance(course.getPrice())) {
-                throw new DomainException("Insufficient balance. Course price: " + course.getPrice().getAmount() + " PLN");
-            }
+            userRepository.debitBalanceOrThrow(command.studentId(), course.getPrice(),
+                    () -> new DomainException("Insufficient balance. Course price: "
+                            + course.getPrice().getAmount() + " " + course.getPrice().getCurrencyCode()));
 
-            student.deductBalance(course.getPrice());
-            userRepository.save(student);
-            walletTransactionRepository.save(
-                    WalletTransaction.debit(
-                            student.getId(),
-                            course.getPrice().getAmount(),
-                            course.getPrice().getCurrencyCode(),
-                            "Course purchase: " + course.getTitle().getValue(),
-                            course.getId()
-                    )
+            WalletTransaction purchase = WalletTransaction.debit(
+                    command.studentId(),
+                    course.getPrice().getAmount(),
+                    course.getPrice().getCurrencyCode(),
+                    "Course purchase: " + course.getTitle().getValue(),
+                    course.getId()
             );
+            walletTransactionRepository.save(purchase);
+            eventPublisher.publishEvent(WalletTransactionPostedEvent.of(purchase));
 
             Long instructorId = course.getInstructorId();
-            if (instructorId != null && !instructorId.equals(student.getId())) {
-                User instructor = userRepository.findByIdOrThrow(instructorId);
+            if (instructorId != null && !instructorId.equals(command.studentId())) {
                 Money instructorShare = course.getPrice().multiply(BigDecimal.valueOf(0.9));
-                instructor.addBalance(instructorShare);
-                userRepository.save(instructor);
-                walletTransactionRepository.save(
-                        WalletTransaction.credit(
-                                instructor.getId(),
-                                instructorShare.getAmount(),
-                                instructorShare.getCurrencyCode(),
-                                "Course sale: " + course.getTitle().getValue(),
-                                course.getId()
-                        )
+                userRepository.creditBalanceOrThrow(instructorId, instructorShare);
+                WalletTransaction sale = WalletTransaction.credit(
+                        instructorId,
+                        instructorShare.getAmount(),
+                        instructorShare.getCurrencyCode(),
+                        "Course sale: " + course.getTitle().getValue(),
+                        course.getId()
                 );
+                walletTransactionRepository.save(sale);
+                eventPublisher.publishEvent(WalletTransactionPostedEvent.of(sale));
             }
         }
 
-        Enrollment enrollment = Enrollment.enroll(command.studentId(), command.courseId());
-        enrollmentRepository.save(enrollment);
+        eventPublisher.publishEvent(new EnrollmentCreatedEvent(enrollment.getId(), command.studentId(), command.courseId()));
 
         return enrollmentMapper.toDto(enrollment);
     }
@@ -1,13 +1,15 @@
 package pl.dominik.elearningcenter.application.enrollment.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.enrollment.CompletedLesson;
 import pl.dominik.elearningcenter.domain.enrollment.CompletedLessonRepository;
 import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
+import pl.dominik.elearningcenter.domain.enrollment.LessonCompletionProgress;
+import pl.dominik.elearningcenter.domain.enrollment.event.LessonCompletedEvent;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 
 @Service
@@ -15,39 +17,65 @@ public class MarkLessonAsCompletedCommandHandler {
     private final EnrollmentRepository enrollmentRepository;
     private final CompletedLessonRepository completedLessonRepository;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MarkLessonAsCompletedCommandHandler(
             EnrollmentRepository enrollmentRepository,
             CompletedLessonRepository completedLessonRepository,
-            CourseRepository courseRepository
+            CourseRepository courseRepository,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.enrollmentRepository = enrollmentRepository;
         this.completedLessonRepository = completedLessonRepository;
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * A first completion normally costs the completion insert plus one enrollment update that checks
+     * ownership and the lesson and returns the new progress. Only when that update matches nothing
+     * (wrong student, unknown lesson or legacy counters) is the enrollment locked and loaded, either
+     * to report the error, which rolls back the insert, or to seed its counters.
+     */
     @Transactional
     public void handle(MarkLessonAsCompletedCommand command) {
-        Enrollment enrollment = enrollmentRepository.findByIdOrThrow(command.enrollmentId());
-
-        if (!enrollment.belongsToStudent(command.studentId())) {
-            throw new DomainException("You can only mark lessons as completed for your own enrollments");
+        CompletedLesson completedLesson = CompletedLesson.create(command.enrollmentId(), command.lessonId());
+        if (!completedLessonRepository.saveIfAbsent(completedLesson)) {
+            Enrollment enrollment = enrollmentRepository.findByIdOrThrow(command.enrollmentId());
+            requireOwnedBy(enrollment, command.studentId());
+            return;
         }
 
-        Course course = courseRepository.findByIdOrThrow(enrollment.getCourseId());
-        course.findSection(command.sectionId()).findLesson(command.lessonId());
+        LessonCompletionProgress progress = enrollmentRepository
+                .recordLessonCompleted(command.enrollmentId(), command.studentId(), command.sectionId(), command.lessonId())
+                .orElseGet(() -> seedCompletedLessons(command));
 
-        if (completedLessonRepository.existsByEnrollmentIdAndLessonId(command.enrollmentId(), command.lessonId())) {
-            return;
-        }
+        eventPublisher.publishEvent(new LessonCompletedEvent(
+                command.enrollmentId(),
+                command.studentId(),
+                progress.courseId(),
+                command.lessonId(),
+                progress.percentage()
+        ));
+    }
 
-        CompletedLesson completedLesson = CompletedLesson.create(command.enrollmentId(), command.lessonId());
-        completedLessonRepository.save(completedLesson);
+    private LessonCompletionProgress seedCompletedLessons(MarkLessonAsCompletedCommand command) {
+        Enrollment enrollment = enrollmentRepository.findByIdForUpdateOrThrow(command.enrollmentId());
+        requireOwnedBy(enrollment, command.studentId());
+
+        int totalLessons = courseRepository
+                .findTotalLessonsCountByLesson(enrollment.getCourseId(), command.sectionId(), command.lessonId())
+                .orElseThrow(() -> new DomainException("Lesson not found: " + command.lessonId()));
 
-        int totalLessons = course.getTotalLessonsCount();
         long completedCount = completedLessonRepository.countByEnrollmentId(command.enrollmentId());
-        int newProgress = (int) ((completedCount * 100) / totalLessons);
+        enrollment.recordCompletedLessons((int) completedCount, totalLessons);
+        return new LessonCompletionProgress(
+                enrollment.getCourseId(), enrollment.getProgress().getPercentage(), enrollment.getStatus());
+    }
 
-        enrollment.recalculateProgress(newProgress);
+    private static void requireOwnedBy(Enrollment enrollment, Long studentId) {
+        if (!enrollment.belongsToStudent(studentId)) {
+            throw new DomainException("You can only mark lessons as completed for your own enrollments");
+        }
     }
 }
@@ -0,0 +1,11 @@
+package pl.dominik.elearningcenter.application.enrollment.command;
+
+public record RecalculateEnrollmentProgressCommand(
+        Long courseId,
+        int batchSize
+) {
+    public RecalculateEnrollmentProgressCommand {
+        if (courseId == null) throw new IllegalArgumentException("Course ID cannot be null");
+        if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be positive");
+    }
+}
@@ -0,0 +1,76 @@
+package pl.dominik.elearningcenter.application.enrollment.command;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseRepository;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
+import pl.dominik.elearningcenter.domain.enrollment.ProgressRecalculationJob;
+import pl.dominik.elearningcenter.domain.enrollment.ProgressRecalculationJobRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs one chunk of a course's progress recalculation job. The chunk's enrollments are locked,
+ * recomputed with a single set-based statement and the job cursor advances in the same transaction.
+ * Returns {@code true} while the job has more enrollments to process.
+ */
+@Service
+public class RecalculateEnrollmentProgressCommandHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(RecalculateEnrollmentProgressCommandHandler.class);
+
+    private final ProgressRecalculationJobRepository jobRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+
+    public RecalculateEnrollmentProgressCommandHandler(
+            ProgressRecalculationJobRepository jobRepository,
+            EnrollmentRepository enrollmentRepository,
+            CourseRepository courseRepository
+    ) {
+        this.jobRepository = jobRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseRepository = courseRepository;
+    }
+
+    @Transactional
+    public boolean handle(RecalculateEnrollmentProgressCommand command) {
+        Optional<ProgressRecalculationJob> pending = jobRepository.findByCourseIdForUpdate(command.courseId());
+        if (pending.isEmpty() || pending.get().isFinished()) {
+            return false;
+        }
+        ProgressRecalculationJob job = pending.get();
+
+        Optional<Course> course = courseRepository.findById(command.courseId());
+        if (course.isEmpty()) {
+            job.finish();
+            return false;
+        }
+        int totalLessons = course.get().getTotalLessonsCount();
+
+        if (!job.isStarted()) {
+            // no shortcut on an unchanged lesson total: deleting one lesson and adding another keeps
+            // the total but still changes which completions count
+            job.start(enrollmentRepository.countByCourseId(command.courseId()));
+        }
+
+        List<Long> chunk = enrollmentRepository.lockNextIdsByCourseId(
+                command.courseId(), job.getLastEnrollmentId(), command.batchSize());
+        if (chunk.isEmpty()) {
+            job.finish();
+            log.info("Recalculated progress of {} enrollments in course {}", job.getProcessedEnrollments(), command.courseId());
+            return false;
+        }
+
+        Long upToId = chunk.get(chunk.size() - 1);
+        enrollmentRepository.recalculateProgress(command.courseId(), job.getLastEnrollmentId(), upToId, totalLessons);
+        job.advance(upToId, chunk.size());
+        log.debug("Progress recalculation for course {}: {}/{} enrollments",
+                command.courseId(), job.getProcessedEnrollments(), job.getTotalEnrollments());
+        return true;
+    }
+}
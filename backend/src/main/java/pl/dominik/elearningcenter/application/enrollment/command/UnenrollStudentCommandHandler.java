@@ -1,17 +1,24 @@
 package pl.dominik.elearningcenter.application.enrollment.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
+import pl.dominik.elearningcenter.domain.enrollment.event.EnrollmentCancelledEvent;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 
 @Service
 public class UnenrollStudentCommandHandler {
     private final EnrollmentRepository enrollmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UnenrollStudentCommandHandler(EnrollmentRepository enrollmentRepository) {
+    public UnenrollStudentCommandHandler(
+            EnrollmentRepository enrollmentRepository,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.enrollmentRepository = enrollmentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -24,5 +31,10 @@ public class UnenrollStudentCommandHandler {
 
         enrollment.drop();
         enrollmentRepository.delete(enrollment);
+        eventPublisher.publishEvent(new EnrollmentCancelledEvent(
+                enrollment.getId(),
+                enrollment.getStudentId(),
+                enrollment.getCourseId()
+        ));
     }
 }
\ No newline at end of file
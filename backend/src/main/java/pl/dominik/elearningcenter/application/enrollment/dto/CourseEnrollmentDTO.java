@@ -0,0 +1,17 @@
+package pl.dominik.elearningcenter.application.enrollment.dto;
+
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+
+import java.time.LocalDateTime;
+
+public record CourseEnrollmentDTO(
+        Long id,
+        Long studentId,
+        String studentUsername,
+        String studentEmail,
+        Integer progressPercentage,
+        LocalDateTime enrolledAt,
+        LocalDateTime completedAt,
+        EnrollmentStatus status
+) {
+}
@@ -0,0 +1,16 @@
+package pl.dominik.elearningcenter.application.enrollment.dto;
+
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+
+/**
+ * Progress of one enrollment together with the ids of its completed lessons, sorted ascending.
+ */
+public record EnrollmentProgressDTO(
+        Long enrollmentId,
+        Long courseId,
+        String courseTitle,
+        Integer progressPercentage,
+        EnrollmentStatus status,
+        long[] completedLessonIds
+) {
+}
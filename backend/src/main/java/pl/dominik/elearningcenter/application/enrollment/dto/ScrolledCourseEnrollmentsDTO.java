@@ -0,0 +1,10 @@
+package pl.dominik.elearningcenter.application.enrollment.dto;
+
+import java.util.List;
+
+public record ScrolledCourseEnrollmentsDTO(
+        List<CourseEnrollmentDTO> enrollments,
+        String nextCursor,
+        boolean hasNext
+) {
+}
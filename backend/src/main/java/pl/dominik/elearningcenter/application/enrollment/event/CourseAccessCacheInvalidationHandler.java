@@ -0,0 +1,47 @@
+package pl.dominik.elearningcenter.application.enrollment.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.dominik.elearningcenter.domain.course.event.CourseCreatedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseDeletedEvent;
+import pl.dominik.elearningcenter.domain.enrollment.event.EnrollmentCancelledEvent;
+import pl.dominik.elearningcenter.domain.enrollment.event.EnrollmentCreatedEvent;
+import pl.dominik.elearningcenter.infrastructure.security.CourseAccessCache;
+
+/**
+ * Event handler that keeps cached course access rights consistent with enrollments and course ownership.
+ * Runs after commit. A user's access set is loaded inside the entry's compute, so evicting the user waits
+ * for a load in flight and removes what it read. Dropping a deleted course from every user's set cannot see
+ * loads in flight; such a set may still list the course until the TTL, but its content no longer exists.
+ */
+@Component
+public class CourseAccessCacheInvalidationHandler {
+
+    private final CourseAccessCache courseAccessCache;
+
+    public CourseAccessCacheInvalidationHandler(CourseAccessCache courseAccessCache) {
+        this.courseAccessCache = courseAccessCache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnrollmentCreated(EnrollmentCreatedEvent event) {
+        courseAccessCache.evict(event.getStudentId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnrollmentCancelled(EnrollmentCancelledEvent event) {
+        courseAccessCache.evict(event.getStudentId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseCreated(CourseCreatedEvent event) {
+        courseAccessCache.evict(event.getInstructorId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        courseAccessCache.evict(event.getInstructorId());
+        courseAccessCache.evictCourse(event.getCourseId());
+    }
+}
@@ -0,0 +1,100 @@
+package pl.dominik.elearningcenter.application.enrollment.event;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.dominik.elearningcenter.application.enrollment.command.RecalculateEnrollmentProgressCommand;
+import pl.dominik.elearningcenter.application.enrollment.command.RecalculateEnrollmentProgressCommandHandler;
+import pl.dominik.elearningcenter.domain.course.event.CourseStructureChangedEvent;
+import pl.dominik.elearningcenter.domain.enrollment.ProgressRecalculationJobRepository;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Event handler that schedules a progress recalculation job whenever the set of a course's lessons changes.
+ * The job is recorded in the same transaction as the change and run chunk by chunk on a background
+ * thread after commit; unfinished jobs, e.g. after a restart, are picked up by a periodic poll.
+ */
+@Component
+public class EnrollmentProgressRecalculationHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrollmentProgressRecalculationHandler.class);
+
+    private final ProgressRecalculationJobRepository jobRepository;
+    private final RecalculateEnrollmentProgressCommandHandler recalculateHandler;
+    private final ThreadPoolTaskExecutor worker;
+    private final Set<Long> queuedCourses = ConcurrentHashMap.newKeySet();
+    private final int batchSize;
+
+    public EnrollmentProgressRecalculationHandler(
+            ProgressRecalculationJobRepository jobRepository,
+            RecalculateEnrollmentProgressCommandHandler recalculateHandler,
+            @Value("${app.enrollments.progress-recalculation.batch-size:500}") int batchSize,
+            @Value("${app.enrollments.progress-recalculation.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.jobRepository = jobRepository;
+        this.recalculateHandler = recalculateHandler;
+        this.batchSize = batchSize;
+
+        this.worker = new ThreadPoolTaskExecutor();
+        this.worker.setCorePoolSize(1);
+        this.worker.setMaxPoolSize(1);
+        this.worker.setQueueCapacity(queueCapacity);
+        this.worker.setThreadNamePrefix("progress-recalculation-");
+        this.worker.initialize();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true,
+            condition = "#event.lessonSetChanged")
+    public void recordJob(CourseStructureChangedEvent event) {
+        jobRepository.request(event.getCourseId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true,
+            condition = "#event.lessonSetChanged")
+    public void onCourseStructureChanged(CourseStructureChangedEvent event) {
+        submit(event.getCourseId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.enrollments.progress-recalculation.poll-interval:1m}")
+    public void resumeUnfinished() {
+        jobRepository.findUnfinishedCourseIds().forEach(this::submit);
+    }
+
+    private void submit(Long courseId) {
+        if (!queuedCourses.add(courseId)) {
+            return;
+        }
+        try {
+            worker.execute(() -> run(courseId));
+        } catch (RejectedExecutionException ex) {
+            queuedCourses.remove(courseId);
+            log.warn("Progress recalculation queue full, course {} left for the next poll", courseId);
+        }
+    }
+
+    private void run(Long courseId) {
+        queuedCourses.remove(courseId);
+        RecalculateEnrollmentProgressCommand command = new RecalculateEnrollmentProgressCommand(courseId, batchSize);
+        try {
+            while (recalculateHandler.handle(command)) {
+                // each call commits one chunk
+            }
+        } catch (RuntimeException ex) {
+            log.error("Progress recalculation failed for course {}, will resume on the next poll", courseId, ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
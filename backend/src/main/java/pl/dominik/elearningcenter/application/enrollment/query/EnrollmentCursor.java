@@ -0,0 +1,30 @@
+package pl.dominik.elearningcenter.application.enrollment.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a course's enrollment list ordered by id.
+ * Serialized as an opaque URL-safe token so clients never depend on its structure.
+ */
+public record EnrollmentCursor(Long id) {
+
+    public EnrollmentCursor {
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor position cannot be null");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EnrollmentCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new EnrollmentCursor(Long.parseLong(raw));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package pl.dominik.elearningcenter.application.enrollment.query;
+
+public record ExportCourseEnrollmentsQuery(Long courseId, Long instructorId) {
+    public ExportCourseEnrollmentsQuery {
+        if (courseId == null) {
+            throw new IllegalArgumentException("Course ID cannot be null");
+        }
+        if (instructorId == null) {
+            throw new IllegalArgumentException("Instructor ID cannot be null");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package pl.dominik.elearningcenter.application.enrollment.query;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.dominik.elearningcenter.application.enrollment.dto.CourseEnrollmentDTO;
+import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseRepository;
+import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.infrastructure.persistence.enrollment.CourseEnrollmentQueryRepository;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Streams every enrollment of a course to a consumer inside one read-only transaction.
+ * Rows are DTO projections read through a database cursor, so memory use does not grow with the course.
+ */
+@Service
+public class ExportCourseEnrollmentsQueryHandler {
+    private final CourseEnrollmentQueryRepository courseEnrollmentQueryRepository;
+    private final CourseRepository courseRepository;
+
+    public ExportCourseEnrollmentsQueryHandler(
+            CourseEnrollmentQueryRepository courseEnrollmentQueryRepository,
+            CourseRepository courseRepository
+    ) {
+        this.courseEnrollmentQueryRepository = courseEnrollmentQueryRepository;
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * Fails fast before a response is committed; {@link #handle} checks again inside its transaction.
+     */
+    @Transactional(readOnly = true)
+    public void checkAccess(ExportCourseEnrollmentsQuery query) {
+        Course course = courseRepository.findByIdOrThrow(query.courseId());
+
+        if (!course.isOwnedBy(query.instructorId())) {
+            throw new DomainException("Only course owner can export enrollments");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void handle(ExportCourseEnrollmentsQuery query, Consumer<CourseEnrollmentDTO> consumer) {
+        checkAccess(query);
+
+        try (Stream<CourseEnrollmentDTO> enrollments = courseEnrollmentQueryRepository.streamByCourseId(query.courseId())) {
+            enrollments.forEach(consumer);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package pl.dominik.elearningcenter.application.enrollment.query;
 
-public record GetCourseEnrollmentsQuery(Long courseId, Long instructorId) {
+public record GetCourseEnrollmentsQuery(Long courseId, Long instructorId, String cursor, int size) {
     public GetCourseEnrollmentsQuery {
         if (courseId == null) {
             throw new IllegalArgumentException("Course ID cannot be null");
@@ -8,5 +8,8 @@ public record GetCourseEnrollmentsQuery(Long courseId, Long instructorId) {
         if (instructorId == null) {
             throw new IllegalArgumentException("Instructor ID cannot be null");
         }
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("Size must be 1-100");
+        }
     }
 }
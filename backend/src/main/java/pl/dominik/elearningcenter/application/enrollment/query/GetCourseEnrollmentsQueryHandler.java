@@ -2,41 +2,53 @@ package pl.dominik.elearningcenter.application.enrollment.query;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import pl.dominik.elearningcenter.application.enrollment.dto.EnrollmentDTO;
-import pl.dominik.elearningcenter.application.enrollment.mapper.EnrollmentMapper;
+import pl.dominik.elearningcenter.application.enrollment.dto.CourseEnrollmentDTO;
+import pl.dominik.elearningcenter.application.enrollment.dto.ScrolledCourseEnrollmentsDTO;
 import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
-import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
-import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.infrastructure.persistence.enrollment.CourseEnrollmentQueryRepository;
 
 import java.util.List;
 
 @Service
 public class GetCourseEnrollmentsQueryHandler {
-    private final EnrollmentRepository enrollmentRepository;
+    private final CourseEnrollmentQueryRepository courseEnrollmentQueryRepository;
     private final CourseRepository courseRepository;
-    private final EnrollmentMapper enrollmentMapper;
 
     public GetCourseEnrollmentsQueryHandler(
-            EnrollmentRepository enrollmentRepository,
-            CourseRepository courseRepository,
-            EnrollmentMapper enrollmentMapper
+            CourseEnrollmentQueryRepository courseEnrollmentQueryRepository,
+            CourseRepository courseRepository
     ) {
-        this.enrollmentRepository = enrollmentRepository;
+        this.courseEnrollmentQueryRepository = courseEnrollmentQueryRepository;
         this.courseRepository = courseRepository;
-        this.enrollmentMapper = enrollmentMapper;
     }
 
     @Transactional(readOnly = true)
-    public List<EnrollmentDTO> handle(GetCourseEnrollmentsQuery query) {
+    public ScrolledCourseEnrollmentsDTO handle(GetCourseEnrollmentsQuery query) {
         Course course = courseRepository.findByIdOrThrow(query.courseId());
 
         if (!course.isOwnedBy(query.instructorId())) {
             throw new DomainException("Only course owner can view enrollments");
         }
 
-        List<Enrollment> enrollments = enrollmentRepository.findByCourseId(query.courseId());
-        return enrollmentMapper.toDtoList(enrollments);
+        Long afterId = query.cursor() == null || query.cursor().isBlank()
+                ? 0L
+                : EnrollmentCursor.decode(query.cursor()).id();
+
+        List<CourseEnrollmentDTO> fetched = courseEnrollmentQueryRepository.findPage(
+                query.courseId(),
+                afterId,
+                query.size() + 1
+        );
+
+        boolean hasNext = fetched.size() > query.size();
+        List<CourseEnrollmentDTO> enrollments = hasNext ? fetched.subList(0, query.size()) : fetched;
+
+        String nextCursor = hasNext
+                ? new EnrollmentCursor(enrollments.get(enrollments.size() - 1).id()).encode()
+                : null;
+
+        return new ScrolledCourseEnrollmentsDTO(enrollments, nextCursor, hasNext);
     }
 }
@@ -0,0 +1,7 @@
+package pl.dominik.elearningcenter.application.enrollment.query;
+
+public record GetStudentProgressQuery(
+        Long studentId,
+        Long userId
+) {
+}
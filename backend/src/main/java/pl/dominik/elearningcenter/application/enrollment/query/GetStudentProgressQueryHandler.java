@@ -0,0 +1,27 @@
+package pl.dominik.elearningcenter.application.enrollment.query;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import pl.dominik.elearningcenter.application.enrollment.dto.EnrollmentProgressDTO;
+import pl.dominik.elearningcenter.domain.enrollment.exception.EnrollmentAccessDeniedException;
+import pl.dominik.elearningcenter.infrastructure.persistence.enrollment.EnrollmentProgressQueryRepository;
+
+import java.util.List;
+
+@Service
+public class GetStudentProgressQueryHandler {
+
+    private final EnrollmentProgressQueryRepository progressQueryRepository;
+
+    public GetStudentProgressQueryHandler(EnrollmentProgressQueryRepository progressQueryRepository) {
+        this.progressQueryRepository = progressQueryRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<EnrollmentProgressDTO> handle(GetStudentProgressQuery query) {
+        if (!query.studentId().equals(query.userId())) {
+            throw new EnrollmentAccessDeniedException("You don't have access to these enrollments");
+        }
+        return progressQueryRepository.findByStudentId(query.studentId());
+    }
+}
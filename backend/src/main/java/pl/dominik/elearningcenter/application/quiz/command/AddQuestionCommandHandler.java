@@ -1,11 +1,13 @@
 package pl.dominik.elearningcenter.application.quiz.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.quiz.command.AddQuestionCommand;
 import pl.dominik.elearningcenter.domain.quiz.Question;
 import pl.dominik.elearningcenter.domain.quiz.Quiz;
 import pl.dominik.elearningcenter.domain.quiz.QuizRepository;
+import pl.dominik.elearningcenter.domain.quiz.event.QuizVersionChangedEvent;
 import pl.dominik.elearningcenter.domain.quiz.valueobject.Answer;
 
 import java.util.List;
@@ -13,14 +15,16 @@ import java.util.List;
 @Service
 public class AddQuestionCommandHandler {
     private final QuizRepository quizRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AddQuestionCommandHandler(QuizRepository quizRepository) {
+    public AddQuestionCommandHandler(QuizRepository quizRepository, ApplicationEventPublisher eventPublisher) {
         this.quizRepository = quizRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Long handle(AddQuestionCommand command) {
-        Quiz quiz = quizRepository.findByIdAndInstructorIdOrThrow(
+        Quiz quiz = quizRepository.findByIdAndInstructorIdForUpdateOrThrow(
                 command.quizId(),
                 command.instructorId()
         );
@@ -38,6 +42,7 @@ public class AddQuestionCommandHandler {
         newQuestion.setAnswers(answers);
 
         quiz.addQuestion(newQuestion);
+        eventPublisher.publishEvent(new QuizVersionChangedEvent(quiz.getId(), quiz.getContentVersion()));
         return newQuestion.getId();
     }
 }
@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.application.quiz.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.quiz.command.CreateQuizCommand;
@@ -7,6 +8,7 @@ import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
 import pl.dominik.elearningcenter.domain.course.Section;
 import pl.dominik.elearningcenter.domain.course.Lesson;
+import pl.dominik.elearningcenter.domain.course.event.CourseContentChangedEvent;
 import pl.dominik.elearningcenter.domain.quiz.Quiz;
 import pl.dominik.elearningcenter.domain.quiz.QuizRepository;
 
@@ -14,10 +16,16 @@ import pl.dominik.elearningcenter.domain.quiz.QuizRepository;
 public class CreateQuizCommandHandler {
     private final QuizRepository quizRepository;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CreateQuizCommandHandler(QuizRepository quizRepository, CourseRepository courseRepository) {
+    public CreateQuizCommandHandler(
+            QuizRepository quizRepository,
+            CourseRepository courseRepository,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.quizRepository = quizRepository;
         this.courseRepository = courseRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -58,6 +66,9 @@ public class CreateQuizCommandHandler {
                 lesson
         );
         quizRepository.save(quiz);
+        if (course != null) {
+            eventPublisher.publishEvent(new CourseContentChangedEvent(course.getId()));
+        }
         return quiz.getId();
     }
 }
@@ -1,25 +1,30 @@
 package pl.dominik.elearningcenter.application.quiz.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.quiz.command.DeleteQuestionCommand;
 import pl.dominik.elearningcenter.domain.quiz.Quiz;
 import pl.dominik.elearningcenter.domain.quiz.QuizRepository;
+import pl.dominik.elearningcenter.domain.quiz.event.QuizVersionChangedEvent;
 
 @Service
 public class DeleteQuestionCommandHandler {
     private final QuizRepository quizRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DeleteQuestionCommandHandler(QuizRepository quizRepository) {
+    public DeleteQuestionCommandHandler(QuizRepository quizRepository, ApplicationEventPublisher eventPublisher) {
         this.quizRepository = quizRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public void handle(DeleteQuestionCommand command) {
-        Quiz quiz = quizRepository.findByIdAndInstructorIdOrThrow(
+        Quiz quiz = quizRepository.findByIdAndInstructorIdForUpdateOrThrow(
                 command.quizId(),
                 command.instructorId()
         );
         quiz.removeQuestion(command.questionId());
+        eventPublisher.publishEvent(new QuizVersionChangedEvent(quiz.getId(), quiz.getContentVersion()));
     }
 }
@@ -7,6 +7,7 @@ import pl.dominik.elearningcenter.application.quiz.command.DeleteQuizCommand;
 import pl.dominik.elearningcenter.domain.quiz.Quiz;
 import pl.dominik.elearningcenter.domain.quiz.QuizRepository;
 import pl.dominik.elearningcenter.domain.quiz.event.QuizDeletedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseContentChangedEvent;
 
 @Service
 public class DeleteQuizCommandHandler {
@@ -23,16 +24,20 @@ public class DeleteQuizCommandHandler {
 
     @Transactional
     public void handle(DeleteQuizCommand command) {
-        Quiz quiz = quizRepository.findByIdAndInstructorIdOrThrow(
+        Quiz quiz = quizRepository.findByIdAndInstructorIdForUpdateOrThrow(
                 command.quizId(),
                 command.instructorId()
         );
 
         Long quizId = quiz.getId();
         Long instructorId = quiz.getInstructorId();
+        Long courseId = quiz.getCourseId();
 
         quizRepository.delete(quiz);
 
         eventPublisher.publishEvent(new QuizDeletedEvent(quizId, instructorId));
+        if (courseId != null) {
+            eventPublisher.publishEvent(new CourseContentChangedEvent(courseId));
+        }
     }
 }
@@ -1,34 +1,58 @@
 package pl.dominik.elearningcenter.application.quiz.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptDTO;
 import pl.dominik.elearningcenter.application.quiz.mapper.QuizAttemptMapper;
+import pl.dominik.elearningcenter.application.quiz.query.QuizSnapshotCache;
 import pl.dominik.elearningcenter.application.quiz.command.SubmitQuizAttemptCommand;
+import pl.dominik.elearningcenter.domain.enrollment.exception.EnrollmentAccessDeniedException;
 import pl.dominik.elearningcenter.domain.quiz.*;
+import pl.dominik.elearningcenter.domain.quiz.event.QuizAttemptSubmittedEvent;
 import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
+import pl.dominik.elearningcenter.infrastructure.security.CourseAccessCache;
 
 import java.util.List;
 
 @Service
 public class SubmitQuizAttemptCommandHandler {
     private final QuizAttemptRepository attemptRepository;
-    private final QuizRepository quizRepository;
+    private final QuizAttemptSummaryRepository summaryRepository;
     private final QuizAttemptMapper quizAttemptMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CourseAccessCache courseAccessCache;
+    private final QuizSnapshotCache snapshotCache;
+    private final TransactionTemplate transactionTemplate;
 
     public SubmitQuizAttemptCommandHandler(
             QuizAttemptRepository attemptRepository,
-            QuizRepository quizRepository,
-            QuizAttemptMapper quizAttemptMapper
+            QuizAttemptSummaryRepository summaryRepository,
+            QuizAttemptMapper quizAttemptMapper,
+            ApplicationEventPublisher eventPublisher,
+            CourseAccessCache courseAccessCache,
+            QuizSnapshotCache snapshotCache,
+            PlatformTransactionManager transactionManager
     ) {
         this.attemptRepository = attemptRepository;
-        this.quizRepository = quizRepository;
+        this.summaryRepository = summaryRepository;
         this.quizAttemptMapper = quizAttemptMapper;
+        this.eventPublisher = eventPublisher;
+        this.courseAccessCache = courseAccessCache;
+        this.snapshotCache = snapshotCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
+    /**
+     * Grades before opening the write transaction: a snapshot cache miss loads in a transaction of its own,
+     * which must not hold a second pool connection while this one waits.
+     */
     public QuizAttemptDTO handle(SubmitQuizAttemptCommand command) {
-        Quiz quiz = quizRepository.findByIdOrThrow(command.quizId());
+        QuizSnapshot snapshot = snapshotCache.getCurrent(command.quizId());
+        if (snapshot.getCourseId() != null && !courseAccessCache.canAccess(command.studentId(), snapshot.getCourseId())) {
+            throw new EnrollmentAccessDeniedException("You must be enrolled in this course to submit this quiz");
+        }
         List<StudentAnswer> studentAnswers = command.answers().stream()
                 .map(answerInput -> StudentAnswer.of(
                         answerInput.questionId(),
@@ -36,18 +60,30 @@ public class SubmitQuizAttemptCommandHandler {
                 ))
                 .toList();
 
-        int score = quiz.calculateScore(studentAnswers);
-        int maxScore = quiz.calculateMaxScore();
-        boolean passed = quiz.isPassed(score, maxScore);
+        int score = snapshot.answerKey().score(studentAnswers);
+        int maxScore = snapshot.maxScore();
+        boolean passed = snapshot.isPassed(score);
         QuizAttempt attempt = QuizAttempt.create(
                 command.quizId(),
+                snapshot.getVersion(),
                 command.studentId(),
                 score,
                 maxScore,
                 passed,
                 studentAnswers
         );
-        attemptRepository.save(attempt);
-        return quizAttemptMapper.toDto(attempt);
+        return transactionTemplate.execute(status -> {
+            attemptRepository.save(attempt);
+            summaryRepository.record(attempt);
+            eventPublisher.publishEvent(new QuizAttemptSubmittedEvent(
+                    attempt.getId(),
+                    command.quizId(),
+                    command.studentId(),
+                    score,
+                    maxScore,
+                    passed
+            ));
+            return quizAttemptMapper.toDto(attempt);
+        });
     }
 }
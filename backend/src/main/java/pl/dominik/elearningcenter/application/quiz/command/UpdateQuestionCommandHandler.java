@@ -1,11 +1,12 @@
 package pl.dominik.elearningcenter.application.quiz.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.quiz.command.UpdateQuestionCommand;
-import pl.dominik.elearningcenter.domain.quiz.Question;
 import pl.dominik.elearningcenter.domain.quiz.Quiz;
 import pl.dominik.elearningcenter.domain.quiz.QuizRepository;
+import pl.dominik.elearningcenter.domain.quiz.event.QuizVersionChangedEvent;
 import pl.dominik.elearningcenter.domain.quiz.valueobject.Answer;
 
 import java.util.List;
@@ -13,22 +14,19 @@ import java.util.List;
 @Service
 public class UpdateQuestionCommandHandler {
     private final QuizRepository quizRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UpdateQuestionCommandHandler(QuizRepository quizRepository) {
+    public UpdateQuestionCommandHandler(QuizRepository quizRepository, ApplicationEventPublisher eventPublisher) {
         this.quizRepository = quizRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public void handle(UpdateQuestionCommand command) {
-        Quiz quiz = quizRepository.findByIdAndInstructorIdOrThrow(
+        Quiz quiz = quizRepository.findByIdAndInstructorIdForUpdateOrThrow(
                 command.quizId(),
                 command.instructorId()
         );
-        Question question = quiz.findQuestion(command.questionId());
-        question.updateText(command.text());
-        question.updateOrderIndex(command.orderIndex());
-        question.updatePoints(command.points());
-
         List<Answer> answers = command.answers().stream()
                 .map(answerInput -> Answer.of(
                         answerInput.text(),
@@ -36,6 +34,7 @@ public class UpdateQuestionCommandHandler {
                 ))
                 .toList();
 
-        question.setAnswers(answers);
+        quiz.updateQuestion(command.questionId(), command.text(), command.orderIndex(), command.points(), answers);
+        eventPublisher.publishEvent(new QuizVersionChangedEvent(quiz.getId(), quiz.getContentVersion()));
     }
 }
@@ -1,26 +1,34 @@
 package pl.dominik.elearningcenter.application.quiz.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.application.quiz.command.UpdateQuizCommand;
 import pl.dominik.elearningcenter.domain.quiz.Quiz;
 import pl.dominik.elearningcenter.domain.quiz.QuizRepository;
+import pl.dominik.elearningcenter.domain.quiz.event.QuizVersionChangedEvent;
 
 @Service
 public class UpdateQuizCommandHandler {
     private final QuizRepository quizRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UpdateQuizCommandHandler(QuizRepository quizRepository) {
+    public UpdateQuizCommandHandler(QuizRepository quizRepository, ApplicationEventPublisher eventPublisher) {
         this.quizRepository = quizRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public void handle(UpdateQuizCommand command) {
-        Quiz quiz = quizRepository.findByIdAndInstructorIdOrThrow(
+        Quiz quiz = quizRepository.findByIdAndInstructorIdForUpdateOrThrow(
                 command.quizId(),
                 command.instructorId()
         );
+        int previousVersion = quiz.getContentVersion();
         quiz.updateTitle(command.title());
         quiz.updatePassingScore(command.passingScore());
+        if (quiz.getContentVersion() != previousVersion) {
+            eventPublisher.publishEvent(new QuizVersionChangedEvent(quiz.getId(), quiz.getContentVersion()));
+        }
     }
 }
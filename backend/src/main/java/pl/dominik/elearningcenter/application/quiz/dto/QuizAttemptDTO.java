@@ -6,6 +6,7 @@ import java.util.List;
 public record QuizAttemptDTO(
         Long id,
         Long quizId,
+        Integer quizVersion,
         Long studentId,
         int score,
         int maxScore,
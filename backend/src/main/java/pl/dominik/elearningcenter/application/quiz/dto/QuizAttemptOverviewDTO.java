@@ -0,0 +1,19 @@
+package pl.dominik.elearningcenter.application.quiz.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Attempt as shown in listings: the outcome without the per-question answers.
+ */
+public record QuizAttemptOverviewDTO(
+        Long id,
+        Long quizId,
+        Integer quizVersion,
+        Long studentId,
+        int score,
+        int maxScore,
+        int scorePercentage,
+        boolean passed,
+        LocalDateTime attemptedAt
+) {
+}
@@ -6,11 +6,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 import pl.dominik.elearningcenter.domain.quiz.QuizAttemptRepository;
+import pl.dominik.elearningcenter.domain.quiz.QuizAttemptSummaryRepository;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshotRepository;
 import pl.dominik.elearningcenter.domain.quiz.event.QuizDeletedEvent;
 
 /**
  * Event handler that listens to QuizDeletedEvent and performs cleanup operations.
- * Deletes all quiz attempts associated with the deleted quiz.
+ * Deletes all quiz attempts, attempt summaries and content snapshots associated with the deleted quiz.
  * Uses @TransactionalEventListener to ensure it runs before the transaction commits.
  */
 @Component
@@ -19,9 +21,17 @@ public class QuizDeletedEventHandler {
     private static final Logger log = LoggerFactory.getLogger(QuizDeletedEventHandler.class);
 
     private final QuizAttemptRepository attemptRepository;
-
-    public QuizDeletedEventHandler(QuizAttemptRepository attemptRepository) {
+    private final QuizAttemptSummaryRepository summaryRepository;
+    private final QuizSnapshotRepository snapshotRepository;
+
+    public QuizDeletedEventHandler(
+            QuizAttemptRepository attemptRepository,
+            QuizAttemptSummaryRepository summaryRepository,
+            QuizSnapshotRepository snapshotRepository
+    ) {
         this.attemptRepository = attemptRepository;
+        this.summaryRepository = summaryRepository;
+        this.snapshotRepository = snapshotRepository;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
@@ -29,6 +39,8 @@ public class QuizDeletedEventHandler {
         log.info("Handling QuizDeletedEvent for quizId={}", event.getQuizId());
 
         attemptRepository.deleteByQuizId(event.getQuizId());
+        summaryRepository.deleteByQuizId(event.getQuizId());
+        snapshotRepository.deleteByQuizId(event.getQuizId());
 
         log.info("Successfully deleted all attempts for quizId={}", event.getQuizId());
     }
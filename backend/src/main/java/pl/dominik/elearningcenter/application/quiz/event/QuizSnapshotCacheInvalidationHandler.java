@@ -0,0 +1,38 @@
+package pl.dominik.elearningcenter.application.quiz.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.dominik.elearningcenter.application.quiz.query.QuizSnapshotCache;
+import pl.dominik.elearningcenter.application.quiz.query.StudentQuizPayloadCache;
+import pl.dominik.elearningcenter.domain.quiz.event.QuizDeletedEvent;
+import pl.dominik.elearningcenter.domain.quiz.event.QuizVersionChangedEvent;
+
+/**
+ * Event handler that drops a quiz's cached snapshot and rendered student payload when its content version
+ * changes or it is deleted. The snapshot goes first so a payload re-rendered in between cannot see it.
+ * Uses @TransactionalEventListener(AFTER_COMMIT) so a concurrent read cannot snapshot pre-commit content.
+ */
+@Component
+public class QuizSnapshotCacheInvalidationHandler {
+
+    private final QuizSnapshotCache snapshotCache;
+    private final StudentQuizPayloadCache payloadCache;
+
+    public QuizSnapshotCacheInvalidationHandler(QuizSnapshotCache snapshotCache, StudentQuizPayloadCache payloadCache) {
+        this.snapshotCache = snapshotCache;
+        this.payloadCache = payloadCache;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizVersionChanged(QuizVersionChangedEvent event) {
+        snapshotCache.evict(event.getQuizId());
+        payloadCache.evict(event.getQuizId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizDeleted(QuizDeletedEvent event) {
+        snapshotCache.evict(event.getQuizId());
+        payloadCache.evict(event.getQuizId());
+    }
+}
@@ -2,6 +2,7 @@ package pl.dominik.elearningcenter.application.quiz.mapper;
 
 import org.springframework.stereotype.Component;
 import pl.dominik.elearningcenter.application.quiz.dto.AnswerDTO;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot.AnswerSnapshot;
 import pl.dominik.elearningcenter.domain.quiz.valueobject.Answer;
 
 @Component
@@ -22,4 +23,12 @@ public class AnswerMapper {
                 index
         );
     }
+
+    public AnswerDTO toDtoForStudent(AnswerSnapshot answer, int index) {
+        return new AnswerDTO(
+                answer.text(),
+                false,
+                index
+        );
+    }
 }
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Component;
 import pl.dominik.elearningcenter.application.quiz.dto.AnswerDTO;
 import pl.dominik.elearningcenter.application.quiz.dto.QuestionDTO;
 import pl.dominik.elearningcenter.domain.quiz.Question;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot.QuestionSnapshot;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -48,4 +49,20 @@ public class QuestionMapper {
                 answers
         );
     }
+
+    public QuestionDTO toDtoForStudent(QuestionSnapshot question) {
+        List<AnswerDTO> answers = new ArrayList<>();
+        for (int i = 0; i < question.answers().size(); i++) {
+            answers.add(answerMapper.toDtoForStudent(question.answers().get(i), i));
+        }
+
+        return new QuestionDTO(
+                question.id(),
+                question.text(),
+                question.type(),
+                question.points(),
+                question.orderIndex(),
+                answers
+        );
+    }
 }
@@ -2,6 +2,7 @@ package pl.dominik.elearningcenter.application.quiz.mapper;
 
 import org.springframework.stereotype.Component;
 import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptDTO;
+import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptOverviewDTO;
 import pl.dominik.elearningcenter.domain.quiz.QuizAttempt;
 
 @Component
@@ -17,6 +18,7 @@ public class QuizAttemptMapper {
         return new QuizAttemptDTO(
                 attempt.getId(),
                 attempt.getQuizId(),
+                attempt.getQuizVersion(),
                 attempt.getStudentId(),
                 attempt.getScore(),
                 attempt.getMaxScore(),
@@ -28,4 +30,21 @@ public class QuizAttemptMapper {
                         .toList()
         );
     }
+
+    /**
+     * Does not touch the answers, so listing attempts does not decode them once per attempt.
+     */
+    public QuizAttemptOverviewDTO toOverviewDto(QuizAttempt attempt) {
+        return new QuizAttemptOverviewDTO(
+                attempt.getId(),
+                attempt.getQuizId(),
+                attempt.getQuizVersion(),
+                attempt.getStudentId(),
+                attempt.getScore(),
+                attempt.getMaxScore(),
+                attempt.getScorePercentage(),
+                attempt.isPassed(),
+                attempt.getAttemptedAt()
+        );
+    }
 }
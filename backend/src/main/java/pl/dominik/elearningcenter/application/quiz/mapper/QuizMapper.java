@@ -3,6 +3,7 @@ package pl.dominik.elearningcenter.application.quiz.mapper;
 import org.springframework.stereotype.Component;
 import pl.dominik.elearningcenter.application.quiz.dto.QuizDTO;
 import pl.dominik.elearningcenter.domain.quiz.Quiz;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot;
 
 @Component
 public class QuizMapper {
@@ -49,6 +50,24 @@ public class QuizMapper {
         );
     }
 
+    public QuizDTO toDtoForStudent(QuizSnapshot snapshot) {
+        return new QuizDTO(
+                snapshot.getQuizId(),
+                snapshot.getTitle(),
+                snapshot.getPassingScore(),
+                snapshot.getCourseId(),
+                snapshot.getSectionId(),
+                snapshot.getLessonId(),
+                snapshot.getInstructorId(),
+                snapshot.getQuizCreatedAt(),
+                snapshot.getQuestions().stream()
+                        .map(questionMapper::toDtoForStudent)
+                        .toList(),
+                snapshot.getQuestions().size(),
+                snapshot.maxScore()
+        );
+    }
+
     public QuizDTO toLightDto(Quiz quiz) {
         return new QuizDTO(
                 quiz.getId(),
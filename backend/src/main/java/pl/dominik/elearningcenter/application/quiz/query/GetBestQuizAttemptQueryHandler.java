@@ -2,33 +2,39 @@ package pl.dominik.elearningcenter.application.quiz.query;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptDTO;
+import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptOverviewDTO;
 import pl.dominik.elearningcenter.application.quiz.mapper.QuizAttemptMapper;
 import pl.dominik.elearningcenter.application.quiz.query.GetBestQuizAttemptQuery;
-import pl.dominik.elearningcenter.domain.quiz.QuizAttempt;
 import pl.dominik.elearningcenter.domain.quiz.QuizAttemptRepository;
+import pl.dominik.elearningcenter.domain.quiz.QuizAttemptSummary;
+import pl.dominik.elearningcenter.domain.quiz.QuizAttemptSummaryRepository;
 
 import java.util.Optional;
 
 @Service
 public class GetBestQuizAttemptQueryHandler {
+    private final QuizAttemptSummaryRepository summaryRepository;
     private final QuizAttemptRepository attemptRepository;
     private final QuizAttemptMapper quizAttemptMapper;
 
     public GetBestQuizAttemptQueryHandler(
+            QuizAttemptSummaryRepository summaryRepository,
             QuizAttemptRepository attemptRepository,
             QuizAttemptMapper quizAttemptMapper
     ) {
+        this.summaryRepository = summaryRepository;
         this.attemptRepository = attemptRepository;
         this.quizAttemptMapper = quizAttemptMapper;
     }
 
     @Transactional(readOnly = true)
-    public Optional<QuizAttemptDTO> handle(GetBestQuizAttemptQuery command) {
-        return attemptRepository.findBestAttempt(
+    public Optional<QuizAttemptOverviewDTO> handle(GetBestQuizAttemptQuery command) {
+        return summaryRepository.findByQuizIdAndStudentId(
                 command.quizId(),
                 command.studentId()
         )
-                .map(quizAttemptMapper::toDto);
+                .map(QuizAttemptSummary::getBestAttemptId)
+                .flatMap(attemptRepository::findById)
+                .map(quizAttemptMapper::toOverviewDto);
     }
 }
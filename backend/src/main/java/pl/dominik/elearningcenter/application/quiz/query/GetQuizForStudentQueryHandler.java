@@ -1,26 +1,35 @@
 package pl.dominik.elearningcenter.application.quiz.query;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import pl.dominik.elearningcenter.application.quiz.dto.QuizDTO;
-import pl.dominik.elearningcenter.application.quiz.mapper.QuizMapper;
 import pl.dominik.elearningcenter.application.quiz.query.GetQuizForStudentQuery;
-import pl.dominik.elearningcenter.domain.quiz.Quiz;
-import pl.dominik.elearningcenter.domain.quiz.QuizRepository;
+import pl.dominik.elearningcenter.domain.enrollment.exception.EnrollmentAccessDeniedException;
+import pl.dominik.elearningcenter.infrastructure.security.CourseAccessCache;
 
+/**
+ * Serves the student view of a quiz as a pre-serialized {@link StudentQuizPayload}, checking enrollment
+ * against {@link CourseAccessCache} with the course id the payload carries.
+ */
 @Service
 public class GetQuizForStudentQueryHandler {
-    private final QuizRepository quizRepository;
-    private final QuizMapper quizMapper;
+    private final QuizSnapshotCache snapshotCache;
+    private final StudentQuizPayloadCache payloadCache;
+    private final CourseAccessCache courseAccessCache;
 
-    public GetQuizForStudentQueryHandler(QuizRepository quizRepository, QuizMapper quizMapper) {
-        this.quizRepository = quizRepository;
-        this.quizMapper = quizMapper;
+    public GetQuizForStudentQueryHandler(
+            QuizSnapshotCache snapshotCache,
+            StudentQuizPayloadCache payloadCache,
+            CourseAccessCache courseAccessCache
+    ) {
+        this.snapshotCache = snapshotCache;
+        this.payloadCache = payloadCache;
+        this.courseAccessCache = courseAccessCache;
     }
 
-    @Transactional(readOnly = true)
-    public QuizDTO handle(GetQuizForStudentQuery command) {
-        Quiz quiz = quizRepository.findByIdOrThrow(command.quizId());
-        return quizMapper.toDtoForStudent(quiz);
+    public StudentQuizPayload handle(GetQuizForStudentQuery command) {
+        StudentQuizPayload payload = payloadCache.get(snapshotCache.getCurrent(command.quizId()));
+        if (payload.courseId() != null && !courseAccessCache.canAccess(command.studentId(), payload.courseId())) {
+            throw new EnrollmentAccessDeniedException("You must be enrolled in this course to take this quiz");
+        }
+        return payload;
     }
 }
@@ -2,7 +2,7 @@ package pl.dominik.elearningcenter.application.quiz.query;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptDTO;
+import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptOverviewDTO;
 import pl.dominik.elearningcenter.application.quiz.mapper.QuizAttemptMapper;
 import pl.dominik.elearningcenter.application.quiz.query.GetStudentQuizAttemptsQuery;
 import pl.dominik.elearningcenter.domain.quiz.QuizAttempt;
@@ -24,14 +24,14 @@ public class GetStudentQuizAttemptsQueryHandler {
     }
 
     @Transactional(readOnly = true)
-    public List<QuizAttemptDTO> handle(GetStudentQuizAttemptsQuery command) {
+    public List<QuizAttemptOverviewDTO> handle(GetStudentQuizAttemptsQuery command) {
         List<QuizAttempt> attempts = attemptRepository.findByQuizIdAndStudentId(
                 command.quizId(),
                 command.studentId()
         );
 
         return attempts.stream()
-                .map(quizAttemptMapper::toDto)
+                .map(quizAttemptMapper::toOverviewDto)
                 .toList();
     }
 }
@@ -0,0 +1,55 @@
+package pl.dominik.elearningcenter.application.quiz.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot;
+
+import java.time.Duration;
+
+/**
+ * Bounded per-quiz cache of the current {@link QuizSnapshot}, so fetching a quiz for a student and grading
+ * a submission touch neither the quizzes nor the questions tables. Entries are evicted after commit of a
+ * content version bump and of quiz deletion; the TTL bounds anything missed (e.g. edits on another node).
+ */
+@Component
+public class QuizSnapshotCache {
+
+    private final Cache<Long, QuizSnapshot> cache;
+    private final QuizSnapshotLoader loader;
+
+    public QuizSnapshotCache(
+            QuizSnapshotLoader loader,
+            @Value("${app.quizzes.snapshot-cache.max-size:5000}") long maxSize,
+            @Value("${app.quizzes.snapshot-cache.ttl:30m}") Duration ttl
+    ) {
+        this.loader = loader;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public QuizSnapshot getCurrent(Long quizId) {
+        return cache.get(quizId, this::load);
+    }
+
+    public void evict(Long quizId) {
+        cache.invalidate(quizId);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private QuizSnapshot load(Long quizId) {
+        try {
+            return loader.loadCurrent(quizId);
+        } catch (DataIntegrityViolationException e) {
+            // another node wrote this version's snapshot first
+            return loader.loadCurrent(quizId);
+        }
+    }
+}
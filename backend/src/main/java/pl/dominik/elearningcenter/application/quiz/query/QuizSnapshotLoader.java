@@ -0,0 +1,35 @@
+package pl.dominik.elearningcenter.application.quiz.query;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import pl.dominik.elearningcenter.domain.quiz.Quiz;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshotRepository;
+import pl.dominik.elearningcenter.domain.quiz.QuizRepository;
+import pl.dominik.elearningcenter.domain.quiz.exception.QuizNotFoundException;
+
+/**
+ * Loads the snapshot of a quiz's current content version, writing it on first use. Runs in its own
+ * transaction so it can insert even when called from a read-only one, and reads the quiz under a shared
+ * row lock so the questions it copies belong to the version it records.
+ */
+@Service
+public class QuizSnapshotLoader {
+
+    private final QuizRepository quizRepository;
+    private final QuizSnapshotRepository snapshotRepository;
+
+    public QuizSnapshotLoader(QuizRepository quizRepository, QuizSnapshotRepository snapshotRepository) {
+        this.quizRepository = quizRepository;
+        this.snapshotRepository = snapshotRepository;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public QuizSnapshot loadCurrent(Long quizId) {
+        Quiz quiz = quizRepository.findByIdForShare(quizId)
+                .orElseThrow(() -> new QuizNotFoundException("Quiz not found: " + quizId));
+        return snapshotRepository.findByQuizIdAndVersion(quizId, quiz.getContentVersion())
+                .orElseGet(() -> snapshotRepository.save(quiz.takeSnapshot()));
+    }
+}
@@ -0,0 +1,11 @@
+package pl.dominik.elearningcenter.application.quiz.query;
+
+import pl.dominik.elearningcenter.application.shared.EntityTaggedBody;
+
+/**
+ * Pre-serialized student view of one quiz content version, with correct-answer flags already stripped.
+ * Carries the course id so the access check needs no further lookup; the ETag is derived from the body.
+ */
+public record StudentQuizPayload(Long quizId, int version, Long courseId, byte[] body, String etag)
+        implements EntityTaggedBody {
+}
@@ -0,0 +1,61 @@
+package pl.dominik.elearningcenter.application.quiz.query;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pl.dominik.elearningcenter.application.quiz.mapper.QuizMapper;
+import pl.dominik.elearningcenter.application.shared.EntityTaggedBody;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot;
+
+import java.time.Duration;
+
+/**
+ * Bounded per-quiz cache of rendered {@link StudentQuizPayload}s, so a class opening the same quiz maps and
+ * serializes it once. An entry is only reused while it was rendered from the snapshot's content version,
+ * so a payload can never outlive the snapshot it came from; entries are also evicted after commit of a
+ * version change or quiz deletion, and the TTL bounds memory held by quizzes nobody opens any more.
+ */
+@Component
+public class StudentQuizPayloadCache {
+
+    private final Cache<Long, StudentQuizPayload> cache;
+    private final QuizMapper quizMapper;
+    private final StudentQuizPayloadSerializer serializer;
+
+    public StudentQuizPayloadCache(
+            QuizMapper quizMapper,
+            StudentQuizPayloadSerializer serializer,
+            @Value("${app.quizzes.student-payload-cache.max-size:5000}") long maxSize,
+            @Value("${app.quizzes.student-payload-cache.ttl:30m}") Duration ttl
+    ) {
+        this.quizMapper = quizMapper;
+        this.serializer = serializer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public StudentQuizPayload get(QuizSnapshot snapshot) {
+        StudentQuizPayload cached = cache.getIfPresent(snapshot.getQuizId());
+        if (cached != null && cached.version() >= snapshot.getVersion()) {
+            return cached;
+        }
+        return cache.asMap().compute(snapshot.getQuizId(), (quizId, current) ->
+                current != null && current.version() >= snapshot.getVersion() ? current : render(snapshot));
+    }
+
+    public void evict(Long quizId) {
+        cache.invalidate(quizId);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private StudentQuizPayload render(QuizSnapshot snapshot) {
+        byte[] body = serializer.serialize(quizMapper.toDtoForStudent(snapshot));
+        return new StudentQuizPayload(snapshot.getQuizId(), snapshot.getVersion(), snapshot.getCourseId(), body, EntityTaggedBody.etagOf(body));
+    }
+}
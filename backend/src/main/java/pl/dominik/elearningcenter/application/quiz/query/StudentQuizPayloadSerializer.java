@@ -0,0 +1,12 @@
+package pl.dominik.elearningcenter.application.quiz.query;
+
+import pl.dominik.elearningcenter.application.quiz.dto.QuizDTO;
+
+/**
+ * Renders a student quiz view into the wire representation stored in a {@link StudentQuizPayload}.
+ * Implemented by the REST layer so the cached bytes match what the endpoint would otherwise serialize.
+ */
+public interface StudentQuizPayloadSerializer {
+
+    byte[] serialize(QuizDTO quiz);
+}
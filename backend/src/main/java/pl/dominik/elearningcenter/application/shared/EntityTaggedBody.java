@@ -0,0 +1,42 @@
+package pl.dominik.elearningcenter.application.shared;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Response body serialized ahead of time together with a strong ETag derived from its bytes,
+ * so revalidating it needs neither the database nor the serializer.
+ */
+public interface EntityTaggedBody {
+
+    byte[] body();
+
+    String etag();
+
+    /**
+     * Evaluates an If-None-Match header value against this body, accepting weak validators and lists.
+     */
+    default boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag()));
+    }
+
+    /**
+     * Quoted ETag built from a SHA-256 digest of {@code body}, truncated to 128 bits.
+     */
+    static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
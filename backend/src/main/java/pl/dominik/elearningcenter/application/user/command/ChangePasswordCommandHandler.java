@@ -1,10 +1,12 @@
 package pl.dominik.elearningcenter.application.user.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
+import pl.dominik.elearningcenter.domain.user.event.UserAccessChangedEvent;
 import pl.dominik.elearningcenter.domain.user.exception.UserNotFoundException;
 import pl.dominik.elearningcenter.infrastructure.security.PasswordHashingService;
 
@@ -12,10 +14,16 @@ import pl.dominik.elearningcenter.infrastructure.security.PasswordHashingService
 public class ChangePasswordCommandHandler {
     private final UserRepository userRepository;
     private final PasswordHashingService passwordHashingService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ChangePasswordCommandHandler(UserRepository userRepository, PasswordHashingService passwordHashingService) {
+    public ChangePasswordCommandHandler(
+            UserRepository userRepository,
+            PasswordHashingService passwordHashingService,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.userRepository = userRepository;
         this.passwordHashingService = passwordHashingService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -30,5 +38,6 @@ public class ChangePasswordCommandHandler {
 
         Password newHashedPassword = passwordHashingService.hashPassword(command.newPassword());
         user.changePassword(newHashedPassword, true);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(user.getId(), user.getTokenVersion()));
     }
 }
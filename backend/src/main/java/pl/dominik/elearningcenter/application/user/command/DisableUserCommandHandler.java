@@ -1,17 +1,21 @@
 package pl.dominik.elearningcenter.application.user.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
+import pl.dominik.elearningcenter.domain.user.event.UserAccessChangedEvent;
 import pl.dominik.elearningcenter.domain.user.exception.UserNotFoundException;
 
 @Service
 public class DisableUserCommandHandler {
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DisableUserCommandHandler(UserRepository userRepository) {
+    public DisableUserCommandHandler(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -19,5 +23,6 @@ public class DisableUserCommandHandler {
         User user = userRepository.findById(command.userId())
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
         user.disable();
+        eventPublisher.publishEvent(new UserAccessChangedEvent(user.getId(), user.getTokenVersion()));
     }
 }
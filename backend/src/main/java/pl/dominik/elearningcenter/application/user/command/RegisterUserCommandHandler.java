@@ -48,15 +48,11 @@ public class RegisterUserCommandHandler {
 
         User savedUser = userRepository.save(user);
 
-        try {
-            emailService.sendVerificationEmail(
-                    savedUser.getEmail().getValue(),
-                    savedUser.getUsername().getValue(),
-                    verificationToken
-            );
-        } catch (Exception e) {
-            System.err.println("Failed to send verification email: " + e.getMessage());
-        }
+        emailService.sendVerificationEmail(
+                savedUser.getEmail().getValue(),
+                savedUser.getUsername().getValue(),
+                verificationToken
+        );
 
         return savedUser.getId();
     }
@@ -1,11 +1,13 @@
 package pl.dominik.elearningcenter.application.user.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
+import pl.dominik.elearningcenter.domain.user.event.UserAccessChangedEvent;
 import pl.dominik.elearningcenter.infrastructure.security.PasswordHashingService;
 
 @Service
@@ -13,10 +15,16 @@ public class ResetPasswordCommandHandler {
 
     private final UserRepository userRepository;
     private final PasswordHashingService passwordHashingService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ResetPasswordCommandHandler(UserRepository userRepository, PasswordHashingService passwordHashingService) {
+    public ResetPasswordCommandHandler(
+            UserRepository userRepository,
+            PasswordHashingService passwordHashingService,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.userRepository = userRepository;
         this.passwordHashingService = passwordHashingService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -28,5 +36,6 @@ public class ResetPasswordCommandHandler {
         user.resetPassword(command.token(), newHashedPassword);
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserAccessChangedEvent(user.getId(), user.getTokenVersion()));
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.application.user.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
@@ -7,14 +8,17 @@ import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
+import pl.dominik.elearningcenter.domain.user.event.UserAccessChangedEvent;
 import pl.dominik.elearningcenter.domain.user.exception.UserNotFoundException;
 
 @Service
 public class UpdateUserProfileCommandHandler {
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UpdateUserProfileCommandHandler(UserRepository userRepository) {
+    public UpdateUserProfileCommandHandler(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -39,5 +43,6 @@ public class UpdateUserProfileCommandHandler {
                 user.updateUsername(newUsername);
             }
         }
+        eventPublisher.publishEvent(new UserAccessChangedEvent(user.getId(), user.getTokenVersion()));
     }
 }
@@ -26,13 +26,9 @@ public class VerifyEmailCommandHandler {
         user.verifyEmail(command.token());
         userRepository.save(user);
 
-        try {
-            emailService.sendWelcomeEmail(
-                    user.getEmail().getValue(),
-                    user.getUsername().getValue()
-            );
-        } catch (Exception e) {
-            System.err.println("Failed to send welcome email: " + e.getMessage());
-        }
+        emailService.sendWelcomeEmail(
+                user.getEmail().getValue(),
+                user.getUsername().getValue()
+        );
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package pl.dominik.elearningcenter.application.user.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.dominik.elearningcenter.domain.user.event.UserAccessChangedEvent;
+import pl.dominik.elearningcenter.infrastructure.security.AuthenticatedPrincipalCache;
+import pl.dominik.elearningcenter.infrastructure.security.TokenVersionRegistry;
+
+/**
+ * Event handler that drops cached principals of a user whose access has changed
+ * and records the new token version so stateless tokens issued earlier are rejected.
+ * Runs after commit, once the new version is visible to other transactions. The registry merges the
+ * version into its entry, waiting for a lookup in flight, and principals are keyed by token version, so a
+ * principal resolved from pre-commit data is only reachable with a version the registry now rejects.
+ */
+@Component
+public class PrincipalCacheInvalidationHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(PrincipalCacheInvalidationHandler.class);
+
+    private final AuthenticatedPrincipalCache principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+
+    public PrincipalCacheInvalidationHandler(
+            AuthenticatedPrincipalCache principalCache,
+            TokenVersionRegistry tokenVersionRegistry
+    ) {
+        this.principalCache = principalCache;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        tokenVersionRegistry.revoke(event.getUserId(), event.getTokenVersion());
+        principalCache.evict(event.getUserId());
+        log.debug("Evicted cached principals for user {}", event.getUserId());
+    }
+}
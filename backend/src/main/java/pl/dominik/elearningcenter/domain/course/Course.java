@@ -1,7 +1,7 @@
 package pl.dominik.elearningcenter.domain.course;
 
 import jakarta.persistence.*;
-import org.hibernate.annotations.Formula;
+import org.hibernate.annotations.ColumnDefault;
 import pl.dominik.elearningcenter.domain.course.exception.CourseNotPublishedException;
 import pl.dominik.elearningcenter.domain.course.exception.SectionNotFoundException;
 import pl.dominik.elearningcenter.domain.course.valueobject.CourseDescription;
@@ -12,6 +12,7 @@ import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Money;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -24,7 +25,9 @@ import java.util.List;
         @Index(name = "idx_course_instructor", columnList = "instructor_id"),
         @Index(name = "idx_course_published_category", columnList = "published, category"),
         @Index(name = "idx_course_published_level", columnList = "published, level"),
-        @Index(name = "idx_course_published_category_level", columnList = "published, category, level")
+        @Index(name = "idx_course_published_category_level", columnList = "published, category, level"),
+        @Index(name = "idx_course_published_created", columnList = "published, created_at, id"),
+        @Index(name = "idx_course_published_category_level_created", columnList = "published, category, level, created_at, id")
 })
 public class Course extends AggregateRoot<Long> {
 
@@ -69,12 +72,23 @@ public class Course extends AggregateRoot<Long> {
     @OneToMany(mappedBy = "course", fetch = FetchType.LAZY)
     private List<Quiz> quizzes = new ArrayList<>();
 
-    @Formula("(SELECT COUNT(*) FROM sections s WHERE s.course_id = id)")
+    @ColumnDefault("0")
+    @Column(name = "sections_count", nullable = false)
     private int sectionsCount;
 
-    @Formula("(SELECT COALESCE(SUM((SELECT COUNT(*) FROM lessons l WHERE l.section_id = s.id)), 0) FROM sections s WHERE s.course_id = id)")
+    @ColumnDefault("0")
+    @Column(name = "total_lessons_count", nullable = false)
     private int totalLessonsCount;
 
+    /**
+     * Optimistic lock for the read-modify-write counters above: a save of a course loaded before
+     * another transaction committed a change to it fails instead of writing back stale counts.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
     protected Course() {
         super();
     }
@@ -86,7 +100,7 @@ public class Course extends AggregateRoot<Long> {
         this.category = category;
         this.level = level;
         this.instructorId = instructorId;
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         this.published = false;
     }
 
@@ -150,6 +164,8 @@ public class Course extends AggregateRoot<Long> {
     public void addSection(Section section){
         sections.add(section);
         section.setCourse(this);
+        this.sectionsCount++;
+        this.totalLessonsCount += section.getLessonsCount();
     }
     public Section findSection(Long sectionId){
         return sections.stream()
@@ -161,6 +177,16 @@ public class Course extends AggregateRoot<Long> {
     public void removeSection(Long sectionId){
         Section section = findSection(sectionId);
         sections.remove(section);
+        this.sectionsCount = Math.max(0, this.sectionsCount - 1);
+        this.totalLessonsCount = Math.max(0, this.totalLessonsCount - section.getLessonsCount());
+    }
+
+    void lessonAdded(){
+        this.totalLessonsCount++;
+    }
+
+    void lessonRemoved(){
+        this.totalLessonsCount = Math.max(0, this.totalLessonsCount - 1);
     }
 
     public void reorderSection(Long sectionId, int newOrderIndex) {
@@ -268,4 +294,12 @@ public class Course extends AggregateRoot<Long> {
         Quiz courseLevelQuiz = findCourseLevelQuiz();
         return courseLevelQuiz != null ? courseLevelQuiz.getId() : null;
     }
+
+    /**
+     * Quiz ids of this course keyed by the section or lesson they are attached to, resolved from the
+     * course's quizzes with a single collection load instead of one lookup per section and lesson.
+     */
+    public CourseQuizIds getQuizIds() {
+        return CourseQuizIds.of(quizzes);
+    }
 }
@@ -0,0 +1,36 @@
+package pl.dominik.elearningcenter.domain.course;
+
+import pl.dominik.elearningcenter.domain.quiz.Quiz;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Quiz ids attached to the sections and lessons of one course.
+ */
+public record CourseQuizIds(Map<Long, Long> bySectionId, Map<Long, Long> byLessonId) {
+
+    public static CourseQuizIds of(List<Quiz> quizzes) {
+        Map<Long, Long> bySectionId = new HashMap<>();
+        Map<Long, Long> byLessonId = new HashMap<>();
+        for (Quiz quiz : quizzes) {
+            if (quiz.isAssignedToSection()) {
+                bySectionId.put(quiz.getSectionId(), quiz.getId());
+            }
+            if (quiz.isAssignedToLesson()) {
+                byLessonId.put(quiz.getLessonId(), quiz.getId());
+            }
+        }
+        return new CourseQuizIds(Collections.unmodifiableMap(bySectionId), Collections.unmodifiableMap(byLessonId));
+    }
+
+    public Long forSection(Long sectionId) {
+        return bySectionId.get(sectionId);
+    }
+
+    public Long forLesson(Long lessonId) {
+        return byLessonId.get(lessonId);
+    }
+}
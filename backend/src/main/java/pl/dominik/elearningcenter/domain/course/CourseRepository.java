@@ -22,6 +22,8 @@ public interface CourseRepository {
     Page<Course> findAll(Specification<Course> spec, Pageable pageable);
 
     Page<Course> findByInstructorId(Long instructorId, Pageable pageable);
+
+    List<Long> findIdsByInstructorId(Long instructorId);
 
     List<Course> findByCategory(String category);
 
@@ -37,6 +39,15 @@ public interface CourseRepository {
 
     Optional<Course> findByIdAndInstructorId(Long id, Long instructorId);
 
+    int recalculateStructureCounters();
+
+    /**
+     * Returns the course's total lesson count if {@code lessonId} belongs to {@code sectionId}
+     * within {@code courseId}, or empty otherwise. Answered by a single primary-key join,
+     * so callers can validate a lesson without loading the course aggregate.
+     */
+    Optional<Integer> findTotalLessonsCountByLesson(Long courseId, Long sectionId, Long lessonId);
+
     default Course findByIdOrThrow(Long courseId){
         return findById(courseId)
                 .orElseThrow(() -> new CourseNotFoundException("Course not found: " + courseId));
@@ -2,7 +2,6 @@ package pl.dominik.elearningcenter.domain.course;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.Formula;
-import pl.dominik.elearningcenter.domain.quiz.Quiz;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -37,14 +36,9 @@ public class Lesson {
     private Section section;
 
     @OneToMany(mappedBy = "lesson", cascade = CascadeType.ALL, orphanRemoval = true)
+    @org.hibernate.annotations.BatchSize(size = 50)
     private List<Material> materials = new ArrayList<>();
 
-    @OneToOne(mappedBy = "lesson", fetch = FetchType.EAGER)
-    private Quiz quiz;
-
-    @Transient
-    private Long quizId;
-
     protected Lesson(){}
 
     public Lesson(String title, String content, Integer orderIndex){
@@ -127,21 +121,6 @@ public class Lesson {
         this.orderIndex = newOrderIndex;
     }
 
-    public Long getQuizId() {
-        if (quizId != null) {
-            return quizId;
-        }
-        return quiz != null ? quiz.getId() : null;
-    }
-
-    public void setQuizId(Long quizId) {
-        this.quizId = quizId;
-    }
-
-    public Quiz getQuiz() {
-        return quiz;
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -2,7 +2,6 @@ package pl.dominik.elearningcenter.domain.course;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.Formula;
-import pl.dominik.elearningcenter.domain.quiz.Quiz;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 
 import java.util.ArrayList;
@@ -33,12 +32,6 @@ public class Section {
     @org.hibernate.annotations.BatchSize(size = 10)
     private List<Lesson> lessons = new ArrayList<>();
 
-    @OneToOne(mappedBy = "section", fetch = FetchType.EAGER)
-    private Quiz quiz;
-
-    @Transient
-    private Long quizId;
-
     protected Section(){}
 
     public Section(String title, Integer orderIndex){
@@ -66,6 +59,9 @@ public class Section {
     public void addLesson(Lesson lesson){
         lessons.add(lesson);
         lesson.setSection(this);
+        if (course != null) {
+            course.lessonAdded();
+        }
     }
 
     public Lesson findLesson(Long lessonId){
@@ -76,7 +72,10 @@ public class Section {
     }
 
     public void removeLesson(Long lessonId){
-        lessons.removeIf(l -> l.getId().equals(lessonId));
+        boolean removed = lessons.removeIf(l -> l.getId().equals(lessonId));
+        if (removed && course != null) {
+            course.lessonRemoved();
+        }
     }
 
     public void reorderLesson(Long lessonId, int newOrderIndex) {
@@ -130,21 +129,6 @@ public class Section {
         return Collections.unmodifiableList(lessons);
     }
 
-    public Long getQuizId() {
-        if (quizId != null) {
-            return quizId;
-        }
-        return quiz != null ? quiz.getId() : null;
-    }
-
-    public void setQuizId(Long quizId) {
-        this.quizId = quizId;
-    }
-
-    public Quiz getQuiz() {
-        return quiz;
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
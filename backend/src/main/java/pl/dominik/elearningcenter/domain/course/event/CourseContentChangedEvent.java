@@ -0,0 +1,37 @@
+package pl.dominik.elearningcenter.domain.course.event;
+
+import pl.dominik.elearningcenter.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when lesson content, lesson order, materials or quizzes of a Course change
+ * without changing the set of sections and lessons (and therefore without affecting progress).
+ */
+public class CourseContentChangedEvent implements DomainEvent {
+
+    private final Long courseId;
+    private final LocalDateTime occurredOn;
+
+    public CourseContentChangedEvent(Long courseId) {
+        this.courseId = courseId;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "CourseContentChangedEvent{" +
+                "courseId=" + courseId +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
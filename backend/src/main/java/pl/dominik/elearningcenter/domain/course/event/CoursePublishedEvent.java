@@ -0,0 +1,63 @@
+package pl.dominik.elearningcenter.domain.course.event;
+
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.shared.event.IntegrationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a Course becomes visible in the public catalog.
+ */
+public class CoursePublishedEvent implements IntegrationEvent {
+
+    private final Long courseId;
+    private final Long instructorId;
+    private final String category;
+    private final CourseLevel level;
+    private final LocalDateTime occurredOn;
+
+    public CoursePublishedEvent(Long courseId, Long instructorId, String category, CourseLevel level) {
+        this.courseId = courseId;
+        this.instructorId = instructorId;
+        this.category = category;
+        this.level = level;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public Long getInstructorId() {
+        return instructorId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public CourseLevel getLevel() {
+        return level;
+    }
+
+    @Override
+    public String routingKey() {
+        return "course.published";
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "CoursePublishedEvent{" +
+                "courseId=" + courseId +
+                ", instructorId=" + instructorId +
+                ", category=" + category +
+                ", level=" + level +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
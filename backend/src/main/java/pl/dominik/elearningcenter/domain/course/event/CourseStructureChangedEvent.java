@@ -0,0 +1,60 @@
+package pl.dominik.elearningcenter.domain.course.event;
+
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when sections or lessons of a Course are added, removed, renamed or reordered.
+ * {@link #isLessonSetChanged()} tells whether the set of the course's lessons changed as well, which is
+ * what enrollment progress depends on; renames, reorders and empty sections leave it unchanged.
+ */
+public class CourseStructureChangedEvent implements DomainEvent {
+
+    private final Long courseId;
+    private final String category;
+    private final CourseLevel level;
+    private final boolean lessonSetChanged;
+    private final LocalDateTime occurredOn;
+
+    public CourseStructureChangedEvent(Long courseId, String category, CourseLevel level, boolean lessonSetChanged) {
+        this.courseId = courseId;
+        this.category = category;
+        this.level = level;
+        this.lessonSetChanged = lessonSetChanged;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public CourseLevel getLevel() {
+        return level;
+    }
+
+    public boolean isLessonSetChanged() {
+        return lessonSetChanged;
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "CourseStructureChangedEvent{" +
+                "courseId=" + courseId +
+                ", category=" + category +
+                ", level=" + level +
+                ", lessonSetChanged=" + lessonSetChanged +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
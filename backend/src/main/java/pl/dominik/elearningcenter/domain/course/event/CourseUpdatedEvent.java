@@ -0,0 +1,66 @@
+package pl.dominik.elearningcenter.domain.course.event;
+
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when Course details (title, description, price, category, level) change.
+ * Carries the previous category and level so listeners can react to the course moving between catalog filters.
+ */
+public class CourseUpdatedEvent implements DomainEvent {
+
+    private final Long courseId;
+    private final String previousCategory;
+    private final CourseLevel previousLevel;
+    private final String category;
+    private final CourseLevel level;
+    private final LocalDateTime occurredOn;
+
+    public CourseUpdatedEvent(Long courseId, String previousCategory, CourseLevel previousLevel, String category, CourseLevel level) {
+        this.courseId = courseId;
+        this.previousCategory = previousCategory;
+        this.previousLevel = previousLevel;
+        this.category = category;
+        this.level = level;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public String getPreviousCategory() {
+        return previousCategory;
+    }
+
+    public CourseLevel getPreviousLevel() {
+        return previousLevel;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public CourseLevel getLevel() {
+        return level;
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "CourseUpdatedEvent{" +
+                "courseId=" + courseId +
+                ", previousCategory=" + previousCategory +
+                ", previousLevel=" + previousLevel +
+                ", category=" + category +
+                ", level=" + level +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
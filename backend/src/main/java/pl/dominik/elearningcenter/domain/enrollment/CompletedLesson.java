@@ -37,6 +37,14 @@ public class CompletedLesson {
         return new CompletedLesson(enrollmentId, lessonId, LocalDateTime.now());
     }
 
+    /**
+     * Rebuilds a completion from storage that only records which lessons were completed;
+     * the id and completion time are not available there and stay {@code null}.
+     */
+    public static CompletedLesson restore(Long enrollmentId, Long lessonId){
+        return new CompletedLesson(enrollmentId, lessonId, null);
+    }
+
     public Long getId() {
         return id;
     }
@@ -5,6 +5,12 @@ import java.util.Optional;
 
 public interface CompletedLessonRepository {
     CompletedLesson save(CompletedLesson completedLesson);
+
+    /**
+     * Inserts the completion unless the (enrollment, lesson) pair is already recorded.
+     * Returns {@code true} only when a new row was written.
+     */
+    boolean saveIfAbsent(CompletedLesson completedLesson);
     Optional<CompletedLesson> findByEnrollmentIdAndLessonId(Long enrollmentId, Long lessonId);
     List<CompletedLesson> findByEnrollmentId(Long enrollmentId);
     long countByEnrollmentId(Long enrollmentId);
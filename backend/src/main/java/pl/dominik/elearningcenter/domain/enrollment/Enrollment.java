@@ -8,9 +8,18 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "enrollments")
+@Table(
+        name = "enrollments",
+        uniqueConstraints = @UniqueConstraint(
+                name = Enrollment.STUDENT_COURSE_CONSTRAINT,
+                columnNames = {"student_id", "course_id"}
+        ),
+        indexes = @Index(name = "idx_enrollment_course", columnList = "course_id, id")
+)
 public class Enrollment extends AggregateRoot<Long> {
 
+    public static final String STUDENT_COURSE_CONSTRAINT = "uk_enrollment_student_course";
+
     @Column(name = "student_id", nullable = false)
     private Long studentId;
 
@@ -20,6 +29,27 @@ public class Enrollment extends AggregateRoot<Long> {
     @Embedded
     private Progress progress;
 
+    /**
+     * Number of completed lessons, maintained incrementally. {@code null} for enrollments
+     * created before the counter existed until their next completion seeds it.
+     */
+    @Column(name = "completed_lessons_count")
+    private Integer completedLessonsCount;
+
+    /**
+     * Course lesson count the progress was last computed against. Set when the counters are seeded
+     * and refreshed in the background when the course structure changes.
+     */
+    @Column(name = "total_lessons_count")
+    private Integer totalLessonsCount;
+
+    /**
+     * Serialized completion bitmap used when completed lessons are kept in bitmap storage.
+     * Written only by the bitmap storage adapter, never by entity flushes.
+     */
+    @Column(name = "completed_lessons_bitmap", insertable = false, updatable = false, length = 65536)
+    private byte[] completedLessonsBitmap;
+
     @Column(name = "enrolled_at", nullable = false, updatable = false)
     private LocalDateTime enrolledAt;
 
@@ -34,18 +64,25 @@ public class Enrollment extends AggregateRoot<Long> {
         super();
     }
 
-    private Enrollment(Long studentId, Long courseId) {
+    private Enrollment(Long studentId, Long courseId, int totalLessons) {
         this.studentId = studentId;
         this.courseId = courseId;
         this.progress = Progress.zero();
+        this.completedLessonsCount = 0;
+        this.totalLessonsCount = totalLessons;
         this.enrolledAt = LocalDateTime.now();
         this.status = EnrollmentStatus.ACTIVE;
     }
 
     public static Enrollment enroll(Long studentId, Long courseId) {
+        return enroll(studentId, courseId, 0);
+    }
+
+    public static Enrollment enroll(Long studentId, Long courseId, int totalLessons) {
         return new Enrollment(
                 studentId,
-                courseId
+                courseId,
+                totalLessons
         );
     }
 
@@ -54,9 +91,20 @@ public class Enrollment extends AggregateRoot<Long> {
 
         if (this.progress.isCompleted() && this.status == EnrollmentStatus.ACTIVE) {
             complete();
+        } else if (!this.progress.isCompleted() && this.status == EnrollmentStatus.COMPLETED) {
+            // New lessons were added to a course the student had finished.
+            this.status = EnrollmentStatus.ACTIVE;
+            this.completedAt = null;
         }
     }
 
+    public void recordCompletedLessons(int completedLessons, int totalLessons) {
+        this.completedLessonsCount = completedLessons;
+        this.totalLessonsCount = totalLessons;
+        int percentage = totalLessons > 0 ? Math.min(100, completedLessons * 100 / totalLessons) : 0;
+        recalculateProgress(percentage);
+    }
+
     public void complete() {
         this.status = EnrollmentStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
@@ -98,6 +146,14 @@ public class Enrollment extends AggregateRoot<Long> {
         return progress;
     }
 
+    public Integer getCompletedLessonsCount() {
+        return completedLessonsCount;
+    }
+
+    public Integer getTotalLessonsCount() {
+        return totalLessonsCount;
+    }
+
     public LocalDateTime getEnrolledAt() {
         return enrolledAt;
     }
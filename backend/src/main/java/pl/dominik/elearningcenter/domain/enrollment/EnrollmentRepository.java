@@ -8,8 +8,47 @@ import java.util.Optional;
 public interface EnrollmentRepository {
     Enrollment save(Enrollment enrollment);
 
+    /**
+     * Inserts a new enrollment, relying on the (student_id, course_id) unique constraint
+     * rather than a prior existence check so that concurrent purchases cannot both succeed.
+     *
+     * @throws pl.dominik.elearningcenter.domain.enrollment.exception.AlreadyEnrolledException
+     *         if the student is already enrolled in the course
+     */
+    Enrollment enroll(Enrollment enrollment);
+
     Optional<Enrollment> findById(Long id);
 
+    /**
+     * Loads the enrollment with a row lock held until the surrounding transaction ends,
+     * serializing concurrent updates of its progress counters.
+     */
+    Optional<Enrollment> findByIdForUpdate(Long id);
+
+    /**
+     * Counts one more completed lesson in a single statement that also recomputes progress and status
+     * against the enrollment's stored lesson total. Matches only an enrollment of the given student
+     * whose course contains the lesson in the given section and whose counters are already tracked;
+     * returns empty otherwise without changing anything.
+     */
+    Optional<LessonCompletionProgress> recordLessonCompleted(Long enrollmentId, Long studentId, Long sectionId, Long lessonId);
+
+    long countByCourseId(Long courseId);
+
+    /**
+     * Locks the next {@code limit} enrollments of the course after {@code afterId} and returns
+     * their ids in ascending order. The locks keep lesson completions out until the chunk commits.
+     */
+    List<Long> lockNextIdsByCourseId(Long courseId, Long afterId, int limit);
+
+    /**
+     * Recomputes counters, progress and status of the course's enrollments with ids in
+     * ({@code afterId}, {@code upToId}] in one set-based statement. Only completions of lessons
+     * still in the course count. Dropped enrollments keep their status. Returns the number of
+     * updated rows.
+     */
+    int recalculateProgress(Long courseId, Long afterId, Long upToId, int totalLessons);
+
     List<Enrollment> findAll();
 
     List<Enrollment> findByStudentId(Long studentId);
@@ -20,6 +59,8 @@ public interface EnrollmentRepository {
 
     boolean existsByStudentIdAndCourseId(Long studentId, Long courseId);
 
+    List<Long> findCourseIdsByStudentId(Long studentId);
+
     void delete(Enrollment enrollment);
 
     default Enrollment findByIdOrThrow(Long enrollmentId){
@@ -27,5 +68,10 @@ public interface EnrollmentRepository {
                 .orElseThrow(() -> new EnrollmentNotFoundException("Enrollment not found: " + enrollmentId));
     }
 
+    default Enrollment findByIdForUpdateOrThrow(Long enrollmentId){
+        return findByIdForUpdate(enrollmentId)
+                .orElseThrow(() -> new EnrollmentNotFoundException("Enrollment not found: " + enrollmentId));
+    }
+
 }
 
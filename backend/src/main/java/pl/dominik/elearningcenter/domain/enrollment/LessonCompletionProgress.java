@@ -0,0 +1,7 @@
+package pl.dominik.elearningcenter.domain.enrollment;
+
+/**
+ * Course, progress and status of an enrollment right after a lesson completion was counted.
+ */
+public record LessonCompletionProgress(Long courseId, int percentage, EnrollmentStatus status) {
+}
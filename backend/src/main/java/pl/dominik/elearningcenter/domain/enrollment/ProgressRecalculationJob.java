@@ -0,0 +1,86 @@
+package pl.dominik.elearningcenter.domain.enrollment;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of the progress recalculation for one course. Enrollments are processed in
+ * ascending id order and the cursor is committed together with each chunk, so a job
+ * interrupted by a restart resumes where it stopped. A new structure change resets the cursor.
+ */
+@Entity
+@Table(name = "progress_recalculation_jobs")
+public class ProgressRecalculationJob {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "last_enrollment_id", nullable = false)
+    private long lastEnrollmentId;
+
+    @Column(name = "processed_enrollments", nullable = false)
+    private long processedEnrollments;
+
+    @Column(name = "total_enrollments", nullable = false)
+    private long totalEnrollments;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    protected ProgressRecalculationJob() {
+    }
+
+    public void start(long totalEnrollments) {
+        this.totalEnrollments = totalEnrollments;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void advance(long lastEnrollmentId, int processed) {
+        this.lastEnrollmentId = lastEnrollmentId;
+        this.processedEnrollments += processed;
+    }
+
+    public void finish() {
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isStarted() {
+        return startedAt != null;
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public long getLastEnrollmentId() {
+        return lastEnrollmentId;
+    }
+
+    public long getProcessedEnrollments() {
+        return processedEnrollments;
+    }
+
+    public long getTotalEnrollments() {
+        return totalEnrollments;
+    }
+
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,16 @@
+package pl.dominik.elearningcenter.domain.enrollment;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProgressRecalculationJobRepository {
+    /**
+     * Creates the job for the course or, if one exists, rewinds it to the first enrollment.
+     * Safe to call from concurrent transactions.
+     */
+    void request(Long courseId);
+
+    Optional<ProgressRecalculationJob> findByCourseIdForUpdate(Long courseId);
+
+    List<Long> findUnfinishedCourseIds();
+}
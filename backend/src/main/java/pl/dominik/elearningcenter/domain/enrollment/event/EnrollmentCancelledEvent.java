@@ -0,0 +1,50 @@
+package pl.dominik.elearningcenter.domain.enrollment.event;
+
+import pl.dominik.elearningcenter.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a student unenrolls from a course.
+ */
+public class EnrollmentCancelledEvent implements DomainEvent {
+
+    private final Long enrollmentId;
+    private final Long studentId;
+    private final Long courseId;
+    private final LocalDateTime occurredOn;
+
+    public EnrollmentCancelledEvent(Long enrollmentId, Long studentId, Long courseId) {
+        this.enrollmentId = enrollmentId;
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public Long getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "EnrollmentCancelledEvent{" +
+                "enrollmentId=" + enrollmentId +
+                ", studentId=" + studentId +
+                ", courseId=" + courseId +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
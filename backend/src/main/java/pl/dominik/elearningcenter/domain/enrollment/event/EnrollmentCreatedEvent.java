@@ -0,0 +1,55 @@
+package pl.dominik.elearningcenter.domain.enrollment.event;
+
+import pl.dominik.elearningcenter.domain.shared.event.IntegrationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a student is enrolled in a course.
+ */
+public class EnrollmentCreatedEvent implements IntegrationEvent {
+
+    private final Long enrollmentId;
+    private final Long studentId;
+    private final Long courseId;
+    private final LocalDateTime occurredOn;
+
+    public EnrollmentCreatedEvent(Long enrollmentId, Long studentId, Long courseId) {
+        this.enrollmentId = enrollmentId;
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public Long getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    @Override
+    public String routingKey() {
+        return "enrollment.created";
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "EnrollmentCreatedEvent{" +
+                "enrollmentId=" + enrollmentId +
+                ", studentId=" + studentId +
+                ", courseId=" + courseId +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package pl.dominik.elearningcenter.domain.enrollment.event;
+
+import pl.dominik.elearningcenter.domain.shared.event.IntegrationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a student completes a lesson for the first time.
+ */
+public class LessonCompletedEvent implements IntegrationEvent {
+
+    private final Long enrollmentId;
+    private final Long studentId;
+    private final Long courseId;
+    private final Long lessonId;
+    private final int progress;
+    private final LocalDateTime occurredOn;
+
+    public LessonCompletedEvent(Long enrollmentId, Long studentId, Long courseId, Long lessonId, int progress) {
+        this.enrollmentId = enrollmentId;
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.lessonId = lessonId;
+        this.progress = progress;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public Long getEnrollmentId() {
+        return enrollmentId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public Long getLessonId() {
+        return lessonId;
+    }
+
+    public int getProgress() {
+        return progress;
+    }
+
+    @Override
+    public String routingKey() {
+        return "enrollment.lesson-completed";
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "LessonCompletedEvent{" +
+                "enrollmentId=" + enrollmentId +
+                ", studentId=" + studentId +
+                ", courseId=" + courseId +
+                ", lessonId=" + lessonId +
+                ", progress=" + progress +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
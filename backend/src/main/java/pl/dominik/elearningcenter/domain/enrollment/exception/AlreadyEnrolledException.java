@@ -0,0 +1,9 @@
+package pl.dominik.elearningcenter.domain.enrollment.exception;
+
+import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+
+public class AlreadyEnrolledException extends DomainException {
+    public AlreadyEnrolledException(String message) {
+        super(message);
+    }
+}
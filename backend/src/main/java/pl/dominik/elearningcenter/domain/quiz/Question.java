@@ -31,6 +31,7 @@ public class Question {
 
     @ElementCollection
     @CollectionTable(name = "question_answers", joinColumns = @JoinColumn(name = "question_id"))
+    @org.hibernate.annotations.BatchSize(size = 50)
     private List<Answer> answers = new ArrayList<>();
 
     protected Question() {}
@@ -62,6 +63,9 @@ public class Question {
         if (type == QuestionType.TRUE_FALSE && answers.size() >= 2) {
             throw new IllegalArgumentException("True/False questions can have maximum 2 answers");
         }
+        if (answers.size() >= QuizAnswerKey.MAX_ANSWERS) {
+            throw new IllegalArgumentException("Question can have maximum " + QuizAnswerKey.MAX_ANSWERS + " answers");
+        }
         answers.add(answer);
     }
 
@@ -69,6 +73,9 @@ public class Question {
         if (answers == null || answers.isEmpty()) {
             throw new IllegalArgumentException("Question must have at least one answer");
         }
+        if (answers.size() > QuizAnswerKey.MAX_ANSWERS) {
+            throw new IllegalArgumentException("Question can have maximum " + QuizAnswerKey.MAX_ANSWERS + " answers");
+        }
 
         boolean hasCorrectAnswer = answers.stream().anyMatch(Answer::isCorrect);
         if (!hasCorrectAnswer) {
@@ -120,15 +127,7 @@ public class Question {
         if (selectedIndexes == null || selectedIndexes.isEmpty()) {
             return false;
         }
-
-        List<Integer> correctIndexes = new ArrayList<>();
-        for (int i = 0; i < answers.size(); i++) {
-            if (answers.get(i).isCorrect()) {
-                correctIndexes.add(i);
-            }
-        }
-
-        return selectedIndexes.size() == correctIndexes.size() && new HashSet<>(correctIndexes).containsAll(selectedIndexes);
+        return QuizAnswerKey.selectionMask(selectedIndexes) == QuizAnswerKey.correctMask(answers, Answer::isCorrect);
     }
 
     public Long getId() {
@@ -1,19 +1,19 @@
 package pl.dominik.elearningcenter.domain.quiz;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.Lesson;
 import pl.dominik.elearningcenter.domain.course.Section;
 import pl.dominik.elearningcenter.domain.shared.AggregateRoot;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.Answer;
 import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "quizzes")
@@ -43,6 +43,15 @@ public class Quiz extends AggregateRoot<Long> {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Incremented by every change to what students see or are graded on; identifies a {@link QuizSnapshot}.
+     * Edits load the quiz through {@link QuizRepository#findByIdAndInstructorIdForUpdate}, so the in-memory
+     * increment always starts from the last committed version.
+     */
+    @ColumnDefault("1")
+    @Column(name = "content_version", nullable = false)
+    private int contentVersion = 1;
+
     @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Question> questions = new ArrayList<>();
 
@@ -94,6 +103,7 @@ public class Quiz extends AggregateRoot<Long> {
 
         questions.add(question);
         question.setQuiz(this);
+        contentVersion++;
     }
 
     public Question findQuestion(Long questionId) {
@@ -106,6 +116,16 @@ public class Quiz extends AggregateRoot<Long> {
     public void removeQuestion(Long questionId) {
         Question question = findQuestion(questionId);
         questions.remove(question);
+        contentVersion++;
+    }
+
+    public void updateQuestion(Long questionId, String text, Integer orderIndex, int points, List<Answer> answers) {
+        Question question = findQuestion(questionId);
+        question.updateText(text);
+        question.updateOrderIndex(orderIndex);
+        question.updatePoints(points);
+        question.setAnswers(answers);
+        contentVersion++;
     }
 
     public void updateTitle(String newTitle) {
@@ -115,14 +135,20 @@ public class Quiz extends AggregateRoot<Long> {
         if (newTitle.length() > 200) {
             throw new IllegalArgumentException("Quiz title cannot exceed 200 characters");
         }
-        this.title = newTitle;
+        if (!newTitle.equals(this.title)) {
+            this.title = newTitle;
+            contentVersion++;
+        }
     }
 
     public void updatePassingScore(int newPassingScore) {
         if (newPassingScore < 0 || newPassingScore > 100) {
             throw new IllegalArgumentException("Passing score must be between 0 and 100");
         }
-        this.passingScore = newPassingScore;
+        if (newPassingScore != this.passingScore) {
+            this.passingScore = newPassingScore;
+            contentVersion++;
+        }
     }
 
     public void assignToCourse(Course course) {
@@ -153,22 +179,15 @@ public class Quiz extends AggregateRoot<Long> {
     }
 
     public int calculateScore(List<StudentAnswer> studentAnswers) {
-        Map<Long, StudentAnswer> answerMap = studentAnswers.stream()
-                .collect(Collectors.toMap(
-                        StudentAnswer::getQuestionId,
-                        sa -> sa
-                ));
+        return compileAnswerKey().score(studentAnswers);
+    }
 
-        return questions.stream()
-                .mapToInt(question -> {
-                    StudentAnswer studentAnswer = answerMap.get(question.getId());
-                    if (studentAnswer == null) {
-                        return 0;
-                    }
-                    boolean isCorrect = question.isAnswerCorrect(studentAnswer.getSelectedAnswerIndexes());
-                    return isCorrect ? question.getPoints() : 0;
-                })
-                .sum();
+    public QuizAnswerKey compileAnswerKey() {
+        return QuizAnswerKey.compile(questions);
+    }
+
+    public QuizSnapshot takeSnapshot() {
+        return new QuizSnapshot(this);
     }
 
     public boolean isPassed(int score, int maxScore) {
@@ -257,6 +276,10 @@ public class Quiz extends AggregateRoot<Long> {
         return createdAt;
     }
 
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
     public List<Question> getQuestions() {
         return Collections.unmodifiableList(questions);
     }
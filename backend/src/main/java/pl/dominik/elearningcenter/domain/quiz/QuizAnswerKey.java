@@ -0,0 +1,137 @@
+package pl.dominik.elearningcenter.domain.quiz;
+
+import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, compiled answer key of a quiz: question ids (sorted) with the bitmask of their correct
+ * answer indexes and their points. Grading compares one selection bitmask per question against the key,
+ * so it allocates nothing per question and never touches the questions or question_answers collections.
+ */
+public final class QuizAnswerKey {
+
+    /**
+     * Answer index 63 is reserved for {@link #OUT_OF_RANGE}, so a question may have at most 63 answers.
+     */
+    public static final int MAX_ANSWERS = 63;
+
+    private static final long OUT_OF_RANGE = Long.MIN_VALUE;
+
+    private final long[] questionIds;
+    private final long[] correctMasks;
+    private final int[] points;
+    private final int maxScore;
+
+    private QuizAnswerKey(long[] questionIds, long[] correctMasks, int[] points) {
+        this.questionIds = questionIds;
+        this.correctMasks = correctMasks;
+        this.points = points;
+        this.maxScore = Arrays.stream(points).sum();
+    }
+
+    public static QuizAnswerKey compile(List<Question> questions) {
+        return compileSnapshot(questions.stream()
+                .map(QuizSnapshot.QuestionSnapshot::of)
+                .toList());
+    }
+
+    public static QuizAnswerKey compileSnapshot(List<QuizSnapshot.QuestionSnapshot> questions) {
+        List<QuizSnapshot.QuestionSnapshot> sorted = questions.stream()
+                .sorted(Comparator.comparing(QuizSnapshot.QuestionSnapshot::id))
+                .toList();
+        long[] questionIds = new long[sorted.size()];
+        long[] correctMasks = new long[sorted.size()];
+        int[] points = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            QuizSnapshot.QuestionSnapshot question = sorted.get(i);
+            questionIds[i] = question.id();
+            correctMasks[i] = correctMask(question.answers(), QuizSnapshot.AnswerSnapshot::correct);
+            points[i] = question.points();
+        }
+        return new QuizAnswerKey(questionIds, correctMasks, points);
+    }
+
+    /**
+     * Encodes answer indexes as a bitmask; any index beyond {@link #MAX_ANSWERS} sets a bit no correct mask has.
+     * Repeated indexes set the same bit, so callers must reject them first, as {@link StudentAnswer} does.
+     */
+    public static long selectionMask(List<Integer> selectedIndexes) {
+        long mask = 0L;
+        for (int i = 0; i < selectedIndexes.size(); i++) {
+            int index = selectedIndexes.get(i);
+            mask |= index >= 0 && index < MAX_ANSWERS ? 1L << index : OUT_OF_RANGE;
+        }
+        return mask;
+    }
+
+    static <A> long correctMask(List<A> answers, Predicate<A> correct) {
+        if (answers.size() > MAX_ANSWERS) {
+            throw new IllegalStateException("Question has more than " + MAX_ANSWERS + " answers");
+        }
+        long mask = 0L;
+        for (int i = 0; i < answers.size(); i++) {
+            if (correct.test(answers.get(i))) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    public int questionCount() {
+        return questionIds.length;
+    }
+
+    public int maxScore() {
+        return maxScore;
+    }
+
+    /**
+     * Position of the question in this key, or a negative value when the question is not part of the quiz.
+     */
+    public int indexOf(long questionId) {
+        return Arrays.binarySearch(questionIds, questionId);
+    }
+
+    /**
+     * Lays the answers out as one selection bitmask per key position (0 = unanswered).
+     * Answers to questions outside the quiz are ignored; two answers to one question are rejected.
+     */
+    public long[] encode(List<StudentAnswer> answers) {
+        long[] selections = new long[questionIds.length];
+        boolean[] answered = new boolean[questionIds.length];
+        for (int i = 0; i < answers.size(); i++) {
+            StudentAnswer answer = answers.get(i);
+            int index = indexOf(answer.getQuestionId());
+            if (index < 0) {
+                continue;
+            }
+            if (answered[index]) {
+                throw new IllegalArgumentException("Duplicate answer for question " + answer.getQuestionId());
+            }
+            answered[index] = true;
+            selections[index] = answer.selectionMask();
+        }
+        return selections;
+    }
+
+    public int score(long[] selections) {
+        if (selections.length != questionIds.length) {
+            throw new IllegalArgumentException("Expected " + questionIds.length + " selections, got " + selections.length);
+        }
+        int score = 0;
+        for (int i = 0; i < selections.length; i++) {
+            if (selections[i] != 0L && selections[i] == correctMasks[i]) {
+                score += points[i];
+            }
+        }
+        return score;
+    }
+
+    public int score(List<StudentAnswer> answers) {
+        return score(encode(answers));
+    }
+}
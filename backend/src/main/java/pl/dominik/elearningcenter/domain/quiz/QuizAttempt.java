@@ -3,6 +3,7 @@ package pl.dominik.elearningcenter.domain.quiz;
 import jakarta.persistence.*;
 import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
 import pl.dominik.elearningcenter.domain.shared.AggregateRoot;
+import pl.dominik.elearningcenter.infrastructure.persistence.converter.StudentAnswersConverter;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -16,6 +17,9 @@ public class QuizAttempt extends AggregateRoot<Long> {
     @Column(name = "quiz_id", nullable = false)
     private Long quizId;
 
+    @Column(name = "quiz_version")
+    private Integer quizVersion;
+
     @Column(name = "student_id", nullable = false)
     private Long studentId;
 
@@ -31,8 +35,9 @@ public class QuizAttempt extends AggregateRoot<Long> {
     @Column(name = "attempted_at", nullable = false, updatable = false)
     private LocalDateTime attemptedAt;
 
-    @ElementCollection
-    @CollectionTable(name = "quiz_attempt_answers", joinColumns = @JoinColumn(name = "quiz_attempt_id"))
+    // Nullable only for attempts the answers migration has not reached yet
+    @Column(name = "answers", length = 65536, updatable = false)
+    @Convert(converter = StudentAnswersConverter.class)
     private List<StudentAnswer> answers = new ArrayList<>();
 
     protected QuizAttempt() {
@@ -41,6 +46,7 @@ public class QuizAttempt extends AggregateRoot<Long> {
 
     private QuizAttempt(
             Long quizId,
+            Integer quizVersion,
             Long studentId,
             int score,
             int maxScore,
@@ -66,6 +72,7 @@ public class QuizAttempt extends AggregateRoot<Long> {
             throw new IllegalArgumentException("Answers cannot be empty");
         }
         this.quizId = quizId;
+        this.quizVersion = quizVersion;
         this.studentId = studentId;
         this.score = score;
         this.maxScore = maxScore;
@@ -82,7 +89,19 @@ public class QuizAttempt extends AggregateRoot<Long> {
             boolean passed,
             List<StudentAnswer> answers
     ) {
-        return new QuizAttempt(quizId, studentId, score, maxScore, passed, answers);
+        return new QuizAttempt(quizId, null, studentId, score, maxScore, passed, answers);
+    }
+
+    public static QuizAttempt create(
+            Long quizId,
+            int quizVersion,
+            Long studentId,
+            int score,
+            int maxScore,
+            boolean passed,
+            List<StudentAnswer> answers
+    ) {
+        return new QuizAttempt(quizId, quizVersion, studentId, score, maxScore, passed, answers);
     }
 
     public int getScorePercentage() {
@@ -111,6 +130,10 @@ public class QuizAttempt extends AggregateRoot<Long> {
         return quizId;
     }
 
+    public Integer getQuizVersion() {
+        return quizVersion;
+    }
+
     public Long getStudentId() {
         return studentId;
     }
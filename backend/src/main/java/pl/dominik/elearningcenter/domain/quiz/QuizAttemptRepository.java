@@ -19,14 +19,6 @@ public interface QuizAttemptRepository {
 
     List<QuizAttempt> findByQuizIdAndStudentId(Long quizId, Long studentId);
 
-    Optional<QuizAttempt> findBestAttempt(Long quizId, Long studentId);
-
-    boolean existsByQuizId(Long quizId);
-
-    boolean existsByQuizIdAndStudentId(Long quizId, Long studentId);
-
-    long countByQuizId(Long quizId);
-
     void delete(QuizAttempt quizAttempt);
 
     void deleteByQuizId(Long quizId);
@@ -0,0 +1,74 @@
+package pl.dominik.elearningcenter.domain.quiz;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Per-(quiz, student) roll-up of attempts: best score and the attempt that reached it, attempt count,
+ * last attempt time and whether any attempt passed. Maintained by an atomic upsert on every submission,
+ * so best-attempt and "has passed" lookups are primary-key reads instead of scans over all attempts.
+ */
+@Entity
+@Table(name = "quiz_attempt_summaries")
+@IdClass(QuizAttemptSummary.Key.class)
+public class QuizAttemptSummary {
+
+    @Id
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Column(name = "best_attempt_id", nullable = false)
+    private Long bestAttemptId;
+
+    @Column(name = "best_score", nullable = false)
+    private int bestScore;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(nullable = false)
+    private boolean passed;
+
+    @Column(name = "last_attempt_at", nullable = false)
+    private LocalDateTime lastAttemptAt;
+
+    protected QuizAttemptSummary() {
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getBestAttemptId() {
+        return bestAttemptId;
+    }
+
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public LocalDateTime getLastAttemptAt() {
+        return lastAttemptAt;
+    }
+
+    public record Key(Long quizId, Long studentId) implements Serializable {
+    }
+}
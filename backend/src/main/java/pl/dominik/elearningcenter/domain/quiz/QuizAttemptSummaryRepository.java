@@ -0,0 +1,15 @@
+package pl.dominik.elearningcenter.domain.quiz;
+
+import java.util.Optional;
+
+public interface QuizAttemptSummaryRepository {
+    /**
+     * Folds a saved attempt into its (quiz, student) summary, creating the summary on the first attempt.
+     * A single atomic statement, so concurrent submissions by the same student cannot lose updates.
+     */
+    void record(QuizAttempt attempt);
+
+    Optional<QuizAttemptSummary> findByQuizIdAndStudentId(Long quizId, Long studentId);
+
+    void deleteByQuizId(Long quizId);
+}
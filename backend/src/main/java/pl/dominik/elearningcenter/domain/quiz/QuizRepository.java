@@ -11,7 +11,16 @@ public interface QuizRepository {
 
     Optional<Quiz> findById(Long id);
 
-    Optional<Quiz> findByIdAndInstructorId(Long id, Long instructorId);
+    /**
+     * Loads the quiz holding a shared row lock, so its content cannot change until the transaction ends.
+     */
+    Optional<Quiz> findByIdForShare(Long id);
+
+    /**
+     * Loads the instructor's quiz holding an exclusive row lock. Every edit goes through it, so concurrent
+     * edits serialize and each bumps the content version from the one the previous edit committed.
+     */
+    Optional<Quiz> findByIdAndInstructorIdForUpdate(Long id, Long instructorId);
 
     List<Quiz> findAll();
 
@@ -42,8 +51,8 @@ public interface QuizRepository {
                 .orElseThrow(() -> new QuizNotFoundException("Quiz not found: " + quizId));
     }
 
-    default Quiz findByIdAndInstructorIdOrThrow(Long quizId, Long instructorId) {
-        return findByIdAndInstructorId(quizId, instructorId)
+    default Quiz findByIdAndInstructorIdForUpdateOrThrow(Long quizId, Long instructorId) {
+        return findByIdAndInstructorIdForUpdate(quizId, instructorId)
                 .orElseThrow(() -> {
                     if (!existsById(quizId)) {
                         return new QuizNotFoundException("Quiz not found: " + quizId);
@@ -0,0 +1,187 @@
+package pl.dominik.elearningcenter.domain.quiz;
+
+import jakarta.persistence.*;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.Answer;
+import pl.dominik.elearningcenter.infrastructure.persistence.converter.QuizSnapshotQuestionsConverter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable copy of a quiz's content at one content version. Written once, the first time that version
+ * is served or graded, and never updated, so attempts graded against it can always be explained.
+ */
+@Entity
+@Table(
+        name = "quiz_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_quiz_snapshot_version", columnNames = {"quiz_id", "quiz_version"})
+)
+public class QuizSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "quiz_id", nullable = false, updatable = false)
+    private Long quizId;
+
+    @Column(name = "quiz_version", nullable = false, updatable = false)
+    private int version;
+
+    @Column(nullable = false, length = 200, updatable = false)
+    private String title;
+
+    @Column(name = "passing_score", nullable = false, updatable = false)
+    private int passingScore;
+
+    @Column(name = "course_id", updatable = false)
+    private Long courseId;
+
+    @Column(name = "section_id", updatable = false)
+    private Long sectionId;
+
+    @Column(name = "lesson_id", updatable = false)
+    private Long lessonId;
+
+    @Column(name = "instructor_id", nullable = false, updatable = false)
+    private Long instructorId;
+
+    @Column(name = "quiz_created_at", nullable = false, updatable = false)
+    private LocalDateTime quizCreatedAt;
+
+    @Column(nullable = false, columnDefinition = "TEXT", updatable = false)
+    @Convert(converter = QuizSnapshotQuestionsConverter.class)
+    private List<QuestionSnapshot> questions;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    private volatile QuizAnswerKey answerKey;
+
+    protected QuizSnapshot() {}
+
+    QuizSnapshot(Quiz quiz) {
+        if (quiz.getId() == null) {
+            throw new IllegalStateException("Cannot snapshot an unsaved quiz");
+        }
+        this.quizId = quiz.getId();
+        this.version = quiz.getContentVersion();
+        this.title = quiz.getTitle();
+        this.passingScore = quiz.getPassingScore();
+        this.courseId = quiz.getCourseId();
+        this.sectionId = quiz.getSectionId();
+        this.lessonId = quiz.getLessonId();
+        this.instructorId = quiz.getInstructorId();
+        this.quizCreatedAt = quiz.getCreatedAt();
+        this.questions = quiz.getQuestions().stream()
+                .map(QuestionSnapshot::of)
+                .toList();
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public QuizAnswerKey answerKey() {
+        QuizAnswerKey key = answerKey;
+        if (key == null) {
+            key = QuizAnswerKey.compileSnapshot(questions);
+            answerKey = key;
+        }
+        return key;
+    }
+
+    public int maxScore() {
+        return answerKey().maxScore();
+    }
+
+    public boolean isPassed(int score) {
+        int maxScore = maxScore();
+        if (maxScore == 0) {
+            return false;
+        }
+        return (score * 100) / maxScore >= passingScore;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getPassingScore() {
+        return passingScore;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public Long getSectionId() {
+        return sectionId;
+    }
+
+    public Long getLessonId() {
+        return lessonId;
+    }
+
+    public Long getInstructorId() {
+        return instructorId;
+    }
+
+    public LocalDateTime getQuizCreatedAt() {
+        return quizCreatedAt;
+    }
+
+    public List<QuestionSnapshot> getQuestions() {
+        return List.copyOf(questions);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public record QuestionSnapshot(
+            Long id,
+            String text,
+            QuestionType type,
+            int points,
+            Integer orderIndex,
+            List<AnswerSnapshot> answers
+    ) {
+        public QuestionSnapshot {
+            answers = List.copyOf(answers);
+        }
+
+        static QuestionSnapshot of(Question question) {
+            if (question.getId() == null) {
+                throw new IllegalStateException("Cannot snapshot an unsaved question");
+            }
+            return new QuestionSnapshot(
+                    question.getId(),
+                    question.getText(),
+                    question.getType(),
+                    question.getPoints(),
+                    question.getOrderIndex(),
+                    question.getAnswers().stream()
+                            .map(AnswerSnapshot::of)
+                            .toList()
+            );
+        }
+    }
+
+    public record AnswerSnapshot(String text, boolean correct) {
+
+        static AnswerSnapshot of(Answer answer) {
+            return new AnswerSnapshot(answer.getText(), answer.isCorrect());
+        }
+    }
+}
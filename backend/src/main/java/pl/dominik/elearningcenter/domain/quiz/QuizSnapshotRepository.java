@@ -0,0 +1,11 @@
+package pl.dominik.elearningcenter.domain.quiz;
+
+import java.util.Optional;
+
+public interface QuizSnapshotRepository {
+    QuizSnapshot save(QuizSnapshot snapshot);
+
+    Optional<QuizSnapshot> findByQuizIdAndVersion(Long quizId, int version);
+
+    void deleteByQuizId(Long quizId);
+}
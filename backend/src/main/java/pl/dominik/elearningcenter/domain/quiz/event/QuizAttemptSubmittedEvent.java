@@ -0,0 +1,76 @@
+package pl.dominik.elearningcenter.domain.quiz.event;
+
+import pl.dominik.elearningcenter.domain.shared.event.IntegrationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a student submits a quiz attempt.
+ */
+public class QuizAttemptSubmittedEvent implements IntegrationEvent {
+
+    private final Long attemptId;
+    private final Long quizId;
+    private final Long studentId;
+    private final int score;
+    private final int maxScore;
+    private final boolean passed;
+    private final LocalDateTime occurredOn;
+
+    public QuizAttemptSubmittedEvent(Long attemptId, Long quizId, Long studentId, int score, int maxScore, boolean passed) {
+        this.attemptId = attemptId;
+        this.quizId = quizId;
+        this.studentId = studentId;
+        this.score = score;
+        this.maxScore = maxScore;
+        this.passed = passed;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public Long getAttemptId() {
+        return attemptId;
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    @Override
+    public String routingKey() {
+        return "quiz.attempt-submitted";
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "QuizAttemptSubmittedEvent{" +
+                "attemptId=" + attemptId +
+                ", quizId=" + quizId +
+                ", studentId=" + studentId +
+                ", score=" + score +
+                ", maxScore=" + maxScore +
+                ", passed=" + passed +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
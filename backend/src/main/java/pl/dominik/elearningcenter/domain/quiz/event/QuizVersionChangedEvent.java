@@ -0,0 +1,44 @@
+package pl.dominik.elearningcenter.domain.quiz.event;
+
+import pl.dominik.elearningcenter.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a change to a Quiz's title, passing score, questions or answers
+ * bumped its content version.
+ */
+public class QuizVersionChangedEvent implements DomainEvent {
+
+    private final Long quizId;
+    private final int version;
+    private final LocalDateTime occurredOn;
+
+    public QuizVersionChangedEvent(Long quizId, int version) {
+        this.quizId = quizId;
+        this.version = version;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "QuizVersionChangedEvent{" +
+                "quizId=" + quizId +
+                ", version=" + version +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
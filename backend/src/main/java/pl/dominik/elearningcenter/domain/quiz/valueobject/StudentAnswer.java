@@ -1,25 +1,17 @@
 package pl.dominik.elearningcenter.domain.quiz.valueobject;
 
-import jakarta.persistence.*;
-import pl.dominik.elearningcenter.infrastructure.persistence.converter.IntegerListConverter;
+import pl.dominik.elearningcenter.domain.quiz.QuizAnswerKey;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-@Embeddable
 public final class StudentAnswer {
 
-    @Column(name = "question_id", nullable = false)
-    private Long questionId;
+    private final Long questionId;
 
-    @Column(name = "selected_answer_indexes", nullable = false, length = 500)
-    @Convert(converter = IntegerListConverter.class)
-    private List<Integer> selectedAnswerIndexes = new ArrayList<>();
-
-    protected StudentAnswer() {
-    }
+    private final List<Integer> selectedAnswerIndexes;
 
     private StudentAnswer(Long questionId, List<Integer> selectedAnswerIndexes) {
         if (questionId == null) throw new IllegalArgumentException("Question ID cannot be null");
@@ -29,6 +21,9 @@ public final class StudentAnswer {
         if (selectedAnswerIndexes.stream().anyMatch(idx -> idx < 0)) {
             throw new IllegalArgumentException("Answer indexes must be >= 0");
         }
+        if (selectedAnswerIndexes.stream().distinct().count() != selectedAnswerIndexes.size()) {
+            throw new IllegalArgumentException("Answer indexes must not repeat");
+        }
         this.questionId = questionId;
         this.selectedAnswerIndexes = new ArrayList<>(selectedAnswerIndexes);
     }
@@ -41,6 +36,18 @@ public final class StudentAnswer {
         return new StudentAnswer(questionId, List.of(answerIndex));
     }
 
+    /**
+     * Rebuilds an answer from its {@link #selectionMask()}, with indexes in ascending order. An out-of-range
+     * selection comes back as index {@link QuizAnswerKey#MAX_ANSWERS}, which grades the same way.
+     */
+    public static StudentAnswer ofSelectionMask(Long questionId, long selectionMask) {
+        List<Integer> indexes = new ArrayList<>(Long.bitCount(selectionMask));
+        for (long bits = selectionMask; bits != 0; bits &= bits - 1) {
+            indexes.add(Long.numberOfTrailingZeros(bits));
+        }
+        return new StudentAnswer(questionId, indexes);
+    }
+
     public Long getQuestionId() {
         return questionId;
     }
@@ -49,6 +56,10 @@ public final class StudentAnswer {
         return Collections.unmodifiableList(selectedAnswerIndexes);
     }
 
+    public long selectionMask() {
+        return QuizAnswerKey.selectionMask(selectedAnswerIndexes);
+    }
+
     public boolean isSingleChoice() {
         return selectedAnswerIndexes.size() == 1;
     }
@@ -0,0 +1,13 @@
+package pl.dominik.elearningcenter.domain.shared.event;
+
+/**
+ * Domain event that is also published outside the application through the domain event bus.
+ * It is recorded in the event outbox within the publishing transaction and relayed after commit.
+ */
+public interface IntegrationEvent extends DomainEvent {
+
+    /**
+     * Routing key under which the event is published, e.g. "enrollment.created".
+     */
+    String routingKey();
+}
@@ -1,6 +1,7 @@
 package pl.dominik.elearningcenter.domain.user;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import pl.dominik.elearningcenter.domain.shared.AggregateRoot;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
@@ -53,13 +54,19 @@ public class User extends AggregateRoot<Long> {
     @Column(name = "password_reset_token_expires_at")
     private LocalDateTime passwordResetTokenExpiresAt;
 
+    // Written only on insert; afterwards the balance changes solely through the conditional
+    // UserRepository.debitBalance/creditBalance UPDATEs, so saving a loaded user never writes back a stale amount.
     @Embedded
     @AttributeOverrides({
-            @AttributeOverride(name = "amount", column = @Column(name = "balance_amount", nullable = false, precision = 10, scale = 2)),
-            @AttributeOverride(name = "currencyCode", column = @Column(name = "balance_currency", nullable = false, length = 3))
+            @AttributeOverride(name = "amount", column = @Column(name = "balance_amount", nullable = false, updatable = false, precision = 10, scale = 2)),
+            @AttributeOverride(name = "currencyCode", column = @Column(name = "balance_currency", nullable = false, updatable = false, length = 3))
     })
     private Money balance;
 
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false)
+    private long tokenVersion;
+
     protected User() {
         super();
     }
@@ -84,6 +91,7 @@ public class User extends AggregateRoot<Long> {
 
     public void disable() {
         this.enabled = false;
+        this.tokenVersion++;
     }
 
     public void changePassword(Password newHashedPassword, boolean oldPasswordMatches) {
@@ -91,6 +99,7 @@ public class User extends AggregateRoot<Long> {
             throw new DomainException("Invalid old password");
         }
         this.password = newHashedPassword;
+        this.tokenVersion++;
     }
 
     public void updateEmail(Email newEmail){
@@ -98,6 +107,7 @@ public class User extends AggregateRoot<Long> {
             throw new IllegalArgumentException("Email cannot be null");
         }
         this.email = newEmail;
+        this.tokenVersion++;
     }
 
     public void updateUsername(Username newUsername){
@@ -132,35 +142,26 @@ public class User extends AggregateRoot<Long> {
         return createdAt;
     }
 
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+
     public Money getBalance() {
         return balance;
     }
 
+    /**
+     * Sets the opening balance of a user that has not been saved yet. Balances of persisted users
+     * change only through {@link UserRepository#debitBalance} and {@link UserRepository#creditBalance}.
+     */
     public void addBalance(Money amount) {
         if (amount == null) {
             throw new IllegalArgumentException("Amount cannot be null");
         }
-        this.balance = this.balance.add(amount);
-    }
-
-    public void deductBalance(Money amount) {
-        if (amount == null) {
-            throw new IllegalArgumentException("Amount cannot be null");
-        }
-        if (this.balance.getAmount().compareTo(amount.getAmount()) < 0) {
-            throw new DomainException("Insufficient balance");
-        }
-        this.balance = this.balance.subtract(amount);
-    }
-
-    public boolean hasEnoughBalance(Money amount) {
-        if (amount == null) {
-            throw new IllegalArgumentException("Amount cannot be null");
-        }
-        if (!this.balance.getCurrencyCode().equals(amount.getCurrencyCode())) {
-            throw new IllegalArgumentException("Cannot compare balance with different currencies");
+        if (this.id != null) {
+            throw new IllegalStateException("Balance of a persisted user changes only through UserRepository");
         }
-        return this.balance.getAmount().compareTo(amount.getAmount()) >= 0;
+        this.balance = this.balance.add(amount);
     }
 
     public void generateVerificationToken(String token, int expirationHours) {
@@ -200,6 +201,7 @@ public class User extends AggregateRoot<Long> {
             throw new DomainException("Password reset token has expired");
         }
         this.password = newHashedPassword;
+        this.tokenVersion++;
         this.passwordResetToken = null;
         this.passwordResetTokenExpiresAt = null;
     }
@@ -3,11 +3,15 @@ package pl.dominik.elearningcenter.domain.user;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Money;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
+import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.domain.user.exception.BalanceCurrencyMismatchException;
 import pl.dominik.elearningcenter.domain.user.exception.UserNotFoundException;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public interface UserRepository {
     User save(User user);
@@ -15,6 +19,21 @@ public interface UserRepository {
     List<User> findAllById(Iterable<Long> ids);
     Optional<User> findByUsername(Username username);
     Optional<User> findByEmail(Email email);
+    Optional<Long> findTokenVersionById(Long id);
+    Optional<String> findBalanceCurrencyById(Long id);
+
+    /**
+     * Atomically subtracts {@code amount} from the user's balance in a single conditional
+     * UPDATE. Returns {@code false} without touching the row when the balance is too low,
+     * the currency differs or the user does not exist.
+     */
+    boolean debitBalance(Long userId, Money amount);
+
+    /**
+     * Atomically adds {@code amount} to the user's balance. Returns {@code false} when the
+     * currency differs or the user does not exist.
+     */
+    boolean creditBalance(Long userId, Money amount);
     Optional<User> findByVerificationToken(String token);
     Optional<User> findByPasswordResetToken(String token);
     Page<User> findAll(Pageable pageable);
@@ -22,6 +41,39 @@ public interface UserRepository {
     boolean existsByEmail(Email email);
     void delete(User user);
     long count();
+    /**
+     * {@link #creditBalance} that raises {@link UserNotFoundException} for a missing user and
+     * {@link BalanceCurrencyMismatchException} for a balance held in another currency.
+     */
+    default void creditBalanceOrThrow(Long userId, Money amount) {
+        if (!creditBalance(userId, amount)) {
+            throw balanceChangeFailure(userId, amount)
+                    .orElseGet(() -> new UserNotFoundException("User not found: " + userId));
+        }
+    }
+
+    /**
+     * {@link #debitBalance} with the same failures as {@link #creditBalanceOrThrow}, plus
+     * {@code insufficientBalance} when the user exists but cannot cover the amount.
+     */
+    default void debitBalanceOrThrow(Long userId, Money amount, Supplier<? extends DomainException> insufficientBalance) {
+        if (!debitBalance(userId, amount)) {
+            throw balanceChangeFailure(userId, amount).orElseGet(insufficientBalance);
+        }
+    }
+
+    private Optional<DomainException> balanceChangeFailure(Long userId, Money amount) {
+        Optional<String> currency = findBalanceCurrencyById(userId);
+        if (currency.isEmpty()) {
+            return Optional.of(new UserNotFoundException("User not found: " + userId));
+        }
+        if (!currency.get().equals(amount.getCurrencyCode())) {
+            return Optional.of(new BalanceCurrencyMismatchException(
+                    "Cannot apply " + amount + " to a balance held in " + currency.get()));
+        }
+        return Optional.empty();
+    }
+
     default User findByIdOrThrow(Long userId){
         return findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User not found: " + userId));
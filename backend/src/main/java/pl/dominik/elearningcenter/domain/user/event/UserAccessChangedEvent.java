@@ -0,0 +1,44 @@
+package pl.dominik.elearningcenter.domain.user.event;
+
+import pl.dominik.elearningcenter.domain.shared.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a change to a User invalidates previously issued access tokens
+ * (account disabled, password changed, profile updated).
+ */
+public class UserAccessChangedEvent implements DomainEvent {
+
+    private final Long userId;
+    private final long tokenVersion;
+    private final LocalDateTime occurredOn;
+
+    public UserAccessChangedEvent(Long userId, long tokenVersion) {
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "UserAccessChangedEvent{" +
+                "userId=" + userId +
+                ", tokenVersion=" + tokenVersion +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
@@ -0,0 +1,9 @@
+package pl.dominik.elearningcenter.domain.user.exception;
+
+import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+
+public class BalanceCurrencyMismatchException extends DomainException {
+    public BalanceCurrencyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,90 @@
+package pl.dominik.elearningcenter.domain.wallet.event;
+
+import pl.dominik.elearningcenter.domain.shared.event.IntegrationEvent;
+import pl.dominik.elearningcenter.domain.wallet.TransactionType;
+import pl.dominik.elearningcenter.domain.wallet.WalletTransaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Domain event published when a wallet transaction is posted to a user's balance.
+ */
+public class WalletTransactionPostedEvent implements IntegrationEvent {
+
+    private final Long transactionId;
+    private final Long userId;
+    private final TransactionType type;
+    private final BigDecimal amount;
+    private final String currency;
+    private final Long referenceId;
+    private final LocalDateTime occurredOn;
+
+    public WalletTransactionPostedEvent(Long transactionId, Long userId, TransactionType type, BigDecimal amount, String currency, Long referenceId) {
+        this.transactionId = transactionId;
+        this.userId = userId;
+        this.type = type;
+        this.amount = amount;
+        this.currency = currency;
+        this.referenceId = referenceId;
+        this.occurredOn = LocalDateTime.now();
+    }
+
+    public static WalletTransactionPostedEvent of(WalletTransaction transaction) {
+        return new WalletTransactionPostedEvent(
+                transaction.getId(),
+                transaction.getUserId(),
+                transaction.getType(),
+                transaction.getAmount(),
+                transaction.getCurrency(),
+                transaction.getReferenceId()
+        );
+    }
+
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public Long getReferenceId() {
+        return referenceId;
+    }
+
+    @Override
+    public String routingKey() {
+        return "wallet.transaction-posted";
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return "WalletTransactionPostedEvent{" +
+                "transactionId=" + transactionId +
+                ", userId=" + userId +
+                ", type=" + type +
+                ", amount=" + amount +
+                ", currency=" + currency +
+                ", referenceId=" + referenceId +
+                ", occurredOn=" + occurredOn +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package pl.dominik.elearningcenter.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * In-process caches backed by Caffeine.
+ * Every cache is bounded by size and TTL and records statistics, which Actuator exposes as cache.gets / cache.evictions metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PUBLISHED_COURSES = "publishedCourses";
+    public static final String COURSE_CATEGORIES = "courseCategories";
+    public static final String COURSE_DETAILS = "courseDetails";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.catalog.max-size:1000}") long catalogMaxSize,
+            @Value("${app.cache.catalog.ttl:10m}") Duration catalogTtl
+    ) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                buildCache(PUBLISHED_COURSES, catalogMaxSize, catalogTtl),
+                buildCache(COURSE_CATEGORIES, 1, catalogTtl),
+                buildCache(COURSE_DETAILS, catalogMaxSize, catalogTtl)
+        ));
+        return cacheManager;
+    }
+
+    private CaffeineCache buildCache(String name, long maxSize, Duration ttl) {
+        return new CaffeineCache(name, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+    }
+}
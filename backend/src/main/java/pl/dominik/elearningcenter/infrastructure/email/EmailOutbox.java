@@ -0,0 +1,41 @@
+package pl.dominik.elearningcenter.infrastructure.email;
+
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Queues outbound email in the email_outbox table as part of the caller's transaction.
+ * Nothing is sent on the calling thread; the dispatcher is woken up after commit.
+ */
+@Component
+public class EmailOutbox {
+
+    private final OutboundEmailJpaRepository outboundEmailRepository;
+    private final EmailOutboxDispatcher dispatcher;
+
+    public EmailOutbox(OutboundEmailJpaRepository outboundEmailRepository, EmailOutboxDispatcher dispatcher) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.dispatcher = dispatcher;
+    }
+
+    @Transactional
+    public void enqueue(SimpleMailMessage message) {
+        outboundEmailRepository.save(OutboundEmail.queue(message, LocalDateTime.now()));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.wakeUp();
+                }
+            });
+        } else {
+            dispatcher.wakeUp();
+        }
+    }
+}
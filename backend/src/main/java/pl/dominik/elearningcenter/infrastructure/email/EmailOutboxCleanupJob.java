@@ -0,0 +1,42 @@
+package pl.dominik.elearningcenter.infrastructure.email;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes email outbox rows that reached a final state (SENT or FAILED) and were queued longer ago than
+ * the retention period. FAILED rows still hold the full body, including any reset or verification link,
+ * so they must not stay around indefinitely.
+ */
+@Component
+public class EmailOutboxCleanupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxCleanupJob.class);
+
+    private final OutboundEmailJpaRepository outboundEmailRepository;
+    private final Duration retention;
+
+    public EmailOutboxCleanupJob(
+            OutboundEmailJpaRepository outboundEmailRepository,
+            @Value("${app.email.outbox.retention:7d}") Duration retention
+    ) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${app.email.outbox.cleanup-cron:0 45 3 * * *}")
+    @Transactional
+    public void deleteFinished() {
+        int deleted = outboundEmailRepository.deleteFinishedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Deleted {} sent or failed email(s) queued more than {} ago", deleted, retention);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package pl.dominik.elearningcenter.infrastructure.email;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the email outbox on a small worker pool.
+ * Each worker claims a batch of due rows (SKIP LOCKED, so several workers or instances never share a row),
+ * sends the whole batch over a single SMTP connection and records the outcome per message.
+ * Failed messages are retried with exponential backoff; queue depth is exposed as the email.outbox.depth gauge.
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+
+    private final OutboundEmailJpaRepository outboundEmailRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor workers;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration lease;
+
+    public EmailOutboxDispatcher(
+            OutboundEmailJpaRepository outboundEmailRepository,
+            JavaMailSender mailSender,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.email.outbox.workers:2}") int workerCount,
+            @Value("${app.email.outbox.batch-size:50}") int batchSize,
+            @Value("${app.email.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${app.email.outbox.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${app.email.outbox.lease:5m}") Duration lease
+    ) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.lease = lease;
+
+        this.workers = new ThreadPoolTaskExecutor();
+        this.workers.setCorePoolSize(workerCount);
+        this.workers.setMaxPoolSize(workerCount);
+        this.workers.setQueueCapacity(0);
+        this.workers.setThreadNamePrefix("email-outbox-");
+        this.workers.initialize();
+
+        Gauge.builder("email.outbox.depth", outboundEmailRepository, repository -> repository.countByStatus(OutboundEmailStatus.PENDING))
+                .description("Emails waiting to be sent")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.failed", outboundEmailRepository, repository -> repository.countByStatus(OutboundEmailStatus.FAILED))
+                .description("Emails that exhausted all delivery attempts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts a worker unless all of them are already busy; a busy worker keeps draining until the outbox is empty.
+     */
+    public void wakeUp() {
+        if (activeWorkers.incrementAndGet() > workerCount) {
+            activeWorkers.decrementAndGet();
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    activeWorkers.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Picks up retries whose backoff has elapsed and emails queued by other instances.
+     */
+    @Scheduled(fixedDelayString = "${app.email.outbox.poll-interval:10s}")
+    public void poll() {
+        wakeUp();
+    }
+
+    public void drain() {
+        try {
+            List<OutboundEmail> batch;
+            while (!(batch = claimBatch()).isEmpty()) {
+                send(batch);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Email outbox worker stopped", ex);
+        }
+    }
+
+    private List<OutboundEmail> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboundEmail> due = outboundEmailRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+            due.forEach(email -> email.claim(now, lease));
+            return due;
+        });
+    }
+
+    private void send(List<OutboundEmail> batch) {
+        SimpleMailMessage[] messages = batch.stream()
+                .map(OutboundEmail::toMailMessage)
+                .toArray(SimpleMailMessage[]::new);
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException ex) {
+            failures.putAll(ex.getFailedMessages());
+            if (failures.isEmpty()) {
+                markAllFailed(messages, failures, ex);
+            }
+        } catch (MailException ex) {
+            markAllFailed(messages, failures, ex);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < batch.size(); i++) {
+                OutboundEmail email = batch.get(i);
+                Exception failure = failures.get(messages[i]);
+                if (failure == null) {
+                    email.markSent(now);
+                } else {
+                    email.markFailed(failure.getMessage(), now, maxAttempts, initialBackoff);
+                    log.warn("Failed to send email {} to {} (attempt {}): {}",
+                            email.getId(), email.getTo(), email.getAttempts(), failure.getMessage());
+                }
+            }
+            outboundEmailRepository.saveAll(batch);
+        });
+    }
+
+    private void markAllFailed(SimpleMailMessage[] messages, Map<Object, Exception> failures, Exception cause) {
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
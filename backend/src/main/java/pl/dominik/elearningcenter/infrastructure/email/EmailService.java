@@ -2,13 +2,16 @@ package pl.dominik.elearningcenter.infrastructure.email;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+/**
+ * Composes outbound emails and queues them in the email outbox.
+ * Callers' transactions are never held open for SMTP; EmailOutboxDispatcher delivers after commit.
+ */
 @Service
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final EmailOutbox emailOutbox;
 
     @Value("${spring.mail.from:noreply@elearningcenter.com}")
     private String fromEmail;
@@ -16,8 +19,8 @@ public class EmailService {
     @Value("${app.frontend.url:http://localhost:3000}")
     private String frontendUrl;
 
-    public EmailService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public EmailService(EmailOutbox emailOutbox) {
+        this.emailOutbox = emailOutbox;
     }
 
     public void sendVerificationEmail(String toEmail, String username, String token) {
@@ -39,7 +42,7 @@ public class EmailService {
                 username, verificationLink
         ));
 
-        mailSender.send(message);
+        emailOutbox.enqueue(message);
     }
 
     public void sendPasswordResetEmail(String toEmail, String username, String token) {
@@ -61,7 +64,7 @@ public class EmailService {
                 username, resetLink
         ));
 
-        mailSender.send(message);
+        emailOutbox.enqueue(message);
     }
 
     public void sendWelcomeEmail(String toEmail, String username) {
@@ -80,7 +83,7 @@ public class EmailService {
                 username, frontendUrl
         ));
 
-        mailSender.send(message);
+        emailOutbox.enqueue(message);
     }
 
     public void sendCourseModerationEmail(
@@ -107,6 +110,6 @@ public class EmailService {
                 reason != null ? reason : "No reason provided"
         ));
 
-        mailSender.send(message);
+        emailOutbox.enqueue(message);
     }
 }
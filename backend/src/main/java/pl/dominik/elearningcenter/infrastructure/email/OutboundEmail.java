@@ -0,0 +1,145 @@
+package pl.dominik.elearningcenter.infrastructure.email;
+
+import jakarta.persistence.*;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Row of the email outbox. Written in the same transaction as the business change that triggers the email
+ * and delivered later by EmailOutboxDispatcher.
+ */
+@Entity
+@Table(name = "email_outbox", indexes = {
+        @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class OutboundEmail {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "from_address", nullable = false)
+    private String from;
+
+    @Column(name = "to_address", nullable = false)
+    private String to;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboundEmailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    protected OutboundEmail() {
+    }
+
+    private OutboundEmail(String from, String to, String subject, String body, LocalDateTime now) {
+        this.from = from;
+        this.to = to;
+        this.subject = subject;
+        this.body = body;
+        this.status = OutboundEmailStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    public static OutboundEmail queue(SimpleMailMessage message, LocalDateTime now) {
+        if (message.getTo() == null || message.getTo().length != 1) {
+            throw new IllegalArgumentException("Outbound email must have exactly one recipient");
+        }
+        return new OutboundEmail(message.getFrom(), message.getTo()[0], message.getSubject(), message.getText(), now);
+    }
+
+    /**
+     * Leases the row to one worker. If the worker dies, the row becomes due again once the lease expires.
+     */
+    public void claim(LocalDateTime now, Duration lease) {
+        this.status = OutboundEmailStatus.SENDING;
+        this.nextAttemptAt = now.plus(lease);
+    }
+
+    /**
+     * Records delivery and drops the body, so password reset and verification links are not kept at rest.
+     */
+    public void markSent(LocalDateTime now) {
+        this.status = OutboundEmailStatus.SENT;
+        this.body = "";
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * Schedules a retry with exponential backoff, or gives up after maxAttempts.
+     */
+    public void markFailed(String error, LocalDateTime now, int maxAttempts, Duration initialBackoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = OutboundEmailStatus.FAILED;
+            return;
+        }
+        this.status = OutboundEmailStatus.PENDING;
+        this.nextAttemptAt = now.plus(initialBackoff.multipliedBy(1L << (attempts - 1)));
+    }
+
+    public SimpleMailMessage toMailMessage() {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(to);
+        message.setSubject(subject);
+        message.setText(body);
+        return message;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public OutboundEmailStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
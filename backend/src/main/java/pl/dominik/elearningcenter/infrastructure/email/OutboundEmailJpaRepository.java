@@ -0,0 +1,37 @@
+package pl.dominik.elearningcenter.infrastructure.email;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+interface OutboundEmailJpaRepository extends JpaRepository<OutboundEmail, Long> {
+
+    /**
+     * Locks due rows; lock timeout -2 is SKIP LOCKED, so concurrent workers claim disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboundEmail e " +
+            "WHERE e.status IN (pl.dominik.elearningcenter.infrastructure.email.OutboundEmailStatus.PENDING, " +
+            "pl.dominik.elearningcenter.infrastructure.email.OutboundEmailStatus.SENDING) " +
+            "AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<OutboundEmail> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(OutboundEmailStatus status);
+
+    @Modifying
+    @Query("DELETE FROM OutboundEmail e " +
+            "WHERE e.status IN (pl.dominik.elearningcenter.infrastructure.email.OutboundEmailStatus.SENT, " +
+            "pl.dominik.elearningcenter.infrastructure.email.OutboundEmailStatus.FAILED) " +
+            "AND e.createdAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,8 @@
+package pl.dominik.elearningcenter.infrastructure.email;
+
+public enum OutboundEmailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
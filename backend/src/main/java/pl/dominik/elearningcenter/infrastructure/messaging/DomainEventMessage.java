@@ -0,0 +1,16 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import java.time.LocalDateTime;
+
+/**
+ * Serialized integration event as handed to a DomainEventTransport.
+ * id is the outbox row id and doubles as the message id consumers use for deduplication.
+ */
+public record DomainEventMessage(
+        Long id,
+        String eventType,
+        String routingKey,
+        String payload,
+        LocalDateTime occurredOn
+) {
+}
@@ -0,0 +1,41 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes domain event outbox rows that were published longer ago than the retention period;
+ * until then they remain available for tracing a delivery. FAILED rows are kept for inspection.
+ */
+@Component
+public class DomainEventOutboxCleanupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventOutboxCleanupJob.class);
+
+    private final OutboxEventJpaRepository outboxEventRepository;
+    private final Duration retention;
+
+    public DomainEventOutboxCleanupJob(
+            OutboxEventJpaRepository outboxEventRepository,
+            @Value("${app.events.outbox.retention:7d}") Duration retention
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${app.events.outbox.cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void deletePublished() {
+        int deleted = outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Deleted {} published domain event(s) older than {}", deleted, retention);
+        }
+    }
+}
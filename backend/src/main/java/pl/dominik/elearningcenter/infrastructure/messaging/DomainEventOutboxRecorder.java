@@ -0,0 +1,54 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import pl.dominik.elearningcenter.domain.shared.event.IntegrationEvent;
+
+/**
+ * Writes every IntegrationEvent to the domain event outbox inside the publishing transaction,
+ * so the event is stored if and only if the business change commits.
+ * After commit the relay is woken up to forward it to the broker.
+ */
+@Component
+public class DomainEventOutboxRecorder {
+
+    private final OutboxEventJpaRepository outboxEventRepository;
+    private final DomainEventOutboxRelay relay;
+    private final ObjectMapper objectMapper;
+
+    public DomainEventOutboxRecorder(
+            OutboxEventJpaRepository outboxEventRepository,
+            DomainEventOutboxRelay relay,
+            ObjectMapper objectMapper
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.relay = relay;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void record(IntegrationEvent event) {
+        outboxEventRepository.save(new OutboxEvent(
+                event.getClass().getSimpleName(),
+                event.routingKey(),
+                serialize(event),
+                event.occurredOn()
+        ));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void afterCommit(IntegrationEvent event) {
+        relay.wakeUp();
+    }
+
+    private String serialize(IntegrationEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize domain event " + event, ex);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Forwards recorded domain events from the outbox to the configured DomainEventTransport.
+ * A single relay thread per instance claims batches in insertion order (SKIP LOCKED across instances),
+ * publishes them off the request thread and retries failures with exponential backoff.
+ * Delivery is at-least-once; consumers deduplicate on the message id.
+ */
+@Component
+public class DomainEventOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventOutboxRelay.class);
+
+    private final OutboxEventJpaRepository outboxEventRepository;
+    private final DomainEventTransport transport;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor worker;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration lease;
+
+    public DomainEventOutboxRelay(
+            OutboxEventJpaRepository outboxEventRepository,
+            DomainEventTransport transport,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.events.outbox.batch-size:100}") int batchSize,
+            @Value("${app.events.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.events.outbox.initial-backoff:5s}") Duration initialBackoff,
+            @Value("${app.events.outbox.lease:1m}") Duration lease
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transport = transport;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.lease = lease;
+
+        this.worker = new ThreadPoolTaskExecutor();
+        this.worker.setCorePoolSize(1);
+        this.worker.setMaxPoolSize(1);
+        this.worker.setQueueCapacity(0);
+        this.worker.setThreadNamePrefix("domain-event-relay-");
+        this.worker.initialize();
+
+        Gauge.builder("domain.events.outbox.depth", outboxEventRepository, repository -> repository.countByStatus(OutboxEventStatus.PENDING))
+                .description("Domain events waiting to be published")
+                .register(meterRegistry);
+        Gauge.builder("domain.events.outbox.failed", outboxEventRepository, repository -> repository.countByStatus(OutboxEventStatus.FAILED))
+                .description("Domain events that exhausted all publish attempts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Schedules a drain on the relay thread. A wake-up that arrives while draining triggers one more pass.
+     */
+    public void wakeUp() {
+        wakeUpRequested.set(true);
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            worker.execute(() -> {
+                try {
+                    while (wakeUpRequested.getAndSet(false)) {
+                        drain();
+                    }
+                } finally {
+                    draining.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            draining.set(false);
+        }
+    }
+
+    /**
+     * Picks up retries whose backoff has elapsed and events recorded by other instances.
+     */
+    @Scheduled(fixedDelayString = "${app.events.outbox.poll-interval:5s}")
+    public void poll() {
+        wakeUp();
+    }
+
+    public void drain() {
+        try {
+            List<OutboxEvent> batch;
+            while (!(batch = claimBatch()).isEmpty()) {
+                publish(batch);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Domain event relay stopped", ex);
+        }
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> due = outboxEventRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+            due.forEach(event -> event.claim(now, lease));
+            return due;
+        });
+    }
+
+    private void publish(List<OutboxEvent> batch) {
+        for (OutboxEvent event : batch) {
+            try {
+                transport.publish(event.toMessage());
+                event.markPublished(LocalDateTime.now());
+            } catch (RuntimeException ex) {
+                event.markFailed(ex.getMessage(), LocalDateTime.now(), maxAttempts, initialBackoff);
+                log.warn("Failed to publish {} {} (attempt {}): {}",
+                        event.getEventType(), event.getId(), event.getAttempts(), ex.getMessage());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.saveAll(batch));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
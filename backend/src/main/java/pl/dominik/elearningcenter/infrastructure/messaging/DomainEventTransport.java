@@ -0,0 +1,10 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+/**
+ * Delivers relayed domain events to a message broker.
+ * Implementations throw on failure; the relay then retries the message.
+ */
+public interface DomainEventTransport {
+
+    void publish(DomainEventMessage message);
+}
@@ -0,0 +1,60 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport for tests and local runs without a broker.
+ * Hands every published message to registered subscribers on the relay thread and keeps
+ * only the most recent ones for inspection, so a long broker-less run does not grow without bound.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.transport", havingValue = "in-memory")
+public class InMemoryDomainEventTransport implements DomainEventTransport {
+
+    private final Deque<DomainEventMessage> published = new ArrayDeque<>();
+    private final List<Consumer<DomainEventMessage>> subscribers = new CopyOnWriteArrayList<>();
+    private final int maxRetained;
+
+    public InMemoryDomainEventTransport(@Value("${app.events.in-memory.max-retained:1000}") int maxRetained) {
+        this.maxRetained = maxRetained;
+    }
+
+    @Override
+    public void publish(DomainEventMessage message) {
+        retain(message);
+        subscribers.forEach(subscriber -> subscriber.accept(message));
+    }
+
+    public void subscribe(Consumer<DomainEventMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public synchronized List<DomainEventMessage> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        synchronized (this) {
+            published.clear();
+        }
+        subscribers.clear();
+    }
+
+    private synchronized void retain(DomainEventMessage message) {
+        if (maxRetained <= 0) {
+            return;
+        }
+        if (published.size() == maxRetained) {
+            published.removeFirst();
+        }
+        published.addLast(message);
+    }
+}
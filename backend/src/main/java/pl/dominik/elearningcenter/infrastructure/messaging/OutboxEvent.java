@@ -0,0 +1,128 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import jakarta.persistence.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Row of the domain event outbox. Written in the transaction that raised the event
+ * and relayed to the message broker by DomainEventOutboxRelay after commit.
+ */
+@Entity
+@Table(name = "domain_event_outbox", indexes = {
+        @Index(name = "idx_domain_event_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class OutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "routing_key", nullable = false, length = 100)
+    private String routingKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "occurred_on", nullable = false)
+    private LocalDateTime occurredOn;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    protected OutboxEvent() {
+    }
+
+    public OutboxEvent(String eventType, String routingKey, String payload, LocalDateTime occurredOn) {
+        this.eventType = eventType;
+        this.routingKey = routingKey;
+        this.payload = payload;
+        this.occurredOn = occurredOn;
+        this.status = OutboxEventStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = occurredOn;
+    }
+
+    /**
+     * Leases the row to the relay. If the relay dies, the row becomes due again once the lease expires.
+     */
+    public void claim(LocalDateTime now, Duration lease) {
+        this.status = OutboxEventStatus.PUBLISHING;
+        this.nextAttemptAt = now.plus(lease);
+    }
+
+    public void markPublished(LocalDateTime now) {
+        this.status = OutboxEventStatus.PUBLISHED;
+        this.publishedAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * Schedules a retry with exponential backoff, or gives up after maxAttempts.
+     */
+    public void markFailed(String error, LocalDateTime now, int maxAttempts, Duration initialBackoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxEventStatus.FAILED;
+            return;
+        }
+        this.status = OutboxEventStatus.PENDING;
+        this.nextAttemptAt = now.plus(initialBackoff.multipliedBy(1L << (attempts - 1)));
+    }
+
+    public DomainEventMessage toMessage() {
+        return new DomainEventMessage(id, eventType, routingKey, payload, occurredOn);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OutboxEventStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
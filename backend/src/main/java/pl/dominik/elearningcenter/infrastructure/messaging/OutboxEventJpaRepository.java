@@ -0,0 +1,36 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks due rows in insertion order; lock timeout -2 is SKIP LOCKED, so relays on other instances skip them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e " +
+            "WHERE e.status IN (pl.dominik.elearningcenter.infrastructure.messaging.OutboxEventStatus.PENDING, " +
+            "pl.dominik.elearningcenter.infrastructure.messaging.OutboxEventStatus.PUBLISHING) " +
+            "AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(OutboxEventStatus status);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e " +
+            "WHERE e.status = pl.dominik.elearningcenter.infrastructure.messaging.OutboxEventStatus.PUBLISHED " +
+            "AND e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,8 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+public enum OutboxEventStatus {
+    PENDING,
+    PUBLISHING,
+    PUBLISHED,
+    FAILED
+}
@@ -0,0 +1,99 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes domain events to the topic exchange declared in RabbitEventBusConfig, routed by event routing key.
+ * Requires correlated publisher confirms: publish() blocks until the broker acks the message and throws if it
+ * is nacked or not confirmed in time, so the relay only marks an event published once the broker has taken
+ * responsibility for it. Consumers bind their own queues, so an event no queue is bound for yet is returned
+ * as unroutable; that is logged and counted as delivered, since retrying cannot give it a route.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.transport", havingValue = "rabbit", matchIfMissing = true)
+public class RabbitDomainEventTransport implements DomainEventTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(RabbitDomainEventTransport.class);
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final Duration confirmTimeout;
+    private final Counter unroutable;
+
+    public RabbitDomainEventTransport(
+            RabbitTemplate rabbitTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.events.rabbit.exchange:elearning.domain-events}") String exchange,
+            @Value("${app.events.rabbit.confirm-timeout:10s}") Duration confirmTimeout
+    ) {
+        if (!rabbitTemplate.getConnectionFactory().isPublisherConfirms()
+                || !rabbitTemplate.getConnectionFactory().isPublisherReturns()) {
+            throw new IllegalStateException("Domain events need spring.rabbitmq.publisher-confirm-type=correlated "
+                    + "and spring.rabbitmq.publisher-returns=true");
+        }
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.confirmTimeout = confirmTimeout;
+        this.unroutable = Counter.builder("domain.events.unroutable")
+                .description("Domain events the exchange accepted but no queue was bound for")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(DomainEventMessage event) {
+        Message message = MessageBuilder.withBody(event.payload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(String.valueOf(event.id()))
+                .setType(event.eventType())
+                .setTimestamp(Date.from(event.occurredOn().atZone(ZoneId.systemDefault()).toInstant()))
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+
+        CorrelationData correlation = new CorrelationData(String.valueOf(event.id()));
+        rabbitTemplate.send(exchange, event.routingKey(), message, correlation);
+
+        CorrelationData.Confirm confirm = awaitConfirm(correlation);
+        if (!confirm.isAck()) {
+            throw new AmqpException("Broker rejected event " + event.id() + ": " + confirm.getReason());
+        }
+        ReturnedMessage returned = correlation.getReturned();
+        if (returned != null) {
+            unroutable.increment();
+            log.warn("Event {} ({}) was not routed to any queue: {}", event.id(), event.routingKey(), returned.getReplyText());
+        }
+    }
+
+    private CorrelationData.Confirm awaitConfirm(CorrelationData correlation) {
+        try {
+            return correlation.getFuture().get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AmqpException("Interrupted while waiting for publisher confirm of event " + correlation.getId(), ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new AmqpException("No publisher confirm for event " + correlation.getId(), ex);
+        }
+    }
+}
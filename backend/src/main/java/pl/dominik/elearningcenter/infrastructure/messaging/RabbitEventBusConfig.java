@@ -0,0 +1,21 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Declares the durable topic exchange for domain events.
+ * Consumers bind their own queues with routing patterns such as "enrollment.*".
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.events.transport", havingValue = "rabbit", matchIfMissing = true)
+public class RabbitEventBusConfig {
+
+    @Bean
+    public TopicExchange domainEventsExchange(@Value("${app.events.rabbit.exchange:elearning.domain-events}") String exchange) {
+        return new TopicExchange(exchange, true, false);
+    }
+}
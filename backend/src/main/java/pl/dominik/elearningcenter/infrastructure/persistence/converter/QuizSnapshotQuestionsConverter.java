@@ -0,0 +1,38 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot;
+
+import java.util.List;
+
+@Converter(autoApply = false)
+public class QuizSnapshotQuestionsConverter implements AttributeConverter<List<QuizSnapshot.QuestionSnapshot>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<QuizSnapshot.QuestionSnapshot>> TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<QuizSnapshot.QuestionSnapshot> attribute) {
+        try {
+            return MAPPER.writeValueAsString(attribute == null ? List.of() : attribute);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize quiz snapshot questions", e);
+        }
+    }
+
+    @Override
+    public List<QuizSnapshot.QuestionSnapshot> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) {
+            return List.of();
+        }
+        try {
+            return List.copyOf(MAPPER.readValue(dbData, TYPE));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize quiz snapshot questions", e);
+        }
+    }
+}
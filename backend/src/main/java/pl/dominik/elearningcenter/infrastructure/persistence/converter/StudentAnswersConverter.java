@@ -0,0 +1,29 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
+import pl.dominik.elearningcenter.infrastructure.persistence.quiz.StudentAnswersCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Converter(autoApply = false)
+public class StudentAnswersConverter implements AttributeConverter<List<StudentAnswer>, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<StudentAnswer> attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return StudentAnswersCodec.encode(attribute);
+    }
+
+    @Override
+    public List<StudentAnswer> convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return new ArrayList<>();
+        }
+        return StudentAnswersCodec.decode(dbData);
+    }
+}
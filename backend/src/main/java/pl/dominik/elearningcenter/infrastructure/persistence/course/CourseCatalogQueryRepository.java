@@ -0,0 +1,102 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.course;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import pl.dominik.elearningcenter.application.course.dto.PublicCourseDTO;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-side queries for the public course catalog.
+ * Selects only the columns needed by {@link PublicCourseDTO} through a constructor expression and joins
+ * the instructor username in the same statement, so no Course entities are hydrated or tracked.
+ * A course whose instructor account no longer exists is still listed, with a null instructor name.
+ */
+@Repository
+public class CourseCatalogQueryRepository {
+
+    private static final String SELECT_PUBLIC_COURSE = """
+            SELECT new pl.dominik.elearningcenter.application.course.dto.PublicCourseDTO(
+                c.id, c.title.value, c.description.value, c.price.amount, c.price.currencyCode,
+                c.thumbnailUrl, c.category, c.level, u.username.value, c.published, c.createdAt,
+                c.sectionsCount, c.totalLessonsCount)
+            FROM Course c LEFT JOIN User u ON u.id = c.instructorId
+            """;
+
+    private static final String ORDER_BY_NEWEST = " ORDER BY c.createdAt DESC, c.id DESC";
+
+    private final EntityManager entityManager;
+
+    public CourseCatalogQueryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public Page<PublicCourseDTO> findPublished(String category, CourseLevel level, Pageable pageable) {
+        String filters = publishedFilters(category, level);
+
+        TypedQuery<PublicCourseDTO> query = entityManager.createQuery(
+                SELECT_PUBLIC_COURSE + filters + ORDER_BY_NEWEST, PublicCourseDTO.class);
+        bindFilters(query, category, level);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+
+        TypedQuery<Long> countQuery = entityManager.createQuery(
+                "SELECT COUNT(c) FROM Course c" + filters, Long.class);
+        bindFilters(countQuery, category, level);
+
+        return new PageImpl<>(query.getResultList(), pageable, countQuery.getSingleResult());
+    }
+
+    public List<PublicCourseDTO> findPublishedBefore(
+            String category,
+            CourseLevel level,
+            LocalDateTime createdAt,
+            Long id,
+            int limit
+    ) {
+        String filters = publishedFilters(category, level);
+        if (createdAt != null && id != null) {
+            filters += " AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))";
+        }
+
+        TypedQuery<PublicCourseDTO> query = entityManager.createQuery(
+                SELECT_PUBLIC_COURSE + filters + ORDER_BY_NEWEST, PublicCourseDTO.class);
+        bindFilters(query, category, level);
+        if (createdAt != null && id != null) {
+            query.setParameter("createdAt", createdAt);
+            query.setParameter("id", id);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    private String publishedFilters(String category, CourseLevel level) {
+        StringBuilder filters = new StringBuilder(" WHERE c.published = true");
+        if (hasCategory(category)) {
+            filters.append(" AND c.category = :category");
+        }
+        if (level != null) {
+            filters.append(" AND c.level = :level");
+        }
+        return filters.toString();
+    }
+
+    private void bindFilters(TypedQuery<?> query, String category, CourseLevel level) {
+        if (hasCategory(category)) {
+            query.setParameter("category", category);
+        }
+        if (level != null) {
+            query.setParameter("level", level);
+        }
+    }
+
+    private boolean hasCategory(String category) {
+        return category != null && !category.trim().isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.course;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import pl.dominik.elearningcenter.domain.course.CourseRepository;
+
+/**
+ * Keeps the denormalized sections_count / total_lessons_count columns on courses in sync
+ * with the sections and lessons tables.
+ * Backfills on startup (e.g. after the columns were introduced) and repairs any drift on a schedule.
+ */
+@Component
+public class CourseCountersRepairJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseCountersRepairJob.class);
+
+    private final CourseRepository courseRepository;
+    private final boolean backfillOnStartup;
+
+    public CourseCountersRepairJob(
+            CourseRepository courseRepository,
+            @Value("${app.course-counters.backfill-on-startup:true}") boolean backfillOnStartup
+    ) {
+        this.courseRepository = courseRepository;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        repair();
+    }
+
+    @Scheduled(cron = "${app.course-counters.repair-cron:0 0 3 * * *}")
+    @Transactional
+    public void repair() {
+        int repaired = courseRepository.recalculateStructureCounters();
+        if (repaired > 0) {
+            log.info("Repaired structure counters for {} course(s)", repaired);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import pl.dominik.elearningcenter.domain.course.Course;
@@ -19,10 +20,34 @@ interface CourseJpaRepository extends JpaRepository<Course, Long>, JpaSpecificat
     long countByPublished(boolean published);
     Optional<Course> findByIdAndInstructorId(Long id, Long instructorId);
 
+    @Query("SELECT c.id FROM Course c WHERE c.instructorId = :instructorId")
+    List<Long> findIdsByInstructorId(@Param("instructorId") Long instructorId);
+
     @Query("SELECT DISTINCT c.category FROM Course c WHERE c.category IS NOT NULL ORDER BY c.category")
     List<String> findAllDistinctCategories();
 
     @EntityGraph(attributePaths = {"sections"})
     @Query("SELECT c FROM Course c WHERE c.id = :id")
     Optional<Course> findWithSectionsAndLessonsById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = """
+            UPDATE courses c
+            SET sections_count = (SELECT COUNT(*) FROM sections s WHERE s.course_id = c.id),
+                total_lessons_count = (SELECT COUNT(*) FROM lessons l JOIN sections s ON l.section_id = s.id WHERE s.course_id = c.id),
+                version = version + 1
+            WHERE c.sections_count <> (SELECT COUNT(*) FROM sections s WHERE s.course_id = c.id)
+               OR c.total_lessons_count <> (SELECT COUNT(*) FROM lessons l JOIN sections s ON l.section_id = s.id WHERE s.course_id = c.id)
+            """, nativeQuery = true)
+    int recalculateStructureCounters();
+
+    @Query("""
+            SELECT c.totalLessonsCount FROM Lesson l JOIN l.section s JOIN s.course c
+            WHERE l.id = :lessonId AND s.id = :sectionId AND c.id = :courseId
+            """)
+    Optional<Integer> findTotalLessonsCountByLesson(
+            @Param("courseId") Long courseId,
+            @Param("sectionId") Long sectionId,
+            @Param("lessonId") Long lessonId
+    );
 }
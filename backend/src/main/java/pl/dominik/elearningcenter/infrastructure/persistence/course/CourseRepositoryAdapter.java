@@ -49,6 +49,11 @@ public class CourseRepositoryAdapter implements CourseRepository {
         return jpaRepository.findByInstructorId(instructorId, pageable);
     }
 
+    @Override
+    public List<Long> findIdsByInstructorId(Long instructorId) {
+        return jpaRepository.findIdsByInstructorId(instructorId);
+    }
+
     @Override
     public List<Course> findByCategory(String category) {
         return jpaRepository.findByCategory(category);
@@ -93,4 +98,14 @@ public class CourseRepositoryAdapter implements CourseRepository {
     public Optional<Course> findWithSectionsById(Long id) {
         return jpaRepository.findWithSectionsAndLessonsById(id);
     }
+
+    @Override
+    public int recalculateStructureCounters() {
+        return jpaRepository.recalculateStructureCounters();
+    }
+
+    @Override
+    public Optional<Integer> findTotalLessonsCountByLesson(Long courseId, Long sectionId, Long lessonId) {
+        return jpaRepository.findTotalLessonsCountByLesson(courseId, sectionId, lessonId);
+    }
 }
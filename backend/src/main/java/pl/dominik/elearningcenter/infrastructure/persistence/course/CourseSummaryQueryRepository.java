@@ -0,0 +1,61 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.course;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
+
+/**
+ * Read-side queries for the admin and instructor course listings, published or not.
+ * Rows are projected straight into section-less {@link CourseDTO}s, with the course-level quiz id taken
+ * from a subquery, so listing a page neither hydrates Course entities nor loads each course's quizzes.
+ */
+@Repository
+public class CourseSummaryQueryRepository {
+
+    private static final String SELECT_COURSE_SUMMARY = """
+            SELECT new pl.dominik.elearningcenter.application.course.dto.CourseDTO(
+                c.id, c.title.value, c.description.value, c.price.amount, c.price.currencyCode,
+                c.thumbnailUrl, c.category, c.level, c.instructorId, c.published, c.createdAt,
+                c.sectionsCount, c.totalLessonsCount,
+                (SELECT MIN(q.id) FROM Quiz q
+                 WHERE q.course = c AND q.section IS NULL AND q.lesson IS NULL))
+            FROM Course c
+            """;
+
+    private static final String ORDER_BY_ID = " ORDER BY c.id";
+
+    private final EntityManager entityManager;
+
+    public CourseSummaryQueryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public Page<CourseDTO> findAll(Pageable pageable) {
+        TypedQuery<CourseDTO> query = entityManager.createQuery(SELECT_COURSE_SUMMARY + ORDER_BY_ID, CourseDTO.class);
+        TypedQuery<Long> countQuery = entityManager.createQuery("SELECT COUNT(c) FROM Course c", Long.class);
+        return page(query, countQuery, pageable);
+    }
+
+    public Page<CourseDTO> findByInstructorId(Long instructorId, Pageable pageable) {
+        String filter = " WHERE c.instructorId = :instructorId";
+
+        TypedQuery<CourseDTO> query = entityManager.createQuery(
+                SELECT_COURSE_SUMMARY + filter + ORDER_BY_ID, CourseDTO.class);
+        query.setParameter("instructorId", instructorId);
+
+        TypedQuery<Long> countQuery = entityManager.createQuery("SELECT COUNT(c) FROM Course c" + filter, Long.class);
+        countQuery.setParameter("instructorId", instructorId);
+
+        return page(query, countQuery, pageable);
+    }
+
+    private Page<CourseDTO> page(TypedQuery<CourseDTO> query, TypedQuery<Long> countQuery, Pageable pageable) {
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        return new PageImpl<>(query.getResultList(), pageable, countQuery.getSingleResult());
+    }
+}
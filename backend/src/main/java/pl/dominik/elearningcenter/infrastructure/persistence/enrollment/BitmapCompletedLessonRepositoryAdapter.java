@@ -0,0 +1,105 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import jakarta.persistence.EntityManager;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import pl.dominik.elearningcenter.domain.enrollment.CompletedLesson;
+import pl.dominik.elearningcenter.domain.enrollment.CompletedLessonRepository;
+import pl.dominik.elearningcenter.domain.enrollment.exception.EnrollmentNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps each enrollment's completed lessons as one compressed bitmap on the enrollment row. Exists, count
+ * and list are bit operations on a single fetched column. Enrollments whose bitmap is still NULL (not yet
+ * migrated) are read from completed_lesson and converted on their next write.
+ * <p>
+ * Every new completion is also inserted into completed_lesson, so the row table stays complete and
+ * switching back to row storage loses nothing (see {@link CompletedLessonBitmapRollback}). The bitmap
+ * records no completion time, so completions read here come back without one.
+ */
+@Component
+@ConditionalOnProperty(name = "app.enrollments.completed-lessons.storage", havingValue = "bitmap")
+public class BitmapCompletedLessonRepositoryAdapter implements CompletedLessonRepository {
+
+    private final EntityManager entityManager;
+    private final CompletedLessonJpaRepository rowRepository;
+
+    public BitmapCompletedLessonRepositoryAdapter(EntityManager entityManager, CompletedLessonJpaRepository rowRepository) {
+        this.entityManager = entityManager;
+        this.rowRepository = rowRepository;
+    }
+
+    @Override
+    public CompletedLesson save(CompletedLesson completedLesson) {
+        saveIfAbsent(completedLesson);
+        return completedLesson;
+    }
+
+    @Override
+    public boolean saveIfAbsent(CompletedLesson completedLesson) {
+        Long enrollmentId = completedLesson.getEnrollmentId();
+        RoaringBitmap bitmap = load(enrollmentId, true);
+        if (!bitmap.checkedAdd(CompletedLessonBitmap.toBit(completedLesson.getLessonId()))) {
+            return false;
+        }
+        int updated = entityManager.createNativeQuery(
+                        "UPDATE enrollments SET completed_lessons_bitmap = :bitmap WHERE id = :id")
+                .setParameter("bitmap", CompletedLessonBitmap.encode(bitmap))
+                .setParameter("id", enrollmentId)
+                .executeUpdate();
+        if (updated == 0) {
+            throw new EnrollmentNotFoundException("Enrollment not found: " + enrollmentId);
+        }
+        rowRepository.insertIfAbsent(enrollmentId, completedLesson.getLessonId(), completedLesson.getCompletedAt());
+        return true;
+    }
+
+    @Override
+    public Optional<CompletedLesson> findByEnrollmentIdAndLessonId(Long enrollmentId, Long lessonId) {
+        return existsByEnrollmentIdAndLessonId(enrollmentId, lessonId)
+                ? Optional.of(CompletedLesson.restore(enrollmentId, lessonId))
+                : Optional.empty();
+    }
+
+    @Override
+    public List<CompletedLesson> findByEnrollmentId(Long enrollmentId) {
+        List<CompletedLesson> completedLessons = new ArrayList<>();
+        for (long lessonId : CompletedLessonBitmap.toLessonIds(load(enrollmentId, false))) {
+            completedLessons.add(CompletedLesson.restore(enrollmentId, lessonId));
+        }
+        return completedLessons;
+    }
+
+    @Override
+    public long countByEnrollmentId(Long enrollmentId) {
+        return load(enrollmentId, false).getLongCardinality();
+    }
+
+    @Override
+    public boolean existsByEnrollmentIdAndLessonId(Long enrollmentId, Long lessonId) {
+        return load(enrollmentId, false).contains(CompletedLessonBitmap.toBit(lessonId));
+    }
+
+    private RoaringBitmap load(Long enrollmentId, boolean forUpdate) {
+        List<?> result = entityManager.createNativeQuery(
+                        "SELECT completed_lessons_bitmap FROM enrollments WHERE id = :id" + (forUpdate ? " FOR UPDATE" : ""))
+                .setParameter("id", enrollmentId)
+                .getResultList();
+        if (result.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        byte[] bytes = (byte[]) result.get(0);
+        if (bytes != null) {
+            return CompletedLessonBitmap.decode(bytes);
+        }
+        List<Long> lessonIds = entityManager.createQuery(
+                        "SELECT c.lessonId FROM CompletedLesson c WHERE c.enrollmentId = :id", Long.class)
+                .setParameter("id", enrollmentId)
+                .getResultList();
+        return CompletedLessonBitmap.of(lessonIds);
+    }
+}
@@ -0,0 +1,62 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * Codec for the per-enrollment completion bitmap stored in {@code enrollments.completed_lessons_bitmap}.
+ * Bits are keyed by lesson id rather than position in the course, so reordering lessons never
+ * rewrites stored bitmaps; bits of removed lessons are dropped by the progress recalculation. Lesson ids of one course are allocated close together and land in
+ * the same Roaring container, which keeps a typical bitmap at a few dozen bytes.
+ */
+public final class CompletedLessonBitmap {
+
+    private CompletedLessonBitmap() {
+    }
+
+    public static RoaringBitmap decode(byte[] bytes) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        if (bytes == null || bytes.length == 0) {
+            return bitmap;
+        }
+        try {
+            bitmap.deserialize(ByteBuffer.wrap(bytes));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Corrupt completed lessons bitmap", ex);
+        }
+        return bitmap;
+    }
+
+    public static byte[] encode(RoaringBitmap bitmap) {
+        bitmap.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buffer);
+        return buffer.array();
+    }
+
+    public static RoaringBitmap of(Collection<Long> lessonIds) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        lessonIds.forEach(lessonId -> bitmap.add(toBit(lessonId)));
+        return bitmap;
+    }
+
+    public static long[] toLessonIds(RoaringBitmap bitmap) {
+        long[] lessonIds = new long[bitmap.getCardinality()];
+        int i = 0;
+        for (int bit : bitmap) {
+            lessonIds[i++] = Integer.toUnsignedLong(bit);
+        }
+        return lessonIds;
+    }
+
+    public static int toBit(Long lessonId) {
+        if (lessonId < 0 || lessonId > 0xFFFF_FFFFL) {
+            throw new IllegalArgumentException("Lesson id out of bitmap range: " + lessonId);
+        }
+        return (int) lessonId.longValue();
+    }
+}
@@ -0,0 +1,132 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts completed_lesson rows into per-enrollment bitmaps once bitmap storage is switched on.
+ * Runs on a background thread after startup, one locked chunk of enrollments per transaction, and
+ * only touches enrollments whose bitmap is still NULL, so an interrupted run simply continues on the
+ * next start. The completed_lesson rows are left in place and bitmap storage keeps writing them, so
+ * switching back to row storage only has to drop the bitmaps ({@link CompletedLessonBitmapRollback}).
+ */
+@Component
+@ConditionalOnProperty(name = "app.enrollments.completed-lessons.storage", havingValue = "bitmap")
+public class CompletedLessonBitmapMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(CompletedLessonBitmapMigrator.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor worker;
+    private final boolean migrateOnStartup;
+    private final int batchSize;
+
+    public CompletedLessonBitmapMigrator(
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.enrollments.completed-lessons.migrate-on-startup:true}") boolean migrateOnStartup,
+            @Value("${app.enrollments.completed-lessons.migration-batch-size:1000}") int batchSize
+    ) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.migrateOnStartup = migrateOnStartup;
+        this.batchSize = batchSize;
+
+        this.worker = new ThreadPoolTaskExecutor();
+        this.worker.setCorePoolSize(1);
+        this.worker.setMaxPoolSize(1);
+        this.worker.setQueueCapacity(1);
+        this.worker.setThreadNamePrefix("completed-lessons-migration-");
+        this.worker.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (migrateOnStartup) {
+            worker.execute(this::migrate);
+        }
+    }
+
+    public long migrate() {
+        long migrated = 0;
+        try {
+            List<Long> chunk = migrateChunk(0L, batchSize);
+            while (!chunk.isEmpty()) {
+                migrated += chunk.size();
+                log.info("Migrated completed lessons of {} enrollment(s) to bitmaps", migrated);
+                chunk = migrateChunk(chunk.get(chunk.size() - 1), batchSize);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Completed lessons migration stopped after {} enrollment(s), will resume on the next start", migrated, ex);
+        }
+        return migrated;
+    }
+
+    /**
+     * Migrates the next chunk of enrollments after {@code afterId} and returns their ids; empty when done.
+     */
+    List<Long> migrateChunk(Long afterId, int limit) {
+        List<Long> migrated = transactionTemplate.execute(status -> {
+            List<Long> ids = lockUnmigratedIds(afterId, limit);
+            if (ids.isEmpty()) {
+                return ids;
+            }
+            Map<Long, RoaringBitmap> bitmaps = new HashMap<>();
+            ids.forEach(id -> bitmaps.put(id, new RoaringBitmap()));
+            List<Object[]> rows = entityManager.createQuery(
+                            "SELECT c.enrollmentId, c.lessonId FROM CompletedLesson c WHERE c.enrollmentId IN :ids", Object[].class)
+                    .setParameter("ids", ids)
+                    .getResultList();
+            for (Object[] row : rows) {
+                bitmaps.get((Long) row[0]).add(CompletedLessonBitmap.toBit((Long) row[1]));
+            }
+            bitmaps.forEach((id, bitmap) -> entityManager.createNativeQuery("""
+                            UPDATE enrollments
+                            SET completed_lessons_bitmap = :bitmap, completed_lessons_count = :completed
+                            WHERE id = :id
+                            """)
+                    .setParameter("bitmap", CompletedLessonBitmap.encode(bitmap))
+                    .setParameter("completed", bitmap.getCardinality())
+                    .setParameter("id", id)
+                    .executeUpdate());
+            return ids;
+        });
+        return migrated == null ? List.of() : migrated;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> lockUnmigratedIds(Long afterId, int limit) {
+        List<Number> ids = entityManager.createNativeQuery("""
+                        SELECT id FROM enrollments
+                        WHERE completed_lessons_bitmap IS NULL AND id > :afterId
+                        ORDER BY id
+                        LIMIT :limit
+                        FOR UPDATE
+                        """)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
@@ -0,0 +1,121 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Undoes bitmap storage once row storage is switched back on. A bitmap left on an enrollment would
+ * keep the progress query and the recalculation reading it while new completions go to rows, so each
+ * bitmap is dropped after any lesson it holds without a completed_lesson row (completions from before
+ * bitmap storage wrote rows too) is inserted, stamped with the rollback time. Runs like the migrator:
+ * on a background thread, one locked chunk per transaction, resumable.
+ */
+@Component
+@ConditionalOnProperty(name = "app.enrollments.completed-lessons.storage", havingValue = "rows", matchIfMissing = true)
+public class CompletedLessonBitmapRollback {
+
+    private static final Logger log = LoggerFactory.getLogger(CompletedLessonBitmapRollback.class);
+
+    private final EntityManager entityManager;
+    private final CompletedLessonJpaRepository rowRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor worker;
+    private final boolean migrateOnStartup;
+    private final int batchSize;
+
+    public CompletedLessonBitmapRollback(
+            EntityManager entityManager,
+            CompletedLessonJpaRepository rowRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.enrollments.completed-lessons.migrate-on-startup:true}") boolean migrateOnStartup,
+            @Value("${app.enrollments.completed-lessons.migration-batch-size:1000}") int batchSize
+    ) {
+        this.entityManager = entityManager;
+        this.rowRepository = rowRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.migrateOnStartup = migrateOnStartup;
+        this.batchSize = batchSize;
+
+        this.worker = new ThreadPoolTaskExecutor();
+        this.worker.setCorePoolSize(1);
+        this.worker.setMaxPoolSize(1);
+        this.worker.setQueueCapacity(1);
+        this.worker.setThreadNamePrefix("completed-lessons-rollback-");
+        this.worker.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (migrateOnStartup) {
+            worker.execute(this::rollBack);
+        }
+    }
+
+    public long rollBack() {
+        long rolledBack = 0;
+        try {
+            List<Long> chunk = rollBackChunk(batchSize);
+            while (!chunk.isEmpty()) {
+                rolledBack += chunk.size();
+                log.info("Moved completed lessons of {} enrollment(s) back from bitmaps to rows", rolledBack);
+                chunk = rollBackChunk(batchSize);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Completed lessons rollback stopped after {} enrollment(s), will resume on the next start", rolledBack, ex);
+        }
+        return rolledBack;
+    }
+
+    /**
+     * Moves the next chunk of bitmaps back to rows and returns the enrollment ids; empty when none are left.
+     * Dropped bitmaps leave the queried set, so no checkpoint is needed.
+     */
+    List<Long> rollBackChunk(int limit) {
+        List<Long> rolledBack = transactionTemplate.execute(status -> {
+            @SuppressWarnings("unchecked")
+            List<Object[]> rows = entityManager.createNativeQuery("""
+                            SELECT id, completed_lessons_bitmap FROM enrollments
+                            WHERE completed_lessons_bitmap IS NOT NULL
+                            ORDER BY id
+                            LIMIT :limit
+                            FOR UPDATE
+                            """)
+                    .setParameter("limit", limit)
+                    .getResultList();
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = rows.stream().map(row -> ((Number) row[0]).longValue()).toList();
+            for (int i = 0; i < rows.size(); i++) {
+                RoaringBitmap bitmap = CompletedLessonBitmap.decode((byte[]) rows.get(i)[1]);
+                for (long lessonId : CompletedLessonBitmap.toLessonIds(bitmap)) {
+                    rowRepository.insertIfAbsent(ids.get(i), lessonId, now);
+                }
+            }
+            if (!ids.isEmpty()) {
+                entityManager.createNativeQuery("UPDATE enrollments SET completed_lessons_bitmap = NULL WHERE id IN :ids")
+                        .setParameter("ids", ids)
+                        .executeUpdate();
+            }
+            return ids;
+        });
+        return rolledBack == null ? List.of() : rolledBack;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
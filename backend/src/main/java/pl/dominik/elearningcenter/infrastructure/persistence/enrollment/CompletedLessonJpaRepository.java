@@ -1,8 +1,12 @@
 package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import pl.dominik.elearningcenter.domain.enrollment.CompletedLesson;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +15,16 @@ public interface CompletedLessonJpaRepository extends JpaRepository<CompletedLes
     boolean existsByEnrollmentIdAndLessonId(Long enrollmentId, Long lessonId);
     long countByEnrollmentId(Long enrollmentId);
     List<CompletedLesson> findByEnrollmentId(Long enrollmentId);
+
+    @Modifying
+    @Query("""
+            INSERT INTO CompletedLesson (enrollmentId, lessonId, completedAt)
+            VALUES (:enrollmentId, :lessonId, :completedAt)
+            ON CONFLICT DO NOTHING
+            """)
+    int insertIfAbsent(
+            @Param("enrollmentId") Long enrollmentId,
+            @Param("lessonId") Long lessonId,
+            @Param("completedAt") LocalDateTime completedAt
+    );
 }
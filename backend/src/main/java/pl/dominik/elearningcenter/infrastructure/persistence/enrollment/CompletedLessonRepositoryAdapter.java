@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import pl.dominik.elearningcenter.domain.enrollment.CompletedLesson;
 import pl.dominik.elearningcenter.domain.enrollment.CompletedLessonRepository;
@@ -8,6 +9,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Component
+@ConditionalOnProperty(name = "app.enrollments.completed-lessons.storage", havingValue = "rows", matchIfMissing = true)
 public class CompletedLessonRepositoryAdapter implements CompletedLessonRepository {
     private final CompletedLessonJpaRepository jpaRepository;
 
@@ -20,6 +22,15 @@ public class CompletedLessonRepositoryAdapter implements CompletedLessonReposito
         return jpaRepository.save(completedLesson);
     }
 
+    @Override
+    public boolean saveIfAbsent(CompletedLesson completedLesson) {
+        return jpaRepository.insertIfAbsent(
+                completedLesson.getEnrollmentId(),
+                completedLesson.getLessonId(),
+                completedLesson.getCompletedAt()
+        ) == 1;
+    }
+
     @Override
     public Optional<CompletedLesson> findByEnrollmentIdAndLessonId(Long enrollmentId, Long lessonId) {
         return jpaRepository.findByEnrollmentIdAndLessonId(enrollmentId, lessonId);
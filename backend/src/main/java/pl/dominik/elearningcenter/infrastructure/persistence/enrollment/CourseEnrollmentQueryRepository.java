@@ -0,0 +1,62 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import pl.dominik.elearningcenter.application.enrollment.dto.CourseEnrollmentDTO;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read-side query for the instructor's view of a course's enrollments, joined with the student's
+ * username and email. Pages are keyset-based on the enrollment id; the export variant reads the
+ * same projection through a forward-only cursor with a bounded fetch size, so no entity is managed
+ * and memory use stays flat however many students the course has.
+ */
+@Repository
+public class CourseEnrollmentQueryRepository {
+
+    private static final String SELECT_COURSE_ENROLLMENTS = """
+            SELECT new pl.dominik.elearningcenter.application.enrollment.dto.CourseEnrollmentDTO(
+                e.id, e.studentId, u.username.value, u.email.value,
+                e.progress.percentage, e.enrolledAt, e.completedAt, e.status
+            )
+            FROM Enrollment e
+            JOIN User u ON u.id = e.studentId
+            WHERE e.courseId = :courseId AND e.id > :afterId
+            ORDER BY e.id
+            """;
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public CourseEnrollmentQueryRepository(
+            EntityManager entityManager,
+            @Value("${app.enrollments.export.fetch-size:500}") int fetchSize
+    ) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    public List<CourseEnrollmentDTO> findPage(Long courseId, Long afterId, int limit) {
+        return entityManager.createQuery(SELECT_COURSE_ENROLLMENTS, CourseEnrollmentDTO.class)
+                .setParameter("courseId", courseId)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Must be consumed and closed inside the caller's transaction.
+     */
+    public Stream<CourseEnrollmentDTO> streamByCourseId(Long courseId) {
+        return entityManager.createQuery(SELECT_COURSE_ENROLLMENTS, CourseEnrollmentDTO.class)
+                .setParameter("courseId", courseId)
+                .setParameter("afterId", 0L)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,6 +1,11 @@
 package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
 
 import java.util.List;
@@ -14,4 +19,92 @@ interface EnrollmentJpaRepository extends JpaRepository<Enrollment, Long> {
     Optional<Enrollment> findByStudentIdAndCourseId(Long studentId, Long courseId);
 
     boolean existsByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    @Query("SELECT e.courseId FROM Enrollment e WHERE e.studentId = :studentId")
+    List<Long> findCourseIdsByStudentId(@Param("studentId") Long studentId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Enrollment e WHERE e.id = :id")
+    Optional<Enrollment> findByIdForUpdate(@Param("id") Long id);
+
+    long countByCourseId(Long courseId);
+
+    @Query(value = """
+            SELECT l.id FROM lessons l
+            JOIN sections s ON s.id = l.section_id
+            WHERE s.course_id = :courseId
+            """, nativeQuery = true)
+    List<Long> findLessonIdsByCourseId(@Param("courseId") Long courseId);
+
+    @Query(value = """
+            SELECT id, completed_lessons_bitmap, completed_lessons_count FROM enrollments
+            WHERE course_id = :courseId AND id > :afterId AND id <= :upToId
+              AND completed_lessons_bitmap IS NOT NULL
+            """, nativeQuery = true)
+    List<Object[]> findCompletedLessonBitmaps(
+            @Param("courseId") Long courseId,
+            @Param("afterId") Long afterId,
+            @Param("upToId") Long upToId
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE enrollments SET completed_lessons_bitmap = :bitmap, completed_lessons_count = :completed
+            WHERE id = :id
+            """, nativeQuery = true)
+    int updateCompletedLessonBitmap(
+            @Param("id") Long id,
+            @Param("bitmap") byte[] bitmap,
+            @Param("completed") int completed
+    );
+
+    @Query(value = """
+            SELECT id FROM enrollments
+            WHERE course_id = :courseId AND id > :afterId
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockNextIdsByCourseId(
+            @Param("courseId") Long courseId,
+            @Param("afterId") Long afterId,
+            @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query(value = """
+            MERGE INTO enrollments e
+            USING (
+                SELECT en.id AS enrollment_id,
+                    CASE WHEN en.completed_lessons_bitmap IS NULL THEN COUNT(s.id)
+                         ELSE COALESCE(en.completed_lessons_count, 0) END AS completed
+                FROM enrollments en
+                LEFT JOIN completed_lesson cl ON cl.enrollment_id = en.id AND en.completed_lessons_bitmap IS NULL
+                LEFT JOIN lessons l ON l.id = cl.lesson_id
+                LEFT JOIN sections s ON s.id = l.section_id AND s.course_id = en.course_id
+                WHERE en.course_id = :courseId AND en.id > :afterId AND en.id <= :upToId
+                GROUP BY en.id, en.completed_lessons_count, en.completed_lessons_bitmap
+            ) agg
+            ON e.id = agg.enrollment_id
+            WHEN MATCHED THEN UPDATE SET
+                completed_lessons_count = agg.completed,
+                total_lessons_count = :totalLessons,
+                percentage = CASE WHEN :totalLessons > 0 THEN LEAST(100, agg.completed * 100 / :totalLessons) ELSE 0 END,
+                status = CASE
+                    WHEN e.status = 'DROPPED' THEN e.status
+                    WHEN :totalLessons > 0 AND agg.completed >= :totalLessons THEN 'COMPLETED'
+                    ELSE 'ACTIVE'
+                END,
+                completed_at = CASE
+                    WHEN e.status = 'DROPPED' THEN e.completed_at
+                    WHEN :totalLessons > 0 AND agg.completed >= :totalLessons THEN COALESCE(e.completed_at, CURRENT_TIMESTAMP)
+                    ELSE NULL
+                END
+            """, nativeQuery = true)
+    int recalculateProgress(
+            @Param("courseId") Long courseId,
+            @Param("afterId") Long afterId,
+            @Param("upToId") Long upToId,
+            @Param("totalLessons") int totalLessons
+    );
 }
@@ -0,0 +1,81 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+import pl.dominik.elearningcenter.application.enrollment.dto.EnrollmentProgressDTO;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Read-side query for the learner dashboard.
+ * Fetches every enrollment of a student with its course title, progress and completed lesson ids
+ * in one statement (one row per completed lesson, ordered by enrollment) and folds the rows into
+ * one DTO per enrollment without hydrating any entities. Enrollments that carry a completion bitmap
+ * return a single row and the lesson ids are decoded from it instead of joined.
+ */
+@Repository
+public class EnrollmentProgressQueryRepository {
+
+    private static final String SELECT_STUDENT_PROGRESS = """
+            SELECT e.id, e.courseId, c.title.value, e.progress.percentage, e.status, cl.lessonId,
+                   e.completedLessonsBitmap
+            FROM Enrollment e
+            JOIN Course c ON c.id = e.courseId
+            LEFT JOIN CompletedLesson cl ON cl.enrollmentId = e.id AND e.completedLessonsBitmap IS NULL
+            WHERE e.studentId = :studentId
+            ORDER BY e.id, cl.lessonId
+            """;
+
+    private final EntityManager entityManager;
+
+    public EnrollmentProgressQueryRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public List<EnrollmentProgressDTO> findByStudentId(Long studentId) {
+        List<Object[]> rows = entityManager.createQuery(SELECT_STUDENT_PROGRESS, Object[].class)
+                .setParameter("studentId", studentId)
+                .getResultList();
+
+        List<EnrollmentProgressDTO> result = new ArrayList<>();
+        int start = 0;
+        while (start < rows.size()) {
+            Object[] first = rows.get(start);
+            int end = start;
+            while (end < rows.size() && rows.get(end)[0].equals(first[0])) {
+                end++;
+            }
+            result.add(toDto(rows.subList(start, end)));
+            start = end;
+        }
+        return result;
+    }
+
+    private EnrollmentProgressDTO toDto(List<Object[]> rows) {
+        Object[] first = rows.get(0);
+        long[] lessonIds;
+        if (first[6] != null) {
+            lessonIds = CompletedLessonBitmap.toLessonIds(CompletedLessonBitmap.decode((byte[]) first[6]));
+        } else {
+            lessonIds = new long[rows.size()];
+            int count = 0;
+            for (Object[] row : rows) {
+                if (row[5] != null) {
+                    lessonIds[count++] = (Long) row[5];
+                }
+            }
+            lessonIds = count == lessonIds.length ? lessonIds : Arrays.copyOf(lessonIds, count);
+        }
+        return new EnrollmentProgressDTO(
+                (Long) first[0],
+                (Long) first[1],
+                (String) first[2],
+                (Integer) first[3],
+                (EnrollmentStatus) first[4],
+                lessonIds
+        );
+    }
+}
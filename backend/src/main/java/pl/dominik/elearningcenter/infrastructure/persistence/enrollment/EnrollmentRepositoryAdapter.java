@@ -1,18 +1,59 @@
 package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+import pl.dominik.elearningcenter.domain.enrollment.LessonCompletionProgress;
+import pl.dominik.elearningcenter.domain.enrollment.exception.AlreadyEnrolledException;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public class EnrollmentRepositoryAdapter implements EnrollmentRepository {
+
+    /**
+     * Reads only the row being updated, with no join in FROM, so that under PostgreSQL's read committed
+     * a completion blocked by a concurrent one re-evaluates the SET list against the counter it committed.
+     */
+    private static final String RECORD_LESSON_COMPLETED_SQL = """
+            UPDATE enrollments e SET
+                completed_lessons_count = e.completed_lessons_count + 1,
+                percentage = CASE WHEN e.total_lessons_count > 0
+                    THEN LEAST(100, (e.completed_lessons_count + 1) * 100 / e.total_lessons_count)
+                    ELSE 0 END,
+                status = CASE WHEN e.status = 'DROPPED' THEN e.status
+                    WHEN e.total_lessons_count > 0 AND e.completed_lessons_count + 1 >= e.total_lessons_count
+                        THEN 'COMPLETED'
+                    ELSE 'ACTIVE' END,
+                completed_at = CASE WHEN e.status = 'DROPPED' THEN e.completed_at
+                    WHEN e.total_lessons_count > 0 AND e.completed_lessons_count + 1 >= e.total_lessons_count
+                        THEN COALESCE(e.completed_at, CURRENT_TIMESTAMP)
+                    ELSE NULL END
+            WHERE e.id = ? AND e.student_id = ?
+              AND e.completed_lessons_count IS NOT NULL AND e.total_lessons_count IS NOT NULL
+              AND EXISTS (
+                  SELECT 1 FROM lessons l
+                  JOIN sections s ON s.id = l.section_id
+                  WHERE l.id = ? AND s.id = ? AND s.course_id = e.course_id
+              )
+            """;
+
+    private static final String[] RECORD_LESSON_COMPLETED_RETURNING = {"course_id", "percentage", "status"};
+
     private final EnrollmentJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
-    public EnrollmentRepositoryAdapter(EnrollmentJpaRepository jpaRepository) {
+    public EnrollmentRepositoryAdapter(EnrollmentJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -20,11 +61,94 @@ public class EnrollmentRepositoryAdapter implements EnrollmentRepository {
         return jpaRepository.save(enrollment);
     }
 
+    @Override
+    public Enrollment enroll(Enrollment enrollment) {
+        try {
+            return jpaRepository.saveAndFlush(enrollment);
+        } catch (DataIntegrityViolationException e) {
+            if (isStudentCourseViolation(e)) {
+                throw new AlreadyEnrolledException("Student is already enrolled in this course");
+            }
+            throw e;
+        }
+    }
+
     @Override
     public Optional<Enrollment> findById(Long id) {
         return jpaRepository.findById(id);
     }
 
+    @Override
+    public Optional<Enrollment> findByIdForUpdate(Long id) {
+        return jpaRepository.findByIdForUpdate(id);
+    }
+
+    /**
+     * Runs as plain JDBC because the returned columns come back as generated keys, which the PostgreSQL
+     * driver turns into {@code UPDATE ... RETURNING}; neither JPQL nor a native query can return them.
+     */
+    @Override
+    public Optional<LessonCompletionProgress> recordLessonCompleted(
+            Long enrollmentId, Long studentId, Long sectionId, Long lessonId) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    RECORD_LESSON_COMPLETED_SQL, RECORD_LESSON_COMPLETED_RETURNING)) {
+                statement.setLong(1, enrollmentId);
+                statement.setLong(2, studentId);
+                statement.setLong(3, lessonId);
+                statement.setLong(4, sectionId);
+                if (statement.executeUpdate() == 0) {
+                    return Optional.empty();
+                }
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    if (!keys.next()) {
+                        throw new IllegalStateException("Updated enrollment returned no row: " + enrollmentId);
+                    }
+                    return Optional.of(new LessonCompletionProgress(
+                            keys.getLong(1), keys.getInt(2), EnrollmentStatus.valueOf(keys.getString(3))));
+                }
+            }
+        });
+    }
+
+    @Override
+    public long countByCourseId(Long courseId) {
+        return jpaRepository.countByCourseId(courseId);
+    }
+
+    @Override
+    public List<Long> lockNextIdsByCourseId(Long courseId, Long afterId, int limit) {
+        return jpaRepository.lockNextIdsByCourseId(courseId, afterId, limit);
+    }
+
+    @Override
+    public int recalculateProgress(Long courseId, Long afterId, Long upToId, int totalLessons) {
+        pruneRemovedLessonBits(courseId, afterId, upToId);
+        return jpaRepository.recalculateProgress(courseId, afterId, upToId, totalLessons);
+    }
+
+    /**
+     * Bitmap-stored completions cannot be joined against lessons in SQL, so the chunk's bitmaps drop the
+     * bits of lessons no longer in the course here and their counter is reset to what remains.
+     */
+    private void pruneRemovedLessonBits(Long courseId, Long afterId, Long upToId) {
+        List<Object[]> bitmaps = jpaRepository.findCompletedLessonBitmaps(courseId, afterId, upToId);
+        if (bitmaps.isEmpty()) {
+            return;
+        }
+        RoaringBitmap courseLessons = CompletedLessonBitmap.of(jpaRepository.findLessonIdsByCourseId(courseId));
+        for (Object[] row : bitmaps) {
+            RoaringBitmap completed = CompletedLessonBitmap.decode((byte[]) row[1]);
+            int completedBefore = completed.getCardinality();
+            completed.and(courseLessons);
+            int completedAfter = completed.getCardinality();
+            if (completedAfter != completedBefore || row[2] == null || ((Number) row[2]).intValue() != completedAfter) {
+                jpaRepository.updateCompletedLessonBitmap(
+                        ((Number) row[0]).longValue(), CompletedLessonBitmap.encode(completed), completedAfter);
+            }
+        }
+    }
+
     @Override
     public List<Enrollment> findAll() {
         return jpaRepository.findAll();
@@ -50,8 +174,19 @@ public class EnrollmentRepositoryAdapter implements EnrollmentRepository {
         return jpaRepository.existsByStudentIdAndCourseId(studentId, courseId);
     }
 
+    @Override
+    public List<Long> findCourseIdsByStudentId(Long studentId) {
+        return jpaRepository.findCourseIdsByStudentId(studentId);
+    }
+
     @Override
     public void delete(Enrollment enrollment) {
         jpaRepository.delete(enrollment);
     }
+
+    private static boolean isStudentCourseViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null
+                && message.toLowerCase().contains(Enrollment.STUDENT_COURSE_CONSTRAINT);
+    }
 }
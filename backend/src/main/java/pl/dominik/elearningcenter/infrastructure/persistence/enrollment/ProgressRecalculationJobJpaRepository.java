@@ -0,0 +1,37 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import pl.dominik.elearningcenter.domain.enrollment.ProgressRecalculationJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+interface ProgressRecalculationJobJpaRepository extends JpaRepository<ProgressRecalculationJob, Long> {
+
+    @Modifying
+    @Query("""
+            INSERT INTO ProgressRecalculationJob (courseId, lastEnrollmentId, processedEnrollments, totalEnrollments, requestedAt)
+            VALUES (:courseId, 0, 0, 0, :now)
+            ON CONFLICT (courseId) DO UPDATE SET
+                lastEnrollmentId = 0,
+                processedEnrollments = 0,
+                totalEnrollments = 0,
+                requestedAt = :now,
+                startedAt = null,
+                finishedAt = null
+            """)
+    int upsertPending(@Param("courseId") Long courseId, @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ProgressRecalculationJob j WHERE j.courseId = :courseId")
+    Optional<ProgressRecalculationJob> findByCourseIdForUpdate(@Param("courseId") Long courseId);
+
+    @Query("SELECT j.courseId FROM ProgressRecalculationJob j WHERE j.finishedAt IS NULL ORDER BY j.requestedAt")
+    List<Long> findUnfinishedCourseIds();
+}
@@ -0,0 +1,33 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import org.springframework.stereotype.Repository;
+import pl.dominik.elearningcenter.domain.enrollment.ProgressRecalculationJob;
+import pl.dominik.elearningcenter.domain.enrollment.ProgressRecalculationJobRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class ProgressRecalculationJobRepositoryAdapter implements ProgressRecalculationJobRepository {
+    private final ProgressRecalculationJobJpaRepository jpaRepository;
+
+    public ProgressRecalculationJobRepositoryAdapter(ProgressRecalculationJobJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void request(Long courseId) {
+        jpaRepository.upsertPending(courseId, LocalDateTime.now());
+    }
+
+    @Override
+    public Optional<ProgressRecalculationJob> findByCourseIdForUpdate(Long courseId) {
+        return jpaRepository.findByCourseIdForUpdate(courseId);
+    }
+
+    @Override
+    public List<Long> findUnfinishedCourseIds() {
+        return jpaRepository.findUnfinishedCourseIds();
+    }
+}
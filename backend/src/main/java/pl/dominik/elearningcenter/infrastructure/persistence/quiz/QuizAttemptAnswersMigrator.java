@@ -0,0 +1,189 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.quiz;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.dominik.elearningcenter.domain.quiz.QuizAnswerKey;
+import pl.dominik.elearningcenter.infrastructure.persistence.converter.IntegerListConverter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves answers from the legacy {@code quiz_attempt_answers} element-collection table into the binary
+ * {@code quiz_attempts.answers} column. Runs on a background thread after startup, one locked chunk of
+ * attempts per transaction, and deletes the legacy rows of each chunk together with the update, so an
+ * interrupted run simply continues on the next start. A no-op when the legacy table does not exist.
+ */
+@Component
+public class QuizAttemptAnswersMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizAttemptAnswersMigrator.class);
+    private static final String LEGACY_TABLE = "quiz_attempt_answers";
+    private static final IntegerListConverter LEGACY_INDEXES = new IntegerListConverter();
+
+    private final EntityManager entityManager;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor worker;
+    private final boolean migrateOnStartup;
+    private final int batchSize;
+    private volatile Boolean legacyTablePresent;
+
+    public QuizAttemptAnswersMigrator(
+            EntityManager entityManager,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.quizzes.attempt-answers.migrate-on-startup:true}") boolean migrateOnStartup,
+            @Value("${app.quizzes.attempt-answers.migration-batch-size:1000}") int batchSize
+    ) {
+        this.entityManager = entityManager;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.migrateOnStartup = migrateOnStartup;
+        this.batchSize = batchSize;
+
+        this.worker = new ThreadPoolTaskExecutor();
+        this.worker.setCorePoolSize(1);
+        this.worker.setMaxPoolSize(1);
+        this.worker.setQueueCapacity(1);
+        this.worker.setThreadNamePrefix("quiz-attempt-answers-migration-");
+        this.worker.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (migrateOnStartup && legacyTablePresent()) {
+            worker.execute(this::migrate);
+        }
+    }
+
+    public long migrate() {
+        long migrated = 0;
+        try {
+            List<Long> chunk = migrateChunk(0L, batchSize);
+            while (!chunk.isEmpty()) {
+                migrated += chunk.size();
+                log.info("Migrated answers of {} quiz attempt(s) to the binary column", migrated);
+                chunk = migrateChunk(chunk.get(chunk.size() - 1), batchSize);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Quiz attempt answers migration stopped after {} attempt(s), will resume on the next start", migrated, ex);
+        }
+        return migrated;
+    }
+
+    /**
+     * Migrates the next chunk of attempts after {@code afterId} and returns their ids; empty when done.
+     */
+    @SuppressWarnings("unchecked")
+    List<Long> migrateChunk(Long afterId, int limit) {
+        List<Long> migrated = transactionTemplate.execute(status -> {
+            List<Long> ids = lockUnmigratedIds(afterId, limit);
+            if (ids.isEmpty()) {
+                return ids;
+            }
+            Map<Long, List<Object[]>> legacyRows = new HashMap<>();
+            ids.forEach(id -> legacyRows.put(id, new ArrayList<>()));
+            List<Object[]> rows = entityManager.createNativeQuery("""
+                            SELECT quiz_attempt_id, question_id, selected_answer_indexes
+                            FROM quiz_attempt_answers
+                            WHERE quiz_attempt_id IN (:ids)
+                            """)
+                    .setParameter("ids", ids)
+                    .getResultList();
+            for (Object[] row : rows) {
+                legacyRows.get(((Number) row[0]).longValue()).add(row);
+            }
+            legacyRows.forEach((id, answers) -> entityManager.createNativeQuery(
+                            "UPDATE quiz_attempts SET answers = :answers WHERE id = :id")
+                    .setParameter("answers", encode(answers))
+                    .setParameter("id", id)
+                    .executeUpdate());
+            entityManager.createNativeQuery("DELETE FROM quiz_attempt_answers WHERE quiz_attempt_id IN (:ids)")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+            return ids;
+        });
+        return migrated == null ? List.of() : migrated;
+    }
+
+    /**
+     * Removes not-yet-migrated legacy answers of a quiz, so its attempts can be bulk deleted while the
+     * migration is still running. Must be called in the deleting transaction.
+     */
+    void deleteLegacyAnswersOfQuiz(Long quizId) {
+        if (!legacyTablePresent()) {
+            return;
+        }
+        entityManager.createNativeQuery("""
+                        DELETE FROM quiz_attempt_answers
+                        WHERE quiz_attempt_id IN (SELECT id FROM quiz_attempts WHERE quiz_id = :quizId AND answers IS NULL)
+                        """)
+                .setParameter("quizId", quizId)
+                .executeUpdate();
+    }
+
+    private static byte[] encode(List<Object[]> legacyRows) {
+        long[] questionIds = new long[legacyRows.size()];
+        long[] selectionMasks = new long[legacyRows.size()];
+        for (int i = 0; i < legacyRows.size(); i++) {
+            Object[] row = legacyRows.get(i);
+            questionIds[i] = ((Number) row[1]).longValue();
+            selectionMasks[i] = QuizAnswerKey.selectionMask(LEGACY_INDEXES.convertToEntityAttribute((String) row[2]));
+        }
+        return StudentAnswersCodec.encode(questionIds, selectionMasks, legacyRows.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> lockUnmigratedIds(Long afterId, int limit) {
+        List<Number> ids = entityManager.createNativeQuery("""
+                        SELECT id FROM quiz_attempts
+                        WHERE answers IS NULL AND id > :afterId
+                        ORDER BY id
+                        LIMIT :limit
+                        FOR UPDATE
+                        """)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", limit)
+                .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    private boolean legacyTablePresent() {
+        Boolean present = legacyTablePresent;
+        if (present == null) {
+            present = tableExists(LEGACY_TABLE) || tableExists(LEGACY_TABLE.toUpperCase());
+            legacyTablePresent = present;
+        }
+        return present;
+    }
+
+    private boolean tableExists(String name) {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet tables = connection.getMetaData().getTables(null, null, name, new String[]{"TABLE"})) {
+            return tables.next();
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Cannot inspect schema for " + name, ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
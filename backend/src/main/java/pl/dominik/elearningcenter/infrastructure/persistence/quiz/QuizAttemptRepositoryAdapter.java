@@ -10,9 +10,11 @@ import java.util.Optional;
 @Repository
 public class QuizAttemptRepositoryAdapter implements QuizAttemptRepository {
     private final QuizAttemptJpaRepository jpaRepository;
+    private final QuizAttemptAnswersMigrator answersMigrator;
 
-    public QuizAttemptRepositoryAdapter(QuizAttemptJpaRepository jpaRepository){
+    public QuizAttemptRepositoryAdapter(QuizAttemptJpaRepository jpaRepository, QuizAttemptAnswersMigrator answersMigrator){
         this.jpaRepository = jpaRepository;
+        this.answersMigrator = answersMigrator;
     }
 
     @Override
@@ -45,26 +47,6 @@ public class QuizAttemptRepositoryAdapter implements QuizAttemptRepository {
         return jpaRepository.findByQuizIdAndStudentIdOrderByAttemptedAtDesc(quizId, studentId);
     }
 
-    @Override
-    public Optional<QuizAttempt> findBestAttempt(Long quizId, Long studentId) {
-        return jpaRepository.findBestAttempt(quizId, studentId);
-    }
-
-    @Override
-    public boolean existsByQuizId(Long quizId) {
-        return jpaRepository.existsByQuizId(quizId);
-    }
-
-    @Override
-    public boolean existsByQuizIdAndStudentId(Long quizId, Long studentId) {
-        return jpaRepository.existsByQuizIdAndStudentId(quizId, studentId);
-    }
-
-    @Override
-    public long countByQuizId(Long quizId) {
-        return jpaRepository.countByQuizId(quizId);
-    }
-
     @Override
     public void delete(QuizAttempt quizAttempt) {
         jpaRepository.delete(quizAttempt);
@@ -72,6 +54,7 @@ public class QuizAttemptRepositoryAdapter implements QuizAttemptRepository {
 
     @Override
     public void deleteByQuizId(Long quizId) {
+        answersMigrator.deleteLegacyAnswersOfQuiz(quizId);
         jpaRepository.deleteByQuizId(quizId);
     }
 }
@@ -0,0 +1,60 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.quiz;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Summarizes attempts recorded before the summaries table existed. Submissions are taken while this runs,
+ * so a pair may already have a summary that counts only its newest attempt; besides inserting the missing
+ * pairs, the backfill recomputes every summary that counts fewer attempts than its pair has.
+ * Every submission is summarized together with its attempt, so summaries that account for exactly as many
+ * attempts as the attempts table holds are complete, and a start then costs two plain aggregates. Any
+ * difference, including one left by a run that lost a race with a submission, triggers a run on the next start.
+ */
+@Component
+public class QuizAttemptSummaryBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizAttemptSummaryBackfillJob.class);
+
+    private final QuizAttemptSummaryJpaRepository summaryJpaRepository;
+    private final QuizAttemptJpaRepository attemptJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillOnStartup;
+
+    public QuizAttemptSummaryBackfillJob(
+            QuizAttemptSummaryJpaRepository summaryJpaRepository,
+            QuizAttemptJpaRepository attemptJpaRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.quizzes.attempt-summaries.backfill-on-startup:true}") boolean backfillOnStartup
+    ) {
+        this.summaryJpaRepository = summaryJpaRepository;
+        this.attemptJpaRepository = attemptJpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            Integer updated = transactionTemplate.execute(status ->
+                    summaryJpaRepository.sumAttemptCount() == attemptJpaRepository.count()
+                            ? 0
+                            : summaryJpaRepository.backfillMissing() + summaryJpaRepository.repairUndercounted());
+            if (updated != null && updated > 0) {
+                log.info("Backfilled or repaired {} quiz attempt summary row(s)", updated);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Quiz attempt summaries backfill failed, will retry on the next start", ex);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.quiz;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import pl.dominik.elearningcenter.domain.quiz.QuizAttemptSummary;
+
+import java.time.LocalDateTime;
+
+interface QuizAttemptSummaryJpaRepository extends JpaRepository<QuizAttemptSummary, QuizAttemptSummary.Key> {
+
+    // Ties keep the earlier best attempt; "passed" is sticky once any attempt passed.
+    @Modifying
+    @Query("""
+            INSERT INTO QuizAttemptSummary (quizId, studentId, bestAttemptId, bestScore, attemptCount, passed, lastAttemptAt)
+            VALUES (:quizId, :studentId, :attemptId, :score, 1, :passed, :attemptedAt)
+            ON CONFLICT (quizId, studentId) DO UPDATE SET
+                bestAttemptId = CASE WHEN excluded.bestScore > bestScore THEN excluded.bestAttemptId ELSE bestAttemptId END,
+                bestScore = CASE WHEN excluded.bestScore > bestScore THEN excluded.bestScore ELSE bestScore END,
+                attemptCount = attemptCount + 1,
+                passed = CASE WHEN excluded.passed THEN true ELSE passed END,
+                lastAttemptAt = CASE WHEN excluded.lastAttemptAt > lastAttemptAt THEN excluded.lastAttemptAt ELSE lastAttemptAt END
+            """)
+    int upsert(
+            @Param("quizId") Long quizId,
+            @Param("studentId") Long studentId,
+            @Param("attemptId") Long attemptId,
+            @Param("score") int score,
+            @Param("passed") boolean passed,
+            @Param("attemptedAt") LocalDateTime attemptedAt
+    );
+
+    /**
+     * Builds summaries for (quiz, student) pairs that have attempts but no summary yet,
+     * e.g. attempts recorded before the summaries table existed. A submission racing this
+     * insert fails it on the primary key; nothing is written and the caller may simply rerun it.
+     */
+    @Modifying
+    @Query("""
+            INSERT INTO QuizAttemptSummary (quizId, studentId, bestAttemptId, bestScore, attemptCount, passed, lastAttemptAt)
+            SELECT a.quizId, a.studentId,
+                   (SELECT b.id FROM QuizAttempt b
+                    WHERE b.quizId = a.quizId AND b.studentId = a.studentId
+                    ORDER BY b.score DESC, b.id ASC
+                    LIMIT 1),
+                   MAX(a.score), COUNT(a), MAX(CASE WHEN a.passed THEN 1 ELSE 0 END) = 1, MAX(a.attemptedAt)
+            FROM QuizAttempt a
+            WHERE NOT EXISTS (
+                SELECT 1 FROM QuizAttemptSummary s WHERE s.quizId = a.quizId AND s.studentId = a.studentId
+            )
+            GROUP BY a.quizId, a.studentId
+            """)
+    int backfillMissing();
+
+    /**
+     * Recomputes summaries that count fewer attempts than the pair has, i.e. pairs whose summary was started
+     * by a submission before their older attempts were backfilled. A summary a concurrent submission has
+     * already brought up to date no longer matches the condition when the row is re-checked, and is skipped.
+     */
+    @Modifying
+    @Query("""
+            UPDATE QuizAttemptSummary s SET
+                bestAttemptId = (SELECT b.id FROM QuizAttempt b
+                                 WHERE b.quizId = s.quizId AND b.studentId = s.studentId
+                                 ORDER BY b.score DESC, b.id ASC
+                                 LIMIT 1),
+                bestScore = (SELECT MAX(a.score) FROM QuizAttempt a
+                             WHERE a.quizId = s.quizId AND a.studentId = s.studentId),
+                attemptCount = (SELECT COUNT(a) FROM QuizAttempt a
+                                WHERE a.quizId = s.quizId AND a.studentId = s.studentId),
+                passed = s.passed OR EXISTS (SELECT 1 FROM QuizAttempt a
+                                             WHERE a.quizId = s.quizId AND a.studentId = s.studentId AND a.passed = true),
+                lastAttemptAt = (SELECT MAX(a.attemptedAt) FROM QuizAttempt a
+                                 WHERE a.quizId = s.quizId AND a.studentId = s.studentId)
+            WHERE s.attemptCount < (SELECT COUNT(a) FROM QuizAttempt a
+                                    WHERE a.quizId = s.quizId AND a.studentId = s.studentId)
+            """)
+    int repairUndercounted();
+
+    @Query("SELECT COALESCE(SUM(s.attemptCount), 0) FROM QuizAttemptSummary s")
+    long sumAttemptCount();
+
+    @Modifying
+    @Query("DELETE FROM QuizAttemptSummary s WHERE s.quizId = :quizId")
+    void deleteByQuizId(@Param("quizId") Long quizId);
+}
@@ -0,0 +1,42 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.quiz;
+
+import org.springframework.stereotype.Repository;
+import pl.dominik.elearningcenter.domain.quiz.QuizAttempt;
+import pl.dominik.elearningcenter.domain.quiz.QuizAttemptSummary;
+import pl.dominik.elearningcenter.domain.quiz.QuizAttemptSummaryRepository;
+
+import java.util.Optional;
+
+@Repository
+public class QuizAttemptSummaryRepositoryAdapter implements QuizAttemptSummaryRepository {
+    private final QuizAttemptSummaryJpaRepository jpaRepository;
+
+    public QuizAttemptSummaryRepositoryAdapter(QuizAttemptSummaryJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void record(QuizAttempt attempt) {
+        if (attempt.getId() == null) {
+            throw new IllegalStateException("Cannot summarize an unsaved quiz attempt");
+        }
+        jpaRepository.upsert(
+                attempt.getQuizId(),
+                attempt.getStudentId(),
+                attempt.getId(),
+                attempt.getScore(),
+                attempt.isPassed(),
+                attempt.getAttemptedAt()
+        );
+    }
+
+    @Override
+    public Optional<QuizAttemptSummary> findByQuizIdAndStudentId(Long quizId, Long studentId) {
+        return jpaRepository.findById(new QuizAttemptSummary.Key(quizId, studentId));
+    }
+
+    @Override
+    public void deleteByQuizId(Long quizId) {
+        jpaRepository.deleteByQuizId(quizId);
+    }
+}
@@ -1,6 +1,8 @@
 package pl.dominik.elearningcenter.infrastructure.persistence.quiz;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import pl.dominik.elearningcenter.domain.quiz.Quiz;
@@ -11,7 +13,13 @@ import java.util.Optional;
 interface QuizJpaRepository extends JpaRepository<Quiz, Long> {
     Optional<Quiz> findByLesson_Id(Long lessonId);
 
-    Optional<Quiz> findByIdAndInstructorId(Long id, Long instructorId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM Quiz q WHERE q.id = :id AND q.instructorId = :instructorId")
+    Optional<Quiz> findByIdAndInstructorIdForUpdate(@Param("id") Long id, @Param("instructorId") Long instructorId);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT q FROM Quiz q WHERE q.id = :id")
+    Optional<Quiz> findByIdForShare(@Param("id") Long id);
 
     List<Quiz> findByInstructorId(Long instructorId);
 
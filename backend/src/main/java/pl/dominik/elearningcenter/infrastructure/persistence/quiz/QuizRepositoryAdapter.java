@@ -25,8 +25,13 @@ public class QuizRepositoryAdapter implements QuizRepository {
     }
 
     @Override
-    public Optional<Quiz> findByIdAndInstructorId(Long id, Long instructorId) {
-        return jpaRepository.findByIdAndInstructorId(id, instructorId);
+    public Optional<Quiz> findByIdForShare(Long id) {
+        return jpaRepository.findByIdForShare(id);
+    }
+
+    @Override
+    public Optional<Quiz> findByIdAndInstructorIdForUpdate(Long id, Long instructorId) {
+        return jpaRepository.findByIdAndInstructorIdForUpdate(id, instructorId);
     }
 
     @Override
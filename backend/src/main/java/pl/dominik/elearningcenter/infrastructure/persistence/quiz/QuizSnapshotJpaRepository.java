@@ -0,0 +1,18 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.quiz;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot;
+
+import java.util.Optional;
+
+interface QuizSnapshotJpaRepository extends JpaRepository<QuizSnapshot, Long> {
+
+    Optional<QuizSnapshot> findByQuizIdAndVersion(Long quizId, int version);
+
+    @Modifying
+    @Query("DELETE FROM QuizSnapshot s WHERE s.quizId = :quizId")
+    void deleteByQuizId(@Param("quizId") Long quizId);
+}
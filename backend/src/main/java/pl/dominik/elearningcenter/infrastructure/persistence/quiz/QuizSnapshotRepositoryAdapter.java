@@ -0,0 +1,31 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.quiz;
+
+import org.springframework.stereotype.Repository;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshotRepository;
+
+import java.util.Optional;
+
+@Repository
+public class QuizSnapshotRepositoryAdapter implements QuizSnapshotRepository {
+    private final QuizSnapshotJpaRepository jpaRepository;
+
+    public QuizSnapshotRepositoryAdapter(QuizSnapshotJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public QuizSnapshot save(QuizSnapshot snapshot) {
+        return jpaRepository.saveAndFlush(snapshot);
+    }
+
+    @Override
+    public Optional<QuizSnapshot> findByQuizIdAndVersion(Long quizId, int version) {
+        return jpaRepository.findByQuizIdAndVersion(quizId, version);
+    }
+
+    @Override
+    public void deleteByQuizId(Long quizId) {
+        jpaRepository.deleteByQuizId(quizId);
+    }
+}
@@ -0,0 +1,142 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.quiz;
+
+import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codec for the answers of one attempt stored in {@code quiz_attempts.answers}: a format byte, the answer
+ * count and then one (question id, selection bitmask) pair per answer, all as unsigned LEB128 varints.
+ * A single-choice answer to a question with a four-digit id takes four bytes. Masks follow
+ * {@link pl.dominik.elearningcenter.domain.quiz.QuizAnswerKey#selectionMask}, so storage keeps exactly
+ * what grading looks at: selection order and duplicate indexes are not preserved.
+ * The array-based methods allocate nothing beyond the encoded output.
+ */
+public final class StudentAnswersCodec {
+
+    static final byte FORMAT_V1 = 1;
+
+    private StudentAnswersCodec() {
+    }
+
+    public static byte[] encode(List<StudentAnswer> answers) {
+        int count = answers.size();
+        int size = 1 + varLongSize(count);
+        for (int i = 0; i < count; i++) {
+            StudentAnswer answer = answers.get(i);
+            size += varLongSize(answer.getQuestionId()) + varLongSize(answer.selectionMask());
+        }
+        byte[] out = new byte[size];
+        out[0] = FORMAT_V1;
+        int pos = writeVarLong(out, 1, count);
+        for (int i = 0; i < count; i++) {
+            StudentAnswer answer = answers.get(i);
+            pos = writeVarLong(out, pos, answer.getQuestionId());
+            pos = writeVarLong(out, pos, answer.selectionMask());
+        }
+        return out;
+    }
+
+    public static byte[] encode(long[] questionIds, long[] selectionMasks, int count) {
+        int size = 1 + varLongSize(count);
+        for (int i = 0; i < count; i++) {
+            size += varLongSize(questionIds[i]) + varLongSize(selectionMasks[i]);
+        }
+        byte[] out = new byte[size];
+        out[0] = FORMAT_V1;
+        int pos = writeVarLong(out, 1, count);
+        for (int i = 0; i < count; i++) {
+            pos = writeVarLong(out, pos, questionIds[i]);
+            pos = writeVarLong(out, pos, selectionMasks[i]);
+        }
+        return out;
+    }
+
+    public static List<StudentAnswer> decode(byte[] bytes) {
+        int count = count(bytes);
+        if (count == 0) {
+            return new ArrayList<>();
+        }
+        long[] questionIds = new long[count];
+        long[] selectionMasks = new long[count];
+        decode(bytes, questionIds, selectionMasks);
+        List<StudentAnswer> answers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            answers.add(StudentAnswer.ofSelectionMask(questionIds[i], selectionMasks[i]));
+        }
+        return answers;
+    }
+
+    public static int count(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return 0;
+        }
+        checkFormat(bytes);
+        long count = 0;
+        int shift = 0;
+        int pos = 1;
+        byte b;
+        do {
+            if (pos >= bytes.length || shift > 28) {
+                throw new IllegalArgumentException("Corrupt quiz attempt answers");
+            }
+            b = bytes[pos++];
+            count |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return Math.toIntExact(count);
+    }
+
+    /**
+     * Decodes into the given arrays, which must hold at least {@link #count} entries, and returns the count.
+     */
+    public static int decode(byte[] bytes, long[] questionIds, long[] selectionMasks) {
+        int count = count(bytes);
+        if (questionIds.length < count || selectionMasks.length < count) {
+            throw new IllegalArgumentException("Arrays too small for " + count + " answers");
+        }
+        int pos = 1 + varLongSize(count);
+        for (int i = 0; i < count * 2; i++) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (pos >= bytes.length || shift > 63) {
+                    throw new IllegalArgumentException("Corrupt quiz attempt answers");
+                }
+                b = bytes[pos++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            if ((i & 1) == 0) {
+                questionIds[i >> 1] = value;
+            } else {
+                selectionMasks[i >> 1] = value;
+            }
+        }
+        if (pos != bytes.length) {
+            throw new IllegalArgumentException("Corrupt quiz attempt answers");
+        }
+        return count;
+    }
+
+    private static void checkFormat(byte[] bytes) {
+        if (bytes[0] != FORMAT_V1) {
+            throw new IllegalArgumentException("Unknown quiz attempt answers format: " + bytes[0]);
+        }
+    }
+
+    static int varLongSize(long value) {
+        return value == 0 ? 1 : (63 - Long.numberOfLeadingZeros(value)) / 7 + 1;
+    }
+
+    private static int writeVarLong(byte[] out, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+}
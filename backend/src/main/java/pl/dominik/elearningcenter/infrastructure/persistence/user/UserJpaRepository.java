@@ -1,10 +1,12 @@
 package pl.dominik.elearningcenter.infrastructure.persistence.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import pl.dominik.elearningcenter.domain.user.User;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 interface UserJpaRepository extends JpaRepository<User, Long> {
@@ -15,6 +17,22 @@ interface UserJpaRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.email.value = :email")
     Optional<User> findByEmail(@Param("email") String email);
 
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findTokenVersionById(@Param("id") Long id);
+
+    @Query("SELECT u.balance.currencyCode FROM User u WHERE u.id = :id")
+    Optional<String> findBalanceCurrencyById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.balance.amount = u.balance.amount - :amount " +
+            "WHERE u.id = :id AND u.balance.currencyCode = :currency AND u.balance.amount >= :amount")
+    int debitBalance(@Param("id") Long id, @Param("amount") BigDecimal amount, @Param("currency") String currency);
+
+    @Modifying
+    @Query("UPDATE User u SET u.balance.amount = u.balance.amount + :amount " +
+            "WHERE u.id = :id AND u.balance.currencyCode = :currency")
+    int creditBalance(@Param("id") Long id, @Param("amount") BigDecimal amount, @Param("currency") String currency);
+
     @Query("SELECT u FROM User u WHERE u.verificationToken = :token")
     Optional<User> findByVerificationToken(@Param("token") String token);
 
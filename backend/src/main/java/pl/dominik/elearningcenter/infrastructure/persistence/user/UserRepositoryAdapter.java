@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Money;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
@@ -44,6 +45,26 @@ public class UserRepositoryAdapter implements UserRepository {
         return jpaRepository.findByEmail(email.getValue());
     }
 
+    @Override
+    public Optional<Long> findTokenVersionById(Long id) {
+        return jpaRepository.findTokenVersionById(id);
+    }
+
+    @Override
+    public Optional<String> findBalanceCurrencyById(Long id) {
+        return jpaRepository.findBalanceCurrencyById(id);
+    }
+
+    @Override
+    public boolean debitBalance(Long userId, Money amount) {
+        return jpaRepository.debitBalance(userId, amount.getAmount(), amount.getCurrencyCode()) == 1;
+    }
+
+    @Override
+    public boolean creditBalance(Long userId, Money amount) {
+        return jpaRepository.creditBalance(userId, amount.getAmount(), amount.getCurrencyCode()) == 1;
+    }
+
     @Override
     public Optional<User> findByVerificationToken(String token) {
         return jpaRepository.findByVerificationToken(token);
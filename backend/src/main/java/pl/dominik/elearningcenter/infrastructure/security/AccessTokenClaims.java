@@ -0,0 +1,34 @@
+package pl.dominik.elearningcenter.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a verified JWT, extracted in a single parser pass.
+ * userId and tokenVersion are null for tokens issued without them.
+ */
+public record AccessTokenClaims(
+        String subject,
+        Long userId,
+        String roles,
+        String tokenType,
+        Long tokenVersion,
+        Instant expiresAt
+) {
+    /**
+     * Version carried by tokens issued before the uid and ver claims existed, when every user was still
+     * at token version 0.
+     */
+    public static final long LEGACY_TOKEN_VERSION = 0L;
+
+    public boolean isRefreshToken() {
+        return "REFRESH".equals(tokenType);
+    }
+
+    /**
+     * Whether the token predates the uid and ver claims. Such tokens are identified by their subject
+     * and stay valid only while the user's token version is still {@link #LEGACY_TOKEN_VERSION}.
+     */
+    public boolean isLegacy() {
+        return userId == null || tokenVersion == null;
+    }
+}
@@ -0,0 +1,51 @@
+package pl.dominik.elearningcenter.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of authenticated principals keyed by (user id, token version).
+ * Lets JwtAuthenticationFilter skip the user lookup for tokens it has already resolved.
+ * A bumped token version makes old keys unreachable; evict() drops them eagerly.
+ * Only read when app.security.stateless-auth is false. In the default stateless mode principals are
+ * built from token claims and this cache stays empty; evictions still run, so either mode can be enabled.
+ */
+@Component
+public class AuthenticatedPrincipalCache {
+
+    private final Cache<PrincipalKey, CustomUserDetails> cache;
+
+    public AuthenticatedPrincipalCache(
+            @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${app.security.principal-cache.ttl:5m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the cached principal or resolves it with the loader.
+     * A null result from the loader is not cached.
+     */
+    public CustomUserDetails get(Long userId, long tokenVersion, Supplier<CustomUserDetails> loader) {
+        return cache.get(new PrincipalKey(userId, tokenVersion), key -> loader.get());
+    }
+
+    public void evict(Long userId) {
+        cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private record PrincipalKey(Long userId, long tokenVersion) {
+    }
+}
@@ -0,0 +1,68 @@
+package pl.dominik.elearningcenter.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pl.dominik.elearningcenter.domain.course.CourseRepository;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Bounded per-user cache of the course ids a user may open content of: courses they are enrolled in
+ * plus courses they own. Loaded with two id-only queries on first use, so navigating a course's
+ * lessons and quizzes costs no further access queries. Entries are evicted after commit of
+ * enrollment, unenrollment, course creation and course deletion; the TTL bounds anything missed.
+ */
+@Component
+public class CourseAccessCache {
+
+    private final Cache<Long, Set<Long>> cache;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+
+    public CourseAccessCache(
+            EnrollmentRepository enrollmentRepository,
+            CourseRepository courseRepository,
+            @Value("${app.security.course-access-cache.max-size:10000}") long maxSize,
+            @Value("${app.security.course-access-cache.ttl:10m}") Duration ttl
+    ) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseRepository = courseRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean canAccess(Long userId, Long courseId) {
+        if (userId == null || courseId == null) {
+            return false;
+        }
+        return cache.get(userId, this::load).contains(courseId);
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * Drops every cached user that had access to the course.
+     */
+    public void evictCourse(Long courseId) {
+        cache.asMap().values().removeIf(courseIds -> courseIds.contains(courseId));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private Set<Long> load(Long userId) {
+        Set<Long> courseIds = new HashSet<>(enrollmentRepository.findCourseIdsByStudentId(userId));
+        courseIds.addAll(courseRepository.findIdsByInstructorId(userId));
+        return Set.copyOf(courseIds);
+    }
+}
@@ -14,6 +14,7 @@ public class CustomUserDetails implements UserDetails {
     private final String password;
     private final String role;
     private final boolean enabled;
+    private final long tokenVersion;
 
     public CustomUserDetails(User user) {
         this.userId = user.getId();
@@ -21,12 +22,30 @@ public class CustomUserDetails implements UserDetails {
         this.password = user.getPassword().getValue();
         this.role = user.getRole().name();
         this.enabled = user.isEnabled();
+        this.tokenVersion = user.getTokenVersion();
+    }
+
+    /**
+     * Lightweight principal built from access token claims alone, without loading the User.
+     * Carries no password; the account is enabled because disabling it revokes its tokens.
+     */
+    public CustomUserDetails(Long userId, String email, String role, long tokenVersion) {
+        this.userId = userId;
+        this.email = email;
+        this.password = null;
+        this.role = role;
+        this.enabled = true;
+        this.tokenVersion = tokenVersion;
     }
 
     public Long getUserId() {
         return userId;
     }
 
+    public long getTokenVersion() {
+        return tokenVersion;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
@@ -4,29 +4,46 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.user.UserRepository;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String ROLE_PREFIX = "ROLE_";
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final pl.dominik.elearningcenter.domain.user.UserRepository userRepository;
+    private final UserRepository userRepository;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final boolean statelessAuth;
+
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            UserRepository userRepository,
+            AuthenticatedPrincipalCache principalCache,
+            TokenVersionRegistry tokenVersionRegistry,
+            @Value("${app.security.stateless-auth:true}") boolean statelessAuth
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.statelessAuth = statelessAuth;
+    }
 
     @Override
     protected void doFilterInternal(
@@ -36,20 +53,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
+            Optional<AccessTokenClaims> claimsOpt = StringUtils.hasText(jwt)
+                    ? jwtTokenProvider.parseAccessToken(jwt)
+                    : Optional.empty();
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                if (!jwtTokenProvider.isRefreshToken(jwt)) {
-                    String username = jwtTokenProvider.getUsernameFromToken(jwt);
-                    String rolesString = jwtTokenProvider.getRolesFromToken(jwt);
-
-                    List<SimpleGrantedAuthority> authorities = Arrays.stream(rolesString.split(","))
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList());
+            if (claimsOpt.isPresent()) {
+                AccessTokenClaims claims = claimsOpt.get();
+                if (!claims.isRefreshToken()) {
+                    String username = claims.subject();
+                    CustomUserDetails userDetails = resolvePrincipal(claims);
 
-                    var userOpt = userRepository.findByEmail(new pl.dominik.elearningcenter.domain.shared.valueobject.Email(username));
-
-                    if (userOpt.isPresent()) {
-                        CustomUserDetails userDetails = new CustomUserDetails(userOpt.get());
+                    if (userDetails != null) {
                         UsernamePasswordAuthenticationToken authentication =
                                 new UsernamePasswordAuthenticationToken(
                                         userDetails,
@@ -60,9 +74,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                        log.debug("Set authentication for user: {} with roles: {}", username, rolesString);
+                        log.debug("Set authentication for user: {} with roles: {}", username, claims.roles());
                     } else {
-                        log.warn("User not found for email extracted from token: {}", username);
+                        log.warn("User not found or token revoked for email extracted from token: {}", username);
                     }
                 } else {
                     log.warn("Refresh token used for authentication attempt");
@@ -75,6 +89,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Turns the token into a principal straight from its claims (stateless mode) or through the
+     * principal cache. Tokens issued before the uid and ver claims existed are still accepted until
+     * they expire, at the cost of a user lookup per request, unless the user's token version has moved on.
+     */
+    private CustomUserDetails resolvePrincipal(AccessTokenClaims claims) {
+        if (claims.isLegacy()) {
+            return userRepository.findByEmail(new Email(claims.subject()))
+                    .filter(user -> user.getTokenVersion() == AccessTokenClaims.LEGACY_TOKEN_VERSION)
+                    .map(CustomUserDetails::new)
+                    .orElse(null);
+        }
+
+        if (statelessAuth) {
+            if (!tokenVersionRegistry.isCurrent(claims.userId(), claims.tokenVersion())) {
+                return null;
+            }
+            return new CustomUserDetails(claims.userId(), claims.subject(), toRole(claims.roles()), claims.tokenVersion());
+        }
+
+        return principalCache.get(claims.userId(), claims.tokenVersion(), () ->
+                userRepository.findById(claims.userId())
+                        .filter(user -> user.getTokenVersion() == claims.tokenVersion())
+                        .map(CustomUserDetails::new)
+                        .orElse(null)
+        );
+    }
+
+    private String toRole(String roles) {
+        String authority = roles.split(",")[0];
+        return authority.startsWith(ROLE_PREFIX) ? authority.substring(ROLE_PREFIX.length()) : authority;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
 
@@ -12,23 +12,30 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-
-    @Value("${jwt.expiration:900000}")
-    private long jwtAccessTokenExpiration;
-
-    @Value("${jwt.refresh-expiration:604800000}")
-    private long jwtRefreshTokenExpiration;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final long jwtAccessTokenExpiration;
+    private final long jwtRefreshTokenExpiration;
+
+    public JwtTokenProvider(
+            @Value("${jwt.secret}") String jwtSecret,
+            @Value("${jwt.expiration:900000}") long jwtAccessTokenExpiration,
+            @Value("${jwt.refresh-expiration:604800000}") long jwtRefreshTokenExpiration
+    ) {
+        // Key derivation and parser construction are done once; JwtParser is immutable and thread-safe
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.jwtAccessTokenExpiration = jwtAccessTokenExpiration;
+        this.jwtRefreshTokenExpiration = jwtRefreshTokenExpiration;
     }
 
     public String generateAccessToken(Authentication authentication) {
@@ -40,13 +47,15 @@ public class JwtTokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(username)
                 .claim("roles", roles)
-                .claim("type", "ACCESS")
+                .claim("type", "ACCESS");
+
+        return withUserClaims(builder, authentication)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -55,42 +64,47 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtRefreshTokenExpiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(username)
-                .claim("type", "REFRESH")
+                .claim("type", "REFRESH");
+
+        return withUserClaims(builder, authentication)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+    /**
+     * Adds the user id and token version, which let both token types be rejected once the user's
+     * token version moves on (password change or reset, email change, disabling).
+     */
+    private JwtBuilder withUserClaims(JwtBuilder builder, Authentication authentication) {
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            builder.claim("uid", userDetails.getUserId())
+                    .claim("ver", userDetails.getTokenVersion());
+        }
+        return builder;
     }
 
-    public String getRolesFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("roles", String.class);
+    /**
+     * Verifies the token and extracts everything the authentication filter needs in one pass,
+     * or returns empty when the token is invalid.
+     */
+    public Optional<AccessTokenClaims> parseAccessToken(String token) {
+        return parseClaims(token).map(claims -> new AccessTokenClaims(
+                claims.getSubject(),
+                toLong(claims.get("uid", Number.class)),
+                claims.get("roles", String.class),
+                claims.get("type", String.class),
+                toLong(claims.get("ver", Number.class)),
+                claims.getExpiration().toInstant()
+        ));
     }
 
-    public boolean validateToken(String token) {
+    private Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(jwtParser.parseSignedClaims(token).getPayload());
         } catch (SignatureException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
@@ -102,22 +116,11 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty: {}", ex.getMessage());
         }
-        return false;
+        return Optional.empty();
     }
 
-    public boolean isRefreshToken(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            String type = claims.get("type", String.class);
-            return "REFRESH".equals(type);
-        } catch (Exception e) {
-            return false;
-        }
+    private Long toLong(Number value) {
+        return value != null ? value.longValue() : null;
     }
 
     public long getAccessTokenExpiration() {
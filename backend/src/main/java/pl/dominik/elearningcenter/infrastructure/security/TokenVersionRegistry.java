@@ -0,0 +1,52 @@
+package pl.dominik.elearningcenter.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pl.dominik.elearningcenter.domain.user.UserRepository;
+
+import java.time.Duration;
+
+/**
+ * In-memory table of the current token version per user, used to revoke stateless access tokens.
+ * A user's version is read from the database and kept up to date locally by revoke();
+ * entries expire after the TTL so revocations made on other instances are picked up.
+ * A token is accepted only when it carries the current version.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    /**
+     * Cached for user ids with no user row, since Caffeine does not cache a null load result.
+     * No token carries this version, so such tokens are rejected without querying the database again.
+     */
+    private static final long UNKNOWN_USER = Long.MIN_VALUE;
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Long> currentVersions;
+
+    public TokenVersionRegistry(
+            UserRepository userRepository,
+            @Value("${app.security.token-versions.max-size:100000}") long maxSize,
+            @Value("${app.security.token-versions.ttl:1m}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.currentVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        long currentVersion = currentVersions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(UNKNOWN_USER));
+        return currentVersion == tokenVersion;
+    }
+
+    /**
+     * Records a new token version; tokens carrying any older version are rejected from now on.
+     */
+    public void revoke(Long userId, long newTokenVersion) {
+        currentVersions.asMap().merge(userId, newTokenVersion, Math::max);
+    }
+}
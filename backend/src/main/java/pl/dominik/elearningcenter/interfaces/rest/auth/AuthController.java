@@ -5,15 +5,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.web.bind.annotation.*;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
+import pl.dominik.elearningcenter.infrastructure.security.AccessTokenClaims;
+import pl.dominik.elearningcenter.infrastructure.security.CustomUserDetails;
 import pl.dominik.elearningcenter.infrastructure.security.JwtTokenProvider;
 
-import java.util.Collections;
-
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -28,26 +27,28 @@ public class AuthController {
         String refreshToken = request.getRefreshToken();
 
         // Validate refresh token
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(refreshToken).orElse(null);
+        if (claims == null) {
             log.warn("Invalid refresh token provided");
             return ResponseEntity.status(401).build();
         }
 
         // Check if it's actually a refresh token
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+        if (!claims.isRefreshToken()) {
             log.warn("Access token provided instead of refresh token");
             return ResponseEntity.status(401).build();
         }
 
-        // Get username from refresh token
-        String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
-
-        // Find user
-        User user = userRepository.findByEmail(new Email(username))
-                .orElseThrow(() -> {
-                    log.error("User not found: {}", username);
-                    return new RuntimeException("User not found");
-                });
+        // Refresh tokens issued before the uid and ver claims existed are looked up by their subject
+        String username = claims.subject();
+        User user = (claims.isLegacy()
+                ? userRepository.findByEmail(new Email(username))
+                : userRepository.findById(claims.userId()))
+                .orElse(null);
+        if (user == null) {
+            log.warn("Refresh token provided for unknown user: {}", username);
+            return ResponseEntity.status(401).build();
+        }
 
         // Check if user is enabled
         if (!user.isEnabled()) {
@@ -55,11 +56,19 @@ public class AuthController {
             return ResponseEntity.status(401).build();
         }
 
+        // Tokens issued before a password change or reset, email change or disabling are revoked
+        long tokenVersion = claims.isLegacy() ? AccessTokenClaims.LEGACY_TOKEN_VERSION : claims.tokenVersion();
+        if (user.getTokenVersion() != tokenVersion) {
+            log.warn("Revoked refresh token provided for user: {}", username);
+            return ResponseEntity.status(401).build();
+        }
+
         // Create authentication object
+        CustomUserDetails userDetails = new CustomUserDetails(user);
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                username,
+                userDetails,
                 null,
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+                userDetails.getAuthorities()
         );
 
         // Generate new tokens
@@ -0,0 +1,33 @@
+package pl.dominik.elearningcenter.interfaces.rest.common;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import pl.dominik.elearningcenter.application.shared.EntityTaggedBody;
+
+/**
+ * Builds responses for pre-serialized JSON bodies guarded by access checks. Access can be revoked, so
+ * clients must revalidate on every use; a matching If-None-Match then gets a 304 without the body.
+ */
+public final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    public static ResponseEntity<byte[]> respond(EntityTaggedBody content, String ifNoneMatch) {
+        if (content.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(content.etag())
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(content.etag())
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(content.body());
+    }
+}
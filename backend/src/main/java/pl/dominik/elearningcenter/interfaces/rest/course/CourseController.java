@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.interfaces.rest.course;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -7,6 +8,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 import pl.dominik.elearningcenter.application.course.command.CreateCourseCommandHandler;
 import pl.dominik.elearningcenter.application.course.command.UpdateCourseCommandHandler;
 import pl.dominik.elearningcenter.application.course.command.DeleteCourseCommandHandler;
@@ -17,10 +19,14 @@ import pl.dominik.elearningcenter.application.course.query.GetAllCoursesQueryHan
 import pl.dominik.elearningcenter.application.course.query.GetPublishedCourseQueryHandler;
 import pl.dominik.elearningcenter.application.course.query.GetCoursesByInstructorQueryHandler;
 import pl.dominik.elearningcenter.application.course.query.GetAllCategoriesQueryHandler;
-import pl.dominik.elearningcenter.application.course.query.GetFullCourseDetailsQueryHandler;
+import pl.dominik.elearningcenter.application.course.query.CourseStructureSnapshot;
+import pl.dominik.elearningcenter.application.course.query.GetCourseStructureSnapshotQueryHandler;
 import pl.dominik.elearningcenter.application.course.query.GetFullCourseDetailsQuery;
+import pl.dominik.elearningcenter.application.course.query.ScrollPublishedCoursesQuery;
+import pl.dominik.elearningcenter.application.course.query.ScrollPublishedCoursesQueryHandler;
 import pl.dominik.elearningcenter.application.course.dto.PagedCoursesDTO;
 import pl.dominik.elearningcenter.application.course.dto.PagedPublicCoursesDTO;
+import pl.dominik.elearningcenter.application.course.dto.ScrolledPublicCoursesDTO;
 import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
 import pl.dominik.elearningcenter.domain.course.CourseLevel;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
@@ -34,6 +40,7 @@ import pl.dominik.elearningcenter.application.course.query.GetPublishedCoursesQu
 import pl.dominik.elearningcenter.application.course.query.GetCoursesByInstructorQuery;
 import pl.dominik.elearningcenter.infrastructure.security.CustomUserDetails;
 import pl.dominik.elearningcenter.interfaces.rest.common.AckResponse;
+import pl.dominik.elearningcenter.interfaces.rest.common.ConditionalGet;
 import pl.dominik.elearningcenter.interfaces.rest.course.request.CreateCourseRequest;
 import pl.dominik.elearningcenter.interfaces.rest.course.request.UpdateCourseRequest;
 import pl.dominik.elearningcenter.interfaces.rest.course.request.CourseModerationRequest;
@@ -41,7 +48,7 @@ import pl.dominik.elearningcenter.interfaces.rest.course.response.PagedCoursesRe
 import pl.dominik.elearningcenter.interfaces.rest.course.response.PublicCourseDetailsResponse;
 import pl.dominik.elearningcenter.interfaces.rest.course.response.PagedPublicCoursesResponse;
 import pl.dominik.elearningcenter.interfaces.rest.course.response.PublishCourseResponse;
-import pl.dominik.elearningcenter.interfaces.rest.course.response.FullCourseDetailsResponse;
+import pl.dominik.elearningcenter.interfaces.rest.course.response.ScrolledPublicCoursesResponse;
 
 @RestController
 @RequestMapping("/api/courses")
@@ -54,9 +61,10 @@ public class CourseController {
     private final GetCourseDetailsQueryHandler getCourseDetailsQueryHandler;
     private final GetAllCoursesQueryHandler getAllCoursesQueryHandler;
     private final GetPublishedCourseQueryHandler getPublishedCourseQueryHandler;
+    private final ScrollPublishedCoursesQueryHandler scrollPublishedCoursesQueryHandler;
     private final GetCoursesByInstructorQueryHandler getCoursesByInstructorQueryHandler;
     private final GetAllCategoriesQueryHandler getAllCategoriesQueryHandler;
-    private final GetFullCourseDetailsQueryHandler getFullCourseDetailsQueryHandler;
+    private final GetCourseStructureSnapshotQueryHandler getCourseStructureSnapshotQueryHandler;
 
     public CourseController(
             CreateCourseCommandHandler createCourseCommandHandler,
@@ -67,9 +75,10 @@ public class CourseController {
             GetCourseDetailsQueryHandler getCourseDetailsQueryHandler,
             GetAllCoursesQueryHandler getAllCoursesQueryHandler,
             GetPublishedCourseQueryHandler getPublishedCourseQueryHandler,
+            ScrollPublishedCoursesQueryHandler scrollPublishedCoursesQueryHandler,
             GetCoursesByInstructorQueryHandler getCoursesByInstructorQueryHandler,
             GetAllCategoriesQueryHandler getAllCategoriesQueryHandler,
-            GetFullCourseDetailsQueryHandler getFullCourseDetailsQueryHandler
+            GetCourseStructureSnapshotQueryHandler getCourseStructureSnapshotQueryHandler
     ) {
         this.createCourseCommandHandler = createCourseCommandHandler;
         this.updateCourseCommandHandler = updateCourseCommandHandler;
@@ -79,9 +88,10 @@ public class CourseController {
         this.getCourseDetailsQueryHandler = getCourseDetailsQueryHandler;
         this.getAllCoursesQueryHandler = getAllCoursesQueryHandler;
         this.getPublishedCourseQueryHandler = getPublishedCourseQueryHandler;
+        this.scrollPublishedCoursesQueryHandler = scrollPublishedCoursesQueryHandler;
         this.getCoursesByInstructorQueryHandler = getCoursesByInstructorQueryHandler;
         this.getAllCategoriesQueryHandler = getAllCategoriesQueryHandler;
-        this.getFullCourseDetailsQueryHandler = getFullCourseDetailsQueryHandler;
+        this.getCourseStructureSnapshotQueryHandler = getCourseStructureSnapshotQueryHandler;
     }
 
     @PostMapping
@@ -176,15 +186,17 @@ public class CourseController {
 
     @GetMapping("/{id}/full")
     @PreAuthorize("hasAnyRole('INSTRUCTOR', 'ADMIN', 'STUDENT')")
-    public ResponseEntity<FullCourseDetailsResponse> getFullCourseDetails(
+    public ResponseEntity<byte[]> getFullCourseDetails(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         GetFullCourseDetailsQuery query = new GetFullCourseDetailsQuery(id, userDetails.getUserId());
-        return getFullCourseDetailsQueryHandler.handle(query)
-                .map(FullCourseDetailsResponse::from)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        Optional<CourseStructureSnapshot> snapshot = getCourseStructureSnapshotQueryHandler.handle(query);
+        if (snapshot.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ConditionalGet.respond(snapshot.get(), ifNoneMatch);
     }
 
     @DeleteMapping("/{id}")
@@ -234,6 +246,18 @@ public class CourseController {
         return ResponseEntity.ok(PagedPublicCoursesResponse.from(dto));
     }
 
+    @GetMapping("/published/scroll")
+    public ResponseEntity<ScrolledPublicCoursesResponse> scrollPublishedCourses(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) CourseLevel level
+    ){
+        ScrollPublishedCoursesQuery query = new ScrollPublishedCoursesQuery(cursor, size, category, level);
+        ScrolledPublicCoursesDTO dto = scrollPublishedCoursesQueryHandler.handle(query);
+        return ResponseEntity.ok(ScrolledPublicCoursesResponse.from(dto));
+    }
+
 
     @GetMapping("/instructor/{instructorId}")
     public ResponseEntity<PagedCoursesResponse> getCoursesByInstructor(
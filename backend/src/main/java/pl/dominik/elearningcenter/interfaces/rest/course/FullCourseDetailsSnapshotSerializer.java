@@ -0,0 +1,30 @@
+package pl.dominik.elearningcenter.interfaces.rest.course;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
+import pl.dominik.elearningcenter.application.course.query.CourseStructureSnapshotSerializer;
+import pl.dominik.elearningcenter.interfaces.rest.course.response.FullCourseDetailsResponse;
+
+/**
+ * Serializes course structure snapshots as {@link FullCourseDetailsResponse} JSON with the application's ObjectMapper.
+ */
+@Component
+public class FullCourseDetailsSnapshotSerializer implements CourseStructureSnapshotSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    public FullCourseDetailsSnapshotSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(CourseDTO course) {
+        try {
+            return objectMapper.writeValueAsBytes(FullCourseDetailsResponse.from(course));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize course " + course.id(), e);
+        }
+    }
+}
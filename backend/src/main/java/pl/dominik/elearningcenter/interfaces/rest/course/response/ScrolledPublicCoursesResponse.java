@@ -0,0 +1,23 @@
+package pl.dominik.elearningcenter.interfaces.rest.course.response;
+
+import pl.dominik.elearningcenter.application.course.dto.ScrolledPublicCoursesDTO;
+
+import java.util.List;
+
+public record ScrolledPublicCoursesResponse(
+        List<PublicCourseResponse> courses,
+        String nextCursor,
+        boolean hasNext
+){
+    public static ScrolledPublicCoursesResponse from(ScrolledPublicCoursesDTO dto){
+        List<PublicCourseResponse> courses = dto.courses().stream()
+                .map(PublicCourseResponse::from)
+                .toList();
+
+        return new ScrolledPublicCoursesResponse(
+                courses,
+                dto.nextCursor(),
+                dto.hasNext()
+        );
+    }
+}
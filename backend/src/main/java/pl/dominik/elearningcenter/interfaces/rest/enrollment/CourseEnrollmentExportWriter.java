@@ -0,0 +1,71 @@
+package pl.dominik.elearningcenter.interfaces.rest.enrollment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import pl.dominik.elearningcenter.interfaces.rest.enrollment.response.CourseEnrollmentResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * Writes course enrollment export rows one at a time, either as RFC 4180 CSV or as
+ * newline-delimited JSON, so the export never holds more than one row in memory.
+ */
+@Component
+public class CourseEnrollmentExportWriter {
+
+    static final String CSV_HEADER = "id,studentId,studentUsername,studentEmail,progressPercentage,enrolledAt,completedAt,status";
+
+    private final ObjectMapper objectMapper;
+
+    public CourseEnrollmentExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void writeHeader(EnrollmentExportFormat format, Writer writer) {
+        if (format == EnrollmentExportFormat.CSV) {
+            append(writer, CSV_HEADER + "\r\n");
+        }
+    }
+
+    public void writeRow(EnrollmentExportFormat format, CourseEnrollmentResponse row, Writer writer) {
+        try {
+            if (format == EnrollmentExportFormat.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+                return;
+            }
+            writer.write(String.join(",",
+                    csv(row.id()),
+                    csv(row.studentId()),
+                    csv(row.studentUsername()),
+                    csv(row.studentEmail()),
+                    csv(row.progressPercentage()),
+                    csv(row.enrolledAt()),
+                    csv(row.completedAt()),
+                    csv(row.status())
+            ));
+            writer.write("\r\n");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String csv(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static void append(Writer writer, String text) {
+        try {
+            writer.write(text);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -1,27 +1,41 @@
 package pl.dominik.elearningcenter.interfaces.rest.enrollment;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pl.dominik.elearningcenter.application.enrollment.command.EnrollStudentCommand;
 import pl.dominik.elearningcenter.application.enrollment.command.EnrollStudentCommandHandler;
 import pl.dominik.elearningcenter.application.enrollment.command.MarkLessonAsCompletedCommand;
 import pl.dominik.elearningcenter.application.enrollment.command.MarkLessonAsCompletedCommandHandler;
 import pl.dominik.elearningcenter.application.enrollment.command.UnenrollStudentCommand;
 import pl.dominik.elearningcenter.application.enrollment.command.UnenrollStudentCommandHandler;
+import pl.dominik.elearningcenter.application.enrollment.query.ExportCourseEnrollmentsQuery;
+import pl.dominik.elearningcenter.application.enrollment.query.ExportCourseEnrollmentsQueryHandler;
 import pl.dominik.elearningcenter.application.enrollment.query.GetCourseEnrollmentsQuery;
 import pl.dominik.elearningcenter.application.enrollment.query.GetCourseEnrollmentsQueryHandler;
 import pl.dominik.elearningcenter.application.enrollment.query.GetStudentEnrollmentsQuery;
 import pl.dominik.elearningcenter.application.enrollment.query.GetStudentEnrollmentsQueryHandler;
 import pl.dominik.elearningcenter.application.enrollment.query.GetCompletedLessonsQuery;
 import pl.dominik.elearningcenter.application.enrollment.query.GetCompletedLessonsQueryHandler;
+import pl.dominik.elearningcenter.application.enrollment.query.GetStudentProgressQuery;
+import pl.dominik.elearningcenter.application.enrollment.query.GetStudentProgressQueryHandler;
 import pl.dominik.elearningcenter.application.enrollment.dto.EnrollmentDTO;
 import pl.dominik.elearningcenter.infrastructure.security.CustomUserDetails;
 import pl.dominik.elearningcenter.interfaces.rest.common.AckResponse;
 import pl.dominik.elearningcenter.interfaces.rest.enrollment.request.EnrollStudentRequest;
+import pl.dominik.elearningcenter.interfaces.rest.enrollment.response.EnrollmentProgressResponse;
+import pl.dominik.elearningcenter.interfaces.rest.enrollment.response.CourseEnrollmentResponse;
 import pl.dominik.elearningcenter.interfaces.rest.enrollment.response.EnrollmentResponse;
+import pl.dominik.elearningcenter.interfaces.rest.enrollment.response.ScrolledCourseEnrollmentsResponse;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -35,6 +49,9 @@ public class EnrollmentController {
     private final UnenrollStudentCommandHandler unenrollStudentCommandHandler;
     private final MarkLessonAsCompletedCommandHandler markLessonAsCompletedCommandHandler;
     private final GetCompletedLessonsQueryHandler getCompletedLessonsQueryHandler;
+    private final GetStudentProgressQueryHandler getStudentProgressQueryHandler;
+    private final ExportCourseEnrollmentsQueryHandler exportCourseEnrollmentsQueryHandler;
+    private final CourseEnrollmentExportWriter courseEnrollmentExportWriter;
 
     public EnrollmentController(
             EnrollStudentCommandHandler enrollStudentCommandHandler,
@@ -42,7 +59,10 @@ public class EnrollmentController {
             GetCourseEnrollmentsQueryHandler getCourseEnrollmentsQueryHandler,
             UnenrollStudentCommandHandler unenrollStudentCommandHandler,
             MarkLessonAsCompletedCommandHandler markLessonAsCompletedCommandHandler,
-            GetCompletedLessonsQueryHandler getCompletedLessonsQueryHandler
+            GetCompletedLessonsQueryHandler getCompletedLessonsQueryHandler,
+            GetStudentProgressQueryHandler getStudentProgressQueryHandler,
+            ExportCourseEnrollmentsQueryHandler exportCourseEnrollmentsQueryHandler,
+            CourseEnrollmentExportWriter courseEnrollmentExportWriter
     ) {
         this.enrollStudentCommandHandler = enrollStudentCommandHandler;
         this.getStudentEnrollmentsQueryHandler = getStudentEnrollmentsQueryHandler;
@@ -50,6 +70,9 @@ public class EnrollmentController {
         this.unenrollStudentCommandHandler = unenrollStudentCommandHandler;
         this.markLessonAsCompletedCommandHandler = markLessonAsCompletedCommandHandler;
         this.getCompletedLessonsQueryHandler = getCompletedLessonsQueryHandler;
+        this.getStudentProgressQueryHandler = getStudentProgressQueryHandler;
+        this.exportCourseEnrollmentsQueryHandler = exportCourseEnrollmentsQueryHandler;
+        this.courseEnrollmentExportWriter = courseEnrollmentExportWriter;
     }
 
     @PostMapping
@@ -70,6 +93,18 @@ public class EnrollmentController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/student/{studentId}/completed-lessons")
+    public ResponseEntity<List<EnrollmentProgressResponse>> getStudentProgress(
+            @PathVariable Long studentId,
+            @AuthenticationPrincipal CustomUserDetails currentUser
+    ) {
+        GetStudentProgressQuery query = new GetStudentProgressQuery(studentId, currentUser.getUserId());
+        List<EnrollmentProgressResponse> responses = getStudentProgressQueryHandler.handle(query).stream()
+                .map(EnrollmentProgressResponse::from)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<AckResponse> unenrollStudent(
             @PathVariable Long id,
@@ -81,16 +116,38 @@ public class EnrollmentController {
     }
 
     @GetMapping("/course/{courseId}")
-    public ResponseEntity<List<EnrollmentResponse>> getCourseEnrollments(
+    public ResponseEntity<ScrolledCourseEnrollmentsResponse> getCourseEnrollments(
             @PathVariable Long courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
             @AuthenticationPrincipal CustomUserDetails currentUser
     ) {
-        GetCourseEnrollmentsQuery query = new GetCourseEnrollmentsQuery(courseId, currentUser.getUserId());
-        List<EnrollmentDTO> enrollmentDTOs = getCourseEnrollmentsQueryHandler.handle(query);
-        List<EnrollmentResponse> responses = enrollmentDTOs.stream()
-                .map(EnrollmentResponse::from)
-                .toList();
-        return ResponseEntity.ok(responses);
+        GetCourseEnrollmentsQuery query = new GetCourseEnrollmentsQuery(courseId, currentUser.getUserId(), cursor, size);
+        return ResponseEntity.ok(ScrolledCourseEnrollmentsResponse.from(getCourseEnrollmentsQueryHandler.handle(query)));
+    }
+
+    @GetMapping("/course/{courseId}/export")
+    public ResponseEntity<StreamingResponseBody> exportCourseEnrollments(
+            @PathVariable Long courseId,
+            @RequestParam(defaultValue = "CSV") EnrollmentExportFormat format,
+            @AuthenticationPrincipal CustomUserDetails currentUser
+    ) {
+        ExportCourseEnrollmentsQuery query = new ExportCourseEnrollmentsQuery(courseId, currentUser.getUserId());
+        exportCourseEnrollmentsQueryHandler.checkAccess(query);
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            courseEnrollmentExportWriter.writeHeader(format, writer);
+            exportCourseEnrollmentsQueryHandler.handle(query, enrollment ->
+                    courseEnrollmentExportWriter.writeRow(format, CourseEnrollmentResponse.from(enrollment), writer));
+            writer.flush();
+        };
+
+        String filename = "course-" + courseId + "-enrollments." + format.getFileExtension();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
     }
 
     @PostMapping("/{enrollmentId}/sections/{sectionId}/lessons/{lessonId}/complete")
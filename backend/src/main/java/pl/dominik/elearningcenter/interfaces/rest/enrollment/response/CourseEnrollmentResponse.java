@@ -0,0 +1,30 @@
+package pl.dominik.elearningcenter.interfaces.rest.enrollment.response;
+
+import pl.dominik.elearningcenter.application.enrollment.dto.CourseEnrollmentDTO;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+
+import java.time.LocalDateTime;
+
+public record CourseEnrollmentResponse(
+        Long id,
+        Long studentId,
+        String studentUsername,
+        String studentEmail,
+        Integer progressPercentage,
+        LocalDateTime enrolledAt,
+        LocalDateTime completedAt,
+        EnrollmentStatus status
+) {
+    public static CourseEnrollmentResponse from(CourseEnrollmentDTO dto){
+        return new CourseEnrollmentResponse(
+                dto.id(),
+                dto.studentId(),
+                dto.studentUsername(),
+                dto.studentEmail(),
+                dto.progressPercentage(),
+                dto.enrolledAt(),
+                dto.completedAt(),
+                dto.status()
+        );
+    }
+}
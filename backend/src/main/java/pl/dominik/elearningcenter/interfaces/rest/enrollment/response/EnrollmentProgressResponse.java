@@ -0,0 +1,24 @@
+package pl.dominik.elearningcenter.interfaces.rest.enrollment.response;
+
+import pl.dominik.elearningcenter.application.enrollment.dto.EnrollmentProgressDTO;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+
+public record EnrollmentProgressResponse(
+        Long enrollmentId,
+        Long courseId,
+        String courseTitle,
+        Integer progressPercentage,
+        EnrollmentStatus status,
+        long[] completedLessonIds
+) {
+    public static EnrollmentProgressResponse from(EnrollmentProgressDTO dto) {
+        return new EnrollmentProgressResponse(
+                dto.enrollmentId(),
+                dto.courseId(),
+                dto.courseTitle(),
+                dto.progressPercentage(),
+                dto.status(),
+                dto.completedLessonIds()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package pl.dominik.elearningcenter.interfaces.rest.enrollment.response;
+
+import pl.dominik.elearningcenter.application.enrollment.dto.ScrolledCourseEnrollmentsDTO;
+
+import java.util.List;
+
+public record ScrolledCourseEnrollmentsResponse(
+        List<CourseEnrollmentResponse> enrollments,
+        String nextCursor,
+        boolean hasNext
+){
+    public static ScrolledCourseEnrollmentsResponse from(ScrolledCourseEnrollmentsDTO dto){
+        List<CourseEnrollmentResponse> enrollments = dto.enrollments().stream()
+                .map(CourseEnrollmentResponse::from)
+                .toList();
+
+        return new ScrolledCourseEnrollmentsResponse(
+                enrollments,
+                dto.nextCursor(),
+                dto.hasNext()
+        );
+    }
+}
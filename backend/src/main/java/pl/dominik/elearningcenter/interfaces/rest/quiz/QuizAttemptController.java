@@ -1,5 +1,6 @@
 package pl.dominik.elearningcenter.interfaces.rest.quiz;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -8,7 +9,7 @@ import org.springframework.web.bind.annotation.*;
 import pl.dominik.elearningcenter.application.quiz.command.SubmitQuizAttemptCommand;
 import pl.dominik.elearningcenter.application.quiz.command.SubmitQuizAttemptCommandHandler;
 import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptDTO;
-import pl.dominik.elearningcenter.application.quiz.dto.QuizDTO;
+import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptOverviewDTO;
 import pl.dominik.elearningcenter.application.quiz.query.GetBestQuizAttemptQuery;
 import pl.dominik.elearningcenter.application.quiz.query.GetBestQuizAttemptQueryHandler;
 import pl.dominik.elearningcenter.application.quiz.query.GetQuizAttemptResultQuery;
@@ -18,10 +19,10 @@ import pl.dominik.elearningcenter.application.quiz.query.GetQuizForStudentQueryH
 import pl.dominik.elearningcenter.application.quiz.query.GetStudentQuizAttemptsQuery;
 import pl.dominik.elearningcenter.application.quiz.query.GetStudentQuizAttemptsQueryHandler;
 import pl.dominik.elearningcenter.infrastructure.security.CustomUserDetails;
+import pl.dominik.elearningcenter.interfaces.rest.common.ConditionalGet;
 import pl.dominik.elearningcenter.interfaces.rest.quiz.request.SubmitQuizAttemptRequest;
 import pl.dominik.elearningcenter.interfaces.rest.quiz.response.QuizAttemptResponse;
 import pl.dominik.elearningcenter.interfaces.rest.quiz.response.QuizAttemptsListResponse;
-import pl.dominik.elearningcenter.interfaces.rest.quiz.response.QuizResponse;
 
 import java.util.List;
 
@@ -55,13 +56,13 @@ public class QuizAttemptController {
 
     @GetMapping("/{id}/take")
     @PreAuthorize("hasRole('STUDENT')")
-    public ResponseEntity<QuizResponse> getQuizForStudent(
+    public ResponseEntity<byte[]> getQuizForStudent(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             @AuthenticationPrincipal CustomUserDetails currentUser
     ) {
         GetQuizForStudentQuery query = new GetQuizForStudentQuery(id, currentUser.getUserId());
-        QuizDTO dto = getQuizForStudentHandler.handle(query);
-        return ResponseEntity.ok(QuizResponse.from(dto));
+        return ConditionalGet.respond(getQuizForStudentHandler.handle(query), ifNoneMatch);
     }
 
     @PostMapping("/{id}/submit")
@@ -93,7 +94,7 @@ public class QuizAttemptController {
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         GetStudentQuizAttemptsQuery query = new GetStudentQuizAttemptsQuery(id, userDetails.getUserId());
-        List<QuizAttemptDTO> dtos = getStudentQuizAttemptsHandler.handle(query);
+        List<QuizAttemptOverviewDTO> dtos = getStudentQuizAttemptsHandler.handle(query);
         return ResponseEntity.ok(QuizAttemptsListResponse.from(dtos));
     }
 
@@ -0,0 +1,30 @@
+package pl.dominik.elearningcenter.interfaces.rest.quiz;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import pl.dominik.elearningcenter.application.quiz.dto.QuizDTO;
+import pl.dominik.elearningcenter.application.quiz.query.StudentQuizPayloadSerializer;
+import pl.dominik.elearningcenter.interfaces.rest.quiz.response.QuizResponse;
+
+/**
+ * Serializes student quiz payloads as {@link QuizResponse} JSON with the application's ObjectMapper.
+ */
+@Component
+public class StudentQuizPayloadJsonSerializer implements StudentQuizPayloadSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    public StudentQuizPayloadJsonSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(QuizDTO quiz) {
+        try {
+            return objectMapper.writeValueAsBytes(QuizResponse.from(quiz));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize quiz " + quiz.id(), e);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package pl.dominik.elearningcenter.interfaces.rest.quiz.response;
 
 import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptDTO;
+import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptOverviewDTO;
 
 import java.time.LocalDateTime;
 
 public record QuizAttemptResponse(
         Long id,
         Long quizId,
+        Integer quizVersion,
         Long studentId,
         int score,
         int maxScore,
@@ -18,6 +20,21 @@ public record QuizAttemptResponse(
         return new QuizAttemptResponse(
                 dto.id(),
                 dto.quizId(),
+                dto.quizVersion(),
+                dto.studentId(),
+                dto.score(),
+                dto.maxScore(),
+                dto.passed(),
+                dto.scorePercentage(),
+                dto.attemptedAt()
+        );
+    }
+
+    public static QuizAttemptResponse from(QuizAttemptOverviewDTO dto) {
+        return new QuizAttemptResponse(
+                dto.id(),
+                dto.quizId(),
+                dto.quizVersion(),
                 dto.studentId(),
                 dto.score(),
                 dto.maxScore(),
@@ -1,13 +1,13 @@
 package pl.dominik.elearningcenter.interfaces.rest.quiz.response;
 
-import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptDTO;
+import pl.dominik.elearningcenter.application.quiz.dto.QuizAttemptOverviewDTO;
 
 import java.util.List;
 
 public record QuizAttemptsListResponse(
         List<QuizAttemptResponse> attempts
 ) {
-    public static QuizAttemptsListResponse from(List<QuizAttemptDTO> dtos) {
+    public static QuizAttemptsListResponse from(List<QuizAttemptOverviewDTO> dtos) {
         return new QuizAttemptsListResponse(
                 dtos.stream()
                         .map(QuizAttemptResponse::from)
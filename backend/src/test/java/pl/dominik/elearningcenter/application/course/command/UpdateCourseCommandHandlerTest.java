@@ -5,16 +5,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import pl.dominik.elearningcenter.domain.course.Course;
 import pl.dominik.elearningcenter.domain.course.CourseLevel;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
+import pl.dominik.elearningcenter.domain.course.event.CourseUpdatedEvent;
 import pl.dominik.elearningcenter.domain.course.exception.CourseNotFoundException;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +26,9 @@ class UpdateCourseCommandHandlerTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UpdateCourseCommandHandler handler;
 
@@ -63,6 +69,7 @@ class UpdateCourseCommandHandlerTest {
         assertThat(course.getLevel()).isEqualTo(CourseLevel.ADVANCED);
 
         verify(courseRepository, times(1)).findByIdAndInstructorIdOrThrow(1L, 100L);
+        verify(eventPublisher).publishEvent(any(CourseUpdatedEvent.class));
     }
 
     @Test
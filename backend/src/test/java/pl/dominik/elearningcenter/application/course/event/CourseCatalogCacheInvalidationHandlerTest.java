@@ -0,0 +1,108 @@
+package pl.dominik.elearningcenter.application.course.event;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import pl.dominik.elearningcenter.application.course.query.CatalogPageGenerations;
+import pl.dominik.elearningcenter.application.course.query.GetPublishedCoursesQuery;
+import pl.dominik.elearningcenter.application.course.query.ScrollPublishedCoursesQuery;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.course.event.CourseCreatedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CoursePublishedEvent;
+import pl.dominik.elearningcenter.domain.course.event.CourseUpdatedEvent;
+import pl.dominik.elearningcenter.infrastructure.config.CacheConfig;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CourseCatalogCacheInvalidationHandlerTest {
+
+    private Cache publishedCourses;
+    private Cache courseDetails;
+    private Cache courseCategories;
+    private CatalogPageGenerations pageGenerations;
+    private CourseCatalogCacheInvalidationHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        publishedCourses = new CaffeineCache(CacheConfig.PUBLISHED_COURSES, Caffeine.newBuilder().build());
+        courseDetails = new CaffeineCache(CacheConfig.COURSE_DETAILS, Caffeine.newBuilder().build());
+        courseCategories = new CaffeineCache(CacheConfig.COURSE_CATEGORIES, Caffeine.newBuilder().build());
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(publishedCourses, courseDetails, courseCategories));
+        cacheManager.afterPropertiesSet();
+        pageGenerations = new CatalogPageGenerations();
+        handler = new CourseCatalogCacheInvalidationHandler(cacheManager, pageGenerations);
+    }
+
+    @Test
+    void shouldEvictOnlyPagesWhoseFiltersCanContainPublishedCourse() {
+        GetPublishedCoursesQuery unfiltered = new GetPublishedCoursesQuery(0, 10, null, null);
+        GetPublishedCoursesQuery sameCategory = new GetPublishedCoursesQuery(0, 10, "Programming", null);
+        GetPublishedCoursesQuery otherCategory = new GetPublishedCoursesQuery(0, 10, "Design", null);
+        ScrollPublishedCoursesQuery otherLevel = new ScrollPublishedCoursesQuery(null, 10, "Programming", CourseLevel.ADVANCED);
+        publishedCourses.put(pageKey(unfiltered), "page");
+        publishedCourses.put(pageKey(sameCategory), "page");
+        publishedCourses.put(pageKey(otherCategory), "page");
+        publishedCourses.put(pageKey(otherLevel), "page");
+        courseDetails.put(1L, "details");
+        courseDetails.put(2L, "details");
+
+        handler.onCoursePublished(new CoursePublishedEvent(1L, 100L, "Programming", CourseLevel.BEGINNER));
+
+        assertThat(publishedCourses.get(pageKey(unfiltered))).isNull();
+        assertThat(publishedCourses.get(pageKey(sameCategory))).isNull();
+        assertThat(publishedCourses.get(pageKey(otherCategory))).isNotNull();
+        assertThat(publishedCourses.get(pageKey(otherLevel))).isNotNull();
+        assertThat(courseDetails.get(1L)).isNull();
+        assertThat(courseDetails.get(2L)).isNotNull();
+    }
+
+    @Test
+    void shouldEvictPagesForPreviousAndNewFiltersWhenCourseMovesCategory() {
+        GetPublishedCoursesQuery previous = new GetPublishedCoursesQuery(0, 10, "Programming", null);
+        GetPublishedCoursesQuery current = new GetPublishedCoursesQuery(0, 10, "Design", null);
+        publishedCourses.put(pageKey(previous), "page");
+        publishedCourses.put(pageKey(current), "page");
+        courseCategories.put("all", List.of("Programming"));
+
+        handler.onCourseUpdated(new CourseUpdatedEvent(1L, "Programming", CourseLevel.BEGINNER, "Design", CourseLevel.BEGINNER));
+
+        assertThat(publishedCourses.get(pageKey(previous))).isNull();
+        assertThat(publishedCourses.get(pageKey(current))).isNull();
+        assertThat(courseCategories.get("all")).isNull();
+    }
+
+    @Test
+    void shouldNotServePageStoredAfterEvictionByLoadThatStartedBeforeIt() {
+        GetPublishedCoursesQuery query = new GetPublishedCoursesQuery(0, 10, "Programming", CourseLevel.BEGINNER);
+        CatalogPageGenerations.PageKey keyReadBeforeCommit = pageKey(query);
+
+        handler.onCoursePublished(new CoursePublishedEvent(1L, 100L, "Programming", CourseLevel.BEGINNER));
+        publishedCourses.put(keyReadBeforeCommit, "stale page");
+
+        assertThat(pageKey(query)).isNotEqualTo(keyReadBeforeCommit);
+        assertThat(publishedCourses.get(pageKey(query))).isNull();
+    }
+
+    @Test
+    void shouldEvictCategoriesWhenCourseIsCreated() {
+        courseCategories.put("all", List.of("Programming"));
+
+        handler.onCourseCreated(new CourseCreatedEvent(1L, 100L, "Cooking", CourseLevel.BEGINNER));
+
+        assertThat(courseCategories.get("all")).isNull();
+    }
+
+    private CatalogPageGenerations.PageKey pageKey(GetPublishedCoursesQuery query) {
+        return pageGenerations.pageKey(query, query.category(), query.level());
+    }
+
+    private CatalogPageGenerations.PageKey pageKey(ScrollPublishedCoursesQuery query) {
+        return pageGenerations.pageKey(query, query.category(), query.level());
+    }
+}
@@ -0,0 +1,85 @@
+package pl.dominik.elearningcenter.application.course.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CourseStructureSnapshotCacheTest {
+
+    private CourseStructureSnapshotCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CourseStructureSnapshotCache(
+                course -> course.title().getBytes(StandardCharsets.UTF_8),
+                100,
+                Duration.ofMinutes(10)
+        );
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void shouldLoadAndSerializeOncePerCourse() {
+        Optional<CourseStructureSnapshot> first = cache.get(1L, () -> load(course(1L, "Java")));
+        CourseStructureSnapshot second = cache.get(1L, () -> load(course(1L, "Java"))).orElseThrow();
+
+        assertThat(first).containsSame(second);
+        assertThat(second.body()).isEqualTo("Java".getBytes(StandardCharsets.UTF_8));
+        assertThat(second.etag()).startsWith("\"").endsWith("\"");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldChangeEtagOnlyWhenContentChanges() {
+        String original = cache.get(1L, () -> load(course(1L, "Java"))).orElseThrow().etag();
+
+        cache.evict(1L);
+        String reloadedUnchanged = cache.get(1L, () -> load(course(1L, "Java"))).orElseThrow().etag();
+        cache.evict(1L);
+        String reloadedChanged = cache.get(1L, () -> load(course(1L, "Kotlin"))).orElseThrow().etag();
+
+        assertThat(reloadedUnchanged).isEqualTo(original);
+        assertThat(reloadedChanged).isNotEqualTo(original);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldNotCacheMissingCourse() {
+        assertThat(cache.get(1L, () -> load(null))).isEmpty();
+        assertThat(cache.get(1L, () -> load(course(1L, "Java")))).isPresent();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldMatchIfNoneMatchListsAndWeakValidators() {
+        CourseStructureSnapshot snapshot = cache.get(1L, () -> load(course(1L, "Java"))).orElseThrow();
+
+        assertThat(snapshot.matches(snapshot.etag())).isTrue();
+        assertThat(snapshot.matches("\"other\", W/" + snapshot.etag())).isTrue();
+        assertThat(snapshot.matches("*")).isTrue();
+        assertThat(snapshot.matches("\"other\"")).isFalse();
+        assertThat(snapshot.matches(null)).isFalse();
+    }
+
+    private Optional<CourseDTO> load(CourseDTO course) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(course);
+    }
+
+    private static CourseDTO course(Long id, String title) {
+        return new CourseDTO(id, title, "desc", BigDecimal.TEN, "PLN", null, "Programming",
+                CourseLevel.BEGINNER, 100L, true, LocalDateTime.of(2024, 1, 1, 0, 0), List.of(), 0, 0, null);
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import pl.dominik.elearningcenter.application.enrollment.dto.EnrollmentDTO;
 import pl.dominik.elearningcenter.application.enrollment.mapper.EnrollmentMapper;
@@ -18,8 +19,14 @@ import pl.dominik.elearningcenter.domain.course.exception.CourseNotPublishedExce
 import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+import pl.dominik.elearningcenter.domain.enrollment.exception.AlreadyEnrolledException;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Money;
+import pl.dominik.elearningcenter.domain.user.UserRepository;
+import pl.dominik.elearningcenter.domain.wallet.WalletTransaction;
+import pl.dominik.elearningcenter.domain.wallet.WalletTransactionRepository;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -35,9 +42,18 @@ class EnrollStudentCommandHandlerTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WalletTransactionRepository walletTransactionRepository;
+
     @Mock
     private EnrollmentMapper enrollmentMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EnrollStudentCommandHandler handler;
 
@@ -46,8 +62,7 @@ class EnrollStudentCommandHandlerTest {
         Course course = createPublishedCourse();
 
         when(courseRepository.findById(10L)).thenReturn(Optional.of(course));
-        when(enrollmentRepository.existsByStudentIdAndCourseId(1L, 10L)).thenReturn(false);
-        when(enrollmentRepository.save(any(Enrollment.class))).thenAnswer(i -> i.getArgument(0));
+        when(enrollmentRepository.enroll(any(Enrollment.class))).thenAnswer(i -> i.getArgument(0));
         when(enrollmentMapper.toDto(any(Enrollment.class))).thenReturn(
                 new EnrollmentDTO(1L, 1L, 10L, 0, null, null, EnrollmentStatus.ACTIVE)
         );
@@ -56,7 +71,41 @@ class EnrollStudentCommandHandlerTest {
 
         assertThat(result.studentId()).isEqualTo(1L);
         assertThat(result.courseId()).isEqualTo(10L);
-        verify(enrollmentRepository).save(any(Enrollment.class));
+        verify(enrollmentRepository).enroll(any(Enrollment.class));
+        verify(userRepository).debitBalanceOrThrow(eq(1L), eq(course.getPrice()), any());
+        verify(walletTransactionRepository).save(any(WalletTransaction.class));
+        verify(userRepository, never()).creditBalanceOrThrow(any(), any());
+    }
+
+    @Test
+    void shouldCreditInstructorShareWhenStudentPurchasesCourse() {
+        Course course = createPublishedCourse();
+
+        when(courseRepository.findById(10L)).thenReturn(Optional.of(course));
+        when(enrollmentRepository.enroll(any(Enrollment.class))).thenAnswer(i -> i.getArgument(0));
+
+        handler.handle(new EnrollStudentCommand(2L, 10L));
+
+        verify(userRepository).creditBalanceOrThrow(1L, course.getPrice().multiply(BigDecimal.valueOf(0.9)));
+        verify(walletTransactionRepository, times(2)).save(any(WalletTransaction.class));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenBalanceIsInsufficient() {
+        Course course = createPublishedCourse();
+
+        when(courseRepository.findById(10L)).thenReturn(Optional.of(course));
+        when(enrollmentRepository.enroll(any(Enrollment.class))).thenAnswer(i -> i.getArgument(0));
+        doCallRealMethod().when(userRepository).debitBalanceOrThrow(any(), any(), any());
+        when(userRepository.debitBalance(eq(2L), any(Money.class))).thenReturn(false);
+        when(userRepository.findBalanceCurrencyById(2L)).thenReturn(Optional.of(course.getPrice().getCurrencyCode()));
+
+        assertThatThrownBy(() -> handler.handle(new EnrollStudentCommand(2L, 10L)))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Insufficient balance. Course price: 99.99 USD");
+
+        verify(userRepository, never()).creditBalanceOrThrow(any(), any());
+        verify(walletTransactionRepository, never()).save(any());
     }
 
     @Test
@@ -66,7 +115,7 @@ class EnrollStudentCommandHandlerTest {
         assertThatThrownBy(() -> handler.handle(new EnrollStudentCommand(1L, 999L)))
                 .isInstanceOf(CourseNotFoundException.class);
 
-        verify(enrollmentRepository, never()).save(any());
+        verify(enrollmentRepository, never()).enroll(any());
     }
 
     @Test
@@ -78,7 +127,7 @@ class EnrollStudentCommandHandlerTest {
         assertThatThrownBy(() -> handler.handle(new EnrollStudentCommand(1L, 10L)))
                 .isInstanceOf(CourseNotPublishedException.class);
 
-        verify(enrollmentRepository, never()).save(any());
+        verify(enrollmentRepository, never()).enroll(any());
     }
 
     @Test
@@ -86,12 +135,13 @@ class EnrollStudentCommandHandlerTest {
         Course course = createPublishedCourse();
 
         when(courseRepository.findById(10L)).thenReturn(Optional.of(course));
-        when(enrollmentRepository.existsByStudentIdAndCourseId(1L, 10L)).thenReturn(true);
+        when(enrollmentRepository.enroll(any(Enrollment.class)))
+                .thenThrow(new AlreadyEnrolledException("Student is already enrolled in this course"));
 
         assertThatThrownBy(() -> handler.handle(new EnrollStudentCommand(1L, 10L)))
                 .isInstanceOf(DomainException.class);
 
-        verify(enrollmentRepository, never()).save(any());
+        verify(userRepository, never()).debitBalanceOrThrow(any(), any(), any());
     }
 
     private Course createPublishedCourse() {
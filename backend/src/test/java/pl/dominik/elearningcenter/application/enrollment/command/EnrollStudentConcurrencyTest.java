@@ -0,0 +1,161 @@
+package pl.dominik.elearningcenter.application.enrollment.command;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.course.CourseRepository;
+import pl.dominik.elearningcenter.domain.course.Lesson;
+import pl.dominik.elearningcenter.domain.course.Section;
+import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
+import pl.dominik.elearningcenter.domain.enrollment.exception.AlreadyEnrolledException;
+import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Money;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
+import pl.dominik.elearningcenter.domain.user.User;
+import pl.dominik.elearningcenter.domain.user.UserRepository;
+import pl.dominik.elearningcenter.domain.user.UserRole;
+import pl.dominik.elearningcenter.domain.wallet.WalletTransactionRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EnrollStudentConcurrencyTest {
+
+    private static final int STUDENTS = 40;
+    private static final int ATTEMPTS_PER_STUDENT_AND_COURSE = 25;
+    private static final int THREADS = 32;
+    private static final BigDecimal PRICE = new BigDecimal("10.00");
+    private static final BigDecimal STARTING_BALANCE = new BigDecimal("15.00");
+
+    @Autowired
+    private EnrollStudentCommandHandler handler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private WalletTransactionRepository walletTransactionRepository;
+
+    @Test
+    void shouldNeverDoubleEnrollOrOverdrawUnderParallelPurchases() throws Exception {
+        User instructor = userRepository.save(newUser("stress_instructor", UserRole.INSTRUCTOR));
+        Course first = courseRepository.save(publishedCourse("Stress course A", instructor.getId()));
+        Course second = courseRepository.save(publishedCourse("Stress course B", instructor.getId()));
+
+        List<Long> studentIds = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            User student = newUser("stress_student_" + i, UserRole.STUDENT);
+            student.addBalance(Money.pln(STARTING_BALANCE));
+            studentIds.add(userRepository.save(student).getId());
+        }
+
+        // Every student races for both courses but can only afford one of them.
+        List<EnrollStudentCommand> commands = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            for (int i = 0; i < ATTEMPTS_PER_STUDENT_AND_COURSE; i++) {
+                commands.add(new EnrollStudentCommand(studentId, first.getId()));
+                commands.add(new EnrollStudentCommand(studentId, second.getId()));
+            }
+        }
+        Collections.shuffle(commands);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (EnrollStudentCommand command : commands) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        handler.handle(command);
+                        succeeded.incrementAndGet();
+                    } catch (AlreadyEnrolledException e) {
+                        rejected.incrementAndGet();
+                    } catch (DomainException e) {
+                        assertThat(e).hasMessageStartingWith("Insufficient balance");
+                        rejected.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get() + rejected.get()).isEqualTo(commands.size());
+
+        List<Enrollment> enrollments = new ArrayList<>(enrollmentRepository.findByCourseId(first.getId()));
+        enrollments.addAll(enrollmentRepository.findByCourseId(second.getId()));
+        assertThat(enrollments).hasSize(succeeded.get());
+        assertThat(enrollments.stream().map(Enrollment::getStudentId).collect(Collectors.toSet()))
+                .as("each student ends up enrolled in exactly one course")
+                .hasSize(STUDENTS)
+                .hasSize(enrollments.size());
+
+        for (Long studentId : studentIds) {
+            User student = userRepository.findByIdOrThrow(studentId);
+            assertThat(student.getBalance().getAmount()).isEqualByComparingTo(STARTING_BALANCE.subtract(PRICE));
+            assertThat(walletTransactionRepository.findByUserId(studentId, Pageable.unpaged()).getTotalElements())
+                    .isEqualTo(1);
+        }
+
+        User paidInstructor = userRepository.findByIdOrThrow(instructor.getId());
+        BigDecimal expectedEarnings = PRICE.multiply(BigDecimal.valueOf(0.9)).multiply(BigDecimal.valueOf(STUDENTS));
+        assertThat(paidInstructor.getBalance().getAmount()).isEqualByComparingTo(expectedEarnings);
+    }
+
+    private static User newUser(String username, UserRole role) {
+        return User.register(
+                new Username(username),
+                new Email(username + "@example.com"),
+                Password.fromHashed("hashedPassword"),
+                role
+        );
+    }
+
+    private static Course publishedCourse(String title, Long instructorId) {
+        Course course = Course.create(title, "Description", PRICE.doubleValue(), "PLN", instructorId,
+                "Programming", CourseLevel.BEGINNER);
+        Section section = new Section("Section", 1);
+        section.addLesson(new Lesson("Lesson", "Content", 1));
+        course.addSection(section);
+        course.publish();
+        return course;
+    }
+}
@@ -2,22 +2,24 @@ package pl.dominik.elearningcenter.application.enrollment.command;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
-import pl.dominik.elearningcenter.domain.course.Course;
-import pl.dominik.elearningcenter.domain.course.CourseLevel;
 import pl.dominik.elearningcenter.domain.course.CourseRepository;
-import pl.dominik.elearningcenter.domain.course.Lesson;
-import pl.dominik.elearningcenter.domain.course.Section;
 import pl.dominik.elearningcenter.domain.enrollment.CompletedLesson;
 import pl.dominik.elearningcenter.domain.enrollment.CompletedLessonRepository;
 import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+import pl.dominik.elearningcenter.domain.enrollment.LessonCompletionProgress;
+import pl.dominik.elearningcenter.domain.enrollment.event.LessonCompletedEvent;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -34,87 +36,89 @@ class MarkLessonAsCompletedCommandHandlerTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MarkLessonAsCompletedCommandHandler handler;
 
     @Test
     void shouldMarkLessonAsCompletedAndUpdateProgress() {
-        Enrollment enrollment = Enrollment.enroll(5L, 10L);
-        Course course = createCourseWithLessons(10L, 20L, 30L, 4);
-
-        when(enrollmentRepository.findByIdOrThrow(1L)).thenReturn(enrollment);
-        when(courseRepository.findByIdOrThrow(10L)).thenReturn(course);
-        when(completedLessonRepository.existsByEnrollmentIdAndLessonId(1L, 30L)).thenReturn(false);
-        when(completedLessonRepository.countByEnrollmentId(1L)).thenReturn(1L);
+        when(completedLessonRepository.saveIfAbsent(any(CompletedLesson.class))).thenReturn(true);
+        when(enrollmentRepository.recordLessonCompleted(1L, 5L, 20L, 30L))
+                .thenReturn(Optional.of(new LessonCompletionProgress(10L, 25, EnrollmentStatus.ACTIVE)));
 
         handler.handle(new MarkLessonAsCompletedCommand(1L, 20L, 30L, 5L));
 
-        assertThat(enrollment.getProgress().getPercentage()).isEqualTo(25);
+        ArgumentCaptor<LessonCompletedEvent> event = ArgumentCaptor.forClass(LessonCompletedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getCourseId()).isEqualTo(10L);
+        assertThat(event.getValue().getProgress()).isEqualTo(25);
+        verify(enrollmentRepository, never()).findByIdForUpdateOrThrow(any());
+        verifyNoInteractions(courseRepository);
     }
 
     @Test
-    void shouldCompleteEnrollmentWhenAllLessonsCompleted() {
+    void shouldSeedCounterFromCompletedLessonsForLegacyEnrollment() {
         Enrollment enrollment = Enrollment.enroll(5L, 10L);
-        Course course = createCourseWithLessons(10L, 20L, 30L, 2);
+        ReflectionTestUtils.setField(enrollment, "completedLessonsCount", null);
 
-        when(enrollmentRepository.findByIdOrThrow(1L)).thenReturn(enrollment);
-        when(courseRepository.findByIdOrThrow(10L)).thenReturn(course);
-        when(completedLessonRepository.existsByEnrollmentIdAndLessonId(1L, 30L)).thenReturn(false);
-        when(completedLessonRepository.countByEnrollmentId(1L)).thenReturn(2L);
+        when(completedLessonRepository.saveIfAbsent(any(CompletedLesson.class))).thenReturn(true);
+        when(enrollmentRepository.recordLessonCompleted(1L, 5L, 20L, 30L)).thenReturn(Optional.empty());
+        when(enrollmentRepository.findByIdForUpdateOrThrow(1L)).thenReturn(enrollment);
+        when(courseRepository.findTotalLessonsCountByLesson(10L, 20L, 30L)).thenReturn(Optional.of(4));
+        when(completedLessonRepository.countByEnrollmentId(1L)).thenReturn(3L);
 
         handler.handle(new MarkLessonAsCompletedCommand(1L, 20L, 30L, 5L));
 
-        assertThat(enrollment.getStatus()).isEqualTo(EnrollmentStatus.COMPLETED);
+        assertThat(enrollment.getCompletedLessonsCount()).isEqualTo(3);
+        assertThat(enrollment.getProgress().getPercentage()).isEqualTo(75);
+        verify(eventPublisher).publishEvent(any(LessonCompletedEvent.class));
     }
 
     @Test
-    void shouldNotSaveDuplicateCompletedLesson() {
-        Enrollment enrollment = Enrollment.enroll(5L, 10L);
-        Course course = createCourseWithLessons(10L, 20L, 30L, 4);
-
-        when(enrollmentRepository.findByIdOrThrow(1L)).thenReturn(enrollment);
-        when(courseRepository.findByIdOrThrow(10L)).thenReturn(course);
-        when(completedLessonRepository.existsByEnrollmentIdAndLessonId(1L, 30L)).thenReturn(true);
+    void shouldNotPublishWhenLessonWasAlreadyCompleted() {
+        when(completedLessonRepository.saveIfAbsent(any(CompletedLesson.class))).thenReturn(false);
+        when(enrollmentRepository.findByIdOrThrow(1L)).thenReturn(Enrollment.enroll(5L, 10L));
 
         handler.handle(new MarkLessonAsCompletedCommand(1L, 20L, 30L, 5L));
 
-        verify(completedLessonRepository, never()).save(any());
+        verify(enrollmentRepository, never()).recordLessonCompleted(any(), any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenLessonDoesNotBelongToCourse() {
+        when(completedLessonRepository.saveIfAbsent(any(CompletedLesson.class))).thenReturn(true);
+        when(enrollmentRepository.recordLessonCompleted(1L, 5L, 20L, 30L)).thenReturn(Optional.empty());
+        when(enrollmentRepository.findByIdForUpdateOrThrow(1L)).thenReturn(Enrollment.enroll(5L, 10L));
+        when(courseRepository.findTotalLessonsCountByLesson(10L, 20L, 30L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> handler.handle(new MarkLessonAsCompletedCommand(1L, 20L, 30L, 5L)))
+                .isInstanceOf(DomainException.class)
+                .hasMessage("Lesson not found: 30");
+
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void shouldThrowExceptionWhenStudentDoesNotOwnEnrollment() {
-        Enrollment enrollment = Enrollment.enroll(5L, 10L);
-        when(enrollmentRepository.findByIdOrThrow(1L)).thenReturn(enrollment);
+        when(completedLessonRepository.saveIfAbsent(any(CompletedLesson.class))).thenReturn(true);
+        when(enrollmentRepository.recordLessonCompleted(1L, 999L, 20L, 30L)).thenReturn(Optional.empty());
+        when(enrollmentRepository.findByIdForUpdateOrThrow(1L)).thenReturn(Enrollment.enroll(5L, 10L));
 
         assertThatThrownBy(() -> handler.handle(new MarkLessonAsCompletedCommand(1L, 20L, 30L, 999L)))
                 .isInstanceOf(DomainException.class);
 
-        verify(completedLessonRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
-    private Course createCourseWithLessons(Long courseId, Long sectionId, Long lessonId, int totalLessons) {
-        Course course = Course.create(
-                "Test Course",
-                "Description",
-                99.99,
-                "USD",
-                1L,
-                "Programming",
-                CourseLevel.BEGINNER
-        );
-
-        Section section = new Section("Test Section", 1);
-        ReflectionTestUtils.setField(section, "id", sectionId);
-
-        for (int i = 0; i < totalLessons; i++) {
-            Lesson lesson = new Lesson("Lesson " + i, "Content " + i, i + 1);
-            if (i == 0) {
-                ReflectionTestUtils.setField(lesson, "id", lessonId);
-            }
-            section.addLesson(lesson);
-        }
-        course.addSection(section);
-
-        return course;
+    @Test
+    void shouldThrowExceptionWhenStudentRepeatsCompletionOnForeignEnrollment() {
+        when(completedLessonRepository.saveIfAbsent(any(CompletedLesson.class))).thenReturn(false);
+        when(enrollmentRepository.findByIdOrThrow(1L)).thenReturn(Enrollment.enroll(5L, 10L));
+
+        assertThatThrownBy(() -> handler.handle(new MarkLessonAsCompletedCommand(1L, 20L, 30L, 999L)))
+                .isInstanceOf(DomainException.class);
     }
 }
@@ -0,0 +1,234 @@
+package pl.dominik.elearningcenter.application.enrollment.command;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.course.Lesson;
+import pl.dominik.elearningcenter.domain.course.Section;
+import pl.dominik.elearningcenter.domain.enrollment.CompletedLesson;
+import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+import pl.dominik.elearningcenter.domain.enrollment.ProgressRecalculationJob;
+import pl.dominik.elearningcenter.domain.enrollment.ProgressRecalculationJobRepository;
+import pl.dominik.elearningcenter.infrastructure.persistence.course.CourseRepositoryAdapter;
+import pl.dominik.elearningcenter.infrastructure.persistence.enrollment.CompletedLessonBitmap;
+import pl.dominik.elearningcenter.infrastructure.persistence.enrollment.EnrollmentRepositoryAdapter;
+import pl.dominik.elearningcenter.infrastructure.persistence.enrollment.ProgressRecalculationJobRepositoryAdapter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({
+        RecalculateEnrollmentProgressCommandHandler.class,
+        EnrollmentRepositoryAdapter.class,
+        CourseRepositoryAdapter.class,
+        ProgressRecalculationJobRepositoryAdapter.class
+})
+class RecalculateEnrollmentProgressCommandHandlerTest {
+
+    @Autowired
+    private RecalculateEnrollmentProgressCommandHandler handler;
+
+    @Autowired
+    private ProgressRecalculationJobRepository jobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldRecalculateProgressAndStatusInCheckpointedChunks() {
+        Course course = courseWithLessons(2);
+        entityManager.persist(course);
+
+        Enrollment halfway = enrollWithCompletions(1L, course, 1);
+        Enrollment finished = enrollWithCompletions(2L, course, 2);
+        Enrollment legacy = enrollWithCompletions(3L, course, 1);
+        ReflectionTestUtils.setField(legacy, "completedLessonsCount", null);
+        ReflectionTestUtils.setField(legacy, "totalLessonsCount", null);
+        Enrollment dropped = enrollWithCompletions(4L, course, 0);
+        dropped.drop();
+
+        course.addSection(sectionWithLessons(2));
+        entityManager.flush();
+        jobRepository.request(course.getId());
+
+        RecalculateEnrollmentProgressCommand command = new RecalculateEnrollmentProgressCommand(course.getId(), 3);
+        assertThat(handler.handle(command)).isTrue();
+        ProgressRecalculationJob job = jobRepository.findByCourseIdForUpdate(course.getId()).orElseThrow();
+        assertThat(job.getLastEnrollmentId()).isEqualTo(legacy.getId());
+        assertThat(job.getProcessedEnrollments()).isEqualTo(3);
+        assertThat(job.getTotalEnrollments()).isEqualTo(4);
+
+        assertThat(handler.handle(command)).isTrue();
+        assertThat(handler.handle(command)).isFalse();
+        assertThat(handler.handle(command)).isFalse();
+        entityManager.clear();
+
+        Enrollment halfwayAfter = entityManager.find(Enrollment.class, halfway.getId());
+        assertThat(halfwayAfter.getTotalLessonsCount()).isEqualTo(4);
+        assertThat(halfwayAfter.getProgress().getPercentage()).isEqualTo(25);
+
+        Enrollment finishedAfter = entityManager.find(Enrollment.class, finished.getId());
+        assertThat(finishedAfter.getProgress().getPercentage()).isEqualTo(50);
+        assertThat(finishedAfter.getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        assertThat(finishedAfter.getCompletedAt()).isNull();
+
+        Enrollment legacyAfter = entityManager.find(Enrollment.class, legacy.getId());
+        assertThat(legacyAfter.getCompletedLessonsCount()).isEqualTo(1);
+        assertThat(legacyAfter.getProgress().getPercentage()).isEqualTo(25);
+
+        assertThat(entityManager.find(Enrollment.class, dropped.getId()).getStatus()).isEqualTo(EnrollmentStatus.DROPPED);
+        assertThat(entityManager.find(ProgressRecalculationJob.class, course.getId()).isFinished()).isTrue();
+    }
+
+    @Test
+    void shouldCompleteEnrollmentsThatFinishedAllRemainingLessons() {
+        Course course = courseWithLessons(3);
+        entityManager.persist(course);
+        Enrollment enrollment = enrollWithCompletions(1L, course, 2);
+        entityManager.flush();
+
+        Section section = course.getSections().get(0);
+        section.removeLesson(section.getLessons().get(2).getId());
+        entityManager.flush();
+        jobRepository.request(course.getId());
+
+        while (handler.handle(new RecalculateEnrollmentProgressCommand(course.getId(), 10))) {
+            // drain
+        }
+        entityManager.clear();
+
+        Enrollment after = entityManager.find(Enrollment.class, enrollment.getId());
+        assertThat(after.getProgress().getPercentage()).isEqualTo(100);
+        assertThat(after.getStatus()).isEqualTo(EnrollmentStatus.COMPLETED);
+        assertThat(after.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldIgnoreCompletionsOfDeletedLessonsWhenTotalIsUnchanged() {
+        Course course = courseWithLessons(3);
+        entityManager.persist(course);
+        Enrollment enrollment = enrollWithCompletions(1L, course, 2);
+        entityManager.flush();
+
+        Section section = course.getSections().get(0);
+        section.removeLesson(section.getLessons().get(0).getId());
+        section.addLesson(new Lesson("Replacement", "Content", 3));
+        entityManager.flush();
+        jobRepository.request(course.getId());
+
+        while (handler.handle(new RecalculateEnrollmentProgressCommand(course.getId(), 10))) {
+            // drain
+        }
+        entityManager.clear();
+
+        Enrollment after = entityManager.find(Enrollment.class, enrollment.getId());
+        assertThat(after.getTotalLessonsCount()).isEqualTo(3);
+        assertThat(after.getCompletedLessonsCount()).isEqualTo(1);
+        assertThat(after.getProgress().getPercentage()).isEqualTo(33);
+        assertThat(after.getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+    }
+
+    @Test
+    void shouldDropBitsOfDeletedLessonsFromCompletionBitmaps() {
+        Course course = courseWithLessons(3);
+        entityManager.persist(course);
+        List<Lesson> lessons = course.getSections().get(0).getLessons();
+        Enrollment enrollment = Enrollment.enroll(1L, course.getId(), 3);
+        enrollment.recordCompletedLessons(3, 3);
+        entityManager.persist(enrollment);
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE enrollments SET completed_lessons_bitmap = :bitmap WHERE id = :id")
+                .setParameter("bitmap", CompletedLessonBitmap.encode(CompletedLessonBitmap.of(
+                        lessons.stream().map(Lesson::getId).toList())))
+                .setParameter("id", enrollment.getId())
+                .executeUpdate();
+
+        course.getSections().get(0).removeLesson(lessons.get(0).getId());
+        course.getSections().get(0).addLesson(new Lesson("Replacement", "Content", 3));
+        entityManager.flush();
+        jobRepository.request(course.getId());
+
+        while (handler.handle(new RecalculateEnrollmentProgressCommand(course.getId(), 10))) {
+            // drain
+        }
+        entityManager.clear();
+
+        Enrollment after = entityManager.find(Enrollment.class, enrollment.getId());
+        assertThat(after.getCompletedLessonsCount()).isEqualTo(2);
+        assertThat(after.getProgress().getPercentage()).isEqualTo(66);
+        assertThat(after.getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        byte[] bitmap = (byte[]) entityManager.getEntityManager()
+                .createNativeQuery("SELECT completed_lessons_bitmap FROM enrollments WHERE id = :id")
+                .setParameter("id", enrollment.getId())
+                .getSingleResult();
+        assertThat(CompletedLessonBitmap.decode(bitmap).getCardinality()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRewindJobWhenRequestedAgain() {
+        Course course = courseWithLessons(2);
+        entityManager.persist(course);
+        enrollWithCompletions(1L, course, 1);
+        enrollWithCompletions(2L, course, 1);
+        course.addSection(sectionWithLessons(1));
+        entityManager.flush();
+        jobRepository.request(course.getId());
+        assertThat(handler.handle(new RecalculateEnrollmentProgressCommand(course.getId(), 1))).isTrue();
+
+        jobRepository.request(course.getId());
+        entityManager.clear();
+
+        ProgressRecalculationJob job = jobRepository.findByCourseIdForUpdate(course.getId()).orElseThrow();
+        assertThat(job.getLastEnrollmentId()).isZero();
+        assertThat(job.isStarted()).isFalse();
+        assertThat(jobRepository.findUnfinishedCourseIds()).contains(course.getId());
+    }
+
+    private Enrollment enrollWithCompletions(Long studentId, Course course, int completed) {
+        Enrollment enrollment = Enrollment.enroll(studentId, course.getId(), course.getTotalLessonsCount());
+        enrollment.recordCompletedLessons(completed, course.getTotalLessonsCount());
+        entityManager.persist(enrollment);
+        List<Lesson> lessons = course.getSections().stream()
+                .flatMap(section -> section.getLessons().stream())
+                .toList();
+        for (int i = 0; i < completed; i++) {
+            entityManager.persist(CompletedLesson.create(enrollment.getId(), lessons.get(i).getId()));
+        }
+        return enrollment;
+    }
+
+    private Course courseWithLessons(int lessons) {
+        Course course = Course.create(
+                "Progress Course",
+                "Description",
+                49.99,
+                "PLN",
+                1L,
+                "Programming",
+                CourseLevel.BEGINNER
+        );
+        course.addSection(sectionWithLessons(lessons));
+        return course;
+    }
+
+    private Section sectionWithLessons(int lessons) {
+        Section section = new Section("Section", 0);
+        for (int i = 0; i < lessons; i++) {
+            section.addLesson(new Lesson("Lesson " + i, "Content", i));
+        }
+        return section;
+    }
+}
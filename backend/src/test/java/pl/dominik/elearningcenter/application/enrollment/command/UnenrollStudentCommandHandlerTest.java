@@ -5,9 +5,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+import pl.dominik.elearningcenter.domain.enrollment.event.EnrollmentCancelledEvent;
 import pl.dominik.elearningcenter.domain.enrollment.exception.EnrollmentNotFoundException;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 
@@ -20,6 +22,9 @@ class UnenrollStudentCommandHandlerTest {
     @Mock
     private EnrollmentRepository enrollmentRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UnenrollStudentCommandHandler handler;
 
@@ -32,6 +37,7 @@ class UnenrollStudentCommandHandlerTest {
 
         assertThat(enrollment.getStatus()).isEqualTo(EnrollmentStatus.DROPPED);
         verify(enrollmentRepository).delete(enrollment);
+        verify(eventPublisher).publishEvent(any(EnrollmentCancelledEvent.class));
     }
 
     @Test
@@ -0,0 +1,51 @@
+package pl.dominik.elearningcenter.application.enrollment.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import pl.dominik.elearningcenter.application.enrollment.command.RecalculateEnrollmentProgressCommandHandler;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.course.event.CourseStructureChangedEvent;
+import pl.dominik.elearningcenter.domain.enrollment.ProgressRecalculationJobRepository;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(EnrollmentProgressRecalculationHandlerTest.Config.class)
+class EnrollmentProgressRecalculationHandlerTest {
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(EnrollmentProgressRecalculationHandler.class)
+    static class Config {
+    }
+
+    @MockitoBean
+    private ProgressRecalculationJobRepository jobRepository;
+
+    @MockitoBean
+    private RecalculateEnrollmentProgressCommandHandler recalculateHandler;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void shouldScheduleRecalculationWhenLessonsChange() {
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(1L, "Programming", CourseLevel.BEGINNER, true));
+
+        verify(jobRepository).request(1L);
+        verify(recalculateHandler, timeout(1000)).handle(any());
+    }
+
+    @Test
+    void shouldNotScheduleRecalculationWhenOnlySectionsAreRenamedOrReordered() {
+        eventPublisher.publishEvent(new CourseStructureChangedEvent(1L, "Programming", CourseLevel.BEGINNER, false));
+
+        verifyNoInteractions(jobRepository, recalculateHandler);
+    }
+}
@@ -0,0 +1,106 @@
+package pl.dominik.elearningcenter.application.quiz.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import pl.dominik.elearningcenter.application.quiz.mapper.AnswerMapper;
+import pl.dominik.elearningcenter.application.quiz.mapper.QuestionMapper;
+import pl.dominik.elearningcenter.application.quiz.mapper.QuizMapper;
+import pl.dominik.elearningcenter.domain.quiz.Question;
+import pl.dominik.elearningcenter.domain.quiz.QuestionType;
+import pl.dominik.elearningcenter.domain.quiz.Quiz;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.Answer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StudentQuizPayloadCacheTest {
+
+    private StudentQuizPayloadCache cache;
+    private AtomicInteger renders;
+
+    @BeforeEach
+    void setUp() {
+        renders = new AtomicInteger();
+        cache = new StudentQuizPayloadCache(
+                new QuizMapper(new QuestionMapper(new AnswerMapper())),
+                quiz -> {
+                    renders.incrementAndGet();
+                    String correctFlags = quiz.questions().stream()
+                            .flatMap(q -> q.answers().stream())
+                            .map(a -> String.valueOf(a.correct()))
+                            .toList()
+                            .toString();
+                    return (quiz.title() + correctFlags).getBytes(StandardCharsets.UTF_8);
+                },
+                100,
+                Duration.ofMinutes(10)
+        );
+    }
+
+    @Test
+    void shouldRenderOncePerContentVersionWithoutCorrectFlags() {
+        Quiz quiz = quiz();
+
+        StudentQuizPayload first = cache.get(quiz.takeSnapshot());
+        StudentQuizPayload second = cache.get(quiz.takeSnapshot());
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(second.body(), StandardCharsets.UTF_8)).isEqualTo("Quiz[false, false]");
+        assertThat(second.version()).isEqualTo(quiz.getContentVersion());
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    void shouldRerenderWhenSnapshotVersionAdvances() {
+        Quiz quiz = quiz();
+        QuizSnapshot stale = quiz.takeSnapshot();
+        StudentQuizPayload original = cache.get(stale);
+
+        quiz.updateTitle("Quiz v2");
+        StudentQuizPayload updated = cache.get(quiz.takeSnapshot());
+
+        assertThat(updated.etag()).isNotEqualTo(original.etag());
+        assertThat(cache.get(stale)).isSameAs(updated);
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void shouldRerenderAfterEviction() {
+        Quiz quiz = quiz();
+        StudentQuizPayload original = cache.get(quiz.takeSnapshot());
+
+        cache.evict(quiz.getId());
+        StudentQuizPayload reloaded = cache.get(quiz.takeSnapshot());
+
+        assertThat(reloaded).isNotSameAs(original);
+        assertThat(reloaded.etag()).isEqualTo(original.etag());
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void shouldMatchIfNoneMatchListsAndWeakValidators() {
+        StudentQuizPayload payload = cache.get(quiz().takeSnapshot());
+
+        assertThat(payload.matches(payload.etag())).isTrue();
+        assertThat(payload.matches("\"other\", W/" + payload.etag())).isTrue();
+        assertThat(payload.matches("*")).isTrue();
+        assertThat(payload.matches("\"other\"")).isFalse();
+        assertThat(payload.matches(null)).isFalse();
+    }
+
+    private static Quiz quiz() {
+        Quiz quiz = Quiz.create("Quiz", 50, 1L);
+        ReflectionTestUtils.setField(quiz, "id", 1L);
+        Question question = new Question("Q1", QuestionType.SINGLE_CHOICE, 0);
+        question.setAnswers(List.of(Answer.of("A", true), Answer.of("B", false)));
+        quiz.addQuestion(question);
+        ReflectionTestUtils.setField(question, "id", 10L);
+        return quiz;
+    }
+}
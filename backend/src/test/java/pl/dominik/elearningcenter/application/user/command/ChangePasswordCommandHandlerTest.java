@@ -5,6 +5,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
@@ -12,6 +13,7 @@ import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
 import pl.dominik.elearningcenter.domain.user.UserRole;
+import pl.dominik.elearningcenter.domain.user.event.UserAccessChangedEvent;
 import pl.dominik.elearningcenter.domain.user.exception.UserNotFoundException;
 import pl.dominik.elearningcenter.infrastructure.security.PasswordHashingService;
 
@@ -30,6 +32,9 @@ class ChangePasswordCommandHandlerTest {
     @Mock
     private PasswordHashingService passwordHashingService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ChangePasswordCommandHandler handler;
 
@@ -53,6 +58,8 @@ class ChangePasswordCommandHandlerTest {
         verify(userRepository).findById(1L);
         verify(passwordHashingService).matches(eq("oldPassword"), any(Password.class));
         verify(passwordHashingService).hashPassword("newPassword123");
+        assertThat(user.getTokenVersion()).isEqualTo(1L);
+        verify(eventPublisher).publishEvent(any(UserAccessChangedEvent.class));
     }
 
     @Test
@@ -90,5 +97,6 @@ class ChangePasswordCommandHandlerTest {
         verify(userRepository).findById(1L);
         verify(passwordHashingService).matches(eq("wrongOldPassword"), any(Password.class));
         verify(passwordHashingService, never()).hashPassword(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
@@ -12,6 +12,7 @@ import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRepository;
 import pl.dominik.elearningcenter.domain.user.UserRole;
+import pl.dominik.elearningcenter.infrastructure.email.EmailService;
 import pl.dominik.elearningcenter.infrastructure.security.PasswordHashingService;
 
 import static org.assertj.core.api.Assertions.*;
@@ -27,6 +28,9 @@ class RegisterUserCommandHandlerTest {
     @Mock
     private PasswordHashingService passwordHashingService;
 
+    @Mock
+    private EmailService emailService;
+
     @InjectMocks
     private RegisterUserCommandHandler handler;
 
@@ -55,6 +59,7 @@ class RegisterUserCommandHandlerTest {
         verify(userRepository).existsByUsername(any(Username.class));
         verify(passwordHashingService).hashPassword("password123");
         verify(userRepository).save(any(User.class));
+        verify(emailService).sendVerificationEmail(eq("john@example.com"), eq("john_doe"), anyString());
     }
 
     @Test
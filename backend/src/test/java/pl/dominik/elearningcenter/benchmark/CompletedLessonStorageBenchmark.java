@@ -0,0 +1,209 @@
+package pl.dominik.elearningcenter.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.roaringbitmap.RoaringBitmap;
+import pl.dominik.elearningcenter.infrastructure.persistence.enrollment.CompletedLessonBitmap;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading an enrollment's completed lessons from one completed_lesson row per lesson with
+ * reading the single bitmap column, over an H2 file database holding {@code completions} completions
+ * ({@code lessonsPerEnrollment} of 150 lessons per enrollment, 1000 courses). Setup prints the storage
+ * used by the bitmaps next to the raw size of the row table.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     "-Dexec.args=-cp %classpath pl.dominik.elearningcenter.benchmark.CompletedLessonStorageBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class CompletedLessonStorageBenchmark {
+
+    private static final int COURSES = 1000;
+    private static final int LESSONS_PER_COURSE = 150;
+    private static final int ROW_BYTES = 8 + 8 + 8 + 8;
+
+    @Param("10000000")
+    public int completions;
+
+    @Param("100")
+    public int lessonsPerEnrollment;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement countRows;
+    private PreparedStatement existsRow;
+    private PreparedStatement listRows;
+    private PreparedStatement selectBitmap;
+    private int enrollments;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("completed-lessons-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("db") + ";DB_CLOSE_ON_EXIT=FALSE", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE enrollments (id BIGINT PRIMARY KEY, course_id BIGINT NOT NULL, completed_lessons_bitmap VARBINARY(65536))");
+            statement.execute("CREATE TABLE completed_lesson (id BIGINT AUTO_INCREMENT PRIMARY KEY, enrollment_id BIGINT NOT NULL, lesson_id BIGINT NOT NULL, completed_at TIMESTAMP)");
+        }
+        enrollments = completions / lessonsPerEnrollment;
+        long bitmapBytes = load();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE UNIQUE INDEX uk_completed_lesson ON completed_lesson (enrollment_id, lesson_id)");
+        }
+        System.out.printf("%n%d enrollments, %d completions: rows >= %d KB raw, bitmaps %d KB (%.1f bytes per enrollment)%n",
+                enrollments, (long) enrollments * lessonsPerEnrollment,
+                (long) enrollments * lessonsPerEnrollment * ROW_BYTES >> 10, bitmapBytes >> 10, (double) bitmapBytes / enrollments);
+
+        countRows = connection.prepareStatement("SELECT COUNT(*) FROM completed_lesson WHERE enrollment_id = ?");
+        existsRow = connection.prepareStatement("SELECT 1 FROM completed_lesson WHERE enrollment_id = ? AND lesson_id = ?");
+        listRows = connection.prepareStatement("SELECT lesson_id FROM completed_lesson WHERE enrollment_id = ? ORDER BY lesson_id");
+        selectBitmap = connection.prepareStatement("SELECT completed_lessons_bitmap FROM enrollments WHERE id = ?");
+    }
+
+    private long load() throws SQLException {
+        Random random = new Random(42);
+        long bitmapBytes = 0;
+        connection.setAutoCommit(false);
+        try (PreparedStatement insertEnrollment = connection.prepareStatement("INSERT INTO enrollments VALUES (?, ?, ?)");
+             PreparedStatement insertRow = connection.prepareStatement(
+                     "INSERT INTO completed_lesson (enrollment_id, lesson_id, completed_at) VALUES (?, ?, CURRENT_TIMESTAMP)")) {
+            for (int enrollmentId = 1; enrollmentId <= enrollments; enrollmentId++) {
+                int course = enrollmentId % COURSES;
+                RoaringBitmap bitmap = new RoaringBitmap();
+                while (bitmap.getCardinality() < lessonsPerEnrollment) {
+                    bitmap.add(course * LESSONS_PER_COURSE + 1 + random.nextInt(LESSONS_PER_COURSE));
+                }
+                for (int lessonId : bitmap) {
+                    insertRow.setLong(1, enrollmentId);
+                    insertRow.setLong(2, lessonId);
+                    insertRow.addBatch();
+                }
+                byte[] encoded = CompletedLessonBitmap.encode(bitmap);
+                bitmapBytes += encoded.length;
+                insertEnrollment.setLong(1, enrollmentId);
+                insertEnrollment.setLong(2, course);
+                insertEnrollment.setBytes(3, encoded);
+                insertEnrollment.addBatch();
+                if (enrollmentId % 1000 == 0) {
+                    insertRow.executeBatch();
+                    insertEnrollment.executeBatch();
+                    connection.commit();
+                }
+            }
+            insertRow.executeBatch();
+            insertEnrollment.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+        return bitmapBytes;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS DELETE FILES");
+        }
+        connection.close();
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public long rowsCount() throws SQLException {
+        countRows.setLong(1, randomEnrollment());
+        try (ResultSet resultSet = countRows.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    @Benchmark
+    public long bitmapCount() throws SQLException {
+        return readBitmap(randomEnrollment()).getLongCardinality();
+    }
+
+    @Benchmark
+    public boolean rowsExists() throws SQLException {
+        long enrollmentId = randomEnrollment();
+        existsRow.setLong(1, enrollmentId);
+        existsRow.setLong(2, randomLesson(enrollmentId));
+        try (ResultSet resultSet = existsRow.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    @Benchmark
+    public boolean bitmapExists() throws SQLException {
+        long enrollmentId = randomEnrollment();
+        return readBitmap(enrollmentId).contains((int) randomLesson(enrollmentId));
+    }
+
+    @Benchmark
+    public long[] rowsList() throws SQLException {
+        listRows.setLong(1, randomEnrollment());
+        long[] lessonIds = new long[lessonsPerEnrollment];
+        int count = 0;
+        try (ResultSet resultSet = listRows.executeQuery()) {
+            while (resultSet.next()) {
+                lessonIds[count++] = resultSet.getLong(1);
+            }
+        }
+        return lessonIds;
+    }
+
+    @Benchmark
+    public long[] bitmapList() throws SQLException {
+        return CompletedLessonBitmap.toLessonIds(readBitmap(randomEnrollment()));
+    }
+
+    private RoaringBitmap readBitmap(long enrollmentId) throws SQLException {
+        selectBitmap.setLong(1, enrollmentId);
+        try (ResultSet resultSet = selectBitmap.executeQuery()) {
+            resultSet.next();
+            return CompletedLessonBitmap.decode(resultSet.getBytes(1));
+        }
+    }
+
+    private long randomEnrollment() {
+        return 1 + ThreadLocalRandom.current().nextInt(enrollments);
+    }
+
+    private long randomLesson(long enrollmentId) {
+        return (enrollmentId % COURSES) * LESSONS_PER_COURSE + 1 + ThreadLocalRandom.current().nextInt(LESSONS_PER_COURSE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CompletedLessonStorageBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+package pl.dominik.elearningcenter.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
+import pl.dominik.elearningcenter.domain.user.User;
+import pl.dominik.elearningcenter.domain.user.UserRole;
+import pl.dominik.elearningcenter.infrastructure.security.AccessTokenClaims;
+import pl.dominik.elearningcenter.infrastructure.security.CustomUserDetails;
+import pl.dominik.elearningcenter.infrastructure.security.JwtTokenProvider;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares authenticating one request the old way (key derived and parser built on every call,
+ * four verification passes) with the pre-built parser and single-pass parseAccessToken.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     "-Dexec.args=-cp %classpath pl.dominik.elearningcenter.benchmark.JwtParsingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParsingBenchmark {
+
+    private static final String SECRET = "BenchmarkSecretKeyForJWTTokenGenerationMustBeAtLeast512BitsLongForHS512Algorithm";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 900000L, 604800000L);
+
+        User user = User.register(
+                new Username("bench_user"),
+                new Email("bench@example.com"),
+                Password.fromHashed("hashedPassword"),
+                UserRole.STUDENT
+        );
+        ReflectionTestUtils.setField(user, "id", 1L);
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        token = jwtTokenProvider.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @Benchmark
+    public Object perCallParserFourPasses() {
+        legacyParse(token);
+        String type = legacyParse(token).get("type", String.class);
+        String subject = legacyParse(token).getSubject();
+        String roles = legacyParse(token).get("roles", String.class);
+        return type + subject + roles;
+    }
+
+    @Benchmark
+    public AccessTokenClaims prebuiltParserSinglePass() {
+        return jwtTokenProvider.parseAccessToken(token).orElseThrow();
+    }
+
+    private Claims legacyParse(String jwt) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtParsingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,206 @@
+package pl.dominik.elearningcenter.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
+import pl.dominik.elearningcenter.infrastructure.persistence.converter.IntegerListConverter;
+import pl.dominik.elearningcenter.infrastructure.persistence.quiz.StudentAnswersCodec;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares storing one attempt's answers as quiz_attempt_answers rows (one per question, indexes as a
+ * comma-joined string through {@link IntegerListConverter}) with the single binary column written by
+ * {@link StudentAnswersCodec}: writing and reading an attempt over an in-memory H2 database, plus the
+ * encode/decode step alone. A third of the questions are multiple choice; question ids are four digits.
+ * Run with {@code -prof gc} to compare allocation per operation.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     "-Dexec.args=-cp %classpath pl.dominik.elearningcenter.benchmark.QuizAttemptAnswersStorageBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizAttemptAnswersStorageBenchmark {
+
+    private static final IntegerListConverter LEGACY_INDEXES = new IntegerListConverter();
+
+    @Param({"10", "50", "200"})
+    public int questions;
+
+    private List<StudentAnswer> answers;
+    private byte[] encoded;
+    private String[] legacyEncoded;
+    private long[] questionIds;
+    private long[] selectionMasks;
+
+    private Connection connection;
+    private PreparedStatement insertAttempt;
+    private PreparedStatement insertLegacyAttempt;
+    private PreparedStatement insertLegacyAnswer;
+    private PreparedStatement selectAnswers;
+    private PreparedStatement selectLegacyAnswers;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Random random = new Random(42);
+        answers = new ArrayList<>(questions);
+        for (int i = 0; i < questions; i++) {
+            long questionId = 1000L + i;
+            answers.add(i % 3 == 0
+                    ? StudentAnswer.of(questionId, List.of(0, 2))
+                    : StudentAnswer.singleChoice(questionId, random.nextInt(4)));
+        }
+        encoded = StudentAnswersCodec.encode(answers);
+        legacyEncoded = answers.stream()
+                .map(answer -> LEGACY_INDEXES.convertToDatabaseColumn(answer.getSelectedAnswerIndexes()))
+                .toArray(String[]::new);
+        questionIds = new long[questions];
+        selectionMasks = new long[questions];
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:quiz-attempt-answers-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE quiz_attempts (id BIGINT PRIMARY KEY, quiz_id BIGINT NOT NULL, answers VARBINARY(65536))");
+            statement.execute("CREATE TABLE quiz_attempt_answers (quiz_attempt_id BIGINT NOT NULL REFERENCES quiz_attempts (id), "
+                    + "question_id BIGINT NOT NULL, selected_answer_indexes VARCHAR(500) NOT NULL)");
+            statement.execute("CREATE INDEX idx_quiz_attempt_answers_attempt ON quiz_attempt_answers (quiz_attempt_id)");
+        }
+        insertAttempt = connection.prepareStatement("INSERT INTO quiz_attempts (id, quiz_id, answers) VALUES (?, 1, ?)");
+        insertLegacyAttempt = connection.prepareStatement("INSERT INTO quiz_attempts (id, quiz_id) VALUES (?, 1)");
+        insertLegacyAnswer = connection.prepareStatement("INSERT INTO quiz_attempt_answers VALUES (?, ?, ?)");
+        selectAnswers = connection.prepareStatement("SELECT answers FROM quiz_attempts WHERE id = ?");
+        selectLegacyAnswers = connection.prepareStatement(
+                "SELECT question_id, selected_answer_indexes FROM quiz_attempt_answers WHERE quiz_attempt_id = ?");
+        insertAttempt.setLong(1, -1);
+        insertAttempt.setBytes(2, encoded);
+        insertAttempt.executeUpdate();
+        insertLegacy(-2);
+        System.out.printf("%n%d answers: %d bytes binary, %d bytes of index strings in %d rows%n",
+                questions, encoded.length, Arrays.stream(legacyEncoded).mapToInt(String::length).sum(), questions);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearWrites() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM quiz_attempt_answers WHERE quiz_attempt_id > 0");
+            statement.execute("DELETE FROM quiz_attempts WHERE id > 0");
+        }
+        nextId = 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int writeRows() throws SQLException {
+        return insertLegacy(nextId++);
+    }
+
+    @Benchmark
+    public int writeBinary() throws SQLException {
+        insertAttempt.setLong(1, nextId++);
+        insertAttempt.setBytes(2, StudentAnswersCodec.encode(answers));
+        return insertAttempt.executeUpdate();
+    }
+
+    @Benchmark
+    public List<StudentAnswer> readRows() throws SQLException {
+        selectLegacyAnswers.setLong(1, -2);
+        List<StudentAnswer> result = new ArrayList<>();
+        try (ResultSet resultSet = selectLegacyAnswers.executeQuery()) {
+            while (resultSet.next()) {
+                result.add(StudentAnswer.of(resultSet.getLong(1), LEGACY_INDEXES.convertToEntityAttribute(resultSet.getString(2))));
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<StudentAnswer> readBinary() throws SQLException {
+        selectAnswers.setLong(1, -1);
+        try (ResultSet resultSet = selectAnswers.executeQuery()) {
+            resultSet.next();
+            return StudentAnswersCodec.decode(resultSet.getBytes(1));
+        }
+    }
+
+    @Benchmark
+    public String[] encodeLegacy() {
+        String[] result = new String[questions];
+        for (int i = 0; i < questions; i++) {
+            result[i] = LEGACY_INDEXES.convertToDatabaseColumn(answers.get(i).getSelectedAnswerIndexes());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return StudentAnswersCodec.encode(answers);
+    }
+
+    @Benchmark
+    public int decodeLegacy() {
+        int selected = 0;
+        for (String indexes : legacyEncoded) {
+            selected += LEGACY_INDEXES.convertToEntityAttribute(indexes).size();
+        }
+        return selected;
+    }
+
+    @Benchmark
+    public int decodeBinaryIntoArrays() {
+        return StudentAnswersCodec.decode(encoded, questionIds, selectionMasks);
+    }
+
+    private int insertLegacy(long attemptId) throws SQLException {
+        insertLegacyAttempt.setLong(1, attemptId);
+        insertLegacyAttempt.executeUpdate();
+        for (int i = 0; i < questions; i++) {
+            insertLegacyAnswer.setLong(1, attemptId);
+            insertLegacyAnswer.setLong(2, answers.get(i).getQuestionId());
+            insertLegacyAnswer.setString(3, legacyEncoded[i]);
+            insertLegacyAnswer.addBatch();
+        }
+        return insertLegacyAnswer.executeBatch().length + 1;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QuizAttemptAnswersStorageBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
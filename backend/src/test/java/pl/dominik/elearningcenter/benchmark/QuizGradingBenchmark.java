@@ -0,0 +1,138 @@
+package pl.dominik.elearningcenter.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import pl.dominik.elearningcenter.domain.quiz.Question;
+import pl.dominik.elearningcenter.domain.quiz.QuestionType;
+import pl.dominik.elearningcenter.domain.quiz.QuizAnswerKey;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.Answer;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares grading a submission the way Quiz.calculateScore used to (answer map, per-question list of
+ * correct indexes and a HashSet) with grading against a compiled {@link QuizAnswerKey}, both from
+ * StudentAnswers and from pre-encoded selection bitmasks. Questions have four answers, a third of them
+ * multiple choice; roughly two thirds of the submitted answers are correct.
+ *
+ * Run with:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     "-Dexec.args=-cp %classpath pl.dominik.elearningcenter.benchmark.QuizGradingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizGradingBenchmark {
+
+    private static final int ANSWERS_PER_QUESTION = 4;
+
+    @Param({"10", "50", "200"})
+    public int questions;
+
+    private List<Question> questionList;
+    private List<StudentAnswer> submission;
+    private QuizAnswerKey answerKey;
+    private long[] encodedSubmission;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        questionList = new ArrayList<>(questions);
+        submission = new ArrayList<>(questions);
+        for (int i = 0; i < questions; i++) {
+            boolean multiple = i % 3 == 0;
+            Question question = new Question("Question " + i, multiple ? QuestionType.MULTIPLE_CHOICE : QuestionType.SINGLE_CHOICE, i);
+            List<Answer> answers = new ArrayList<>();
+            List<Integer> correct = new ArrayList<>();
+            int single = random.nextInt(ANSWERS_PER_QUESTION);
+            for (int a = 0; a < ANSWERS_PER_QUESTION; a++) {
+                boolean isCorrect = multiple ? a % 2 == 0 : a == single;
+                answers.add(Answer.of("Answer " + a, isCorrect));
+                if (isCorrect) {
+                    correct.add(a);
+                }
+            }
+            question.setAnswers(answers);
+            ReflectionTestUtils.setField(question, "id", (long) i + 1);
+            questionList.add(question);
+            List<Integer> selected = random.nextInt(3) < 2 ? correct : List.of((correct.get(0) + 1) % ANSWERS_PER_QUESTION);
+            submission.add(StudentAnswer.of((long) i + 1, selected));
+        }
+        answerKey = QuizAnswerKey.compile(questionList);
+        encodedSubmission = answerKey.encode(submission);
+    }
+
+    @Benchmark
+    public int mapAndHashSet() {
+        Map<Long, StudentAnswer> answerMap = submission.stream()
+                .collect(Collectors.toMap(StudentAnswer::getQuestionId, sa -> sa));
+        return questionList.stream()
+                .mapToInt(question -> {
+                    StudentAnswer studentAnswer = answerMap.get(question.getId());
+                    if (studentAnswer == null) {
+                        return 0;
+                    }
+                    return legacyIsAnswerCorrect(question, studentAnswer.getSelectedAnswerIndexes()) ? question.getPoints() : 0;
+                })
+                .sum();
+    }
+
+    @Benchmark
+    public int compiledKey() {
+        return answerKey.score(submission);
+    }
+
+    @Benchmark
+    public int compiledKeyPreEncoded() {
+        return answerKey.score(encodedSubmission);
+    }
+
+    @Benchmark
+    public int compileAndScore() {
+        return QuizAnswerKey.compile(questionList).score(submission);
+    }
+
+    private static boolean legacyIsAnswerCorrect(Question question, List<Integer> selectedIndexes) {
+        if (selectedIndexes == null || selectedIndexes.isEmpty()) {
+            return false;
+        }
+        List<Answer> answers = question.getAnswers();
+        List<Integer> correctIndexes = new ArrayList<>();
+        for (int i = 0; i < answers.size(); i++) {
+            if (answers.get(i).isCorrect()) {
+                correctIndexes.add(i);
+            }
+        }
+        return selectedIndexes.size() == correctIndexes.size() && new HashSet<>(correctIndexes).containsAll(selectedIndexes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QuizGradingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
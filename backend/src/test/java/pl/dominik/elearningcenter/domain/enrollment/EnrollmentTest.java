@@ -37,6 +37,17 @@ class EnrollmentTest {
         assertThat(enrollment.getCompletedAt()).isNotNull();
     }
 
+    @Test
+    void shouldReopenCompletedEnrollmentWhenProgressDrops() {
+        Enrollment enrollment = Enrollment.enroll(1L, 10L);
+        enrollment.recalculateProgress(100);
+
+        enrollment.recalculateProgress(80);
+
+        assertThat(enrollment.getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        assertThat(enrollment.getCompletedAt()).isNull();
+    }
+
     @Test
     void shouldCompleteEnrollmentManually() {
         Enrollment enrollment = Enrollment.enroll(1L, 10L);
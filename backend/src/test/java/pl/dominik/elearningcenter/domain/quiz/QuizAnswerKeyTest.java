@@ -0,0 +1,78 @@
+package pl.dominik.elearningcenter.domain.quiz;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.Answer;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class QuizAnswerKeyTest {
+
+    @Test
+    void shouldScoreOnlyExactlyMatchingSelections() {
+        QuizAnswerKey key = QuizAnswerKey.compile(List.of(
+                question(20L, QuestionType.MULTIPLE_CHOICE, 3, true, false, true),
+                question(10L, QuestionType.SINGLE_CHOICE, 2, false, true)
+        ));
+
+        assertThat(key.questionCount()).isEqualTo(2);
+        assertThat(key.maxScore()).isEqualTo(5);
+        assertThat(key.score(List.of(StudentAnswer.of(20L, List.of(2, 0)), StudentAnswer.singleChoice(10L, 1)))).isEqualTo(5);
+        assertThat(key.score(List.of(StudentAnswer.of(20L, List.of(0)), StudentAnswer.singleChoice(10L, 1)))).isEqualTo(2);
+        assertThat(key.score(List.of(StudentAnswer.of(20L, List.of(0)), StudentAnswer.singleChoice(10L, 0)))).isZero();
+        assertThat(key.score(List.of(StudentAnswer.of(20L, List.of(0, 1, 2))))).isZero();
+    }
+
+    @Test
+    void shouldIgnoreUnknownQuestionsAndOutOfRangeIndexes() {
+        QuizAnswerKey key = QuizAnswerKey.compile(List.of(question(1L, QuestionType.SINGLE_CHOICE, 1, true, false)));
+
+        assertThat(key.score(List.of(StudentAnswer.singleChoice(99L, 0)))).isZero();
+        assertThat(key.score(List.of(StudentAnswer.of(1L, List.of(0, 70))))).isZero();
+        assertThat(key.score(List.of())).isZero();
+    }
+
+    @Test
+    void shouldRejectTwoAnswersToOneQuestion() {
+        QuizAnswerKey key = QuizAnswerKey.compile(List.of(question(1L, QuestionType.SINGLE_CHOICE, 1, true, false)));
+
+        assertThatThrownBy(() -> key.score(List.of(StudentAnswer.singleChoice(1L, 0), StudentAnswer.singleChoice(1L, 1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate answer");
+    }
+
+    @Test
+    void shouldRejectRepeatedAnswerIndexInsteadOfCollapsingIt() {
+        assertThatThrownBy(() -> StudentAnswer.of(1L, List.of(0, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Answer indexes must not repeat");
+    }
+
+    @Test
+    void shouldScorePreEncodedSelections() {
+        QuizAnswerKey key = QuizAnswerKey.compile(List.of(
+                question(1L, QuestionType.SINGLE_CHOICE, 1, true, false),
+                question(2L, QuestionType.MULTIPLE_CHOICE, 4, false, true, true)
+        ));
+
+        assertThat(key.score(new long[]{0b01L, 0b110L})).isEqualTo(5);
+        assertThat(key.score(new long[]{0L, 0b110L})).isEqualTo(4);
+        assertThatThrownBy(() -> key.score(new long[]{0b01L}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Question question(Long id, QuestionType type, int points, boolean... correct) {
+        Question question = new Question("Question " + id, type, 0);
+        question.updatePoints(points);
+        Answer[] answers = new Answer[correct.length];
+        for (int i = 0; i < correct.length; i++) {
+            answers[i] = Answer.of("Answer " + i, correct[i]);
+        }
+        question.setAnswers(List.of(answers));
+        ReflectionTestUtils.setField(question, "id", id);
+        return question;
+    }
+}
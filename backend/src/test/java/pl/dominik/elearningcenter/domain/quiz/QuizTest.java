@@ -3,6 +3,8 @@ package pl.dominik.elearningcenter.domain.quiz;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 import pl.dominik.elearningcenter.domain.course.Lesson;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.Answer;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
 import pl.dominik.elearningcenter.domain.shared.exception.DomainException;
 
 import java.util.List;
@@ -298,4 +300,51 @@ class QuizTest {
         assertThatThrownBy(() -> questions.add(new Question("Q2", QuestionType.SINGLE_CHOICE, 1)))
                 .isInstanceOf(UnsupportedOperationException.class);
     }
+
+    @Test
+    void shouldBumpContentVersionOnlyWhenContentChanges() {
+        Quiz quiz = Quiz.create("Test", 70, 1L);
+        assertThat(quiz.getContentVersion()).isEqualTo(1);
+
+        quiz.updateTitle("Test");
+        quiz.updatePassingScore(70);
+        assertThat(quiz.getContentVersion()).isEqualTo(1);
+
+        Question question = new Question("Q1", QuestionType.SINGLE_CHOICE, 0);
+        question.setAnswers(List.of(Answer.of("A", true), Answer.of("B", false)));
+        quiz.addQuestion(question);
+        ReflectionTestUtils.setField(question, "id", 10L);
+        quiz.updatePassingScore(80);
+        quiz.updateQuestion(10L, "Q1 edited", 0, 2, List.of(Answer.of("A", false), Answer.of("B", true)));
+
+        assertThat(quiz.getContentVersion()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldSnapshotCurrentContentVersion() {
+        Quiz quiz = Quiz.create("Test", 50, 1L);
+        ReflectionTestUtils.setField(quiz, "id", 1L);
+        Question question = new Question("Q1", QuestionType.SINGLE_CHOICE, 0);
+        question.setAnswers(List.of(Answer.of("A", true), Answer.of("B", false)));
+        quiz.addQuestion(question);
+        ReflectionTestUtils.setField(question, "id", 10L);
+
+        QuizSnapshot snapshot = quiz.takeSnapshot();
+        quiz.updateQuestion(10L, "Q1", 0, 1, List.of(Answer.of("A", false), Answer.of("B", true)));
+
+        assertThat(snapshot.getVersion()).isEqualTo(2);
+        assertThat(quiz.getContentVersion()).isEqualTo(3);
+        assertThat(snapshot.getQuestions()).singleElement()
+                .satisfies(q -> assertThat(q.answers()).extracting(QuizSnapshot.AnswerSnapshot::correct).containsExactly(true, false));
+        assertThat(snapshot.answerKey().score(List.of(StudentAnswer.singleChoice(10L, 0)))).isEqualTo(1);
+        assertThat(snapshot.isPassed(1)).isTrue();
+        assertThat(snapshot.isPassed(0)).isFalse();
+    }
+
+    @Test
+    void shouldNotSnapshotUnsavedQuiz() {
+        Quiz quiz = Quiz.create("Test", 50, 1L);
+
+        assertThatThrownBy(quiz::takeSnapshot).isInstanceOf(IllegalStateException.class);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package pl.dominik.elearningcenter.infrastructure.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailOutboxDispatcherIntegrationTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private OutboundEmailJpaRepository outboundEmailRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        outboundEmailRepository.deleteAll();
+    }
+
+    @Test
+    void shouldSendQueuedEmailsInOneBatchAndMarkThemSent() throws Exception {
+        queue("anna@example.com", "bob@example.com", "carol@example.com");
+        EmailOutboxDispatcher dispatcher = dispatcher(ServerSetupTest.SMTP.getPort());
+
+        dispatcher.drain();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("Subject");
+        assertThat(outboundEmailRepository.findAll())
+                .extracting(OutboundEmail::getStatus)
+                .containsOnly(OutboundEmailStatus.SENT);
+        assertThat(outboundEmailRepository.findAll())
+                .extracting(email -> email.toMailMessage().getText())
+                .containsOnly("");
+        assertThat(meterRegistry.get("email.outbox.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldScheduleRetryWithBackoffWhenSmtpIsUnavailable() {
+        queue("anna@example.com");
+        EmailOutboxDispatcher dispatcher = dispatcher(ServerSetupTest.SMTP.getPort() + 1);
+        LocalDateTime beforeDrain = LocalDateTime.now();
+
+        dispatcher.drain();
+
+        OutboundEmail email = outboundEmailRepository.findAll().get(0);
+        assertThat(email.getStatus()).isEqualTo(OutboundEmailStatus.PENDING);
+        assertThat(email.getAttempts()).isEqualTo(1);
+        assertThat(email.getNextAttemptAt()).isAfter(beforeDrain.plusSeconds(29));
+        assertThat(email.getLastError()).isNotBlank();
+        assertThat(meterRegistry.get("email.outbox.depth").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        OutboundEmail email = OutboundEmail.queue(message("anna@example.com"), LocalDateTime.now());
+
+        for (int i = 0; i < 3; i++) {
+            email.markFailed("Connection refused", LocalDateTime.now(), 3, Duration.ofSeconds(30));
+        }
+
+        assertThat(email.getStatus()).isEqualTo(OutboundEmailStatus.FAILED);
+        assertThat(email.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDoubleBackoffOnEachFailedAttempt() {
+        LocalDateTime now = LocalDateTime.now();
+        OutboundEmail email = OutboundEmail.queue(message("anna@example.com"), now);
+
+        email.markFailed("Connection refused", now, 5, Duration.ofSeconds(30));
+        assertThat(email.getNextAttemptAt()).isEqualTo(now.plusSeconds(30));
+
+        email.markFailed("Connection refused", now, 5, Duration.ofSeconds(30));
+        assertThat(email.getNextAttemptAt()).isEqualTo(now.plusSeconds(60));
+    }
+
+    @Test
+    void shouldDeleteOnlyFinishedEmailsQueuedBeforeRetention() {
+        LocalDateTime now = LocalDateTime.now();
+        OutboundEmail oldSent = OutboundEmail.queue(message("anna@example.com"), now.minusDays(8));
+        oldSent.markSent(now.minusDays(8));
+        OutboundEmail oldFailed = OutboundEmail.queue(message("bob@example.com"), now.minusDays(8));
+        for (int i = 0; i < 5; i++) {
+            oldFailed.markFailed("Connection refused", now.minusDays(8), 5, Duration.ofSeconds(30));
+        }
+        OutboundEmail recentSent = OutboundEmail.queue(message("carol@example.com"), now.minusDays(1));
+        recentSent.markSent(now.minusDays(1));
+        OutboundEmail oldPending = OutboundEmail.queue(message("dave@example.com"), now.minusDays(8));
+        outboundEmailRepository.saveAll(List.of(oldSent, oldFailed, recentSent, oldPending));
+
+        EmailOutboxCleanupJob cleanupJob = new EmailOutboxCleanupJob(outboundEmailRepository, Duration.ofDays(7));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> cleanupJob.deleteFinished());
+
+        assertThat(outboundEmailRepository.findAll())
+                .extracting(OutboundEmail::getTo)
+                .containsExactlyInAnyOrder("carol@example.com", "dave@example.com");
+    }
+
+    private void queue(String... recipients) {
+        List<OutboundEmail> emails = Arrays.stream(recipients)
+                .map(recipient -> OutboundEmail.queue(message(recipient), LocalDateTime.now()))
+                .toList();
+        outboundEmailRepository.saveAll(emails);
+    }
+
+    private SimpleMailMessage message(String recipient) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@elearningcenter.com");
+        message.setTo(recipient);
+        message.setSubject("Subject");
+        message.setText("Body");
+        return message;
+    }
+
+    private EmailOutboxDispatcher dispatcher(int smtpPort) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpPort);
+        return new EmailOutboxDispatcher(
+                outboundEmailRepository,
+                mailSender,
+                transactionManager,
+                meterRegistry,
+                1,
+                50,
+                5,
+                Duration.ofSeconds(30),
+                Duration.ofMinutes(5)
+        );
+    }
+}
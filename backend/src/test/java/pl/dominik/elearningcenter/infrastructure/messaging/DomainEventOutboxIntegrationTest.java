@@ -0,0 +1,140 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.dominik.elearningcenter.domain.enrollment.event.EnrollmentCreatedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({
+        DomainEventOutboxRecorder.class,
+        DomainEventOutboxRelay.class,
+        DomainEventOutboxCleanupJob.class,
+        InMemoryDomainEventTransport.class,
+        DomainEventOutboxIntegrationTest.MetricsConfig.class
+})
+class DomainEventOutboxIntegrationTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventRepository;
+
+    @Autowired
+    private InMemoryDomainEventTransport transport;
+
+    @Autowired
+    private DomainEventOutboxCleanupJob cleanupJob;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        transport.clear();
+    }
+
+    @Test
+    void shouldRelayEventRecordedInCommittedTransaction() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(new EnrollmentCreatedEvent(1L, 5L, 10L)));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(transport.getPublished()).hasSize(1));
+
+        DomainEventMessage message = transport.getPublished().get(0);
+        assertThat(message.eventType()).isEqualTo("EnrollmentCreatedEvent");
+        assertThat(message.routingKey()).isEqualTo("enrollment.created");
+        assertThat(message.payload()).contains("\"enrollmentId\":1", "\"studentId\":5", "\"courseId\":10");
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(outboxEventRepository.findAll())
+                        .extracting(OutboxEvent::getStatus)
+                        .containsExactly(OutboxEventStatus.PUBLISHED));
+    }
+
+    @Test
+    void shouldNotRecordEventWhenTransactionRollsBack() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new EnrollmentCreatedEvent(1L, 5L, 10L));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(transport.getPublished()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepEventPendingForRetryWhenTransportFails() {
+        transport.subscribe(message -> {
+            throw new IllegalStateException("Broker unavailable");
+        });
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                eventPublisher.publishEvent(new EnrollmentCreatedEvent(1L, 5L, 10L)));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            OutboxEvent event = outboxEventRepository.findAll().get(0);
+            assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+            assertThat(event.getAttempts()).isEqualTo(1);
+            assertThat(event.getLastError()).isEqualTo("Broker unavailable");
+        });
+    }
+
+    @Test
+    void shouldDeleteOnlyPublishedEventsOlderThanRetention() {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent expired = new OutboxEvent("EnrollmentCreatedEvent", "enrollment.created", "{}", now.minusDays(10));
+        expired.markPublished(now.minusDays(8));
+        OutboxEvent recent = new OutboxEvent("EnrollmentCreatedEvent", "enrollment.created", "{}", now.minusDays(2));
+        recent.markPublished(now.minusDays(1));
+        OutboxEvent failed = new OutboxEvent("EnrollmentCreatedEvent", "enrollment.created", "{}", now.minusDays(10));
+        for (int attempt = 0; attempt < 10; attempt++) {
+            failed.markFailed("Broker unavailable", now.minusDays(9), 10, Duration.ofSeconds(5));
+        }
+        outboxEventRepository.saveAll(List.of(expired, recent, failed));
+
+        cleanupJob.deletePublished();
+
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getStatus)
+                .containsExactlyInAnyOrder(OutboxEventStatus.PUBLISHED, OutboxEventStatus.FAILED);
+        assertThat(outboxEventRepository.existsById(expired.getId())).isFalse();
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Publishes through a real broker whose exchange has no queue bound yet, the state of a deployment
+ * before any consumer has started. Runs only where Docker is available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RabbitDomainEventTransportIntegrationTest {
+
+    private static final String EXCHANGE = "elearning.domain-events";
+
+    @Container
+    static GenericContainer<?> rabbit = new GenericContainer<>("rabbitmq:3.13-alpine")
+            .withEnv("RABBITMQ_DEFAULT_USER", "elearning")
+            .withEnv("RABBITMQ_DEFAULT_PASS", "elearning")
+            .withExposedPorts(5672)
+            .waitingFor(Wait.forLogMessage(".*Server startup complete.*", 1));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachingConnectionFactory connectionFactory;
+
+    private RabbitDomainEventTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new CachingConnectionFactory(rabbit.getHost(), rabbit.getMappedPort(5672));
+        connectionFactory.setUsername("elearning");
+        connectionFactory.setPassword("elearning");
+        connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
+        connectionFactory.setPublisherReturns(true);
+        new RabbitAdmin(connectionFactory).declareExchange(new TopicExchange(EXCHANGE, true, false));
+
+        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate.setMandatory(true);
+        transport = new RabbitDomainEventTransport(rabbitTemplate, meterRegistry, EXCHANGE, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void shouldTreatEventWithoutBoundQueueAsDelivered() {
+        DomainEventMessage event = new DomainEventMessage(
+                1L, "EnrollmentCreatedEvent", "enrollment.created", "{}", LocalDateTime.now());
+
+        assertThatCode(() -> transport.publish(event)).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("domain.events.unroutable").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,105 @@
+package pl.dominik.elearningcenter.infrastructure.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RabbitDomainEventTransportTest {
+
+    private static final String EXCHANGE = "elearning.domain-events";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RabbitDomainEventTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        when(connectionFactory.isPublisherReturns()).thenReturn(true);
+        transport = new RabbitDomainEventTransport(rabbitTemplate, meterRegistry, EXCHANGE, Duration.ofMillis(200));
+    }
+
+    @Test
+    void shouldReturnOnceBrokerAcksMessage() {
+        brokerAnswers(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null)));
+
+        assertThatCode(() -> transport.publish(message())).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldFailWhenBrokerNacksMessage() {
+        brokerAnswers(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(false, "queue full")));
+
+        assertThatThrownBy(() -> transport.publish(message()))
+                .isInstanceOf(AmqpException.class)
+                .hasMessageContaining("queue full");
+    }
+
+    @Test
+    void shouldCountUnroutableReturnAsDelivered() {
+        brokerAnswers(correlation -> {
+            correlation.setReturned(new ReturnedMessage(
+                    new Message(new byte[0], new MessageProperties()), 312, "NO_ROUTE", EXCHANGE, "enrollment.created"));
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+        });
+
+        assertThatCode(() -> transport.publish(message())).doesNotThrowAnyException();
+        assertThat(meterRegistry.counter("domain.events.unroutable").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailWhenBrokerDoesNotConfirmInTime() {
+        brokerAnswers(correlation -> {
+        });
+
+        assertThatThrownBy(() -> transport.publish(message()))
+                .isInstanceOf(AmqpException.class)
+                .hasMessageContaining("No publisher confirm");
+    }
+
+    @Test
+    void shouldRefuseToStartWithoutPublisherConfirms() {
+        when(connectionFactory.isPublisherConfirms()).thenReturn(false);
+
+        assertThatThrownBy(() -> new RabbitDomainEventTransport(rabbitTemplate, meterRegistry, EXCHANGE, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void brokerAnswers(Consumer<CorrelationData> broker) {
+        doAnswer(invocation -> {
+            broker.accept(invocation.getArgument(3));
+            return null;
+        }).when(rabbitTemplate).send(eq(EXCHANGE), eq("enrollment.created"), any(Message.class), any(CorrelationData.class));
+    }
+
+    private DomainEventMessage message() {
+        return new DomainEventMessage(1L, "EnrollmentCreatedEvent", "enrollment.created", "{}", LocalDateTime.now());
+    }
+}
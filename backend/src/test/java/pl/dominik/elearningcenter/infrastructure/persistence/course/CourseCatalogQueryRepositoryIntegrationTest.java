@@ -0,0 +1,126 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.course;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import pl.dominik.elearningcenter.application.course.dto.PublicCourseDTO;
+import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.course.Lesson;
+import pl.dominik.elearningcenter.domain.course.Section;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
+import pl.dominik.elearningcenter.domain.user.User;
+import pl.dominik.elearningcenter.domain.user.UserRole;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CourseRepositoryAdapter.class, CourseCatalogQueryRepository.class})
+class CourseCatalogQueryRepositoryIntegrationTest {
+
+    @Autowired
+    private CourseRepositoryAdapter courseRepository;
+
+    @Autowired
+    private CourseCatalogQueryRepository catalogQueryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User instructor;
+
+    @BeforeEach
+    void setUp() {
+        instructor = entityManager.persist(User.register(
+                new Username("catalog_instructor"),
+                new Email("catalog@example.com"),
+                Password.fromHashed("$2a$10$abcdefghijklmnopqrstuv"),
+                UserRole.INSTRUCTOR
+        ));
+    }
+
+    @Test
+    void shouldProjectPublishedCoursesWithInstructorName() {
+        Course course = savePublishedCourse("Programming", CourseLevel.BEGINNER);
+        courseRepository.save(Course.create("Draft", "Not published", 10.0, "USD", instructor.getId(), "Programming", CourseLevel.BEGINNER));
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<PublicCourseDTO> page = catalogQueryRepository.findPublished(null, null, PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        PublicCourseDTO dto = page.getContent().get(0);
+        assertThat(dto.id()).isEqualTo(course.getId());
+        assertThat(dto.title()).isEqualTo("Published Programming");
+        assertThat(dto.instructorName()).isEqualTo("catalog_instructor");
+        assertThat(dto.currency()).isEqualTo("USD");
+        assertThat(dto.sectionsCount()).isEqualTo(1);
+        assertThat(dto.totalLessonsCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldListPublishedCourseWhoseInstructorNoLongerExists() {
+        savePublishedCourse("Programming", CourseLevel.BEGINNER, 999_999L);
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<PublicCourseDTO> page = catalogQueryRepository.findPublished(null, null, PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).singleElement()
+                .satisfies(dto -> assertThat(dto.instructorName()).isNull());
+    }
+
+    @Test
+    void shouldFilterPublishedCoursesByCategoryAndLevel() {
+        savePublishedCourse("Programming", CourseLevel.BEGINNER);
+        Course advanced = savePublishedCourse("Programming", CourseLevel.ADVANCED);
+        savePublishedCourse("Design", CourseLevel.ADVANCED);
+
+        Page<PublicCourseDTO> page = catalogQueryRepository.findPublished("Programming", CourseLevel.ADVANCED, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(PublicCourseDTO::id).containsExactly(advanced.getId());
+    }
+
+    @Test
+    void shouldSeekPublishedCoursesByCreatedAtAndIdDescending() {
+        Course first = savePublishedCourse("Programming", CourseLevel.BEGINNER);
+        Course second = savePublishedCourse("Programming", CourseLevel.BEGINNER);
+        Course third = savePublishedCourse("Programming", CourseLevel.BEGINNER);
+        savePublishedCourse("Design", CourseLevel.BEGINNER);
+
+        List<PublicCourseDTO> firstPage = catalogQueryRepository.findPublishedBefore("Programming", null, null, null, 2);
+        PublicCourseDTO lastOnPage = firstPage.get(firstPage.size() - 1);
+        List<PublicCourseDTO> secondPage = catalogQueryRepository.findPublishedBefore(
+                "Programming", null, lastOnPage.createdAt(), lastOnPage.id(), 2);
+
+        assertThat(firstPage).extracting(PublicCourseDTO::id).containsExactly(third.getId(), second.getId());
+        assertThat(secondPage).extracting(PublicCourseDTO::id).containsExactly(first.getId());
+    }
+
+    private Course savePublishedCourse(String category, CourseLevel level) {
+        return savePublishedCourse(category, level, instructor.getId());
+    }
+
+    private Course savePublishedCourse(String category, CourseLevel level, Long instructorId) {
+        Course course = Course.create("Published " + category, "Listed in catalog", 10.0, "USD", instructorId, category, level);
+        Section section = new Section("Section", 0);
+        section.addLesson(new Lesson("Lesson", "Content", 0));
+        course.addSection(section);
+        course.publish();
+        return courseRepository.save(course);
+    }
+}
@@ -1,9 +1,11 @@
 package pl.dominik.elearningcenter.infrastructure.persistence.course;
 
+import jakarta.persistence.OptimisticLockException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import pl.dominik.elearningcenter.domain.course.Course;
@@ -29,6 +31,9 @@ class CourseRepositoryIntegrationTest {
     @Autowired
     private CourseJpaRepository courseJpaRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void shouldSaveAndRetrieveCourse() {
         Course course = Course.create(
@@ -269,4 +274,128 @@ class CourseRepositoryIntegrationTest {
         assertThat(updated.getCategory()).isEqualTo("Advanced Programming");
         assertThat(updated.getLevel()).isEqualTo(CourseLevel.ADVANCED);
     }
+
+    @Test
+    void shouldMaintainStructureCountersWhenSectionsAndLessonsChange() {
+        Course course = Course.create(
+                "Counted Course",
+                "Counters are maintained by the aggregate",
+                99.99,
+                "USD",
+                100L,
+                "Programming",
+                CourseLevel.BEGINNER
+        );
+        Section section1 = new Section("First", 0);
+        section1.addLesson(new Lesson("Lesson 1", "Content", 0));
+        section1.addLesson(new Lesson("Lesson 2", "Content", 1));
+        course.addSection(section1);
+        course.addSection(new Section("Second", 1));
+        courseRepository.save(course);
+        entityManager.flush();
+        entityManager.clear();
+
+        Course retrieved = courseRepository.findByIdOrThrow(course.getId());
+        assertThat(retrieved.getSectionsCount()).isEqualTo(2);
+        assertThat(retrieved.getTotalLessonsCount()).isEqualTo(2);
+
+        Section second = retrieved.getSections().get(1);
+        second.addLesson(new Lesson("Lesson 3", "Content", 0));
+        entityManager.flush();
+        Long firstLessonId = retrieved.getSections().get(0).getLessons().get(0).getId();
+        retrieved.getSections().get(0).removeLesson(firstLessonId);
+        retrieved.removeSection(second.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        Course updated = courseRepository.findByIdOrThrow(course.getId());
+        assertThat(updated.getSectionsCount()).isEqualTo(1);
+        assertThat(updated.getTotalLessonsCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectStaleCounterWriteAfterConcurrentCourseChange() {
+        Course course = Course.create(
+                "Contended Course",
+                "Two writers at once",
+                99.99,
+                "USD",
+                100L,
+                "Programming",
+                CourseLevel.BEGINNER
+        );
+        course.addSection(new Section("Section", 0));
+        courseRepository.save(course);
+        entityManager.flush();
+        entityManager.clear();
+
+        Course stale = courseRepository.findByIdOrThrow(course.getId());
+        // another transaction commits a change to the course row in the meantime
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE courses SET total_lessons_count = 1, version = version + 1 WHERE id = :id")
+                .setParameter("id", course.getId())
+                .executeUpdate();
+        stale.getSections().get(0).addLesson(new Lesson("Lesson 1", "Content", 0));
+
+        assertThatThrownBy(() -> entityManager.flush())
+                .isInstanceOf(OptimisticLockException.class);
+    }
+
+    @Test
+    void shouldRepairDriftedStructureCounters() {
+        Course course = Course.create(
+                "Drifted Course",
+                "Counters out of sync",
+                99.99,
+                "USD",
+                100L,
+                "Programming",
+                CourseLevel.BEGINNER
+        );
+        Section section = new Section("Section", 0);
+        section.addLesson(new Lesson("Lesson 1", "Content", 0));
+        section.addLesson(new Lesson("Lesson 2", "Content", 1));
+        course.addSection(section);
+        courseRepository.save(course);
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE courses SET sections_count = 0, total_lessons_count = 0 WHERE id = :id")
+                .setParameter("id", course.getId())
+                .executeUpdate();
+
+        int repaired = courseRepository.recalculateStructureCounters();
+        entityManager.clear();
+
+        Course retrieved = courseRepository.findByIdOrThrow(course.getId());
+        assertThat(repaired).isEqualTo(1);
+        assertThat(retrieved.getSectionsCount()).isEqualTo(1);
+        assertThat(retrieved.getTotalLessonsCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldResolveTotalLessonsCountOnlyForLessonsOfTheCourse() {
+        Course course = Course.create(
+                "Membership Course",
+                "Lesson lookup",
+                99.99,
+                "USD",
+                100L,
+                "Programming",
+                CourseLevel.BEGINNER
+        );
+        Section section = new Section("Section", 0);
+        Lesson lesson = new Lesson("Lesson 1", "Content", 0);
+        section.addLesson(lesson);
+        section.addLesson(new Lesson("Lesson 2", "Content", 1));
+        course.addSection(section);
+        courseRepository.save(course);
+        entityManager.flush();
+
+        assertThat(courseRepository.findTotalLessonsCountByLesson(course.getId(), section.getId(), lesson.getId()))
+                .contains(2);
+        assertThat(courseRepository.findTotalLessonsCountByLesson(course.getId(), section.getId() + 1, lesson.getId()))
+                .isEmpty();
+        assertThat(courseRepository.findTotalLessonsCountByLesson(course.getId() + 1, section.getId(), lesson.getId()))
+                .isEmpty();
+    }
 }
@@ -0,0 +1,102 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.course;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
+import pl.dominik.elearningcenter.application.course.dto.LessonDTO;
+import pl.dominik.elearningcenter.application.course.dto.SectionDTO;
+import pl.dominik.elearningcenter.application.course.mapper.CourseMapper;
+import pl.dominik.elearningcenter.application.course.mapper.LessonMapper;
+import pl.dominik.elearningcenter.application.course.mapper.MaterialMapper;
+import pl.dominik.elearningcenter.application.course.mapper.SectionMapper;
+import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.course.Lesson;
+import pl.dominik.elearningcenter.domain.course.Material;
+import pl.dominik.elearningcenter.domain.course.MaterialType;
+import pl.dominik.elearningcenter.domain.course.Section;
+import pl.dominik.elearningcenter.domain.quiz.Quiz;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CourseRepositoryAdapter.class, CourseMapper.class, SectionMapper.class, LessonMapper.class, MaterialMapper.class})
+class CourseStructureLoadIntegrationTest {
+
+    private static final int SECTIONS = 20;
+    private static final int LESSONS_PER_SECTION = 15;
+
+    @Autowired
+    private CourseRepositoryAdapter courseRepository;
+
+    @Autowired
+    private CourseMapper courseMapper;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void shouldLoadLargeCourseWithQuizIdsInBoundedNumberOfStatements() {
+        Long courseId = saveLargeCourse();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CourseDTO dto = courseMapper.toDto(courseRepository.findWithSectionsById(courseId).orElseThrow());
+
+        // course + sections, lesson batches, material batches and one quizzes load; no per-row quiz lookups
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12);
+        assertThat(dto.sections()).hasSize(SECTIONS);
+        assertThat(dto.quizId()).isNotNull();
+        for (SectionDTO section : dto.sections()) {
+            assertThat(section.quizId()).isNotNull();
+            assertThat(section.lessons()).hasSize(LESSONS_PER_SECTION);
+            for (LessonDTO lesson : section.lessons()) {
+                assertThat(lesson.materials()).hasSize(1);
+                if (lesson.orderIndex() % 2 == 0) {
+                    assertThat(lesson.quizId()).isNotNull().isNotEqualTo(section.quizId());
+                } else {
+                    assertThat(lesson.quizId()).isNull();
+                }
+            }
+        }
+    }
+
+    private Long saveLargeCourse() {
+        Course course = Course.create("Large Course", "Many sections", 49.99, "USD", 100L, "Programming", CourseLevel.BEGINNER);
+        for (int s = 0; s < SECTIONS; s++) {
+            Section section = new Section("Section " + s, s);
+            course.addSection(section);
+            for (int l = 0; l < LESSONS_PER_SECTION; l++) {
+                Lesson lesson = new Lesson("Lesson " + s + "." + l, "Content", l);
+                section.addLesson(lesson);
+                lesson.addMaterial(new Material("Slides", "https://example.com/" + s + "/" + l, MaterialType.LINK));
+            }
+        }
+        courseRepository.save(course);
+        entityManager.persist(Quiz.create("Final", 70, 100L, course, null, null));
+        for (Section section : course.getSections()) {
+            entityManager.persist(Quiz.create("Section quiz", 70, 100L, course, section, null));
+            for (Lesson lesson : section.getLessons()) {
+                if (lesson.getOrderIndex() % 2 == 0) {
+                    entityManager.persist(Quiz.create("Lesson quiz", 70, 100L, course, null, lesson));
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return course.getId();
+    }
+}
@@ -0,0 +1,80 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.course;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import pl.dominik.elearningcenter.application.course.dto.CourseDTO;
+import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.course.Lesson;
+import pl.dominik.elearningcenter.domain.course.Section;
+import pl.dominik.elearningcenter.domain.quiz.Quiz;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CourseRepositoryAdapter.class, CourseSummaryQueryRepository.class})
+class CourseSummaryQueryRepositoryIntegrationTest {
+
+    @Autowired
+    private CourseRepositoryAdapter courseRepository;
+
+    @Autowired
+    private CourseSummaryQueryRepository summaryQueryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldProjectSummariesWithCourseLevelQuizOnly() {
+        Course course = saveCourse(100L);
+        Section section = course.getSections().get(0);
+        entityManager.persist(Quiz.create("Section quiz", 70, 100L, course, section, null));
+        Quiz finalQuiz = entityManager.persist(Quiz.create("Final", 70, 100L, course, null, null));
+        Course withoutQuiz = saveCourse(100L);
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<CourseDTO> page = summaryQueryRepository.findAll(PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(CourseDTO::id).containsExactly(course.getId(), withoutQuiz.getId());
+        CourseDTO dto = page.getContent().get(0);
+        assertThat(dto.quizId()).isEqualTo(finalQuiz.getId());
+        assertThat(dto.sections()).isEmpty();
+        assertThat(dto.sectionsCount()).isEqualTo(1);
+        assertThat(dto.totalLessonsCount()).isEqualTo(1);
+        assertThat(dto.currency()).isEqualTo("USD");
+        assertThat(page.getContent().get(1).quizId()).isNull();
+    }
+
+    @Test
+    void shouldPageSummariesOfOneInstructor() {
+        Course first = saveCourse(100L);
+        saveCourse(200L);
+        Course second = saveCourse(100L);
+        saveCourse(100L);
+
+        Page<CourseDTO> page = summaryQueryRepository.findByInstructorId(100L, PageRequest.of(0, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(CourseDTO::id).containsExactly(first.getId(), second.getId());
+        assertThat(page.getContent()).extracting(CourseDTO::instructorId).containsOnly(100L);
+    }
+
+    private Course saveCourse(Long instructorId) {
+        Course course = Course.create("Course", "Listed for its instructor", 10.0, "USD", instructorId, "Programming", CourseLevel.BEGINNER);
+        Section section = new Section("Section", 0);
+        section.addLesson(new Lesson("Lesson", "Content", 0));
+        course.addSection(section);
+        return courseRepository.save(course);
+    }
+}
@@ -0,0 +1,104 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import pl.dominik.elearningcenter.domain.enrollment.CompletedLesson;
+import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.enrollments.completed-lessons.storage=bitmap",
+        "app.enrollments.completed-lessons.migrate-on-startup=false"
+})
+@Import({BitmapCompletedLessonRepositoryAdapter.class, CompletedLessonBitmapMigrator.class})
+class BitmapCompletedLessonRepositoryIntegrationTest {
+
+    @Autowired
+    private BitmapCompletedLessonRepositoryAdapter completedLessonRepository;
+
+    @Autowired
+    private CompletedLessonBitmapMigrator migrator;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldInsertCompletionOnlyOnce() {
+        Long enrollmentId = enroll(1L);
+
+        assertThat(completedLessonRepository.saveIfAbsent(CompletedLesson.create(enrollmentId, 31L))).isTrue();
+        assertThat(completedLessonRepository.saveIfAbsent(CompletedLesson.create(enrollmentId, 31L))).isFalse();
+        assertThat(completedLessonRepository.saveIfAbsent(CompletedLesson.create(enrollmentId, 30L))).isTrue();
+
+        assertThat(completedLessonRepository.countByEnrollmentId(enrollmentId)).isEqualTo(2);
+        assertThat(completedLessonRepository.existsByEnrollmentIdAndLessonId(enrollmentId, 30L)).isTrue();
+        assertThat(completedLessonRepository.existsByEnrollmentIdAndLessonId(enrollmentId, 32L)).isFalse();
+        assertThat(completedLessonRepository.findByEnrollmentId(enrollmentId))
+                .extracting(CompletedLesson::getLessonId)
+                .containsExactly(30L, 31L);
+        assertThat(entityManager.getEntityManager()
+                .createQuery("SELECT c.lessonId FROM CompletedLesson c WHERE c.enrollmentId = :id ORDER BY c.lessonId", Long.class)
+                .setParameter("id", enrollmentId)
+                .getResultList())
+                .containsExactly(30L, 31L);
+    }
+
+    @Test
+    void shouldReadLegacyRowsUntilFirstWrite() {
+        Long enrollmentId = enroll(2L);
+        entityManager.persist(CompletedLesson.create(enrollmentId, 40L));
+        entityManager.flush();
+
+        assertThat(completedLessonRepository.existsByEnrollmentIdAndLessonId(enrollmentId, 40L)).isTrue();
+        assertThat(completedLessonRepository.saveIfAbsent(CompletedLesson.create(enrollmentId, 40L))).isFalse();
+        assertThat(completedLessonRepository.saveIfAbsent(CompletedLesson.create(enrollmentId, 41L))).isTrue();
+
+        assertThat(bitmapOf(enrollmentId)).isNotNull();
+        assertThat(completedLessonRepository.countByEnrollmentId(enrollmentId)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMigrateRowsIntoBitmaps() {
+        Long first = enroll(3L);
+        Long second = enroll(4L);
+        Long empty = enroll(5L);
+        entityManager.persist(CompletedLesson.create(first, 50L));
+        entityManager.persist(CompletedLesson.create(first, 51L));
+        entityManager.persist(CompletedLesson.create(second, 50L));
+        entityManager.flush();
+
+        List<Long> chunk = migrator.migrateChunk(0L, 2);
+        assertThat(chunk).containsExactly(first, second);
+        assertThat(migrator.migrateChunk(chunk.get(1), 2)).containsExactly(empty);
+        assertThat(migrator.migrateChunk(0L, 2)).isEmpty();
+
+        assertThat(CompletedLessonBitmap.toLessonIds(CompletedLessonBitmap.decode(bitmapOf(first)))).containsExactly(50L, 51L);
+        assertThat(CompletedLessonBitmap.decode(bitmapOf(empty)).isEmpty()).isTrue();
+        assertThat(completedLessonRepository.countByEnrollmentId(second)).isEqualTo(1);
+    }
+
+    private Long enroll(Long studentId) {
+        Long id = entityManager.persistAndGetId(Enrollment.enroll(studentId, 10L, 5), Long.class);
+        entityManager.flush();
+        return id;
+    }
+
+    private byte[] bitmapOf(Long enrollmentId) {
+        return (byte[]) entityManager.getEntityManager()
+                .createNativeQuery("SELECT completed_lessons_bitmap FROM enrollments WHERE id = :id")
+                .setParameter("id", enrollmentId)
+                .getSingleResult();
+    }
+}
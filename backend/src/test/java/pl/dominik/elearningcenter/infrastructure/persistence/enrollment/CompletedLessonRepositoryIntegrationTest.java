@@ -0,0 +1,76 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import pl.dominik.elearningcenter.domain.enrollment.CompletedLesson;
+import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.enrollments.completed-lessons.migrate-on-startup=false")
+@Import({CompletedLessonRepositoryAdapter.class, CompletedLessonBitmapRollback.class})
+class CompletedLessonRepositoryIntegrationTest {
+
+    @Autowired
+    private CompletedLessonRepositoryAdapter completedLessonRepository;
+
+    @Autowired
+    private CompletedLessonBitmapRollback bitmapRollback;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldInsertCompletionOnlyOnce() {
+        assertThat(completedLessonRepository.saveIfAbsent(CompletedLesson.create(1L, 30L))).isTrue();
+        assertThat(completedLessonRepository.saveIfAbsent(CompletedLesson.create(1L, 30L))).isFalse();
+        assertThat(completedLessonRepository.saveIfAbsent(CompletedLesson.create(1L, 31L))).isTrue();
+
+        assertThat(completedLessonRepository.countByEnrollmentId(1L)).isEqualTo(2);
+        assertThat(completedLessonRepository.existsByEnrollmentIdAndLessonId(1L, 30L)).isTrue();
+    }
+
+    @Test
+    void shouldMoveBitmapOnlyCompletionsBackToRowsAndDropBitmaps() {
+        Long enrollmentId = entityManager.persistAndGetId(Enrollment.enroll(1L, 10L, 5), Long.class);
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE enrollments SET completed_lessons_bitmap = ? WHERE id = ?",
+                CompletedLessonBitmap.encode(CompletedLessonBitmap.of(List.of(30L, 31L))), enrollmentId);
+        completedLessonRepository.saveIfAbsent(CompletedLesson.create(enrollmentId, 30L));
+
+        assertThat(bitmapRollback.rollBackChunk(10)).containsExactly(enrollmentId);
+        assertThat(bitmapRollback.rollBackChunk(10)).isEmpty();
+
+        assertThat(completedLessonRepository.countByEnrollmentId(enrollmentId)).isEqualTo(2);
+        assertThat(completedLessonRepository.existsByEnrollmentIdAndLessonId(enrollmentId, 31L)).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT completed_lessons_bitmap FROM enrollments WHERE id = ?", byte[].class, enrollmentId)).isNull();
+    }
+
+    @Test
+    void shouldKeepSingleUniqueConstraintOnEnrollmentAndLesson() {
+        assertThat(jdbcTemplate.queryForList("""
+                        SELECT LOWER(k.COLUMN_NAME) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS c
+                        JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE k
+                          ON k.CONSTRAINT_SCHEMA = c.CONSTRAINT_SCHEMA AND k.CONSTRAINT_NAME = c.CONSTRAINT_NAME
+                        WHERE LOWER(c.TABLE_NAME) = 'completed_lesson' AND c.CONSTRAINT_TYPE = 'UNIQUE'
+                        ORDER BY c.CONSTRAINT_NAME, k.ORDINAL_POSITION
+                        """, String.class))
+                .containsExactly("enrollment_id", "lesson_id");
+    }
+}
@@ -0,0 +1,84 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import pl.dominik.elearningcenter.application.enrollment.dto.CourseEnrollmentDTO;
+import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
+import pl.dominik.elearningcenter.domain.user.User;
+import pl.dominik.elearningcenter.domain.user.UserRole;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(CourseEnrollmentQueryRepository.class)
+class CourseEnrollmentQueryRepositoryIntegrationTest {
+
+    @Autowired
+    private CourseEnrollmentQueryRepository courseEnrollmentQueryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldPageEnrollmentsByIdWithStudentDetails() {
+        Long alice = persistStudent("alice");
+        Long bob = persistStudent("bob");
+        Long carol = persistStudent("carol");
+        Enrollment first = persistEnrollment(alice, 10L);
+        Enrollment second = persistEnrollment(bob, 10L);
+        Enrollment third = persistEnrollment(carol, 10L);
+        persistEnrollment(alice, 11L);
+        entityManager.clear();
+
+        List<CourseEnrollmentDTO> firstPage = courseEnrollmentQueryRepository.findPage(10L, 0L, 2);
+        List<CourseEnrollmentDTO> secondPage = courseEnrollmentQueryRepository.findPage(10L, second.getId(), 2);
+
+        assertThat(firstPage).extracting(CourseEnrollmentDTO::id).containsExactly(first.getId(), second.getId());
+        assertThat(firstPage.get(0).studentUsername()).isEqualTo("alice");
+        assertThat(firstPage.get(0).studentEmail()).isEqualTo("alice@example.com");
+        assertThat(secondPage).extracting(CourseEnrollmentDTO::id).containsExactly(third.getId());
+    }
+
+    @Test
+    void shouldStreamAllEnrollmentsOfCourseInIdOrder() {
+        Long alice = persistStudent("alice");
+        Long bob = persistStudent("bob");
+        persistEnrollment(bob, 10L);
+        persistEnrollment(alice, 10L);
+        persistEnrollment(alice, 11L);
+        entityManager.clear();
+
+        try (Stream<CourseEnrollmentDTO> enrollments = courseEnrollmentQueryRepository.streamByCourseId(10L)) {
+            assertThat(enrollments.map(CourseEnrollmentDTO::studentUsername)).containsExactly("bob", "alice");
+        }
+    }
+
+    private Long persistStudent(String username) {
+        User user = User.register(
+                new Username(username),
+                new Email(username + "@example.com"),
+                Password.fromHashed("hashedPassword"),
+                UserRole.STUDENT
+        );
+        return entityManager.persistAndGetId(user, Long.class);
+    }
+
+    private Enrollment persistEnrollment(Long studentId, Long courseId) {
+        Enrollment enrollment = Enrollment.enroll(studentId, courseId, 5);
+        entityManager.persistAndFlush(enrollment);
+        return enrollment;
+    }
+}
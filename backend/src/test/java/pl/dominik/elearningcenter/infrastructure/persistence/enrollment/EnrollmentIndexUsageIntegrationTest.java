@@ -0,0 +1,100 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Guards the indexes behind the enrollment and lesson completion hot paths against PostgreSQL's
+ * planner. Runs only where Docker is available.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class EnrollmentIndexUsageIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("""
+                INSERT INTO enrollments (student_id, course_id, percentage, status, enrolled_at)
+                SELECT g, g % 1000, 0, 'ACTIVE', TIMESTAMP '2025-01-01' + g * INTERVAL '1 minute'
+                FROM generate_series(1, 50000) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO completed_lesson (enrollment_id, lesson_id, completed_at)
+                SELECT e.id, l, e.enrolled_at
+                FROM enrollments e CROSS JOIN generate_series(1, 5) l
+                """);
+        jdbcTemplate.execute("ANALYZE enrollments");
+        jdbcTemplate.execute("ANALYZE completed_lesson");
+    }
+
+    @Test
+    void shouldCheckEnrollmentOfStudentInCourseThroughUniqueIndex() {
+        assertThat(plan("SELECT 1 FROM enrollments WHERE student_id = 4242 AND course_id = 242 LIMIT 1"))
+                .contains("uk_enrollment_student_course")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void shouldListStudentEnrollmentsThroughUniqueIndexPrefix() {
+        assertThat(plan("SELECT * FROM enrollments WHERE student_id = 4242"))
+                .contains("uk_enrollment_student_course")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void shouldPageCourseEnrollmentsThroughCourseIndex() {
+        assertThat(plan("SELECT * FROM enrollments WHERE course_id = 42 AND id > 1000 ORDER BY id LIMIT 51"))
+                .contains("idx_enrollment_course")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void shouldCheckAndCountCompletionsThroughEnrollmentLessonIndex() {
+        assertThat(plan("SELECT 1 FROM completed_lesson WHERE enrollment_id = 4242 AND lesson_id = 3"))
+                .contains(enrollmentLessonIndex())
+                .doesNotContain("Seq Scan");
+        assertThat(plan("SELECT COUNT(*) FROM completed_lesson WHERE enrollment_id = 4242"))
+                .contains(enrollmentLessonIndex())
+                .doesNotContain("Seq Scan");
+    }
+
+    /**
+     * The completion unique constraint keeps the name Hibernate generates for it, so the index is
+     * found by its columns rather than by a fixed name.
+     */
+    private String enrollmentLessonIndex() {
+        return jdbcTemplate.queryForObject("""
+                SELECT indexname FROM pg_indexes
+                WHERE tablename = 'completed_lesson'
+                  AND indexdef LIKE 'CREATE UNIQUE INDEX % (enrollment_id, lesson_id)'
+                """, String.class);
+    }
+
+    private String plan(String sql) {
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        return String.join("\n", lines);
+    }
+}
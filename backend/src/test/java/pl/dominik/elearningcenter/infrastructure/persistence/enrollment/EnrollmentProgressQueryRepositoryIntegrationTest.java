@@ -0,0 +1,76 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.enrollment;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import pl.dominik.elearningcenter.application.enrollment.dto.EnrollmentProgressDTO;
+import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.enrollment.CompletedLesson;
+import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(EnrollmentProgressQueryRepository.class)
+class EnrollmentProgressQueryRepositoryIntegrationTest {
+
+    @Autowired
+    private EnrollmentProgressQueryRepository progressQueryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldGroupSortedCompletedLessonIdsByEnrollment() {
+        Course java = persistCourse("Java Basics");
+        Course spring = persistCourse("Spring in Depth");
+        Enrollment javaEnrollment = Enrollment.enroll(7L, java.getId(), 4);
+        javaEnrollment.recordCompletedLessons(3, 4);
+        Enrollment springEnrollment = Enrollment.enroll(7L, spring.getId(), 10);
+        Enrollment otherStudent = Enrollment.enroll(8L, java.getId(), 4);
+        entityManager.persist(javaEnrollment);
+        entityManager.persist(springEnrollment);
+        entityManager.persist(otherStudent);
+        entityManager.persist(CompletedLesson.create(javaEnrollment.getId(), 42L));
+        entityManager.persist(CompletedLesson.create(javaEnrollment.getId(), 5L));
+        entityManager.persist(CompletedLesson.create(javaEnrollment.getId(), 17L));
+        entityManager.persist(CompletedLesson.create(otherStudent.getId(), 5L));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<EnrollmentProgressDTO> progress = progressQueryRepository.findByStudentId(7L);
+
+        assertThat(progress).hasSize(2);
+        EnrollmentProgressDTO first = progress.get(0);
+        assertThat(first.enrollmentId()).isEqualTo(javaEnrollment.getId());
+        assertThat(first.courseTitle()).isEqualTo("Java Basics");
+        assertThat(first.progressPercentage()).isEqualTo(75);
+        assertThat(first.status()).isEqualTo(EnrollmentStatus.ACTIVE);
+        assertThat(first.completedLessonIds()).containsExactly(5L, 17L, 42L);
+
+        EnrollmentProgressDTO second = progress.get(1);
+        assertThat(second.courseTitle()).isEqualTo("Spring in Depth");
+        assertThat(second.completedLessonIds()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyListForStudentWithoutEnrollments() {
+        assertThat(progressQueryRepository.findByStudentId(99L)).isEmpty();
+    }
+
+    private Course persistCourse(String title) {
+        Course course = Course.create(title, "Description", 10.0, "PLN", 1L, "Programming", CourseLevel.BEGINNER);
+        entityManager.persist(course);
+        return course;
+    }
+}
@@ -4,10 +4,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import pl.dominik.elearningcenter.domain.course.Course;
+import pl.dominik.elearningcenter.domain.course.CourseLevel;
+import pl.dominik.elearningcenter.domain.course.Lesson;
+import pl.dominik.elearningcenter.domain.course.Section;
 import pl.dominik.elearningcenter.domain.enrollment.Enrollment;
 import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+import pl.dominik.elearningcenter.domain.enrollment.LessonCompletionProgress;
+import pl.dominik.elearningcenter.domain.enrollment.exception.AlreadyEnrolledException;
 import pl.dominik.elearningcenter.domain.enrollment.exception.EnrollmentNotFoundException;
 
 import java.util.List;
@@ -27,6 +35,9 @@ class EnrollmentRepositoryIntegrationTest {
     @Autowired
     private EnrollmentJpaRepository enrollmentJpaRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void shouldSaveAndRetrieveEnrollment() {
         Enrollment enrollment = Enrollment.enroll(1L, 10L);
@@ -39,6 +50,15 @@ class EnrollmentRepositoryIntegrationTest {
         assertThat(retrieved.get().getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
     }
 
+    @Test
+    void shouldRejectSecondEnrollmentOfSameStudentInCourse() {
+        enrollmentRepository.enroll(Enrollment.enroll(1L, 10L));
+
+        assertThatThrownBy(() -> enrollmentRepository.enroll(Enrollment.enroll(1L, 10L)))
+                .isInstanceOf(AlreadyEnrolledException.class)
+                .hasMessage("Student is already enrolled in this course");
+    }
+
     @Test
     void shouldFindEnrollmentsByStudentId() {
         Enrollment enrollment1 = Enrollment.enroll(1L, 10L);
@@ -95,9 +115,85 @@ class EnrollmentRepositoryIntegrationTest {
         assertThat(completed.get().getCompletedAt()).isNotNull();
     }
 
+    @Test
+    void shouldRecordLessonCompletionAndReturnNewProgress() {
+        Course course = persistCourseWithLessons(4);
+        Section section = course.getSections().get(0);
+        Enrollment enrollment = enrollmentRepository.save(Enrollment.enroll(1L, course.getId(), 4));
+        entityManager.flush();
+
+        Optional<LessonCompletionProgress> progress = enrollmentRepository.recordLessonCompleted(
+                enrollment.getId(), 1L, section.getId(), section.getLessons().get(0).getId());
+
+        assertThat(progress).contains(new LessonCompletionProgress(course.getId(), 25, EnrollmentStatus.ACTIVE));
+        entityManager.clear();
+        Enrollment after = enrollmentRepository.findByIdOrThrow(enrollment.getId());
+        assertThat(after.getCompletedLessonsCount()).isEqualTo(1);
+        assertThat(after.getProgress().getPercentage()).isEqualTo(25);
+    }
+
+    @Test
+    void shouldCompleteEnrollmentWhenLastLessonIsRecorded() {
+        Course course = persistCourseWithLessons(2);
+        Section section = course.getSections().get(0);
+        Enrollment enrollment = Enrollment.enroll(1L, course.getId(), 2);
+        enrollment.recordCompletedLessons(1, 2);
+        enrollmentRepository.save(enrollment);
+        entityManager.flush();
+
+        Optional<LessonCompletionProgress> progress = enrollmentRepository.recordLessonCompleted(
+                enrollment.getId(), 1L, section.getId(), section.getLessons().get(1).getId());
+
+        assertThat(progress).contains(new LessonCompletionProgress(course.getId(), 100, EnrollmentStatus.COMPLETED));
+        entityManager.clear();
+        assertThat(enrollmentRepository.findByIdOrThrow(enrollment.getId()).getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    void shouldNotRecordLessonCompletionForOtherStudentForeignLessonOrLegacyCounters() {
+        Course course = persistCourseWithLessons(2);
+        Course otherCourse = persistCourseWithLessons(1);
+        Section section = course.getSections().get(0);
+        Long lessonId = section.getLessons().get(0).getId();
+        Enrollment enrollment = enrollmentRepository.save(Enrollment.enroll(1L, course.getId(), 2));
+        Enrollment legacy = Enrollment.enroll(2L, course.getId(), 2);
+        ReflectionTestUtils.setField(legacy, "completedLessonsCount", null);
+        enrollmentRepository.save(legacy);
+        entityManager.flush();
+
+        assertThat(enrollmentRepository.recordLessonCompleted(enrollment.getId(), 2L, section.getId(), lessonId)).isEmpty();
+        assertThat(enrollmentRepository.recordLessonCompleted(
+                enrollment.getId(), 1L, otherCourse.getSections().get(0).getId(), lessonId)).isEmpty();
+        assertThat(enrollmentRepository.recordLessonCompleted(
+                enrollment.getId(), 1L, section.getId(), otherCourse.getSections().get(0).getLessons().get(0).getId()))
+                .isEmpty();
+        assertThat(enrollmentRepository.recordLessonCompleted(legacy.getId(), 2L, section.getId(), lessonId)).isEmpty();
+
+        entityManager.clear();
+        assertThat(enrollmentRepository.findByIdOrThrow(enrollment.getId()).getCompletedLessonsCount()).isZero();
+    }
+
     @Test
     void shouldThrowExceptionWhenEnrollmentNotFoundById() {
         assertThatThrownBy(() -> enrollmentRepository.findByIdOrThrow(999L))
                 .isInstanceOf(EnrollmentNotFoundException.class);
     }
+
+    private Course persistCourseWithLessons(int lessons) {
+        Course course = Course.create(
+                "Progress Course",
+                "Description",
+                49.99,
+                "PLN",
+                1L,
+                "Programming",
+                CourseLevel.BEGINNER
+        );
+        Section section = new Section("Section", 0);
+        for (int i = 0; i < lessons; i++) {
+            section.addLesson(new Lesson("Lesson " + i, "Content", i));
+        }
+        course.addSection(section);
+        return entityManager.persist(course);
+    }
 }
@@ -0,0 +1,103 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.quiz;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.dominik.elearningcenter.domain.quiz.QuizAttempt;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Not transactional: the legacy table is created with DDL, which H2 commits implicitly,
+ * so the test cleans up after itself instead of relying on rollback.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.quizzes.attempt-answers.migrate-on-startup=false")
+@Import({QuizAttemptRepositoryAdapter.class, QuizAttemptAnswersMigrator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QuizAttemptAnswersMigrationIntegrationTest {
+
+    @Autowired
+    private QuizAttemptAnswersMigrator migrator;
+
+    @Autowired
+    private QuizAttemptRepositoryAdapter attemptRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void createLegacyTable() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS quiz_attempt_answers (
+                    quiz_attempt_id BIGINT NOT NULL,
+                    question_id BIGINT NOT NULL,
+                    selected_answer_indexes VARCHAR(500) NOT NULL
+                )
+                """);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS quiz_attempt_answers");
+        jdbcTemplate.update("DELETE FROM quiz_attempts WHERE quiz_id IN (901, 902)");
+    }
+
+    @Test
+    void shouldMoveLegacyRowsIntoBinaryColumn() {
+        Long first = legacyAttempt(901L);
+        Long second = legacyAttempt(901L);
+        jdbcTemplate.update("INSERT INTO quiz_attempt_answers VALUES (?, 11, '0'), (?, 12, '2,0'), (?, 11, '1')", first, first, second);
+
+        assertThat(migrator.migrateChunk(0L, 1)).containsExactly(first);
+        assertThat(migrator.migrateChunk(first, 1)).containsExactly(second);
+        assertThat(migrator.migrateChunk(0L, 1)).isEmpty();
+
+        QuizAttempt migrated = attemptRepository.findByIdOrThrow(first);
+        assertThat(migrated.getAnswers())
+                .containsExactlyInAnyOrder(StudentAnswer.singleChoice(11L, 0), StudentAnswer.of(12L, List.of(0, 2)));
+        assertThat(attemptRepository.findByIdOrThrow(second).getAnswers()).containsExactly(StudentAnswer.singleChoice(11L, 1));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM quiz_attempt_answers", Long.class)).isZero();
+    }
+
+    @Test
+    void shouldDeleteUnmigratedAttemptsOfQuiz() {
+        Long doomed = legacyAttempt(902L);
+        Long kept = legacyAttempt(901L);
+        jdbcTemplate.update("INSERT INTO quiz_attempt_answers VALUES (?, 11, '0'), (?, 11, '1')", doomed, kept);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> attemptRepository.deleteByQuizId(902L));
+
+        assertThat(attemptRepository.findById(doomed)).isEmpty();
+        assertThat(jdbcTemplate.queryForList("SELECT quiz_attempt_id FROM quiz_attempt_answers", Long.class)).containsExactly(kept);
+    }
+
+    private Long legacyAttempt(Long quizId) {
+        jdbcTemplate.update("""
+                        INSERT INTO quiz_attempts (quiz_id, student_id, score, max_score, passed, attempted_at)
+                        VALUES (?, 5, 1, 2, false, ?)
+                        """, quizId, Timestamp.valueOf(LocalDateTime.now()));
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM quiz_attempts", Long.class);
+    }
+}
@@ -4,12 +4,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import pl.dominik.elearningcenter.domain.quiz.Question;
 import pl.dominik.elearningcenter.domain.quiz.QuestionType;
 import pl.dominik.elearningcenter.domain.quiz.Quiz;
 import pl.dominik.elearningcenter.domain.quiz.QuizAttempt;
+import pl.dominik.elearningcenter.domain.quiz.QuizAttemptSummary;
+import pl.dominik.elearningcenter.domain.quiz.QuizSnapshot;
+import pl.dominik.elearningcenter.domain.quiz.exception.QuizAccessDeniedException;
 import pl.dominik.elearningcenter.domain.quiz.exception.QuizNotFoundException;
 import pl.dominik.elearningcenter.domain.quiz.valueobject.Answer;
 import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
@@ -22,7 +26,13 @@ import static org.assertj.core.api.Assertions.*;
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
-@Import({QuizRepositoryAdapter.class, QuizAttemptRepositoryAdapter.class})
+@Import({
+        QuizRepositoryAdapter.class,
+        QuizAttemptRepositoryAdapter.class,
+        QuizAttemptAnswersMigrator.class,
+        QuizAttemptSummaryRepositoryAdapter.class,
+        QuizSnapshotRepositoryAdapter.class
+})
 class QuizRepositoryIntegrationTest {
 
     @Autowired
@@ -31,9 +41,21 @@ class QuizRepositoryIntegrationTest {
     @Autowired
     private QuizAttemptRepositoryAdapter attemptRepository;
 
+    @Autowired
+    private QuizAttemptSummaryRepositoryAdapter summaryRepository;
+
+    @Autowired
+    private QuizAttemptSummaryJpaRepository summaryJpaRepository;
+
+    @Autowired
+    private QuizSnapshotRepositoryAdapter snapshotRepository;
+
     @Autowired
     private QuizJpaRepository quizJpaRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Autowired
     private QuizAttemptJpaRepository attemptJpaRepository;
 
@@ -102,6 +124,19 @@ class QuizRepositoryIntegrationTest {
         assertThat(retrieved).isEmpty();
     }
 
+    @Test
+    void shouldLockQuizForEditOnlyForItsInstructor() {
+        Quiz quiz = Quiz.create("Locked Quiz", 70, 1L);
+        quizRepository.save(quiz);
+        entityManager.flush();
+        entityManager.clear();
+
+        Quiz locked = quizRepository.findByIdAndInstructorIdForUpdateOrThrow(quiz.getId(), 1L);
+        assertThat(locked.getTitle()).isEqualTo("Locked Quiz");
+        assertThatThrownBy(() -> quizRepository.findByIdAndInstructorIdForUpdateOrThrow(quiz.getId(), 2L))
+                .isInstanceOf(QuizAccessDeniedException.class);
+    }
+
     @Test
     void shouldThrowExceptionWhenQuizNotFound() {
         assertThatThrownBy(() -> quizRepository.findByIdOrThrow(999L))
@@ -201,45 +236,67 @@ class QuizRepositoryIntegrationTest {
     }
 
     @Test
-    void shouldFindBestAttemptByQuizIdAndStudentId() {
-        Quiz quiz = Quiz.create("Test Quiz", 70, 1L);
+    void shouldFoldAttemptsIntoSummary() {
+        Quiz quiz = Quiz.create("Summary Quiz", 70, 1L);
         Question q = new Question("Q1", QuestionType.SINGLE_CHOICE, 0);
         q.setAnswers(List.of(Answer.of("A", true), Answer.of("B", false)));
         quiz.addQuestion(q);
         quizRepository.save(quiz);
 
-        QuizAttempt attempt1 = QuizAttempt.create(
-                quiz.getId(), 5L, 6, 10, false,
-                List.of(StudentAnswer.of(q.getId(), List.of(1)))
-        );
-        QuizAttempt attempt2 = QuizAttempt.create(
-                quiz.getId(), 5L, 9, 10, true,
-                List.of(StudentAnswer.of(q.getId(), List.of(0)))
-        );
-        QuizAttempt attempt3 = QuizAttempt.create(
-                quiz.getId(), 5L, 7, 10, true,
-                List.of(StudentAnswer.of(q.getId(), List.of(0)))
-        );
-
-        attemptRepository.save(attempt1);
-        attemptRepository.save(attempt2);
-        attemptRepository.save(attempt3);
-
-        Optional<QuizAttempt> bestAttempt = attemptRepository.findBestAttempt(
-                quiz.getId(), 5L
-        );
-
-        assertThat(bestAttempt).isPresent();
-        assertThat(bestAttempt.get().getScore()).isEqualTo(9);
+        QuizAttempt failed = recordAttempt(quiz.getId(), 5L, 6, false, q.getId());
+        QuizAttempt best = recordAttempt(quiz.getId(), 5L, 9, true, q.getId());
+        recordAttempt(quiz.getId(), 5L, 9, true, q.getId());
+        recordAttempt(quiz.getId(), 5L, 3, false, q.getId());
+        recordAttempt(quiz.getId(), 6L, 2, false, q.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        QuizAttemptSummary summary = summaryRepository.findByQuizIdAndStudentId(quiz.getId(), 5L).orElseThrow();
+        assertThat(summary.getBestAttemptId()).isEqualTo(best.getId());
+        assertThat(summary.getBestScore()).isEqualTo(9);
+        assertThat(summary.getAttemptCount()).isEqualTo(4);
+        assertThat(summary.isPassed()).isTrue();
+        assertThat(summary.getLastAttemptAt()).isAfterOrEqualTo(failed.getAttemptedAt());
+        assertThat(summaryRepository.findByQuizIdAndStudentId(quiz.getId(), 6L).orElseThrow().isPassed()).isFalse();
+        assertThat(summaryRepository.findByQuizIdAndStudentId(quiz.getId(), 7L)).isEmpty();
+        assertThat(summaryJpaRepository.sumAttemptCount()).isEqualTo(5);
+
+        summaryRepository.deleteByQuizId(quiz.getId());
+        entityManager.clear();
+        assertThat(summaryRepository.findByQuizIdAndStudentId(quiz.getId(), 5L)).isEmpty();
     }
 
     @Test
-    void shouldReturnEmptyWhenNoBestAttemptExists() {
-        Optional<QuizAttempt> bestAttempt = attemptRepository.findBestAttempt(
-                999L, 5L
-        );
+    void shouldRecomputeSummariesIncludingPairsStartedBeforeTheBackfill() {
+        Quiz quiz = Quiz.create("Backfill Quiz", 70, 1L);
+        Question q = new Question("Q1", QuestionType.SINGLE_CHOICE, 0);
+        q.setAnswers(List.of(Answer.of("A", true), Answer.of("B", false)));
+        quiz.addQuestion(q);
+        quizRepository.save(quiz);
 
-        assertThat(bestAttempt).isEmpty();
+        attemptRepository.save(QuizAttempt.create(quiz.getId(), 5L, 4, 10, false, List.of(StudentAnswer.of(q.getId(), List.of(1)))));
+        QuizAttempt best = attemptRepository.save(QuizAttempt.create(quiz.getId(), 5L, 8, 10, true, List.of(StudentAnswer.of(q.getId(), List.of(0)))));
+        attemptRepository.save(QuizAttempt.create(quiz.getId(), 5L, 8, 10, true, List.of(StudentAnswer.of(q.getId(), List.of(0)))));
+        attemptRepository.save(QuizAttempt.create(quiz.getId(), 7L, 3, 10, false, List.of(StudentAnswer.of(q.getId(), List.of(1)))));
+        recordAttempt(quiz.getId(), 5L, 2, false, q.getId());
+        recordAttempt(quiz.getId(), 6L, 1, false, q.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(summaryJpaRepository.sumAttemptCount()).isEqualTo(2);
+        assertThat(summaryJpaRepository.backfillMissing()).isEqualTo(1);
+        assertThat(summaryJpaRepository.backfillMissing()).isZero();
+        assertThat(summaryJpaRepository.repairUndercounted()).isEqualTo(1);
+        assertThat(summaryJpaRepository.repairUndercounted()).isZero();
+        entityManager.clear();
+        assertThat(summaryJpaRepository.sumAttemptCount()).isEqualTo(6);
+
+        QuizAttemptSummary summary = summaryRepository.findByQuizIdAndStudentId(quiz.getId(), 5L).orElseThrow();
+        assertThat(summary.getBestAttemptId()).isEqualTo(best.getId());
+        assertThat(summary.getBestScore()).isEqualTo(8);
+        assertThat(summary.getAttemptCount()).isEqualTo(4);
+        assertThat(summary.isPassed()).isTrue();
+        assertThat(summaryRepository.findByQuizIdAndStudentId(quiz.getId(), 6L).orElseThrow().getAttemptCount()).isEqualTo(1);
     }
 
     @Test
@@ -345,4 +402,42 @@ class QuizRepositoryIntegrationTest {
         assertThat(retrieved.getAnswers().get(1).getQuestionId()).isEqualTo(q2.getId());
         assertThat(retrieved.getAnswers().get(1).getSelectedAnswerIndexes()).containsExactlyInAnyOrder(0, 2);
     }
+
+    @Test
+    void shouldPersistSnapshotPerContentVersion() {
+        Quiz quiz = Quiz.create("Snapshot Quiz", 60, 1L);
+        Question question = new Question("Question 1", QuestionType.MULTIPLE_CHOICE, 0);
+        question.setAnswers(List.of(Answer.of("A", true), Answer.of("B", false), Answer.of("C", true)));
+        quiz.addQuestion(question);
+        quizRepository.save(quiz);
+        entityManager.flush();
+
+        snapshotRepository.save(quiz.takeSnapshot());
+        quiz.updateTitle("Snapshot Quiz v2");
+        entityManager.flush();
+        entityManager.clear();
+
+        Quiz reloaded = quizRepository.findByIdForShare(quiz.getId()).orElseThrow();
+        assertThat(reloaded.getContentVersion()).isEqualTo(3);
+        assertThat(snapshotRepository.findByQuizIdAndVersion(quiz.getId(), 3)).isEmpty();
+
+        QuizSnapshot snapshot = snapshotRepository.findByQuizIdAndVersion(quiz.getId(), 2).orElseThrow();
+        assertThat(snapshot.getTitle()).isEqualTo("Snapshot Quiz");
+        assertThat(snapshot.getQuestions()).singleElement().satisfies(q -> {
+            assertThat(q.id()).isEqualTo(question.getId());
+            assertThat(q.answers()).extracting(QuizSnapshot.AnswerSnapshot::text).containsExactly("A", "B", "C");
+        });
+        assertThat(snapshot.answerKey().score(List.of(StudentAnswer.of(question.getId(), List.of(0, 2))))).isEqualTo(1);
+
+        snapshotRepository.deleteByQuizId(quiz.getId());
+        assertThat(snapshotRepository.findByQuizIdAndVersion(quiz.getId(), 2)).isEmpty();
+    }
+
+    private QuizAttempt recordAttempt(Long quizId, Long studentId, int score, boolean passed, Long questionId) {
+        QuizAttempt attempt = attemptRepository.save(QuizAttempt.create(
+                quizId, studentId, score, 10, passed, List.of(StudentAnswer.of(questionId, List.of(0)))
+        ));
+        summaryRepository.record(attempt);
+        return attempt;
+    }
 }
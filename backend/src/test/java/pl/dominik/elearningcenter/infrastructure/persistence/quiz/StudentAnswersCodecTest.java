@@ -0,0 +1,62 @@
+package pl.dominik.elearningcenter.infrastructure.persistence.quiz;
+
+import org.junit.jupiter.api.Test;
+import pl.dominik.elearningcenter.domain.quiz.QuizAnswerKey;
+import pl.dominik.elearningcenter.domain.quiz.valueobject.StudentAnswer;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StudentAnswersCodecTest {
+
+    @Test
+    void shouldRoundTripAnswersAsSelectionMasks() {
+        List<StudentAnswer> answers = List.of(
+                StudentAnswer.singleChoice(1L, 0),
+                StudentAnswer.of(300L, List.of(2, 0, 62)),
+                StudentAnswer.of(Long.MAX_VALUE, List.of(5, 70))
+        );
+
+        List<StudentAnswer> decoded = StudentAnswersCodec.decode(StudentAnswersCodec.encode(answers));
+
+        assertThat(decoded).extracting(StudentAnswer::getQuestionId).containsExactly(1L, 300L, Long.MAX_VALUE);
+        assertThat(decoded.get(1).getSelectedAnswerIndexes()).containsExactly(0, 2, 62);
+        assertThat(decoded.get(2).getSelectedAnswerIndexes()).containsExactly(5, QuizAnswerKey.MAX_ANSWERS);
+        assertThat(decoded).extracting(StudentAnswer::selectionMask)
+                .containsExactlyElementsOf(answers.stream().map(StudentAnswer::selectionMask).toList());
+    }
+
+    @Test
+    void shouldEncodeSmallAnswersInAFewBytes() {
+        byte[] bytes = StudentAnswersCodec.encode(List.of(StudentAnswer.singleChoice(1234L, 1), StudentAnswer.singleChoice(1235L, 3)));
+
+        assertThat(bytes).hasSize(1 + 1 + 2 * (2 + 1));
+        assertThat(StudentAnswersCodec.count(bytes)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDecodeIntoCallerArrays() {
+        byte[] bytes = StudentAnswersCodec.encode(new long[]{7L, 8L}, new long[]{0b1L, 0b110L}, 2);
+        long[] questionIds = new long[4];
+        long[] masks = new long[4];
+
+        assertThat(StudentAnswersCodec.decode(bytes, questionIds, masks)).isEqualTo(2);
+        assertThat(questionIds).startsWith(7L, 8L);
+        assertThat(masks).startsWith(0b1L, 0b110L);
+        assertThatThrownBy(() -> StudentAnswersCodec.decode(bytes, new long[1], new long[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectCorruptInput() {
+        byte[] bytes = StudentAnswersCodec.encode(List.of(StudentAnswer.singleChoice(1234L, 1)));
+
+        assertThatThrownBy(() -> StudentAnswersCodec.decode(new byte[]{9, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StudentAnswersCodec.decode(Arrays.copyOf(bytes, bytes.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(StudentAnswersCodec.decode(null)).isEmpty();
+    }
+}
@@ -4,17 +4,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Money;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
 import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
 import pl.dominik.elearningcenter.domain.user.User;
 import pl.dominik.elearningcenter.domain.user.UserRole;
+import pl.dominik.elearningcenter.domain.user.exception.BalanceCurrencyMismatchException;
 import pl.dominik.elearningcenter.domain.user.exception.UserNotFoundException;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -28,6 +32,9 @@ class UserRepositoryIntegrationTest {
     @Autowired
     private UserRepositoryAdapter userRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void shouldSaveAndRetrieveUser() {
         User user = User.register(
@@ -172,4 +179,66 @@ class UserRepositoryIntegrationTest {
         User updated = userRepository.findById(user.getId()).get();
         assertThat(updated.getEmail().getValue()).isEqualTo("new@example.com");
     }
+
+    @Test
+    void shouldDebitBalanceOnlyWhenFundsAreSufficient() {
+        User user = User.register(
+                new Username("debit_test"),
+                new Email("debit@example.com"),
+                Password.fromHashed("hashedPassword"),
+                UserRole.STUDENT
+        );
+        user.addBalance(Money.pln(new BigDecimal("15.00")));
+        userRepository.save(user);
+
+        assertThat(userRepository.debitBalance(user.getId(), Money.pln(new BigDecimal("10.00")))).isTrue();
+        assertThat(userRepository.debitBalance(user.getId(), Money.pln(new BigDecimal("10.00")))).isFalse();
+        assertThat(userRepository.debitBalance(user.getId(), Money.of(new BigDecimal("1.00"), "USD"))).isFalse();
+        assertThat(userRepository.creditBalance(user.getId(), Money.pln(new BigDecimal("2.50")))).isTrue();
+        assertThat(userRepository.creditBalance(999L, Money.pln(new BigDecimal("2.50")))).isFalse();
+        entityManager.clear();
+
+        User reloaded = userRepository.findByIdOrThrow(user.getId());
+        assertThat(reloaded.getBalance().getAmount()).isEqualByComparingTo("7.50");
+    }
+
+    @Test
+    void shouldNotOverwriteAtomicBalanceChangeWhenSavingLoadedUser() {
+        User user = User.register(
+                new Username("stale_balance"),
+                new Email("stale@example.com"),
+                Password.fromHashed("hashedPassword"),
+                UserRole.STUDENT
+        );
+        user.addBalance(Money.pln(new BigDecimal("15.00")));
+        userRepository.save(user);
+        entityManager.flush();
+
+        User loaded = userRepository.findByIdOrThrow(user.getId());
+        assertThat(userRepository.creditBalance(user.getId(), Money.pln(new BigDecimal("5.00")))).isTrue();
+        loaded.updateUsername(new Username("stale_balance_renamed"));
+        userRepository.save(loaded);
+        entityManager.flush();
+        entityManager.clear();
+
+        User reloaded = userRepository.findByIdOrThrow(user.getId());
+        assertThat(reloaded.getUsername().getValue()).isEqualTo("stale_balance_renamed");
+        assertThat(reloaded.getBalance().getAmount()).isEqualByComparingTo("20.00");
+    }
+
+    @Test
+    void shouldReportCurrencyMismatchSeparatelyFromMissingUser() {
+        User user = User.register(
+                new Username("currency_test"),
+                new Email("currency@example.com"),
+                Password.fromHashed("hashedPassword"),
+                UserRole.STUDENT
+        );
+        userRepository.save(user);
+
+        assertThatThrownBy(() -> userRepository.creditBalanceOrThrow(user.getId(), Money.of(new BigDecimal("1.00"), "USD")))
+                .isInstanceOf(BalanceCurrencyMismatchException.class);
+        assertThatThrownBy(() -> userRepository.creditBalanceOrThrow(999L, Money.pln(new BigDecimal("1.00"))))
+                .isInstanceOf(UserNotFoundException.class);
+    }
 }
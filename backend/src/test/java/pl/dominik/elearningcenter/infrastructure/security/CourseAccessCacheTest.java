@@ -0,0 +1,77 @@
+package pl.dominik.elearningcenter.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import pl.dominik.elearningcenter.domain.course.CourseRepository;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseAccessCacheTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseAccessCache courseAccessCache;
+
+    @BeforeEach
+    void setUp() {
+        courseAccessCache = new CourseAccessCache(enrollmentRepository, courseRepository, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void shouldLoadEnrolledAndOwnedCoursesOncePerUser() {
+        when(enrollmentRepository.findCourseIdsByStudentId(1L)).thenReturn(List.of(10L, 11L));
+        when(courseRepository.findIdsByInstructorId(1L)).thenReturn(List.of(20L));
+
+        assertThat(courseAccessCache.canAccess(1L, 10L)).isTrue();
+        assertThat(courseAccessCache.canAccess(1L, 20L)).isTrue();
+        assertThat(courseAccessCache.canAccess(1L, 30L)).isFalse();
+
+        verify(enrollmentRepository, times(1)).findCourseIdsByStudentId(1L);
+        verify(courseRepository, times(1)).findIdsByInstructorId(1L);
+    }
+
+    @Test
+    void shouldReloadRightsAfterEviction() {
+        when(enrollmentRepository.findCourseIdsByStudentId(1L)).thenReturn(List.of(), List.of(10L));
+        when(courseRepository.findIdsByInstructorId(1L)).thenReturn(List.of());
+
+        assertThat(courseAccessCache.canAccess(1L, 10L)).isFalse();
+        courseAccessCache.evict(1L);
+
+        assertThat(courseAccessCache.canAccess(1L, 10L)).isTrue();
+    }
+
+    @Test
+    void shouldEvictEveryUserWithAccessToDeletedCourse() {
+        when(enrollmentRepository.findCourseIdsByStudentId(anyLong())).thenReturn(List.of(10L));
+        when(courseRepository.findIdsByInstructorId(anyLong())).thenReturn(List.of());
+        courseAccessCache.canAccess(1L, 10L);
+        courseAccessCache.canAccess(2L, 10L);
+
+        courseAccessCache.evictCourse(10L);
+        courseAccessCache.canAccess(1L, 10L);
+        courseAccessCache.canAccess(2L, 10L);
+
+        verify(enrollmentRepository, times(2)).findCourseIdsByStudentId(1L);
+        verify(enrollmentRepository, times(2)).findCourseIdsByStudentId(2L);
+    }
+
+    @Test
+    void shouldDenyAnonymousUser() {
+        assertThat(courseAccessCache.canAccess(null, 10L)).isFalse();
+        verifyNoInteractions(enrollmentRepository, courseRepository);
+    }
+}
@@ -0,0 +1,183 @@
+package pl.dominik.elearningcenter.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
+import pl.dominik.elearningcenter.domain.user.User;
+import pl.dominik.elearningcenter.domain.user.UserRepository;
+import pl.dominik.elearningcenter.domain.user.UserRole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "TestSecretKeyForJWTTokenGenerationMustBeAtLeast512BitsLongForHS512Algorithm";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private AuthenticatedPrincipalCache principalCache;
+    private TokenVersionRegistry tokenVersionRegistry;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 900000L, 604800000L);
+        principalCache = new AuthenticatedPrincipalCache(100, Duration.ofMinutes(5));
+        tokenVersionRegistry = new TokenVersionRegistry(userRepository, 100, Duration.ofMinutes(1));
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, principalCache, tokenVersionRegistry, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldResolvePrincipalFromCacheOnRepeatedRequests() throws Exception {
+        User user = createUser(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        String token = jwtTokenProvider.generateAccessToken(authenticationOf(user));
+
+        Authentication first = authenticate(token);
+        Authentication second = authenticate(token);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(((CustomUserDetails) second.getPrincipal()).getUserId()).isEqualTo(1L);
+        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void shouldRejectTokenIssuedBeforePasswordChange() throws Exception {
+        User user = createUser(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        String token = jwtTokenProvider.generateAccessToken(authenticationOf(user));
+        assertThat(authenticate(token)).isNotNull();
+
+        user.changePassword(Password.fromHashed("newHashedPassword"), true);
+        principalCache.evict(1L);
+
+        assertThat(authenticate(token)).isNull();
+        String freshToken = jwtTokenProvider.generateAccessToken(authenticationOf(user));
+        assertThat(authenticate(freshToken)).isNotNull();
+    }
+
+    @Test
+    void shouldBuildPrincipalFromClaimsWithoutLoadingUserInStatelessMode() throws Exception {
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, principalCache, tokenVersionRegistry, true);
+        User user = createUser(1L);
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(0L));
+        String token = jwtTokenProvider.generateAccessToken(authenticationOf(user));
+
+        authenticate(token);
+        Authentication authentication = authenticate(token);
+
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(1L);
+        assertThat(principal.getUsername()).isEqualTo("john@example.com");
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_STUDENT");
+        verify(userRepository, times(1)).findTokenVersionById(1L);
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void shouldRejectRevokedTokenInStatelessMode() throws Exception {
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, principalCache, tokenVersionRegistry, true);
+        User user = createUser(1L);
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(0L));
+        String token = jwtTokenProvider.generateAccessToken(authenticationOf(user));
+        assertThat(authenticate(token)).isNotNull();
+
+        user.disable();
+        tokenVersionRegistry.revoke(1L, user.getTokenVersion());
+
+        assertThat(authenticate(token)).isNull();
+    }
+
+    @Test
+    void shouldCacheMissingUserInStatelessMode() throws Exception {
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, principalCache, tokenVersionRegistry, true);
+        User user = createUser(1L);
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.empty());
+        String token = jwtTokenProvider.generateAccessToken(authenticationOf(user));
+
+        assertThat(authenticate(token)).isNull();
+        assertThat(authenticate(token)).isNull();
+        verify(userRepository, times(1)).findTokenVersionById(1L);
+    }
+
+    @Test
+    void shouldAcceptLegacyAccessTokenUntilTokenVersionMovesOn() throws Exception {
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userRepository, principalCache, tokenVersionRegistry, true);
+        User user = createUser(1L);
+        when(userRepository.findByEmail(new Email("john@example.com"))).thenReturn(Optional.of(user));
+        String token = jwtTokenProvider.generateAccessToken(new UsernamePasswordAuthenticationToken(
+                "john@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_STUDENT"))));
+
+        Authentication authentication = authenticate(token);
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getUserId()).isEqualTo(1L);
+
+        user.disable();
+
+        assertThat(authenticate(token)).isNull();
+        verify(userRepository, never()).findTokenVersionById(any());
+    }
+
+    @Test
+    void shouldNotAuthenticateWithRefreshToken() throws Exception {
+        User user = createUser(1L);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(authenticationOf(user));
+
+        assertThat(authenticate(refreshToken)).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private UsernamePasswordAuthenticationToken authenticationOf(User user) {
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    private User createUser(Long id) {
+        User user = User.register(
+                new Username("john_doe"),
+                new Email("john@example.com"),
+                Password.fromHashed("hashedPassword"),
+                UserRole.STUDENT
+        );
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,99 @@
+package pl.dominik.elearningcenter.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
+import pl.dominik.elearningcenter.domain.user.User;
+import pl.dominik.elearningcenter.domain.user.UserRole;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "TestSecretKeyForJWTTokenGenerationMustBeAtLeast512BitsLongForHS512Algorithm";
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 900000L, 604800000L);
+
+    @Test
+    void shouldParseAllAccessTokenClaimsInOnePass() {
+        User user = User.register(
+                new Username("john_doe"),
+                new Email("john@example.com"),
+                Password.fromHashed("hashedPassword"),
+                UserRole.INSTRUCTOR
+        );
+        ReflectionTestUtils.setField(user, "id", 42L);
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        String token = jwtTokenProvider.generateAccessToken(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+        AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(token).orElseThrow();
+
+        assertThat(claims.subject()).isEqualTo("john@example.com");
+        assertThat(claims.userId()).isEqualTo(42L);
+        assertThat(claims.roles()).isEqualTo("ROLE_INSTRUCTOR");
+        assertThat(claims.tokenType()).isEqualTo("ACCESS");
+        assertThat(claims.tokenVersion()).isZero();
+        assertThat(claims.expiresAt()).isAfter(Instant.now());
+        assertThat(claims.isRefreshToken()).isFalse();
+    }
+
+    @Test
+    void shouldCarryUserIdAndTokenVersionInRefreshToken() {
+        User user = User.register(
+                new Username("john_doe"),
+                new Email("john@example.com"),
+                Password.fromHashed("hashedPassword"),
+                UserRole.STUDENT
+        );
+        ReflectionTestUtils.setField(user, "id", 42L);
+        user.changePassword(Password.fromHashed("newHashedPassword"), true);
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        String token = jwtTokenProvider.generateRefreshToken(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+        AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(token).orElseThrow();
+
+        assertThat(claims.isRefreshToken()).isTrue();
+        assertThat(claims.userId()).isEqualTo(42L);
+        assertThat(claims.tokenVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldLeaveUserIdEmptyForTokensWithoutUserDetailsPrincipal() {
+        String token = jwtTokenProvider.generateRefreshToken(new UsernamePasswordAuthenticationToken(
+                "john@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_STUDENT"))));
+
+        AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(token).orElseThrow();
+
+        assertThat(claims.isRefreshToken()).isTrue();
+        assertThat(claims.userId()).isNull();
+        assertThat(claims.tokenVersion()).isNull();
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithDifferentKey() {
+        JwtTokenProvider otherProvider = new JwtTokenProvider(
+                "AnotherSecretKeyForJWTTokenGenerationMustBeAtLeast512BitsLongForHS512Algorithm", 900000L, 604800000L);
+        String token = otherProvider.generateRefreshToken(new UsernamePasswordAuthenticationToken(
+                "john@example.com", null, List.of()));
+
+        assertThat(jwtTokenProvider.parseAccessToken(token)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        JwtTokenProvider expiringProvider = new JwtTokenProvider(SECRET, -1000L, -1000L);
+        String token = expiringProvider.generateRefreshToken(new UsernamePasswordAuthenticationToken(
+                "john@example.com", null, List.of()));
+
+        assertThat(jwtTokenProvider.parseAccessToken(token)).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package pl.dominik.elearningcenter.interfaces.rest.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Email;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Password;
+import pl.dominik.elearningcenter.domain.shared.valueobject.Username;
+import pl.dominik.elearningcenter.domain.user.User;
+import pl.dominik.elearningcenter.domain.user.UserRepository;
+import pl.dominik.elearningcenter.domain.user.UserRole;
+import pl.dominik.elearningcenter.infrastructure.security.CustomUserDetails;
+import pl.dominik.elearningcenter.infrastructure.security.JwtTokenProvider;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthControllerTest {
+
+    private static final String SECRET = "TestSecretKeyForJWTTokenGenerationMustBeAtLeast512BitsLongForHS512Algorithm";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private AuthController controller;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 900000L, 604800000L);
+        controller = new AuthController(jwtTokenProvider, userRepository);
+    }
+
+    @Test
+    void shouldIssueNewTokensForCurrentRefreshToken() {
+        User user = createUser();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        ResponseEntity<AuthenticationResponse> response = controller.refreshToken(
+                new RefreshTokenRequest(refreshTokenOf(user)));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody().getAccessToken()).isNotBlank();
+    }
+
+    @Test
+    void shouldRejectRefreshTokenIssuedBeforePasswordReset() {
+        User user = createUser();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        String refreshToken = refreshTokenOf(user);
+
+        user.generatePasswordResetToken("reset-token", 1);
+        user.resetPassword("reset-token", Password.fromHashed("newHashedPassword"));
+
+        assertThat(controller.refreshToken(new RefreshTokenRequest(refreshToken)).getStatusCode().value()).isEqualTo(401);
+    }
+
+    @Test
+    void shouldAcceptLegacyRefreshTokenUntilTokenVersionMovesOn() {
+        User user = createUser();
+        when(userRepository.findByEmail(new Email("john@example.com"))).thenReturn(Optional.of(user));
+        String refreshToken = jwtTokenProvider.generateRefreshToken(
+                new UsernamePasswordAuthenticationToken("john@example.com", null, List.of()));
+
+        assertThat(controller.refreshToken(new RefreshTokenRequest(refreshToken)).getStatusCode().value()).isEqualTo(200);
+
+        user.generatePasswordResetToken("reset-token", 1);
+        user.resetPassword("reset-token", Password.fromHashed("newHashedPassword"));
+
+        assertThat(controller.refreshToken(new RefreshTokenRequest(refreshToken)).getStatusCode().value()).isEqualTo(401);
+        verify(userRepository, never()).findById(any());
+    }
+
+    private String refreshTokenOf(User user) {
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        return jwtTokenProvider.generateRefreshToken(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    private User createUser() {
+        User user = User.register(
+                new Username("john_doe"),
+                new Email("john@example.com"),
+                Password.fromHashed("hashedPassword"),
+                UserRole.STUDENT
+        );
+        ReflectionTestUtils.setField(user, "id", 1L);
+        user.enable();
+        return user;
+    }
+}
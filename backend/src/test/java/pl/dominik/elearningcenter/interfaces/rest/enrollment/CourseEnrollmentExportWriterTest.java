@@ -0,0 +1,47 @@
+package pl.dominik.elearningcenter.interfaces.rest.enrollment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import pl.dominik.elearningcenter.domain.enrollment.EnrollmentStatus;
+import pl.dominik.elearningcenter.interfaces.rest.enrollment.response.CourseEnrollmentResponse;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CourseEnrollmentExportWriterTest {
+
+    private final CourseEnrollmentExportWriter exportWriter = new CourseEnrollmentExportWriter(
+            new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+    private final CourseEnrollmentResponse row = new CourseEnrollmentResponse(
+            1L, 7L, "o\"brien, jr", "obrien@example.com", 50,
+            LocalDateTime.of(2025, 1, 2, 3, 4, 5), null, EnrollmentStatus.ACTIVE);
+
+    @Test
+    void shouldWriteCsvHeaderAndQuoteSpecialCharacters() {
+        StringWriter writer = new StringWriter();
+
+        exportWriter.writeHeader(EnrollmentExportFormat.CSV, writer);
+        exportWriter.writeRow(EnrollmentExportFormat.CSV, row, writer);
+
+        assertThat(writer.toString()).isEqualTo(CourseEnrollmentExportWriter.CSV_HEADER + "\r\n"
+                + "1,7,\"o\"\"brien, jr\",obrien@example.com,50,2025-01-02T03:04:05,,ACTIVE\r\n");
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLine() {
+        StringWriter writer = new StringWriter();
+
+        exportWriter.writeHeader(EnrollmentExportFormat.NDJSON, writer);
+        exportWriter.writeRow(EnrollmentExportFormat.NDJSON, row, writer);
+        exportWriter.writeRow(EnrollmentExportFormat.NDJSON, row, writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,\"studentId\":7,").contains("\"enrolledAt\":\"2025-01-02T03:04:05\"");
+    }
+}
@@ -1,5 +1,5 @@
 import apiClient from './api';
-import type { ApiResponse, Enrollment, EnrollRequest } from '../types/api';
+import type { ApiResponse, Enrollment, EnrollRequest, ScrolledCourseEnrollments } from '../types/api';
 
 // ============================================
 // Enrollment Management
@@ -19,9 +19,25 @@ export const getStudentEnrollments = async (
   return response.data;
 };
 
-export const getCourseEnrollments = async (courseId: number): Promise<ApiResponse<Enrollment[]>> => {
-  const response = await apiClient.get<ApiResponse<Enrollment[]>>(
-    `/enrollments/course/${courseId}`
+export const getCourseEnrollments = async (
+  courseId: number,
+  cursor?: string,
+  size = 50
+): Promise<ScrolledCourseEnrollments> => {
+  const response = await apiClient.get<ScrolledCourseEnrollments>(
+    `/enrollments/course/${courseId}`,
+    { params: { cursor, size } }
+  );
+  return response.data;
+};
+
+export const exportCourseEnrollments = async (
+  courseId: number,
+  format: 'CSV' | 'NDJSON' = 'CSV'
+): Promise<Blob> => {
+  const response = await apiClient.get<Blob>(
+    `/enrollments/course/${courseId}/export`,
+    { params: { format }, responseType: 'blob' }
   );
   return response.data;
 };
@@ -309,6 +309,23 @@ export interface Enrollment {
   completedAt?: string;
 }
 
+export interface CourseEnrollment {
+  id: number;
+  studentId: number;
+  studentUsername: string;
+  studentEmail: string;
+  progressPercentage: number;
+  status: EnrollmentStatus;
+  enrolledAt: string;
+  completedAt?: string;
+}
+
+export interface ScrolledCourseEnrollments {
+  enrollments: CourseEnrollment[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
 export interface EnrollRequest {
   studentId: number;
   courseId: number;
@@ -400,6 +417,7 @@ export interface SubmitQuizAttemptRequest {
 export interface QuizAttempt {
   id: number;
   quizId: number;
+  quizVersion?: number | null;
   studentId: number;
   score: number;
   maxScore: number;